@@ -0,0 +1,115 @@
+package org.folio.circulation.support;
+
+import static org.folio.circulation.support.http.OkapiHeader.OKAPI_URL;
+import static org.folio.circulation.support.http.OkapiHeader.TENANT;
+import static org.folio.circulation.support.http.OkapiHeader.TOKEN;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.support.http.server.WebContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.client.WebClient;
+
+/**
+ * Measures creating the clients for a request, which is done for every
+ * request to the module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientsBenchmark {
+  private Vertx vertx;
+  private WebClient webClient;
+  private WebContext context;
+
+  @Setup
+  public void setUp() {
+    vertx = Vertx.vertx();
+    webClient = WebClient.create(vertx);
+    context = new BenchmarkWebContext();
+  }
+
+  @TearDown
+  public void tearDown() {
+    webClient.close();
+    vertx.close();
+  }
+
+  @Benchmark
+  public Clients create() {
+    return Clients.create(context, webClient);
+  }
+
+  /**
+   * Uses the clients a check in needs, as most requests only need a few
+   */
+  @Benchmark
+  public void createAndUseClientsForCheckIn(Blackhole blackhole) {
+    final Clients clients = Clients.create(context, webClient);
+
+    blackhole.consume(clients.itemsStorage());
+    blackhole.consume(clients.holdingsStorage());
+    blackhole.consume(clients.instancesStorage());
+    blackhole.consume(clients.locationsStorage());
+    blackhole.consume(clients.loansStorage());
+    blackhole.consume(clients.requestsStorage());
+    blackhole.consume(clients.usersStorage());
+    blackhole.consume(clients.servicePointsStorage());
+    blackhole.consume(clients.checkInStorageClient());
+  }
+
+  private static class BenchmarkWebContext extends WebContext {
+    BenchmarkWebContext() {
+      super(null);
+    }
+
+    @Override
+    public String getTenantId() {
+      return "benchmark_tenant";
+    }
+
+    @Override
+    public String getOkapiToken() {
+      return "token";
+    }
+
+    @Override
+    public String getUserId() {
+      return "79ff2a8b-d9c3-5b39-ad4a-0a84025ab085";
+    }
+
+    @Override
+    public String getOkapiLocation() {
+      return "http://localhost:9130";
+    }
+
+    @Override
+    public String getRequestId() {
+      return "benchmark-request";
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+      return Map.of(TENANT.toLowerCase(), getTenantId(),
+        TOKEN.toLowerCase(), getOkapiToken(),
+        OKAPI_URL.toLowerCase(), getOkapiLocation());
+    }
+  }
+}
@@ -2,6 +2,7 @@ package org.folio.circulation;
 
 import java.lang.invoke.MethodHandles;
 
+import org.folio.circulation.resources.BulkCheckInByBarcodeResource;
 import org.folio.circulation.resources.ChangeDueDateResource;
 import org.folio.circulation.resources.CheckInByBarcodeResource;
 import org.folio.circulation.resources.CheckOutByBarcodeResource;
@@ -34,10 +35,19 @@ import org.folio.circulation.resources.ScheduledAnonymizationProcessingResource;
 import org.folio.circulation.resources.TenantActivationResource;
 import org.folio.circulation.resources.agedtolost.ScheduledAgeToLostFeeChargingResource;
 import org.folio.circulation.resources.agedtolost.ScheduledAgeToLostResource;
+import org.folio.circulation.resources.handlers.CirculationRulesChangedHandlerResource;
 import org.folio.circulation.resources.handlers.LoanRelatedFeeFineClosedHandlerResource;
 import org.folio.circulation.resources.renewal.OverrideRenewalByBarcodeResource;
 import org.folio.circulation.resources.renewal.RenewByBarcodeResource;
+import org.folio.circulation.resources.renewal.RenewAllResource;
 import org.folio.circulation.resources.renewal.RenewByIdResource;
+import org.folio.circulation.rules.CirculationRulesEngineType;
+import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.circulation.services.PubSubEventQueue;
+import org.folio.circulation.support.AsyncCoordinationUtil;
+import org.folio.circulation.support.async.WorkerPool;
+import org.folio.circulation.support.http.client.HttpClientConfiguration;
+import org.folio.circulation.support.http.client.HttpClientStatistics;
 import org.folio.circulation.support.logging.Logging;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,11 +55,13 @@ import org.slf4j.LoggerFactory;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpServer;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.WebClient;
 
 public class CirculationVerticle extends AbstractVerticle {
+  private static final long WORKER_POOL_STATISTICS_INTERVAL_MILLISECONDS = 300_000;
+
   private HttpServer server;
 
   @Override
@@ -60,10 +72,35 @@ public class CirculationVerticle extends AbstractVerticle {
 
     log.info("Starting circulation module");
 
+    CirculationRulesCache.getInstance().useEngine(
+      CirculationRulesEngineType.from(config().getString("circulationRulesEngine")));
+
+    final String workerThreads = config().getString("workerThreads");
+
+    if (workerThreads != null) {
+      WorkerPool.useThreads(Integer.parseInt(workerThreads));
+    }
+
+    final String backgroundActionsInProgress =
+      config().getString("backgroundActionsInProgress");
+
+    if (backgroundActionsInProgress != null) {
+      AsyncCoordinationUtil.limitBackgroundActionsInProgressTo(
+        Integer.parseInt(backgroundActionsInProgress));
+    }
+
+    vertx.setPeriodic(WORKER_POOL_STATISTICS_INTERVAL_MILLISECONDS, notUsed -> {
+      log.info("Worker pool: {}", WorkerPool.getInstance().getStatistics());
+      log.info("Queued events: {}", PubSubEventQueue.getInstance().getStatistics());
+      log.info("HTTP client: {}", HttpClientStatistics.getInstance());
+    });
+
     Router router = Router.router(vertx);
 
-    // bump up the connection pool size from the default value of 5
-    HttpClient client = vertx.createHttpClient(new HttpClientOptions().setMaxPoolSize(100));
+    HttpClient httpClient = vertx.createHttpClient(
+      HttpClientConfiguration.optionsFrom(config().getJsonObject("httpClient")));
+
+    WebClient client = WebClient.wrap(httpClient);
 
     this.server = vertx.createHttpServer();
 
@@ -74,9 +111,11 @@ public class CirculationVerticle extends AbstractVerticle {
     new CheckOutByBarcodeResource("/circulation/override-check-out-by-barcode",
       client, new OverrideCheckOutStrategy()).register(router);
     new CheckInByBarcodeResource(client).register(router);
+    new BulkCheckInByBarcodeResource(client).register(router);
 
     new RenewByBarcodeResource(client).register(router);
     new RenewByIdResource(client).register(router);
+    new RenewAllResource(client).register(router);
     new OverrideRenewalByBarcodeResource(client).register(router);
 
     new LoanCollectionResource(client).register(router);
@@ -132,6 +171,7 @@ public class CirculationVerticle extends AbstractVerticle {
 
     // Handlers
     new LoanRelatedFeeFineClosedHandlerResource(client).register(router);
+    new CirculationRulesChangedHandlerResource(client).register(router);
 
     server.requestHandler(router)
       .listen(config().getInteger("port"), result -> {
@@ -10,8 +10,16 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 import static io.vertx.core.logging.LoggerFactory.getLogger;
+import static org.folio.circulation.support.http.client.HttpClientConfiguration.HTTP_2;
+import static org.folio.circulation.support.http.client.HttpClientConfiguration.IDLE_TIMEOUT_SECONDS;
+import static org.folio.circulation.support.http.client.HttpClientConfiguration.KEEP_ALIVE;
+import static org.folio.circulation.support.http.client.HttpClientConfiguration.KEEP_ALIVE_TIMEOUT_SECONDS;
+import static org.folio.circulation.support.http.client.HttpClientConfiguration.MAXIMUM_POOL_SIZE;
+import static org.folio.circulation.support.http.client.HttpClientConfiguration.MAXIMUM_WAIT_QUEUE_SIZE;
+import static org.folio.circulation.support.http.client.HttpClientConfiguration.PIPELINING;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 
 public class Launcher {
@@ -45,7 +53,7 @@ public class Launcher {
     log.info("Server Stopping");
 
     undeploy()
-      .thenComposeAsync(v -> vertxAssistant.stop())
+      .thenCompose(v -> vertxAssistant.stop())
       .thenAccept(v -> log.info("Server Stopped"));
   }
 
@@ -65,6 +73,13 @@ public class Launcher {
 
     JsonObject config = new JsonObject();
     write(config, "port", port);
+    write(config, "circulationRulesEngine",
+      System.getProperty("circulation.rules.engine"));
+    write(config, "workerThreads",
+      System.getProperty("circulation.worker.threads"));
+    write(config, "backgroundActionsInProgress",
+      System.getProperty("circulation.background.actions"));
+    write(config, "httpClient", httpClientConfiguration());
 
     CompletableFuture<String> deployed =
       vertxAssistant.deployVerticle(CirculationVerticle.class, config);
@@ -73,4 +88,15 @@ public class Launcher {
       .thenApply(result -> moduleDeploymentId = result)
       .thenAccept(result -> log.info("Server Started"));
   }
+
+  private static JsonObject httpClientConfiguration() {
+    final JsonObject httpClient = new JsonObject();
+
+    Stream.of(MAXIMUM_POOL_SIZE, MAXIMUM_WAIT_QUEUE_SIZE, KEEP_ALIVE,
+      KEEP_ALIVE_TIMEOUT_SECONDS, IDLE_TIMEOUT_SECONDS, HTTP_2, PIPELINING)
+      .forEach(name -> write(httpClient, name,
+        System.getProperty("circulation.http." + name)));
+
+    return httpClient;
+  }
 }
@@ -41,7 +41,7 @@ public class StoreLoanAndItem {
     }
 
     return updateItem(loan.getItem())
-      .thenComposeAsync(response -> loanRepository.updateLoan(loan));
+      .thenCompose(response -> loanRepository.updateLoan(loan));
   }
 
   private CompletableFuture<Result<Item>> updateItem(Item item) {
@@ -16,6 +16,7 @@ public class ConfigurationService {
   private final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final int DEFAULT_SCHEDULED_NOTICES_PROCESSING_LIMIT = 100;
+  private static final int DEFAULT_SCHEDULED_NOTICES_PROCESSING_CONCURRENCY = 10;
   private static final int DEFAULT_CHECKOUT_TIMEOUT_DURATION_IN_MINUTES = 3;
   private static final DateTimeZone DEFAULT_DATE_TIME_ZONE = DateTimeZone.UTC;
   private static final String TIMEZONE_KEY = "timezone";
@@ -52,6 +53,17 @@ public class ConfigurationService {
     return noticesLimit;
   }
 
+  public Integer findSchedulerNoticesConcurrency(Collection<Configuration> configurations) {
+    final Integer noticesConcurrency = configurations.stream()
+      .map(this::applySchedulerNoticesConcurrency)
+      .findFirst()
+      .orElse(DEFAULT_SCHEDULED_NOTICES_PROCESSING_CONCURRENCY);
+
+    log.info("Scheduled notices processing concurrency: `{}`", noticesConcurrency);
+
+    return noticesConcurrency;
+  }
+
   public Integer findSessionTimeout(Collection<Configuration> configurations) {
     final Integer sessionTimeout = configurations.stream()
       .map(this::applySessionTimeout)
@@ -94,6 +106,13 @@ public class ConfigurationService {
       : DEFAULT_SCHEDULED_NOTICES_PROCESSING_LIMIT;
   }
 
+  private Integer applySchedulerNoticesConcurrency(Configuration config) {
+    String value = config.getValue();
+    return StringUtils.isNumeric(value) && Integer.parseInt(value) > 0
+      ? Integer.valueOf(value)
+      : DEFAULT_SCHEDULED_NOTICES_PROCESSING_CONCURRENCY;
+  }
+
   private DateTimeZone applyTimeZone(Configuration config) {
     String value = config.getValue();
     return StringUtils.isBlank(value)
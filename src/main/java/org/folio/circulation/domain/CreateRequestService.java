@@ -78,16 +78,16 @@ public class CreateRequestService {
       .thenApply(r -> errorHandler.handleValidationResult(r, USER_IS_BLOCKED_AUTOMATICALLY, result))
       .thenCompose(r -> r.after(userManualBlocksValidator::refuseWhenUserIsBlocked))
       .thenApply(r -> errorHandler.handleValidationResult(r, USER_IS_BLOCKED_MANUALLY, result))
-      .thenComposeAsync(r -> r.after(when(this::shouldCheckItem, this::checkItem, this::doNothing)))
-      .thenComposeAsync(r -> r.after(when(this::shouldCheckPolicy, this::checkPolicy, this::doNothing)))
-      .thenComposeAsync(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
+      .thenCompose(r -> r.after(when(this::shouldCheckItem, this::checkItem, this::doNothing)))
+      .thenCompose(r -> r.after(when(this::shouldCheckPolicy, this::checkPolicy, this::doNothing)))
+      .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         RequestAndRelatedRecords::withTimeZone))
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateItem::onRequestCreateOrUpdate))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate))
-      .thenComposeAsync(r -> r.after(requestRepository::create))
-      .thenComposeAsync(r -> r.after(updateUponRequest.updateRequestQueue::onCreate))
-      .thenApplyAsync(r -> {
+      .thenCompose(r -> r.after(updateUponRequest.updateItem::onRequestCreateOrUpdate))
+      .thenCompose(r -> r.after(updateUponRequest.updateLoan::onRequestCreateOrUpdate))
+      .thenCompose(r -> r.after(requestRepository::create))
+      .thenCompose(r -> r.after(updateUponRequest.updateRequestQueue::onCreate))
+      .thenApply(r -> {
         r.after(t -> eventPublisher.publishLogRecord(mapToRequestLogEventJson(t.getRequest()), REQUEST_CREATED));
         return r.next(requestNoticeSender::sendNoticeOnRequestCreated);
       });
@@ -7,5 +7,6 @@ public enum EventType {
   ITEM_DECLARED_LOST,
   ITEM_CLAIMED_RETURNED,
   LOAN_DUE_DATE_CHANGED,
-  LOG_RECORD
+  LOG_RECORD,
+  CIRCULATION_RULES_CHANGED
 }
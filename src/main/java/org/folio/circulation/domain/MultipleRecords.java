@@ -18,7 +18,9 @@ import java.util.stream.Collectors;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.json.StreamingJsonCollectionReader;
 
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -43,10 +45,24 @@ public class MultipleRecords<T> {
     String recordsPropertyName) {
 
     return new ResponseInterpreter<MultipleRecords<T>>()
-      .flatMapOn(200, r -> from(r.getJson(), mapper, recordsPropertyName))
+      .flatMapOn(200, r -> from(r.getBodyAsBuffer(), mapper, recordsPropertyName))
       .apply(response);
   }
 
+  /**
+   * Maps each record as it is read from the body, rather than decoding the
+   * whole body first
+   */
+  private static <T> Result<MultipleRecords<T>> from(Buffer body,
+    Function<JsonObject, T> mapper, String recordsPropertyName) {
+
+    final StreamingJsonCollectionReader<T> reader
+      = new StreamingJsonCollectionReader<>(recordsPropertyName, mapper).read(body);
+
+    return succeeded(new MultipleRecords<>(reader.getRecords(),
+      reader.getTotalRecords()));
+  }
+
   public static <T> Result<MultipleRecords<T>> from(JsonObject representation,
                                                     Function<JsonObject, T> mapper,
                                                     String recordsPropertyName) {
@@ -37,7 +37,7 @@ public class OverduePeriodCalculatorService {
 
     if (preconditionsAreMet(loan, systemTime, shouldCountClosedPeriods)) {
       return completedFuture(loan)
-        .thenComposeAsync(loanPolicyRepository::lookupPolicy)
+        .thenCompose(loanPolicyRepository::lookupPolicy)
         .thenApply(r -> r.map(loan::withLoanPolicy))
         .thenCompose(r -> r.after(l -> getOverdueMinutes(l, systemTime, shouldCountClosedPeriods)
             .thenApply(flatMapResult(om -> adjustOverdueWithGracePeriod(l, om)))));
@@ -108,7 +108,7 @@ public class UpdateRequestQueue {
     requestQueue.update(originalRequest, updatedRequest);
 
     return updatedReq
-      .thenComposeAsync(r -> r.after(requestRepository::update))
+      .thenCompose(r -> r.after(requestRepository::update))
       .thenApply(result -> result.map(v -> requestQueue));
   }
 
@@ -119,7 +119,7 @@ public class UpdateRequestQueue {
       String pickupServicePointId = request.getPickupServicePointId();
 
       return servicePointRepository.getServicePointById(pickupServicePointId)
-        .thenCombineAsync(configurationRepository.findTimeZoneConfiguration(),
+        .thenCombine(configurationRepository.findTimeZoneConfiguration(),
           Result.combined((servicePoint, tenantTimeZone) ->
             populateHoldShelfExpirationDate(
               request.withPickupServicePoint(servicePoint),
@@ -193,7 +193,7 @@ public class UpdateRequestQueue {
       requestQueue.update(originalRequest, updatedRequest);
 
       return requestRepository.update(firstRequest)
-        .thenComposeAsync(r -> r.after(v ->
+        .thenCompose(r -> r.after(v ->
           requestQueueRepository.updateRequestsWithChangedPositions(requestQueue)));
 
     } else {
@@ -258,7 +258,7 @@ public class UpdateRequestQueue {
         requestQueue.remove(request);
         return requestQueue;
       }))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(
         requestQueueRepository::updateRequestsWithChangedPositions))
       .thenApply(r -> r.map(requestQueue -> request));
   }
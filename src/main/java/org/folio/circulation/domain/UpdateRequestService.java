@@ -42,10 +42,10 @@ public class UpdateRequestService {
       .thenApply(originalRequest -> refuseWhenPatronCommentChanged(updated, originalRequest))
       .thenCompose(original -> original.after(o -> closedRequestValidator.refuseWhenAlreadyClosed(requestAndRelatedRecords)
         .thenApply(r -> r.next(this::removeRequestQueuePositionWhenCancelled))
-        .thenComposeAsync(r -> r.after(requestRepository::update))
-        .thenComposeAsync(r -> r.after(updateRequestQueue::onCancellation))
-        .thenComposeAsync(r -> r.after(updateItem::onRequestCreateOrUpdate))
-        .thenApplyAsync(r -> r.map(p -> eventPublisher.publishLogRecordAsync(p, o, REQUEST_UPDATED)))
+        .thenCompose(r -> r.after(requestRepository::update))
+        .thenCompose(r -> r.after(updateRequestQueue::onCancellation))
+        .thenCompose(r -> r.after(updateItem::onRequestCreateOrUpdate))
+        .thenApply(r -> r.map(p -> eventPublisher.publishLogRecordAsync(p, o, REQUEST_UPDATED)))
         .thenApply(r -> r.next(requestNoticeSender::sendNoticeOnRequestUpdated))));
   }
 
@@ -2,11 +2,14 @@ package org.folio.circulation.domain.anonymization;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.anonymization.LoanAnonymizationRecords.CAN_BE_ANONYMIZED_KEY;
+import static org.folio.circulation.support.results.Result.succeeded;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.circulation.domain.Loan;
 import org.folio.circulation.infrastructure.storage.loans.AnonymizeStorageLoansRepository;
 import org.folio.circulation.domain.anonymization.service.AnonymizationCheckersService;
 import org.folio.circulation.domain.anonymization.service.LoanAnonymizationFinderService;
@@ -20,11 +23,18 @@ public class DefaultLoanAnonymizationService implements LoanAnonymizationService
   private final AnonymizationCheckersService anonymizationCheckersService;
   private final LoanAnonymizationFinderService loansFinder;
   private final EventPublisher eventPublisher;
+  private final boolean queueEvents;
 
+  /**
+   * @param queueEvents  whether the anonymize events are queued behind those
+   * of other bulk operations, rather than published straight away as when
+   * anonymizing the loans of a single borrower
+   */
   DefaultLoanAnonymizationService(Clients clients, AnonymizationCheckersService anonymizationCheckersService,
-      LoanAnonymizationFinderService loansFinderService) {
+      LoanAnonymizationFinderService loansFinderService, boolean queueEvents) {
     this.anonymizationCheckersService = anonymizationCheckersService;
     this.loansFinder = loansFinderService;
+    this.queueEvents = queueEvents;
     anonymizeStorageLoansRepository = new AnonymizeStorageLoansRepository(clients);
     eventPublisher = new EventPublisher(clients.pubSubPublishingService());
   }
@@ -32,10 +42,27 @@ public class DefaultLoanAnonymizationService implements LoanAnonymizationService
   @Override
   public CompletableFuture<Result<LoanAnonymizationRecords>> anonymizeLoans() {
     return loansFinder.findLoansToAnonymize()
-      .thenApply(r -> r.map(new LoanAnonymizationRecords()::withLoansFound))
-      .thenCompose(this::segregateLoanRecords)
+      .thenCompose(r -> r.after(this::anonymizeLoans));
+  }
+
+  /**
+   * Anonymizes those of {@code loans} that can be anonymized, with a single
+   * request to storage
+   */
+  CompletableFuture<Result<LoanAnonymizationRecords>> anonymizeLoans(
+    Collection<Loan> loans) {
+
+    return segregateLoanRecords(succeeded(new LoanAnonymizationRecords().withLoansFound(loans)))
       .thenCompose(r -> r.after(anonymizeStorageLoansRepository::postAnonymizeStorageLoans))
-      .thenCompose(r -> r.after(eventPublisher::publishAnonymizeEvents));
+      .thenCompose(r -> r.after(this::publishAnonymizeEvents));
+  }
+
+  private CompletableFuture<Result<LoanAnonymizationRecords>> publishAnonymizeEvents(
+    LoanAnonymizationRecords records) {
+
+    return queueEvents
+      ? eventPublisher.queueAnonymizeEvents(records)
+      : eventPublisher.publishAnonymizeEvents(records);
   }
 
   private CompletableFuture<Result<LoanAnonymizationRecords>> segregateLoanRecords(
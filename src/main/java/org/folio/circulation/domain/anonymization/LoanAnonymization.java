@@ -18,6 +18,8 @@ public class LoanAnonymization {
   private final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
   public static final PageLimit FETCH_LOANS_PAGE_LIMIT = limit(5000);
+  /** loans anonymized together when anonymizing for the whole tenant */
+  public static final PageLimit ANONYMIZE_LOANS_PAGE_LIMIT = limit(500);
 
   private final Clients clients;
   private LoanAnonymizationFinderService loansFinderService;
@@ -34,17 +36,20 @@ public class LoanAnonymization {
     anonymizationCheckersService = new AnonymizationCheckersService();
 
     return new DefaultLoanAnonymizationService(clients,
-        anonymizationCheckersService, loansFinderService);
+        anonymizationCheckersService, loansFinderService, false);
   }
 
   public LoanAnonymizationService byCurrentTenant(
       LoanAnonymizationConfiguration config) {
     log.info("Initializing loan anonymization for current tenant");
 
-    loansFinderService = new LoansForTenantFinder(clients);
+    final LoansForTenantFinder loansForTenantFinder = new LoansForTenantFinder(clients);
+    loansFinderService = loansForTenantFinder;
     anonymizationCheckersService = new AnonymizationCheckersService(config);
 
-    return new DefaultLoanAnonymizationService(clients,
-        anonymizationCheckersService, loansFinderService);
+    return new TenantLoanAnonymizationService(new LoanAnonymizationCursor(clients),
+        loansForTenantFinder,
+        new DefaultLoanAnonymizationService(clients, anonymizationCheckersService,
+          loansFinderService, true));
   }
 }
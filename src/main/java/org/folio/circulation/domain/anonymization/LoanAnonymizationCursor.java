@@ -0,0 +1,115 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.function.Function.identity;
+import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
+import static org.folio.circulation.support.http.ResponseMapping.mapUsingJson;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.ResponseInterpreter;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Remembers the id of the last loan looked at by the scheduled anonymization,
+ * so that the next run carries on after it rather than starting from the
+ * first closed loan again.
+ * <p>
+ * The cursor is kept in a configuration entry of the tenant, so it survives
+ * restarts and is shared by every instance of the module. It is only moved
+ * once the loans up to it have been anonymized, and goes back to the start
+ * once all closed loans have been looked at.
+ */
+public class LoanAnonymizationCursor {
+  private static final String MODULE_NAME = "LOAN_HISTORY";
+  private static final String CONFIG_NAME = "loan_anonymization_cursor";
+
+  private static final String CONFIGS_KEY = "configs";
+  private static final String ID_KEY = "id";
+  private static final String MODULE_NAME_KEY = "module";
+  private static final String CONFIG_NAME_KEY = "configName";
+  private static final String VALUE_KEY = "value";
+  private static final String LAST_LOAN_ID_KEY = "lastLoanId";
+
+  private final CollectionResourceClient configurationClient;
+  /** id of the configuration entry, once it has been found or created */
+  private String entryId;
+
+  public LoanAnonymizationCursor(Clients clients) {
+    this(clients.configurationStorageClient());
+  }
+
+  LoanAnonymizationCursor(CollectionResourceClient configurationClient) {
+    this.configurationClient = configurationClient;
+  }
+
+  /**
+   * Needs to be fetched before the cursor is moved, so that the existing
+   * entry is updated rather than another one created
+   *
+   * @return id of the last loan looked at, or null to start from the first loan
+   */
+  public CompletableFuture<Result<String>> lastLoanId() {
+    return exactMatch(MODULE_NAME_KEY, MODULE_NAME)
+      .combine(exactMatch(CONFIG_NAME_KEY, CONFIG_NAME), CqlQuery::and)
+      .after(query -> configurationClient.getMany(query, PageLimit.one()))
+      .thenApply(r -> r.next(response ->
+        MultipleRecords.from(response, identity(), CONFIGS_KEY)))
+      .thenApply(r -> r.map(this::lastLoanIdFrom));
+  }
+
+  public CompletableFuture<Result<Void>> advanceTo(String loanId) {
+    return save(new JsonObject().put(LAST_LOAN_ID_KEY, loanId));
+  }
+
+  public CompletableFuture<Result<Void>> reset() {
+    return save(new JsonObject());
+  }
+
+  private String lastLoanIdFrom(MultipleRecords<JsonObject> entries) {
+    return entries.getRecords().stream()
+      .findFirst()
+      .map(entry -> {
+        entryId = entry.getString(ID_KEY);
+
+        return new JsonObject(entry.getString(VALUE_KEY, "{}"))
+          .getString(LAST_LOAN_ID_KEY);
+      })
+      .orElse(null);
+  }
+
+  private CompletableFuture<Result<Void>> save(JsonObject value) {
+    final JsonObject entry = new JsonObject()
+      .put(MODULE_NAME_KEY, MODULE_NAME)
+      .put(CONFIG_NAME_KEY, CONFIG_NAME)
+      .put(VALUE_KEY, value.encode());
+
+    if (entryId == null) {
+      final ResponseInterpreter<String> interpreter = new ResponseInterpreter<String>()
+        .flatMapOn(201, mapUsingJson(created -> created.getString(ID_KEY)))
+        .otherwise(forwardOnFailure());
+
+      return configurationClient.post(entry)
+        .thenApply(interpreter::flatMap)
+        .thenApply(r -> r.map(createdId -> {
+          entryId = createdId;
+          return null;
+        }));
+    }
+
+    final ResponseInterpreter<Void> interpreter = new ResponseInterpreter<Void>()
+      .on(204, succeeded(null))
+      .otherwise(forwardOnFailure());
+
+    return configurationClient.put(entryId, entry.put(ID_KEY, entryId))
+      .thenApply(interpreter::flatMap);
+  }
+}
@@ -56,6 +56,27 @@ public class LoanAnonymizationRecords {
     return newRecords;
   }
 
+  /**
+   * Combines the loans of these records with those of {@code other}, for
+   * anonymization done in more than one step
+   */
+  public LoanAnonymizationRecords combine(LoanAnonymizationRecords other) {
+    LoanAnonymizationRecords newRecords = new LoanAnonymizationRecords();
+    newRecords.loansFound = new ArrayList<>(loansFound);
+    newRecords.loansFound.addAll(other.loansFound);
+    newRecords.anonymizedLoans = new ArrayList<>(anonymizedLoans);
+    newRecords.anonymizedLoans.addAll(other.anonymizedLoans);
+    newRecords.notAnonymizedLoans = new HashMap<>(notAnonymizedLoans);
+    other.notAnonymizedLoans.forEach((reason, loanIds) ->
+      newRecords.notAnonymizedLoans.merge(reason, new ArrayList<>(loanIds),
+        (first, second) -> {
+          final List<String> allLoanIds = new ArrayList<>(first);
+          allLoanIds.addAll(second);
+          return allLoanIds;
+        }));
+    return newRecords;
+  }
+
   public List<String> getAnonymizedLoanIds() {
     return anonymizedLoans;
   }
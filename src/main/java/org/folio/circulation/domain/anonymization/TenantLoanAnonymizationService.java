@@ -0,0 +1,84 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.ANONYMIZE_LOANS_PAGE_LIMIT;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.FETCH_LOANS_PAGE_LIMIT;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.anonymization.service.LoansForTenantFinder;
+import org.folio.circulation.support.results.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Anonymizes the closed loans of the whole tenant a page at a time, carrying
+ * on from where the previous run stopped.
+ * <p>
+ * Loans that cannot be anonymized yet stay behind the cursor, so they do not
+ * hold up the loans after them. Each run looks at a limited number of loans,
+ * once all closed loans have been looked at the next run starts again from
+ * the first one.
+ */
+public class TenantLoanAnonymizationService implements LoanAnonymizationService {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final LoanAnonymizationCursor cursor;
+  private final LoansForTenantFinder loansFinder;
+  private final DefaultLoanAnonymizationService pageAnonymization;
+
+  TenantLoanAnonymizationService(LoanAnonymizationCursor cursor,
+    LoansForTenantFinder loansFinder, DefaultLoanAnonymizationService pageAnonymization) {
+
+    this.cursor = cursor;
+    this.loansFinder = loansFinder;
+    this.pageAnonymization = pageAnonymization;
+  }
+
+  @Override
+  public CompletableFuture<Result<LoanAnonymizationRecords>> anonymizeLoans() {
+    return cursor.lastLoanId()
+      .thenCompose(r -> r.after(lastLoanId ->
+        anonymizePagesAfter(lastLoanId, new LoanAnonymizationRecords(), 0)));
+  }
+
+  private CompletableFuture<Result<LoanAnonymizationRecords>> anonymizePagesAfter(
+    String lastLoanId, LoanAnonymizationRecords anonymizedSoFar, int loansSoFar) {
+
+    return loansFinder.findLoansToAnonymizeAfter(lastLoanId, ANONYMIZE_LOANS_PAGE_LIMIT)
+      .thenCompose(r -> r.after(loans -> pageAnonymization.anonymizeLoans(loans)
+        .thenCompose(anonymized -> anonymized.after(page -> moveCursorPast(loans)
+          .thenApply(moved -> moved.map(notUsed -> anonymizedSoFar.combine(page)))))
+        .thenCompose(anonymized -> anonymized.after(records -> {
+          final int loansLookedAt = loansSoFar + loans.size();
+
+          if (isLastPage(loans) || loansLookedAt >= FETCH_LOANS_PAGE_LIMIT.getLimit()) {
+            log.info("Looked at {} closed loans for anonymization", loansLookedAt);
+            return completedFuture(succeeded(records));
+          }
+
+          return anonymizePagesAfter(lastLoanId(loans), records, loansLookedAt);
+        }))));
+  }
+
+  private CompletableFuture<Result<Void>> moveCursorPast(Collection<Loan> loans) {
+    return isLastPage(loans)
+      ? cursor.reset()
+      : cursor.advanceTo(lastLoanId(loans));
+  }
+
+  private static boolean isLastPage(Collection<Loan> loans) {
+    return loans.size() < ANONYMIZE_LOANS_PAGE_LIMIT.getLimit();
+  }
+
+  private static String lastLoanId(Collection<Loan> loans) {
+    return loans.stream()
+      .reduce((first, second) -> second)
+      .map(Loan::getId)
+      .orElse(null);
+  }
+}
@@ -1,19 +1,27 @@
 package org.folio.circulation.domain.anonymization.service;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.commons.collections4.ListUtils.partition;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.infrastructure.storage.feesandfines.AccountRepository;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.results.Result;
 
 abstract class DefaultLoansFinder implements LoanAnonymizationFinderService {
+  private static final int LOANS_PER_ACCOUNT_LOOKUP = 50;
+  private static final int ACCOUNT_LOOKUPS_IN_PROGRESS = 4;
 
   private final AccountRepository accountRepository;
+  private final BoundedParallelExecutor accountLookups =
+    new BoundedParallelExecutor(ACCOUNT_LOOKUPS_IN_PROGRESS);
   protected Clients clients;
 
   DefaultLoansFinder(Clients clients) {
@@ -21,10 +29,30 @@ abstract class DefaultLoansFinder implements LoanAnonymizationFinderService {
     accountRepository = new AccountRepository(clients);
   }
 
+  /**
+   * Fetches the accounts for the loans a batch of loans at a time, with only a
+   * few batches in progress, rather than all of them at once
+   */
   CompletableFuture<Result<Collection<Loan>>> fetchAdditionalLoanInfo(
       Result<MultipleRecords<Loan>> records) {
 
-    return records.after(accountRepository::findAccountsForLoans)
+    return records.after(this::findAccountsForLoans)
       .thenCompose(r -> completedFuture(r.map(MultipleRecords::getRecords)));
   }
+
+  private CompletableFuture<Result<MultipleRecords<Loan>>> findAccountsForLoans(
+    MultipleRecords<Loan> loans) {
+
+    final List<List<Loan>> batches = partition(new ArrayList<>(loans.getRecords()),
+      LOANS_PER_ACCOUNT_LOOKUP);
+
+    return accountLookups.execute(batches,
+        batch -> accountRepository.findAccountsForLoans(
+          new MultipleRecords<>(batch, batch.size())))
+      .thenApply(Result::combineAll)
+      .thenApply(r -> r.map(batchesWithAccounts -> batchesWithAccounts.stream()
+        .reduce(MultipleRecords.empty(), MultipleRecords::combine)))
+      .thenApply(r -> r.map(loansWithAccounts -> new MultipleRecords<>(
+        loansWithAccounts.getRecords(), loans.getTotalRecords())));
+  }
 }
@@ -1,13 +1,15 @@
 package org.folio.circulation.domain.anonymization.service;
 
-import static org.folio.circulation.domain.anonymization.LoanAnonymization.FETCH_LOANS_PAGE_LIMIT;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.ANONYMIZE_LOANS_PAGE_LIMIT;
 
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.anonymization.LoanAnonymizationCursor;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.results.Result;
 
 public class LoansForTenantFinder extends DefaultLoansFinder {
@@ -21,7 +23,18 @@ public class LoansForTenantFinder extends DefaultLoansFinder {
 
   @Override
   public CompletableFuture<Result<Collection<Loan>>> findLoansToAnonymize() {
-    return loanRepository.findLoansToAnonymize(FETCH_LOANS_PAGE_LIMIT)
+    return new LoanAnonymizationCursor(clients).lastLoanId()
+      .thenCompose(r -> r.after(lastLoanId ->
+        findLoansToAnonymizeAfter(lastLoanId, ANONYMIZE_LOANS_PAGE_LIMIT)));
+  }
+
+  /**
+   * Finds a page of closed loans in order of id, starting after {@code lastLoanId}
+   */
+  public CompletableFuture<Result<Collection<Loan>>> findLoansToAnonymizeAfter(
+    String lastLoanId, PageLimit pageLimit) {
+
+    return loanRepository.findLoansToAnonymizeAfter(lastLoanId, pageLimit)
       .thenCompose(this::fetchAdditionalLoanInfo);
   }
 }
@@ -51,9 +51,9 @@ public class PatronNoticeService {
   }
 
   public CompletableFuture<Result<Void>> acceptNoticeEvent(PatronNoticeEvent event, NoticeLogContext logContext) {
-    return acceptMultipleNoticeEvent(Collections.singletonList(new NoticeEventBundle(event, logContext)),
+    return acceptNoticeEvents(Collections.singletonList(new NoticeEventBundle(event, logContext)),
       contexts -> contexts.stream().findFirst().orElse(new JsonObject()),
-      logContexts -> logContexts.stream().findFirst().orElse(new NoticeLogContext()));
+      logContexts -> logContexts.stream().findFirst().orElse(new NoticeLogContext()), false);
   }
 
   public CompletableFuture<Result<Void>> acceptScheduledNoticeEvent(
@@ -68,7 +68,7 @@ public class PatronNoticeService {
     patronNotice.setContext(context);
 
     return sendNotice(patronNotice)
-      .thenCompose(v -> publishAuditLogEvent(noticeLogContext))
+      .thenCompose(v -> publishAuditLogEvent(noticeLogContext, true))
       .exceptionally(t -> succeeded(null));
   }
 
@@ -77,9 +77,24 @@ public class PatronNoticeService {
     Function<Collection<JsonObject>, JsonObject> contextCombiner,
     Function<Collection<NoticeLogContext>, NoticeLogContext> logContextCombiner) {
 
+    return acceptNoticeEvents(bundles, contextCombiner, logContextCombiner, true);
+  }
+
+  /**
+   * @param queueLogRecord  whether the audit log records are queued behind
+   * those of other bulk operations, rather than published straight away as
+   * for notices sent while handling an interactive request
+   */
+  private CompletableFuture<Result<Void>> acceptNoticeEvents(
+    Collection<NoticeEventBundle> bundles,
+    Function<Collection<JsonObject>, JsonObject> contextCombiner,
+    Function<Collection<NoticeLogContext>, NoticeLogContext> logContextCombiner,
+    boolean queueLogRecord) {
+
     return allOf(bundles, this::loadNoticePolicyId)
       .thenApply(mapResult(this::groupEvents))
-      .thenCompose(r -> r.after(eventGroups -> handleGroupedEvents(eventGroups, contextCombiner, logContextCombiner)));
+      .thenCompose(r -> r.after(eventGroups -> handleGroupedEvents(eventGroups,
+        contextCombiner, logContextCombiner, queueLogRecord)));
   }
 
   private CompletableFuture<Result<Pair<NoticeEventBundle, String>>> loadNoticePolicyId(NoticeEventBundle bundle) {
@@ -98,16 +113,19 @@ public class PatronNoticeService {
   private CompletableFuture<Result<Void>> handleGroupedEvents(
     Map<NoticeEventGroupDefinition, List<NoticeEventBundle>> eventGroups,
     Function<Collection<JsonObject>, JsonObject> contextCombiner,
-    Function<Collection<NoticeLogContext>, NoticeLogContext> logContextCombiner) {
+    Function<Collection<NoticeLogContext>, NoticeLogContext> logContextCombiner,
+    boolean queueLogRecord) {
 
-    return allOf(eventGroups.entrySet(), e -> handleGroupedEvent(e, contextCombiner, logContextCombiner))
+    return allOf(eventGroups.entrySet(), e -> handleGroupedEvent(e, contextCombiner,
+      logContextCombiner, queueLogRecord))
       .thenApply(mapResult(v -> null));
   }
 
   private CompletableFuture<Result<Void>> handleGroupedEvent(
     Map.Entry<NoticeEventGroupDefinition, List<NoticeEventBundle>> groupedEvent,
     Function<Collection<JsonObject>, JsonObject> contextCombiner,
-    Function<Collection<NoticeLogContext>, NoticeLogContext> logContextCombiner) {
+    Function<Collection<NoticeLogContext>, NoticeLogContext> logContextCombiner,
+    boolean queueLogRecord) {
 
     NoticeEventGroupDefinition eventGroupDefinition = groupedEvent.getKey();
     List<NoticeEventBundle> bundles = groupedEvent.getValue();
@@ -126,12 +144,13 @@ public class PatronNoticeService {
       eventGroupDefinition.noticePolicyId,
       new AppliedRuleConditions(false, false, false))
       .thenCompose(r -> r.after(policy -> applyNoticePolicy(policy, eventGroupDefinition,
-        combinedContext, combinedLogContext)));
+        combinedContext, combinedLogContext, queueLogRecord)));
   }
 
   private CompletableFuture<Result<Void>> applyNoticePolicy(
     PatronNoticePolicy policy, NoticeEventGroupDefinition eventGroupDefinition,
-    JsonObject noticeContext, NoticeLogContext noticeLogContext) {
+    JsonObject noticeContext, NoticeLogContext noticeLogContext,
+    boolean queueLogRecord) {
 
     Optional<NoticeConfiguration> matchingNoticeConfiguration =
       policy.lookupNoticeConfiguration(eventGroupDefinition.eventType);
@@ -147,7 +166,8 @@ public class PatronNoticeService {
 
     return sendPatronNotice(matchingNoticeConfiguration.get(),
       eventGroupDefinition.recipientId, noticeContext)
-      .thenCompose(r -> r.after(v -> publishAuditLogEvent(noticeLogContext)));
+      .thenCompose(r -> r.after(v -> publishAuditLogEvent(noticeLogContext,
+        queueLogRecord)));
   }
 
   private CompletableFuture<Result<Void>> sendPatronNotice(
@@ -173,8 +193,14 @@ public class PatronNoticeService {
       .thenApply(responseInterpreter::flatMap);
   }
 
-  private CompletableFuture<Result<Void>> publishAuditLogEvent(NoticeLogContext noticeLogContext) {
-    return eventPublisher.publishLogRecord(noticeLogContext.withDate(DateTime.now()).asJson(), NOTICE);
+  private CompletableFuture<Result<Void>> publishAuditLogEvent(
+    NoticeLogContext noticeLogContext, boolean queued) {
+
+    final JsonObject logRecord = noticeLogContext.withDate(DateTime.now()).asJson();
+
+    return queued
+      ? eventPublisher.queueLogRecord(logRecord, NOTICE)
+      : eventPublisher.publishLogRecord(logRecord, NOTICE);
   }
 
   private static class NoticeEventGroupDefinition {
@@ -20,6 +20,7 @@ import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.notice.PatronNoticeService;
 import org.folio.circulation.domain.notice.TemplateContextUtil;
 import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
@@ -34,26 +35,28 @@ import lombok.AllArgsConstructor;
 public class DueDateNotRealTimeScheduledNoticeHandler {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-  public static DueDateNotRealTimeScheduledNoticeHandler using(Clients clients, DateTime systemTime) {
+  public static DueDateNotRealTimeScheduledNoticeHandler using(Clients clients,
+    DateTime systemTime, BoundedParallelExecutor executor) {
+
     return new DueDateNotRealTimeScheduledNoticeHandler(
-      LoanScheduledNoticeHandler.using(clients, systemTime),
+      LoanScheduledNoticeHandler.using(clients, systemTime, executor),
       PatronNoticeService.using(clients),
-      new PatronNoticePolicyRepository(clients));
+      new PatronNoticePolicyRepository(clients),
+      executor);
   }
 
   private final LoanScheduledNoticeHandler loanScheduledNoticeHandler;
   private final PatronNoticeService patronNoticeService;
   private final PatronNoticePolicyRepository noticePolicyRepository;
+  private final BoundedParallelExecutor executor;
 
 
   public CompletableFuture<Result<Void>> handleNotices(
     List<List<ScheduledNotice>> noticeGroups) {
 
-    CompletableFuture<Result<Void>> future = completedFuture(succeeded(null));
-    for (List<ScheduledNotice> noticeGroup : noticeGroups) {
-      future = future.thenCompose(r -> handleNoticeGroup(noticeGroup));
-    }
-    return future.thenApply(r -> succeeded(null));
+    // each group is sent to a different patron, so groups are handled at the same time
+    return executor.execute(noticeGroups, this::handleNoticeGroup)
+      .thenApply(r -> succeeded(null));
   }
 
   private CompletableFuture<Result<Void>> handleNoticeGroup(List<ScheduledNotice> noticeGroup) {
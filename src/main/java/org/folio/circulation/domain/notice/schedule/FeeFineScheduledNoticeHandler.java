@@ -2,7 +2,6 @@ package org.folio.circulation.domain.notice.schedule;
 
 import static org.apache.commons.lang3.ObjectUtils.allNotNull;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createFeeFineNoticeContext;
-import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.ClockManager.getClockManager;
 import static org.folio.circulation.support.results.Result.ofAsync;
 
@@ -23,6 +22,7 @@ import org.folio.circulation.domain.notice.PatronNoticeService;
 import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
 import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
@@ -44,13 +44,15 @@ public class FeeFineScheduledNoticeHandler {
   private final AccountRepository accountRepository;
   private final LoanRepository loanRepository;
   private final PatronNoticePolicyRepository noticePolicyRepository;
+  private final BoundedParallelExecutor executor;
 
   private FeeFineScheduledNoticeHandler(PatronNoticeService patronNoticeService,
     ScheduledNoticesRepository scheduledNoticesRepository,
     FeeFineActionRepository actionRepository,
     AccountRepository accountRepository,
     LoanRepository loanRepository,
-    PatronNoticePolicyRepository noticePolicyRepository) {
+    PatronNoticePolicyRepository noticePolicyRepository,
+    BoundedParallelExecutor executor) {
 
     this.patronNoticeService = patronNoticeService;
     this.scheduledNoticesRepository = scheduledNoticesRepository;
@@ -58,22 +60,28 @@ public class FeeFineScheduledNoticeHandler {
     this.accountRepository = accountRepository;
     this.loanRepository = loanRepository;
     this.noticePolicyRepository = noticePolicyRepository;
+    this.executor = executor;
   }
 
-  public static FeeFineScheduledNoticeHandler using(Clients clients) {
+  public static FeeFineScheduledNoticeHandler using(Clients clients,
+    BoundedParallelExecutor executor) {
+
     return new FeeFineScheduledNoticeHandler(
       PatronNoticeService.using(clients),
       ScheduledNoticesRepository.using(clients),
       new FeeFineActionRepository(clients),
       new AccountRepository(clients),
       new LoanRepository(clients),
-      new PatronNoticePolicyRepository(clients));
+      new PatronNoticePolicyRepository(clients),
+      executor);
   }
 
   public CompletableFuture<Result<List<ScheduledNotice>>> handleNotices(
     Collection<ScheduledNotice> scheduledNotices) {
 
-    return allOf(scheduledNotices, this::handleNotice);
+    return executor.executeOrderedByKey(scheduledNotices,
+        ScheduledNotice::getFeeFineActionId, this::handleNotice)
+      .thenApply(Result::combineAll);
   }
 
   public CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
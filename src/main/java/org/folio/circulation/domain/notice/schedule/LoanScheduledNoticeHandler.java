@@ -23,7 +23,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.folio.circulation.domain.ItemStatus;
@@ -38,10 +40,12 @@ import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
@@ -57,7 +61,9 @@ public class LoanScheduledNoticeHandler {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
   private static final String ERROR_MESSAGE_TEMPLATE = "Sending scheduled notice {} failed: {}";
 
-  public static LoanScheduledNoticeHandler using(Clients clients, DateTime systemTime) {
+  public static LoanScheduledNoticeHandler using(Clients clients, DateTime systemTime,
+    BoundedParallelExecutor executor) {
+
     return new LoanScheduledNoticeHandler(
       new LoanRepository(clients),
       new LoanPolicyRepository(clients),
@@ -66,7 +72,8 @@ public class LoanScheduledNoticeHandler {
       ScheduledNoticesRepository.using(clients),
       clients.templateNoticeClient(),
       new AccountRepository(clients),
-      systemTime);
+      systemTime,
+      executor);
   }
 
   private final LoanRepository loanRepository;
@@ -77,15 +84,22 @@ public class LoanScheduledNoticeHandler {
   private final CollectionResourceClient templateNoticesClient;
   private final AccountRepository accountRepository;
   private final DateTime systemTime;
-
+  private final BoundedParallelExecutor executor;
+  /** templates are checked once for all notices handled together */
+  private final Map<String, CompletableFuture<Result<Response>>> templates =
+    new ConcurrentHashMap<>();
+
+  /**
+   * Handles the notices of different loans at the same time, the notices
+   * of a loan are handled one after another. A notice that fails
+   * does not stop the other notices from being handled.
+   */
   public CompletableFuture<Result<Collection<ScheduledNotice>>> handleNotices(
     Collection<ScheduledNotice> scheduledNotices) {
 
-    CompletableFuture<Result<ScheduledNotice>> future = completedFuture(succeeded(null));
-    for (ScheduledNotice scheduledNotice : scheduledNotices) {
-      future = future.thenCompose(r -> handleNotice(scheduledNotice));
-    }
-    return future.thenApply(r -> succeeded(scheduledNotices));
+    return executor.executeOrderedByKey(scheduledNotices, ScheduledNotice::getLoanId,
+        this::handleNotice)
+      .thenApply(r -> succeeded(scheduledNotices));
   }
 
   private CompletableFuture<Result<ScheduledNotice>> handleNotice(ScheduledNotice notice) {
@@ -114,12 +128,28 @@ public class LoanScheduledNoticeHandler {
 
     final String templateId = notice.getConfiguration().getTemplateId();
 
-    return templateNoticesClient.get(templateId)
+    return fetchTemplate(templateId)
       .thenApply(r -> r.next(response -> response.getStatusCode() == SC_NOT_FOUND
         ? buildRecordNotFoundFailure(TEMPLATE, templateId)
         : succeeded(notice)));
   }
 
+  private CompletableFuture<Result<Response>> fetchTemplate(String templateId) {
+    if (templateId == null) {
+      return templateNoticesClient.get(templateId);
+    }
+
+    final CompletableFuture<Result<Response>> template = templates.computeIfAbsent(
+      templateId, templateNoticesClient::get);
+
+    // failures are not reused, the next notice with the template tries again
+    return template.whenComplete((result, throwable) -> {
+      if (throwable != null || result.failed()) {
+        templates.remove(templateId, template);
+      }
+    });
+  }
+
   private CompletableFuture<Result<LoanAndRelatedRecords>> fetchLoanAndRelatedRecords(
     ScheduledNotice notice) {
 
@@ -22,6 +22,7 @@ import org.folio.circulation.domain.representations.logs.NoticeLogContextItem;
 import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
 import org.folio.circulation.infrastructure.storage.requests.RequestRepository;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
@@ -34,36 +35,46 @@ import io.vertx.core.json.JsonObject;
 public class RequestScheduledNoticeHandler {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-  public static RequestScheduledNoticeHandler using(Clients clients) {
+  public static RequestScheduledNoticeHandler using(Clients clients,
+    BoundedParallelExecutor executor) {
+
     return new RequestScheduledNoticeHandler(
       RequestRepository.using(clients, true),
       PatronNoticeService.using(clients),
       ScheduledNoticesRepository.using(clients),
-      new PatronNoticePolicyRepository(clients));
+      new PatronNoticePolicyRepository(clients),
+      executor);
   }
 
   private RequestRepository requestRepository;
   private PatronNoticeService patronNoticeService;
   private ScheduledNoticesRepository scheduledNoticesRepository;
   private PatronNoticePolicyRepository noticePolicyRepository;
+  private BoundedParallelExecutor executor;
 
   private RequestScheduledNoticeHandler(RequestRepository requestRepository,
                                         PatronNoticeService patronNoticeService,
                                         ScheduledNoticesRepository scheduledNoticesRepository,
-                                        PatronNoticePolicyRepository noticePolicyRepository) {
+                                        PatronNoticePolicyRepository noticePolicyRepository,
+                                        BoundedParallelExecutor executor) {
 
     this.requestRepository = requestRepository;
     this.patronNoticeService = patronNoticeService;
     this.scheduledNoticesRepository = scheduledNoticesRepository;
     this.noticePolicyRepository = noticePolicyRepository;
+    this.executor = executor;
   }
 
+  /**
+   * Handles the notices of different requests at the same time, the notices
+   * of a request are handled one after another. All notices are handled even
+   * when some of them fail.
+   */
   public CompletableFuture<Result<Collection<ScheduledNotice>>> handleNotices(Collection<ScheduledNotice> scheduledNotices) {
-    CompletableFuture<Result<ScheduledNotice>> future = completedFuture(succeeded(null));
-    for (ScheduledNotice scheduledNotice : scheduledNotices) {
-      future = future.thenCompose(r -> r.after(v -> handleRequestNotice(scheduledNotice)));
-    }
-    return future.thenApply(r -> r.map(v -> scheduledNotices));
+    return executor.executeOrderedByKey(scheduledNotices, ScheduledNotice::getRequestId,
+        this::handleRequestNotice)
+      .thenApply(Result::combineAll)
+      .thenApply(r -> r.map(v -> scheduledNotices));
   }
 
   private CompletableFuture<Result<ScheduledNotice>> handleRequestNotice(ScheduledNotice notice) {
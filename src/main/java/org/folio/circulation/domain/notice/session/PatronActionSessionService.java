@@ -6,6 +6,7 @@ import static java.util.stream.Collectors.toList;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createLoanNoticeContextWithoutUser;
 import static org.folio.circulation.domain.notice.TemplateContextUtil.createUserContext;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.backgroundActionsInProgress;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -119,7 +120,8 @@ public class PatronActionSessionService {
 
     log.info("{} session records will be deleted.", records.size());
 
-    return allOf(records.getRecords(), patronActionSessionRepository::delete)
+    return allOf(records.getRecords(), backgroundActionsInProgress(),
+      patronActionSessionRepository::delete)
       .thenApply(mapResult(v -> null));
   }
 
@@ -187,7 +189,7 @@ public class PatronActionSessionService {
 
     log.info("Attempting to send {} notices for expired sessions before they will be deleted by timeout.", recordsGroupedByUser.size());
 
-    return allOf(recordsGroupedByUser, this::sendNotices)
+    return allOf(recordsGroupedByUser, backgroundActionsInProgress(), this::sendNotices)
       .thenApply(mapResult(v -> records));
   }
 
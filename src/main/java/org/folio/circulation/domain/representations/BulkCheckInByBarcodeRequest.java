@@ -0,0 +1,82 @@
+package org.folio.circulation.domain.representations;
+
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getDateTimeProperty;
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getUUIDProperty;
+import static org.folio.circulation.support.json.JsonStringArrayPropertyFetcher.toStream;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTime;
+
+import io.vertx.core.json.JsonObject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Checks in many items at the same service point at once, for example all of
+ * the items returned through an automated return sorter or book drop
+ */
+@Getter
+@AllArgsConstructor
+public class BulkCheckInByBarcodeRequest {
+  public static final int MAXIMUM_ITEM_BARCODES = 1000;
+
+  private static final String ITEM_BARCODES = "itemBarcodes";
+  private static final String CHECK_IN_DATE = "checkInDate";
+  private static final String SERVICE_POINT_ID = "servicePointId";
+
+  private final List<String> itemBarcodes;
+  private final UUID servicePointId;
+  private final DateTime checkInDate;
+
+  public static Result<BulkCheckInByBarcodeRequest> from(JsonObject json) {
+    final List<String> itemBarcodes = toStream(json, ITEM_BARCODES)
+      .filter(StringUtils::isNotBlank)
+      .collect(Collectors.toList());
+
+    if (itemBarcodes.isEmpty()) {
+      return failedValidation("Bulk checkin request must have at least one item barcode",
+        ITEM_BARCODES, null);
+    }
+
+    if (itemBarcodes.size() > MAXIMUM_ITEM_BARCODES) {
+      return failedValidation(String.format(
+        "Bulk checkin request cannot have more than %d item barcodes",
+        MAXIMUM_ITEM_BARCODES), ITEM_BARCODES, String.valueOf(itemBarcodes.size()));
+    }
+
+    final UUID servicePointId = getUUIDProperty(json, SERVICE_POINT_ID);
+
+    if (servicePointId == null) {
+      return failedValidation("Bulk checkin request must have a service point id",
+        SERVICE_POINT_ID, null);
+    }
+
+    final DateTime checkInDate = getDateTimeProperty(json, CHECK_IN_DATE);
+
+    if (checkInDate == null) {
+      return failedValidation("Bulk checkin request must have a check in date",
+        CHECK_IN_DATE, null);
+    }
+
+    return succeeded(new BulkCheckInByBarcodeRequest(itemBarcodes, servicePointId,
+      checkInDate));
+  }
+
+  /**
+   * @return a check in request for each item barcode, in the order of the
+   * barcodes
+   */
+  public List<CheckInByBarcodeRequest> toCheckInRequests() {
+    return itemBarcodes.stream()
+      .map(barcode -> new CheckInByBarcodeRequest(barcode, servicePointId,
+        checkInDate, null))
+      .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,69 @@
+package org.folio.circulation.domain.representations;
+
+import static org.folio.circulation.support.http.server.JsonHttpResponse.ok;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+
+import java.util.List;
+
+import org.folio.circulation.domain.CheckInContext;
+import org.folio.circulation.support.http.server.HttpResponse;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The outcome of the check in of each item of a bulk check in, a failure to
+ * check in one item does not fail the others
+ */
+public class BulkCheckInByBarcodeResponse {
+  private final List<String> itemBarcodes;
+  private final List<Result<CheckInContext>> checkIns;
+
+  /**
+   * @param itemBarcodes  the barcodes of the items, in the same order as
+   * the check in of each item
+   */
+  public BulkCheckInByBarcodeResponse(List<String> itemBarcodes,
+    List<Result<CheckInContext>> checkIns) {
+
+    this.itemBarcodes = itemBarcodes;
+    this.checkIns = checkIns;
+  }
+
+  public HttpResponse toHttpResponse() {
+    return ok(toJson());
+  }
+
+  JsonObject toJson() {
+    final JsonArray checkInsJson = new JsonArray();
+
+    for (int index = 0; index < checkIns.size(); index++) {
+      checkInsJson.add(checkInToJson(itemBarcodes.get(index), checkIns.get(index)));
+    }
+
+    final JsonObject json = new JsonObject();
+
+    write(json, "checkIns", checkInsJson);
+    write(json, "totalRecords", checkIns.size());
+
+    return json;
+  }
+
+  private static JsonObject checkInToJson(String itemBarcode,
+    Result<CheckInContext> checkIn) {
+
+    final JsonObject json = new JsonObject();
+
+    write(json, "itemBarcode", itemBarcode);
+
+    if (checkIn.succeeded()) {
+      write(json, "checkIn", CheckInByBarcodeResponse.fromRecords(checkIn.value()).toJson());
+    }
+    else {
+      write(json, "errors", ErrorsRepresentation.errorsFrom(checkIn.cause()));
+    }
+
+    return json;
+  }
+}
@@ -25,7 +25,7 @@ public class CheckInByBarcodeResponse {
     return ok(this.toJson());
   }
 
-  private JsonObject toJson() {
+  JsonObject toJson() {
     final LoanRepresentation loanRepresentation = new LoanRepresentation();
     final ItemSummaryRepresentation itemRepresentation = new ItemSummaryRepresentation();
 
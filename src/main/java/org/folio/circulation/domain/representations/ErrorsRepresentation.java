@@ -0,0 +1,33 @@
+package org.folio.circulation.domain.representations;
+
+import java.util.stream.Collectors;
+
+import org.folio.circulation.support.HttpFailure;
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.http.server.ValidationError;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Errors for one of the records of a bulk operation, in the same form as the
+ * errors of a validation failure response
+ */
+public class ErrorsRepresentation {
+  private ErrorsRepresentation() { }
+
+  public static JsonArray errorsFrom(HttpFailure failure) {
+    if (failure instanceof ValidationErrorFailure) {
+      return new JsonArray(((ValidationErrorFailure) failure).getErrors().stream()
+        .map(ValidationError::toJson)
+        .collect(Collectors.toList()));
+    }
+
+    final String message = failure instanceof ServerErrorFailure
+      ? ((ServerErrorFailure) failure).getReason()
+      : String.valueOf(failure);
+
+    return new JsonArray().add(new JsonObject().put("message", message));
+  }
+}
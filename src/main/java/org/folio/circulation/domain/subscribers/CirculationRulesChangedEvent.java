@@ -0,0 +1,21 @@
+package org.folio.circulation.domain.subscribers;
+
+import static org.folio.circulation.support.json.JsonPropertyFetcher.getProperty;
+
+import io.vertx.core.json.JsonObject;
+
+public class CirculationRulesChangedEvent {
+  private final String rulesHash;
+
+  public CirculationRulesChangedEvent(String rulesHash) {
+    this.rulesHash = rulesHash;
+  }
+
+  public String getRulesHash() {
+    return rulesHash;
+  }
+
+  public static CirculationRulesChangedEvent fromJson(JsonObject json) {
+    return new CirculationRulesChangedEvent(getProperty(json, "rulesHash"));
+  }
+}
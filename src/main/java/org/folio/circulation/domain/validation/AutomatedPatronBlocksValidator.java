@@ -16,6 +16,7 @@ import org.folio.circulation.domain.AutomatedPatronBlocks;
 import org.folio.circulation.infrastructure.storage.AutomatedPatronBlocksRepository;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.RequestAndRelatedRecords;
+import org.folio.circulation.domain.User;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.ValidationErrorFailure;
@@ -39,6 +40,14 @@ public class AutomatedPatronBlocksValidator {
       AutomatedPatronBlock::isBlockBorrowing, loanAndRelatedRecords);
   }
 
+  public CompletableFuture<Result<LoanAndRelatedRecords>>
+  refuseWhenCheckOutActionIsBlockedForPatron(LoanAndRelatedRecords loanAndRelatedRecords,
+    CompletableFuture<Result<AutomatedPatronBlocks>> automatedPatronBlocks) {
+
+    return refuse(automatedPatronBlocks, AutomatedPatronBlock::isBlockBorrowing,
+      loanAndRelatedRecords);
+  }
+
   public CompletableFuture<Result<RenewalContext>>
   refuseWhenRenewalActionIsBlockedForPatron(RenewalContext renewalContext) {
 
@@ -46,6 +55,12 @@ public class AutomatedPatronBlocksValidator {
       AutomatedPatronBlock::isBlockRenewal, renewalContext);
   }
 
+  public CompletableFuture<Result<User>>
+  refuseWhenRenewalActionIsBlockedForPatron(User user) {
+
+    return refuse(user.getId(), AutomatedPatronBlock::isBlockRenewal, user);
+  }
+
   public CompletableFuture<Result<RequestAndRelatedRecords>>
   refuseWhenRequestActionIsBlockedForPatron(RequestAndRelatedRecords requestAndRelatedRecords) {
 
@@ -56,10 +71,16 @@ public class AutomatedPatronBlocksValidator {
   private <T> CompletableFuture<Result<T>> refuse(String userId,
     Predicate<AutomatedPatronBlock> actionPredicate, T mapTo) {
 
-    return ofAsync(() -> userId)
-      .thenComposeAsync(r -> r.after(automatedPatronBlocksRepository::findByUserId))
-      .thenComposeAsync(r -> r.after(blocks -> getActionBlock(blocks, actionPredicate)))
-      .thenComposeAsync(result -> result.failAfter(this::blocksExist,
+    return refuse(automatedPatronBlocksRepository.findByUserId(userId), actionPredicate, mapTo);
+  }
+
+  private <T> CompletableFuture<Result<T>> refuse(
+    CompletableFuture<Result<AutomatedPatronBlocks>> automatedPatronBlocks,
+    Predicate<AutomatedPatronBlock> actionPredicate, T mapTo) {
+
+    return automatedPatronBlocks
+      .thenCompose(r -> r.after(blocks -> getActionBlock(blocks, actionPredicate)))
+      .thenCompose(result -> result.failAfter(this::blocksExist,
         blockList -> actionIsBlockedForPatronErrorFunction.apply(
           blockList.stream()
             .map(AutomatedPatronBlock::getMessage)
@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.folio.circulation.domain.AutomatedPatronBlocks;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
@@ -139,13 +140,15 @@ public class CheckOutValidators {
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>>
-  refuseWhenCheckOutActionIsBlockedForPatron(Result<LoanAndRelatedRecords> result) {
+  refuseWhenCheckOutActionIsBlockedForPatron(Result<LoanAndRelatedRecords> result,
+    CompletableFuture<Result<AutomatedPatronBlocks>> automatedPatronBlocks) {
 
     if (errorHandler.hasAny(FAILED_TO_FETCH_USER)) {
       return completedFuture(result);
     }
 
-    return result.after(l -> automatedPatronBlocksValidator.refuseWhenCheckOutActionIsBlockedForPatron(l)
+    return result.after(l -> automatedPatronBlocksValidator
+      .refuseWhenCheckOutActionIsBlockedForPatron(l, automatedPatronBlocks)
       .thenApply(r -> errorHandler.handleValidationResult(r, USER_IS_BLOCKED_AUTOMATICALLY, result)));
   }
 
@@ -5,8 +5,11 @@ import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.domain.Item;
@@ -21,7 +24,7 @@ import org.folio.circulation.support.http.client.PageLimit;
 public class ItemLimitValidator {
   private final Function<String, ValidationErrorFailure> itemLimitErrorFunction;
   private final LoanRepository loanRepository;
-  private static final PageLimit LOANS_PAGE_LIMIT = limit(10000);
+  private static final PageLimit LOANS_PAGE_LIMIT = limit(200);
 
   public ItemLimitValidator(Function<String, ValidationErrorFailure> itemLimitErrorFunction,
     LoanRepository loanRepository) {
@@ -41,7 +44,7 @@ public class ItemLimitValidator {
     }
 
     return ofAsync(() -> loan.getLoanPolicy().getRuleConditions())
-      .thenComposeAsync(result -> result.failAfter(ruleConditions -> isLimitReached(ruleConditions, records),
+      .thenCompose(result -> result.failAfter(ruleConditions -> isLimitReached(ruleConditions, records),
         ruleConditions -> {
           String message = getErrorMessage(ruleConditions);
           return itemLimitErrorFunction.apply(String.format("Patron has reached maximum limit of %d items %s",
@@ -64,16 +67,45 @@ public class ItemLimitValidator {
     String loanTypeId = item.determineLoanTypeForItem();
     Integer itemLimit = records.getLoan().getLoanPolicy().getItemLimit();
     AppliedRuleConditions ruleConditions = records.getLoan().getLoanPolicy().getRuleConditions();
+    String userId = records.getLoan().getUser().getId();
+
+    Predicate<Loan> countsTowardsLimit = loanRecord -> !loanRecord.getItem().isClaimedReturned()
+      && isMaterialTypeMatchInRetrievedLoan(materialTypeId, loanRecord, ruleConditions)
+      && isLoanTypeMatchInRetrievedLoan(loanTypeId, loanRecord, ruleConditions);
+
+    // Only some of the open loans count towards the limit, so the items
+    // only need to be checked when there are enough open loans in total
+    return loanRepository.countOpenLoansByUserId(userId)
+      .thenCompose(r -> r.after(openLoansCount -> openLoansCount < itemLimit
+        ? ofAsync(() -> false)
+        : isLimitReached(userId, countsTowardsLimit, itemLimit, null, 0)));
+  }
+
+  private CompletableFuture<Result<Boolean>> isLimitReached(String userId,
+    Predicate<Loan> countsTowardsLimit, int itemLimit, String lastLoanId,
+    long loansCountedSoFar) {
+
+    return loanRepository.findOpenLoansByUserIdWithItemRecord(userId, lastLoanId,
+        LOANS_PAGE_LIMIT)
+      .thenCompose(r -> r.after(loans -> {
+        final long loansCounted = loansCountedSoFar + loans.getRecords().stream()
+          .filter(countsTowardsLimit)
+          .count();
+
+        // Stop fetching pages as soon as the limit has been reached
+        if (loansCounted >= itemLimit) {
+          return ofAsync(() -> true);
+        }
+
+        if (loans.size() < LOANS_PAGE_LIMIT.getLimit()) {
+          return ofAsync(() -> false);
+        }
+
+        final List<Loan> page = new ArrayList<>(loans.getRecords());
 
-    return loanRepository.findOpenLoansByUserIdWithItem(LOANS_PAGE_LIMIT, records)
-      .thenApply(r -> r.map(loanRecords -> loanRecords.getRecords().stream()
-        .filter(loanRecord -> !loanRecord.getItem().isClaimedReturned())
-        .filter(loanRecord -> isMaterialTypeMatchInRetrievedLoan(
-          materialTypeId, loanRecord, ruleConditions))
-        .filter(loanRecord -> isLoanTypeMatchInRetrievedLoan(
-          loanTypeId, loanRecord, ruleConditions))
-        .count()))
-      .thenApply(r -> r.map(loansCount -> loansCount >= itemLimit));
+        return isLimitReached(userId, countsTowardsLimit, itemLimit,
+          page.get(page.size() - 1).getId(), loansCounted);
+      }));
   }
 
   private boolean isMaterialTypeMatchInRetrievedLoan(
@@ -0,0 +1,152 @@
+package org.folio.circulation.infrastructure.storage;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.OpeningDay;
+import org.folio.circulation.support.cache.CacheStatistics;
+import org.joda.time.LocalDate;
+
+/**
+ * Keeps what is known about the open days of each service point of each
+ * tenant, from earlier calendar responses.
+ * <p>
+ * Calendars rarely change. The open days of a service point are kept for a
+ * limited time from when they were first fetched, calendars changed since
+ * are picked up at the latest when that time has passed. Each tenant keeps
+ * the open days of a limited number of service points, the least recently
+ * used are evicted first.
+ */
+public final class CalendarCache {
+  private static final CalendarCache instance = new CalendarCache(
+    300_000, 500, System::currentTimeMillis);
+
+  private final long maximumAgeInMilliseconds;
+  private final int maximumServicePoints;
+  private final LongSupplier currentTimeMillis;
+  /** open days of each service point for each tenant */
+  private final Map<String, Map<String, OpeningDaysIndex>> openingDays =
+    new ConcurrentHashMap<>();
+  private final CacheStatistics statistics = new CacheStatistics();
+
+  public static CalendarCache getInstance() {
+    return instance;
+  }
+
+  CalendarCache(long maximumAgeInMilliseconds, int maximumServicePoints,
+    LongSupplier currentTimeMillis) {
+
+    this.maximumAgeInMilliseconds = maximumAgeInMilliseconds;
+    this.maximumServicePoints = maximumServicePoints;
+    this.currentTimeMillis = currentTimeMillis;
+  }
+
+  Optional<AdjacentOpeningDays> findAdjacentOpeningDays(String tenantId,
+    String servicePointId, LocalDate requestedDate) {
+
+    return recordLookup(find(tenantId, servicePointId,
+      index -> index.findAdjacentOpeningDays(requestedDate)));
+  }
+
+  Optional<List<OpeningDay>> findOpenDaysBetween(String tenantId,
+    String servicePointId, LocalDate startDate, LocalDate endDate) {
+
+    return recordLookup(find(tenantId, servicePointId,
+      index -> index.findOpenDaysBetween(startDate, endDate)));
+  }
+
+  void addAdjacentOpeningDays(String tenantId, String servicePointId,
+    LocalDate requestedDate, AdjacentOpeningDays adjacentOpeningDays) {
+
+    indexFor(tenantId, servicePointId)
+      .addAdjacentOpeningDays(requestedDate, adjacentOpeningDays);
+  }
+
+  void addDaysBetween(String tenantId, String servicePointId,
+    LocalDate startDate, LocalDate endDate, Collection<OpeningDay> days) {
+
+    indexFor(tenantId, servicePointId).addDaysBetween(startDate, endDate, days);
+  }
+
+  /**
+   * Drop the open days of all tenants.
+   */
+  public void invalidateAll() {
+    openingDays.clear();
+  }
+
+  /**
+   * @return hits and misses over all tenants
+   */
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  private <T> Optional<T> find(String tenantId, String servicePointId,
+    Function<OpeningDaysIndex, Optional<T>> lookup) {
+
+    final Map<String, OpeningDaysIndex> servicePoints = servicePointsFor(tenantId);
+    final OpeningDaysIndex index;
+
+    synchronized (servicePoints) {
+      index = servicePoints.get(servicePointId);
+
+      if (index != null && hasExpired(index)) {
+        servicePoints.remove(servicePointId);
+        return Optional.empty();
+      }
+    }
+
+    return index == null ? Optional.empty() : lookup.apply(index);
+  }
+
+  private OpeningDaysIndex indexFor(String tenantId, String servicePointId) {
+    final Map<String, OpeningDaysIndex> servicePoints = servicePointsFor(tenantId);
+
+    synchronized (servicePoints) {
+      final OpeningDaysIndex existing = servicePoints.get(servicePointId);
+
+      if (existing != null && !hasExpired(existing)) {
+        return existing;
+      }
+
+      final OpeningDaysIndex index = new OpeningDaysIndex(currentTimeMillis.getAsLong());
+
+      servicePoints.put(servicePointId, index);
+
+      return index;
+    }
+  }
+
+  private Map<String, OpeningDaysIndex> servicePointsFor(String tenantId) {
+    return openingDays.computeIfAbsent(tenantId,
+      id -> new LinkedHashMap<String, OpeningDaysIndex>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, OpeningDaysIndex> eldest) {
+          return size() > maximumServicePoints;
+        }
+      });
+  }
+
+  private boolean hasExpired(OpeningDaysIndex index) {
+    return currentTimeMillis.getAsLong() - index.getCreatedAt() >= maximumAgeInMilliseconds;
+  }
+
+  private <T> Optional<T> recordLookup(Optional<T> found) {
+    if (found.isPresent()) {
+      statistics.recordHit();
+    }
+    else {
+      statistics.recordMiss();
+    }
+
+    return found;
+  }
+}
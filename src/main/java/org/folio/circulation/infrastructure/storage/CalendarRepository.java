@@ -1,13 +1,19 @@
 package org.folio.circulation.infrastructure.storage;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static org.folio.circulation.domain.OpeningDay.createClosedDay;
+import static org.folio.circulation.domain.OpeningDay.createOpeningDay;
 import static org.folio.circulation.domain.OpeningDay.fromJsonByDefaultKey;
 import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.folio.circulation.AdjacentOpeningDays;
 import org.folio.circulation.domain.MultipleRecords;
@@ -33,13 +39,28 @@ public class CalendarRepository {
 
   private final CollectionResourceClient calendarClient;
   private final ConfigurationRepository configurationRepository;
+  private final CalendarCache calendarCache;
+  private final String tenantId;
 
   public CalendarRepository(Clients clients) {
+    this(clients, CalendarCache.getInstance());
+  }
+
+  CalendarRepository(Clients clients, CalendarCache calendarCache) {
     this.calendarClient = clients.calendarStorageClient();
     this.configurationRepository = new ConfigurationRepository(clients);
+    this.calendarCache = calendarCache;
+    this.tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<AdjacentOpeningDays>> lookupOpeningDays(LocalDate requestedDate, String servicePointId) {
+    final Optional<AdjacentOpeningDays> cachedOpeningDays = calendarCache
+      .findAdjacentOpeningDays(tenantId, servicePointId, requestedDate);
+
+    if (cachedOpeningDays.isPresent()) {
+      return completedFuture(succeeded(cachedOpeningDays.get()));
+    }
+
     String path = String.format(PATH_PARAM_WITH_QUERY, servicePointId, requestedDate);
 
     //TODO: Validation error should have parameters
@@ -48,28 +69,75 @@ public class CalendarRepository {
       .mapTo(this::convertToOpeningDays)
       .whenNotFound(failedValidation(
         new ValidationError("Calendar open periods are not found", Collections.emptyMap())))
-      .fetch(path);
+      .fetch(path)
+      .thenApply(r -> r.map(openingDays -> {
+        calendarCache.addAdjacentOpeningDays(tenantId, servicePointId, requestedDate,
+          openingDays);
+
+        return openingDays;
+      }));
   }
 
+  /**
+   * The open days are taken from the calendar cache when all of the dates
+   * are already known, closed days are always fetched. The fetched open days
+   * are only added to the cache when the calendar returned all of the opening
+   * periods between the dates, rather than only those up to the limit
+   */
   public CompletableFuture<Result<Collection<OpeningDay>>> fetchOpeningDaysBetweenDates(
     String servicePointId, DateTime startDate, DateTime endDate, boolean includeClosedDays) {
 
+    final LocalDate firstDate = startDate.toLocalDate();
+    final LocalDate lastDate = endDate.toLocalDate().plusDays(1);
+
+    if (!includeClosedDays) {
+      final Optional<List<OpeningDay>> cachedOpenDays = calendarCache
+        .findOpenDaysBetween(tenantId, servicePointId, firstDate, lastDate);
+
+      if (cachedOpenDays.isPresent()) {
+        return configurationRepository.findTimeZoneConfiguration()
+          .thenApply(r -> r.map(zone -> withTimeZone(cachedOpenDays.get(), zone)));
+      }
+    }
+
     String params = String.format(
       "servicePointId=%s&startDate=%s&endDate=%s&includeClosedDays=%s&limit=%d",
-      servicePointId, startDate.toLocalDate(), endDate.toLocalDate().plusDays(1),
-      includeClosedDays, 10000);
+      servicePointId, firstDate, lastDate, includeClosedDays, 10000);
 
     return calendarClient.getManyWithRawQueryStringParameters(params)
-      .thenCombineAsync(configurationRepository.findTimeZoneConfiguration(),
-        Result.combined(this::getOpeningDaysFromOpeningPeriods));
+      .thenCombine(configurationRepository.findTimeZoneConfiguration(),
+        Result.combined(this::getOpeningDaysFromOpeningPeriods))
+      .thenApply(r -> r.map(openingPeriods -> {
+        final Collection<OpeningDay> openingDays = openingPeriods.toKeys(identity());
+
+        if (!includeClosedDays && isComplete(openingPeriods)) {
+          calendarCache.addDaysBetween(tenantId, servicePointId, firstDate, lastDate,
+            openingDays);
+        }
+
+        return openingDays;
+      }));
+  }
+
+  private static boolean isComplete(MultipleRecords<OpeningDay> openingPeriods) {
+    return openingPeriods.getTotalRecords() != null
+      && openingPeriods.getTotalRecords() <= openingPeriods.size();
+  }
+
+  private Collection<OpeningDay> withTimeZone(Collection<OpeningDay> openingDays,
+    DateTimeZone zone) {
+
+    return openingDays.stream()
+      .map(day -> createOpeningDay(day.getOpeningHour(), day.getDate(), day.getAllDay(),
+        day.getOpen(), zone))
+      .collect(Collectors.toList());
   }
 
-  private Result<Collection<OpeningDay>> getOpeningDaysFromOpeningPeriods(
+  private Result<MultipleRecords<OpeningDay>> getOpeningDaysFromOpeningPeriods(
     Response periodsResponse, DateTimeZone zone) {
 
     return MultipleRecords.from(periodsResponse, openingPeriod ->
-        getOpeningDayFromOpeningPeriod(openingPeriod, zone), OPENING_PERIODS)
-      .next(r -> Result.succeeded(r.toKeys(identity())));
+        getOpeningDayFromOpeningPeriod(openingPeriod, zone), OPENING_PERIODS);
   }
 
   private OpeningDay getOpeningDayFromOpeningPeriod(
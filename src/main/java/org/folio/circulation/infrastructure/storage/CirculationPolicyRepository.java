@@ -18,6 +18,7 @@ import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.cache.PolicyCache;
 import org.folio.circulation.support.results.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,12 +31,16 @@ public abstract class CirculationPolicyRepository<T> {
 
   protected final CollectionResourceClient policyStorageClient;
   protected final CirculationRulesProcessor circulationRulesProcessor;
+  private final PolicyCache<T> policyCache;
+  private final String tenantId;
 
   protected CirculationPolicyRepository(CollectionResourceClient policyStorageClient,
-    Clients clients) {
+    Clients clients, PolicyCache<T> policyCache) {
 
     this.policyStorageClient = policyStorageClient;
     this.circulationRulesProcessor = clients.circulationRulesProcessor();
+    this.policyCache = policyCache;
+    this.tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<T>> lookupPolicy(Loan loan) {
@@ -50,7 +55,7 @@ public abstract class CirculationPolicyRepository<T> {
     Item item, User user) {
 
     return lookupPolicyId(item, user)
-      .thenComposeAsync(r -> r.after(ruleMatchEntity -> lookupPolicy(
+      .thenCompose(r -> r.after(ruleMatchEntity -> lookupPolicy(
         ruleMatchEntity.getPolicyId(), ruleMatchEntity.getAppliedRuleConditions())));
   }
 
@@ -65,12 +70,32 @@ public abstract class CirculationPolicyRepository<T> {
   public CompletableFuture<Result<T>> lookupPolicy(String policyId, AppliedRuleConditions conditionsEntity) {
     log.info("Looking up policy with id {}", policyId);
 
+    return policyCache.get(tenantId, cacheKey(policyId, conditionsEntity),
+      () -> loadPolicy(policyId, conditionsEntity));
+  }
+
+  /**
+   * Fetches the policy from storage and maps it, the result is cached
+   * for subsequent lookups of the same policy with the same conditions
+   */
+  protected CompletableFuture<Result<T>> loadPolicy(String policyId,
+    AppliedRuleConditions conditionsEntity) {
+
     return SingleRecordFetcher.json(policyStorageClient, "circulation policy",
       response -> failedDueToServerError(getPolicyNotFoundErrorMessage(policyId)))
       .fetch(policyId)
       .thenApply(result -> result.next(json -> mapToPolicy(json, conditionsEntity)));
   }
 
+  private static String cacheKey(String policyId, AppliedRuleConditions conditionsEntity) {
+    if (conditionsEntity == null) {
+      return policyId;
+    }
+
+    return String.format("%s/%b/%b/%b", policyId, conditionsEntity.isItemTypePresent(),
+      conditionsEntity.isLoanTypePresent(), conditionsEntity.isPatronGroupPresent());
+  }
+
   public CompletableFuture<Result<CirculationRuleMatch>> lookupPolicyId(Item item, User user) {
     if (item == null){
       return completedFuture(failedDueToServerError(
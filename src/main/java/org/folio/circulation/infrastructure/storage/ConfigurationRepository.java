@@ -41,6 +41,13 @@ public class ConfigurationRepository {
       .thenApply(result -> result.map(PageLimit::limit));
   }
 
+  public CompletableFuture<Result<Integer>> lookupSchedulerNoticesProcessingConcurrency() {
+    Result<CqlQuery> cqlQueryResult = defineModuleNameAndConfigNameFilter(
+      "NOTIFICATION_SCHEDULER", "noticesConcurrency");
+
+    return lookupConfigurations(cqlQueryResult, applySearchSchedulerNoticesConcurrency());
+  }
+
   public CompletableFuture<Result<Integer>> lookupSessionTimeout() {
     Result<CqlQuery> otherSettingsQuery = defineModuleNameAndConfigNameFilter(
       "CHECKOUT", "other_settings");
@@ -110,6 +117,11 @@ public class ConfigurationRepository {
       .findSchedulerNoticesLimit(configurations.getRecords());
   }
 
+  private Function<MultipleRecords<Configuration>, Integer> applySearchSchedulerNoticesConcurrency() {
+    return configurations -> new ConfigurationService()
+      .findSchedulerNoticesConcurrency(configurations.getRecords());
+  }
+
   private Function<MultipleRecords<Configuration>, Integer> applySessionTimeout() {
     return configurations -> new ConfigurationService()
       .findSessionTimeout(configurations.getRecords());
@@ -0,0 +1,176 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.domain.OpeningDay.createOpeningDay;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.OpeningDay;
+import org.joda.time.LocalDate;
+
+/**
+ * The open days of a service point that are known from earlier calendar
+ * responses, sorted by date.
+ * <p>
+ * Each response tells every open day within a range of dates, for example
+ * the opening periods between two dates, or everything from the previous
+ * open day to the next open day around a requested date. The index keeps the
+ * open days together with these ranges (merged when they overlap or touch),
+ * so that any question that falls entirely within a known range can be
+ * answered without asking the calendar again. A day within a known range
+ * that is not an open day is closed. A later response replaces what was known
+ * about the days within its range.
+ */
+class OpeningDaysIndex {
+  private final long createdAt;
+  private final NavigableMap<LocalDate, OpeningDay> openDays = new TreeMap<>();
+  /** start date to end date (both inclusive) of the ranges known completely */
+  private final NavigableMap<LocalDate, LocalDate> knownRanges = new TreeMap<>();
+
+  OpeningDaysIndex(long createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  long getCreatedAt() {
+    return createdAt;
+  }
+
+  /**
+   * @param startDate  first date of the range the days were fetched for
+   * @param endDate  last date (inclusive) of the range the days were fetched for
+   * @param days  the days fetched for the range, only the open days are kept
+   */
+  synchronized void addDaysBetween(LocalDate startDate, LocalDate endDate,
+    Collection<OpeningDay> days) {
+
+    if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+      return;
+    }
+
+    openDays.subMap(startDate, true, endDate, true).clear();
+
+    days.stream()
+      .filter(day -> day.getDate() != null && day.getOpen())
+      .filter(day -> !day.getDate().isBefore(startDate) && !day.getDate().isAfter(endDate))
+      .forEach(day -> openDays.put(day.getDate(), day));
+
+    addKnownRange(startDate, endDate);
+  }
+
+  /**
+   * Only kept when the previous and next days are open days either side of
+   * the requested date, as only then is every day between them known.
+   *
+   * @param requestedDate  the date the adjacent days were fetched for
+   */
+  synchronized void addAdjacentOpeningDays(LocalDate requestedDate,
+    AdjacentOpeningDays adjacentOpeningDays) {
+
+    final OpeningDay previousDay = adjacentOpeningDays.getPreviousDay();
+    final OpeningDay requestedDay = adjacentOpeningDays.getRequestedDay();
+    final OpeningDay nextDay = adjacentOpeningDays.getNextDay();
+
+    if (!isOpenDayBefore(previousDay, requestedDate)
+      || requestedDay == null || !requestedDate.equals(requestedDay.getDate())
+      || !isOpenDayAfter(nextDay, requestedDate)) {
+
+      return;
+    }
+
+    openDays.subMap(previousDay.getDate(), true, nextDay.getDate(), true).clear();
+    openDays.put(previousDay.getDate(), previousDay);
+    openDays.put(nextDay.getDate(), nextDay);
+
+    if (requestedDay.getOpen()) {
+      openDays.put(requestedDate, requestedDay);
+    }
+
+    addKnownRange(previousDay.getDate(), nextDay.getDate());
+  }
+
+  /**
+   * @return the previous open day, the requested day and the next open day,
+   * when they are all within a known range
+   */
+  synchronized Optional<AdjacentOpeningDays> findAdjacentOpeningDays(
+    LocalDate requestedDate) {
+
+    return findKnownRange(requestedDate).flatMap(range -> {
+      final Map.Entry<LocalDate, OpeningDay> previousDay = openDays.lowerEntry(requestedDate);
+      final Map.Entry<LocalDate, OpeningDay> nextDay = openDays.higherEntry(requestedDate);
+
+      if (previousDay == null || previousDay.getKey().isBefore(range.getKey())
+        || nextDay == null || nextDay.getKey().isAfter(range.getValue())) {
+
+        return Optional.empty();
+      }
+
+      final OpeningDay requestedDay = openDays.getOrDefault(requestedDate,
+        createOpeningDay(emptyList(), requestedDate, false, false));
+
+      return Optional.of(new AdjacentOpeningDays(previousDay.getValue(),
+        requestedDay, nextDay.getValue()));
+    });
+  }
+
+  /**
+   * @return the open days between the dates (both inclusive), when all of
+   * them are within a known range
+   */
+  synchronized Optional<List<OpeningDay>> findOpenDaysBetween(LocalDate startDate,
+    LocalDate endDate) {
+
+    return findKnownRange(startDate)
+      .filter(range -> !endDate.isAfter(range.getValue()))
+      .map(range -> new ArrayList<>(openDays.subMap(startDate, true, endDate, true)
+        .values()));
+  }
+
+  private Optional<Map.Entry<LocalDate, LocalDate>> findKnownRange(LocalDate date) {
+    return Optional.ofNullable(knownRanges.floorEntry(date))
+      .filter(range -> !date.isAfter(range.getValue()));
+  }
+
+  private void addKnownRange(LocalDate startDate, LocalDate endDate) {
+    LocalDate mergedStart = startDate;
+    LocalDate mergedEnd = endDate;
+
+    final Map.Entry<LocalDate, LocalDate> earlier = knownRanges.floorEntry(startDate);
+
+    if (earlier != null && !earlier.getValue().plusDays(1).isBefore(startDate)) {
+      mergedStart = earlier.getKey();
+      mergedEnd = latest(mergedEnd, earlier.getValue());
+    }
+
+    Map.Entry<LocalDate, LocalDate> later = knownRanges.ceilingEntry(mergedStart);
+
+    while (later != null && !later.getKey().isAfter(mergedEnd.plusDays(1))) {
+      mergedEnd = latest(mergedEnd, later.getValue());
+      knownRanges.remove(later.getKey());
+      later = knownRanges.higherEntry(later.getKey());
+    }
+
+    knownRanges.put(mergedStart, mergedEnd);
+  }
+
+  private static boolean isOpenDayBefore(OpeningDay day, LocalDate date) {
+    return day != null && day.getOpen() && day.getDate() != null
+      && day.getDate().isBefore(date);
+  }
+
+  private static boolean isOpenDayAfter(OpeningDay day, LocalDate date) {
+    return day != null && day.getOpen() && day.getDate() != null
+      && day.getDate().isAfter(date);
+  }
+
+  private static LocalDate latest(LocalDate first, LocalDate second) {
+    return first.isAfter(second) ? first : second;
+  }
+}
@@ -8,7 +8,9 @@ import static org.folio.circulation.support.fetching.RecordFetching.findWithMult
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -62,7 +64,7 @@ public class ServicePointRepository {
 
   public CompletableFuture<Result<Loan>> findServicePointsForLoan(Result<Loan> loanResult) {
     return fetchCheckInServicePoint(loanResult)
-      .thenComposeAsync(this::fetchCheckOutServicePoint);
+      .thenCompose(this::fetchCheckOutServicePoint);
   }
 
   private CompletableFuture<Result<Loan>> fetchCheckOutServicePoint(Result<Loan> loanResult) {
@@ -174,6 +176,22 @@ public class ServicePointRepository {
           }));
   }
 
+  public CompletableFuture<Result<Map<String, ServicePoint>>> findServicePointsByIds(
+    Collection<String> ids) {
+
+    final List<String> servicePointsToFetch = ids.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .collect(Collectors.toList());
+
+    if(servicePointsToFetch.isEmpty()) {
+      return completedFuture(succeeded(new HashMap<>()));
+    }
+
+    return createServicePointsFetcher().findByIds(servicePointsToFetch)
+      .thenApply(r -> r.map(servicePoints -> servicePoints.toMap(ServicePoint::getId)));
+  }
+
   private FindWithMultipleCqlIndexValues<ServicePoint> createServicePointsFetcher() {
     return findWithMultipleCqlIndexValues(servicePointsStorageClient,
       "servicepoints", ServicePoint::from);
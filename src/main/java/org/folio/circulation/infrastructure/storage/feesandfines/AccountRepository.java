@@ -111,7 +111,7 @@ public class AccountRepository {
         ACCOUNTS_COLLECTION_PROPERTY_NAME, Account::from)
       .find(byIndex(LOAN_ID_FIELD_NAME, loanIds))
       .thenCompose(r -> r.after(this::findFeeFineActionsForAccounts))
-      .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(multipleRecords.getRecords()
+      .thenCompose(r -> r.after(multipleRecords -> completedFuture(succeeded(multipleRecords.getRecords()
         .stream()
         .collect(Collectors.groupingBy(Account::getLoanId))))));
   }
@@ -140,7 +140,7 @@ public class AccountRepository {
       .collect(Collectors.toSet());
 
     return createFeeFineActionFetcher().find(byIndex(ACCOUNT_ID_FIELD_NAME, loanIds))
-        .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(
+        .thenCompose(r -> r.after(multipleRecords -> completedFuture(succeeded(
             multipleRecords.getRecords().stream().collect(
                 Collectors.groupingBy(FeeFineAction::getAccountId))))));
   }
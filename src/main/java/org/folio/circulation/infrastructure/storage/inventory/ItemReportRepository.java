@@ -1,73 +1,186 @@
 package org.folio.circulation.infrastructure.storage.inventory;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThanOrEqualTo;
+import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
-import static org.folio.circulation.support.http.client.Offset.offset;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.folio.circulation.domain.Item;
-import org.folio.circulation.domain.ItemsReportFetcher;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.GetManyRecordsClient;
-import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.Result;
 
+/**
+ * Scans all the items matching a query, for reports that cover every item in
+ * a particular state.
+ * <p>
+ * The range of item ids is split into as many parts as pages that can be in
+ * flight. The parts are scanned at the same time, each one page after another
+ * using the last id of the previous page rather than an offset.
+ */
 public class ItemReportRepository {
-  private final GetManyRecordsClient itemsClient;
+  private static final int DEFAULT_PAGE_SIZE = 100;
+  private static final int DEFAULT_PAGES_IN_FLIGHT = 4;
+  private static final int ID_PREFIX_VALUES = 256;
+  private static final String ID_KEY = "id";
 
-  private static final int PAGE_LIMIT = 100;
+  private final GetManyRecordsClient itemsClient;
+  private final int pageSize;
+  private final int pagesInFlight;
 
   public ItemReportRepository(Clients clients) {
-    itemsClient = clients.itemsStorage();
+    this(clients.itemsStorage(), DEFAULT_PAGE_SIZE, DEFAULT_PAGES_IN_FLIGHT);
   }
 
-  public CompletableFuture<Result<ItemsReportFetcher>> getAllItemsByField(String fieldName, String fieldValue) {
-    CompletableFuture<Result<ItemsReportFetcher>> future = new CompletableFuture<>();
-    ItemsReportFetcher itemsReportFetcher = new ItemsReportFetcher(0, new ArrayList<>());
-    fetchNextPage(itemsReportFetcher, future, fieldName, fieldValue);
-    return future;
+  public ItemReportRepository(GetManyRecordsClient itemsClient, int pageSize,
+    int pagesInFlight) {
+
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be at least 1");
+    }
+
+    if (pagesInFlight < 1 || pagesInFlight > ID_PREFIX_VALUES) {
+      throw new IllegalArgumentException(
+        "Pages in flight must be between 1 and " + ID_PREFIX_VALUES);
+    }
+
+    this.itemsClient = itemsClient;
+    this.pageSize = pageSize;
+    this.pagesInFlight = pagesInFlight;
   }
 
-  private ItemsReportFetcher fillResultItemContext(ItemsReportFetcher itemsReportFetcher,
-                                                   Result<MultipleRecords<Item>> itemRecords) {
-    List<Result<MultipleRecords<Item>>> resultListOfItems = itemsReportFetcher.getResultListOfItems();
-    resultListOfItems.add(itemRecords);
-    int newPageNumber = itemsReportFetcher.getCurrPageNumber() + 1;
-    return new ItemsReportFetcher(newPageNumber, resultListOfItems);
+  /**
+   * Passes each page of the items with {@code fieldValue} for {@code fieldName}
+   * to {@code pageConsumer} as soon as it arrives
+   * <p>
+   * Pages from different parts of the id range can be consumed at the same
+   * time, so the consumer must be safe to use from more than one thread.
+   * A part is not scanned any further until its last page has been consumed.
+   *
+   * @return succeeds once all pages have been consumed, fails with the first
+   * failure to fetch or consume a page
+   */
+  public CompletableFuture<Result<Void>> scanAllItemsByField(String fieldName,
+    String fieldValue,
+    Function<Collection<Item>, CompletableFuture<Result<Void>>> pageConsumer) {
+
+    return scanAllItemsByQuery(exactMatch(fieldName, fieldValue), pageConsumer);
   }
 
-  private void fetchNextPage(ItemsReportFetcher itemsReportFetcher,
-                             CompletableFuture<Result<ItemsReportFetcher>> future,
-                             String fieldName, String fieldValue) {
-    getItemsByField(itemsReportFetcher, fieldName, fieldValue)
-      .thenApply(itemRecords -> {
-          ItemsReportFetcher reportFetcher = fillResultItemContext(itemsReportFetcher, itemRecords);
-          int totalRecords = itemRecords.value().getTotalRecords();
-
-          if (totalRecords > reportFetcher.getPageOffset(PAGE_LIMIT)) {
-            fetchNextPage(reportFetcher, future, fieldName, fieldValue);
-          } else {
-            future.complete(Result.of(() -> reportFetcher));
-          }
-          return itemRecords;
-        }
-      );
+  /**
+   * Passes each page of the items matching {@code query} to
+   * {@code pageConsumer} as soon as it arrives, in the same way as
+   * {@link #scanAllItemsByField(String, String, Function)}
+   */
+  public CompletableFuture<Result<Void>> scanAllItemsByQuery(Result<CqlQuery> query,
+    Function<Collection<Item>, CompletableFuture<Result<Void>>> pageConsumer) {
+
+    return allOf(idRanges(), range -> scanRange(query, range, null, pageConsumer))
+      .thenApply(r -> r.map(notUsed -> null));
   }
 
-  private CompletableFuture<Result<MultipleRecords<Item>>> getItemsByField(
-    ItemsReportFetcher itemsReportFetcher, String fieldName, String fieldValue) {
+  /**
+   * Fetches all the items with {@code fieldValue} for {@code fieldName}
+   */
+  public CompletableFuture<Result<List<Item>>> getAllItemsByField(String fieldName,
+    String fieldValue) {
+
+    final List<Item> items = new ArrayList<>();
+
+    return scanAllItemsByField(fieldName, fieldValue, page -> {
+      synchronized (items) {
+        items.addAll(page);
+      }
+
+      return completedFuture(succeeded(null));
+    })
+    .thenApply(r -> r.map(notUsed -> items));
+  }
+
+  private CompletableFuture<Result<Void>> scanRange(Result<CqlQuery> fieldQuery,
+    IdRange range, String lastIdOfPreviousPage,
+    Function<Collection<Item>, CompletableFuture<Result<Void>>> pageConsumer) {
+
+    return range.query(fieldQuery, lastIdOfPreviousPage)
+      .map(query -> query.sortBy(ascending(ID_KEY)))
+      .after(query -> itemsClient.getMany(query, limit(pageSize)))
+      .thenApply(r -> r.next(response ->
+        MultipleRecords.from(response, Item::from, "items")))
+      .thenCompose(r -> r.after(page -> pageConsumer.apply(page.getRecords())
+        .thenCompose(consumed -> consumed.after(notUsed ->
+          isLastPage(page)
+            ? completedFuture(succeeded(null))
+            : scanRange(fieldQuery, range, lastId(page), pageConsumer)))));
+  }
+
+  private boolean isLastPage(MultipleRecords<Item> page) {
+    return page.getRecords().size() < pageSize;
+  }
+
+  private static String lastId(MultipleRecords<Item> page) {
+    final List<Item> items = new ArrayList<>(page.getRecords());
+
+    return items.get(items.size() - 1).getItemId();
+  }
+
+  /**
+   * Splits the id range by the first two hexadecimal digits of the UUID,
+   * the first part has no lower bound and the last part no upper bound
+   */
+  private List<IdRange> idRanges() {
+    final List<String> bounds = IntStream.range(0, pagesInFlight + 1)
+      .mapToObj(part -> part == 0 || part == pagesInFlight
+        ? null
+        : String.format("%02x000000-0000-0000-0000-000000000000",
+          part * ID_PREFIX_VALUES / pagesInFlight))
+      .collect(Collectors.toList());
+
+    return IntStream.range(0, pagesInFlight)
+      .mapToObj(part -> new IdRange(bounds.get(part), bounds.get(part + 1)))
+      .collect(Collectors.toList());
+  }
+
+  private static class IdRange {
+    private final String lowerBound;
+    private final String upperBound;
+
+    private IdRange(String lowerBound, String upperBound) {
+      this.lowerBound = lowerBound;
+      this.upperBound = upperBound;
+    }
+
+    private Result<CqlQuery> query(Result<CqlQuery> fieldQuery,
+      String lastIdOfPreviousPage) {
+
+      Result<CqlQuery> query = fieldQuery;
+
+      if (lastIdOfPreviousPage != null) {
+        query = query.combine(greaterThan(ID_KEY, lastIdOfPreviousPage), CqlQuery::and);
+      }
+      else if (lowerBound != null) {
+        query = query.combine(greaterThanOrEqualTo(ID_KEY, lowerBound), CqlQuery::and);
+      }
 
-    final Result<CqlQuery> itemStatusQuery = exactMatch(fieldName, fieldValue);
-    int pageOffset = itemsReportFetcher.getCurrPageNumber() * PAGE_LIMIT;
+      if (upperBound != null) {
+        query = query.combine(lessThan(ID_KEY, upperBound), CqlQuery::and);
+      }
 
-    return itemStatusQuery
-      .after(query -> itemsClient.getMany(query, limit(PAGE_LIMIT),
-        offset(pageOffset)))
-      .thenApply(result -> result
-        .next(response -> MultipleRecords.from(response, Item::from, "items")));
+      return query;
+    }
   }
 }
@@ -18,8 +18,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -97,7 +97,7 @@ public class ItemRepository {
   private CompletableFuture<Result<Item>> fetchLocation(Result<Item> result) {
     return fetchLocation
       ? result.combineAfter(locationRepository::getLocation, Item::withLocation)
-          .thenComposeAsync(this::fetchPrimaryServicePoint)
+          .thenCompose(this::fetchPrimaryServicePoint)
       : completedFuture(result);
   }
 
@@ -149,12 +149,12 @@ public class ItemRepository {
 
   public CompletableFuture<Result<Item>> fetchByBarcode(String barcode) {
     return fetchItemByBarcode(barcode)
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+      .thenCompose(this::fetchItemRelatedRecords);
   }
 
   public CompletableFuture<Result<Item>> fetchById(String itemId) {
     return fetchItem(itemId)
-      .thenComposeAsync(this::fetchItemRelatedRecords);
+      .thenCompose(this::fetchItemRelatedRecords);
   }
 
   private CompletableFuture<Result<Collection<Item>>> fetchLocations(
@@ -168,6 +168,50 @@ public class ItemRepository {
     }
   }
 
+  /**
+   * Fetches the locations with their library, campus and institution, and the
+   * primary service point of each location, the same as {@link
+   * #fetchLocation(Result)} does for a single item
+   */
+  private CompletableFuture<Result<Collection<Item>>> fetchLocationsInFull(
+    Result<Collection<Item>> result) {
+
+    if (!fetchLocation) {
+      return completedFuture(result);
+    }
+
+    return result.after(items -> locationRepository.getAllItemLocationsInFull(items)
+      .thenApply(r -> r.map(locations -> map(items, populateItemLocations(locations)))))
+      .thenCompose(this::fetchPrimaryServicePoints);
+  }
+
+  private CompletableFuture<Result<Collection<Item>>> fetchPrimaryServicePoints(
+    Result<Collection<Item>> result) {
+
+    return result.after(items -> servicePointRepository.findServicePointsByIds(
+        items.stream()
+          .map(Item::getLocation)
+          .filter(Objects::nonNull)
+          .map(Location::getPrimaryServicePointId)
+          .filter(Objects::nonNull)
+          .map(UUID::toString)
+          .collect(Collectors.toSet()))
+      .thenApply(r -> r.map(servicePoints -> map(items, item ->
+        item.withPrimaryServicePoint(primaryServicePointOf(item, servicePoints))))));
+  }
+
+  private static ServicePoint primaryServicePointOf(Item item,
+    Map<String, ServicePoint> servicePoints) {
+
+    final Location location = item.getLocation();
+
+    if (isNull(location) || isNull(location.getPrimaryServicePointId())) {
+      return null;
+    }
+
+    return servicePoints.get(location.getPrimaryServicePointId().toString());
+  }
+
   private Function<Item, Item> populateItemLocations(Map<String, Location> locations) {
     return item -> {
       final Location permLocation = locations.get(item.getPermanentLocationId());
@@ -199,26 +243,24 @@ public class ItemRepository {
     }
 
     return result.after(items -> {
-      Map<Item, String> itemToLoanTypeIdMap = items.stream()
-        .collect(Collectors.toMap(identity(), Item::determineLoanTypeForItem));
-
-      Set<String> loanTypeIdsToFetch = itemToLoanTypeIdMap.values().stream()
+      Set<String> loanTypeIdsToFetch = items.stream()
+        .map(Item::determineLoanTypeForItem)
         .filter(StringUtils::isNoneBlank)
         .collect(Collectors.toSet());
 
       return findWithMultipleCqlIndexValues(loanTypesClient, "loantypes", identity())
         .findByIds(loanTypeIdsToFetch)
         .thenApply(mapResult(records -> records.toMap(byId())))
-        .thenApply(flatMapResult(loanTypes -> matchLoanTypesToItems(itemToLoanTypeIdMap, loanTypes)));
+        .thenApply(flatMapResult(loanTypes -> matchLoanTypesToItems(items, loanTypes)));
     });
   }
 
   private Result<Collection<Item>> matchLoanTypesToItems(
-    Map<Item, String> itemToLoanTypeId, Map<String, JsonObject> loanTypes) {
+    Collection<Item> items, Map<String, JsonObject> loanTypes) {
 
     return succeeded(
-      itemToLoanTypeId.entrySet().stream()
-        .map(e -> e.getKey().withLoanType(loanTypes.get(e.getValue())))
+      items.stream()
+        .map(item -> item.withLoanType(loanTypes.get(item.determineLoanTypeForItem())))
         .collect(Collectors.toList())
     );
   }
@@ -237,9 +279,9 @@ public class ItemRepository {
         = findWithMultipleCqlIndexValues(instancesClient, "instances", identity());
 
       return fetcher.findByIds(instanceIds)
+        .thenApply(mapResult(instances -> instances.toMap(byId())))
         .thenApply(r -> r.map(instances -> items.stream()
-          .map(item -> item.withInstance(
-            findById(item.getInstanceId(), instances.getRecords()).orElse(null)))
+          .map(item -> item.withInstance(instances.get(item.getInstanceId())))
           .collect(Collectors.toList())));
     });
   }
@@ -258,22 +300,13 @@ public class ItemRepository {
         = findWithMultipleCqlIndexValues(holdingsClient, "holdingsRecords", identity());
 
       return fetcher.findByIds(holdingsIds)
+        .thenApply(mapResult(holdings -> holdings.toMap(byId())))
         .thenApply(r -> r.map(holdings -> items.stream()
-          .map(item -> item.withHoldingsRecord(
-            findById(item.getHoldingsRecordId(), holdings.getRecords()).orElse(null)))
+          .map(item -> item.withHoldingsRecord(holdings.get(item.getHoldingsRecordId())))
           .collect(Collectors.toList())));
     });
   }
 
-  private static Optional<JsonObject> findById(
-    String id,
-    Collection<JsonObject> collection) {
-
-    return collection.stream()
-      .filter(item -> item.getString("id").equals(id))
-      .findFirst();
-  }
-
   private CompletableFuture<Result<Collection<Item>>> fetchItems(
     Collection<String> itemIds) {
 
@@ -340,11 +373,28 @@ public class ItemRepository {
     Result<MultipleRecords<T>> result,
     BiFunction<T, Item, T> includeItemMap) {
 
+    return fetchItemsFor(result, includeItemMap, this::fetchFor);
+  }
+
+  /**
+   * Fetches only the item records for the records, without the holdings,
+   * instance, location or material type of each item
+   */
+  public <T extends ItemRelatedRecord> CompletableFuture<Result<MultipleRecords<T>>> fetchItemRecordsFor(
+    Result<MultipleRecords<T>> result, BiFunction<T, Item, T> includeItemMap) {
+
+    return fetchItemsFor(result, includeItemMap, this::fetchItems);
+  }
+
+  private <T extends ItemRelatedRecord> CompletableFuture<Result<MultipleRecords<T>>> fetchItemsFor(
+    Result<MultipleRecords<T>> result, BiFunction<T, Item, T> includeItemMap,
+    Function<Collection<String>, CompletableFuture<Result<Collection<Item>>>> itemsFetcher) {
+
     if (result.failed() || result.value().getRecords().isEmpty()) {
       return CompletableFuture.completedFuture(result);
     }
 
-    return result.combineAfter(r -> fetchFor(getItemIds(r)),
+    return result.combineAfter(r -> itemsFetcher.apply(getItemIds(r)),
       (records, items) -> new MultipleRecords<>(
         matchItemToRecord(records, items, includeItemMap),
         records.getTotalRecords()));
@@ -355,10 +405,10 @@ public class ItemRepository {
 
     return fetcher.findByQuery(queryResult)
       .thenApply(mapResult(MultipleRecords::getRecords))
-      .thenComposeAsync(this::fetchHoldingRecords)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes);
+      .thenCompose(this::fetchHoldingRecords)
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocations)
+      .thenCompose(this::fetchMaterialTypes);
   }
 
   public CompletableFuture<Result<Collection<Item>>> findByIndexNameAndQuery(
@@ -370,21 +420,60 @@ public class ItemRepository {
 
     return fetcher.find(byIndex(indexName, ids).withQuery(query))
       .thenApply(mapResult(MultipleRecords::getRecords))
-      .thenComposeAsync(this::fetchHoldingRecords)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes)
-      .thenComposeAsync(this::fetchLoanTypes);
+      .thenCompose(this::fetchHoldingRecords)
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocations)
+      .thenCompose(this::fetchMaterialTypes)
+      .thenCompose(this::fetchLoanTypes);
+  }
+
+  /**
+   * Finds items by the values of an index, including the same related records
+   * as {@link #fetchByBarcode(String)} and {@link #fetchById(String)} do for a
+   * single item, each kind of related record is fetched in batches
+   */
+  public CompletableFuture<Result<Collection<Item>>> findByIndexNameAndQueryInFull(
+    Collection<String> ids, String indexName, Result<CqlQuery> query) {
+
+    FindWithMultipleCqlIndexValues<Item> fetcher
+      = findWithMultipleCqlIndexValues(itemsClient,
+        ITEMS_COLLECTION_PROPERTY_NAME, Item::from);
+
+    return fetcher.find(byIndex(indexName, ids).withQuery(query))
+      .thenApply(mapResult(MultipleRecords::getRecords))
+      .thenCompose(this::fetchItemsRelatedRecordsInFull);
+  }
+
+  /**
+   * Fetches the items for the records, including the same related records as
+   * {@link #fetchFor(ItemRelatedRecord)} does for a single record, each kind of
+   * related record is fetched in batches
+   */
+  public <T extends ItemRelatedRecord> CompletableFuture<Result<MultipleRecords<T>>> fetchItemsInFullFor(
+    Result<MultipleRecords<T>> result, BiFunction<T, Item, T> includeItemMap) {
+
+    return fetchItemsFor(result, includeItemMap, itemIds -> fetchItems(itemIds)
+      .thenCompose(this::fetchItemsRelatedRecordsInFull));
+  }
+
+  private CompletableFuture<Result<Collection<Item>>> fetchItemsRelatedRecordsInFull(
+    Result<Collection<Item>> items) {
+
+    return fetchHoldingRecords(items)
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocationsInFull)
+      .thenCompose(this::fetchMaterialTypes)
+      .thenCompose(this::fetchLoanTypes);
   }
 
   private CompletableFuture<Result<Collection<Item>>> fetchFor(
     Collection<String> itemIds) {
 
     return fetchItems(itemIds)
-      .thenComposeAsync(this::fetchHoldingRecords)
-      .thenComposeAsync(this::fetchInstances)
-      .thenComposeAsync(this::fetchLocations)
-      .thenComposeAsync(this::fetchMaterialTypes);
+      .thenCompose(this::fetchHoldingRecords)
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocations)
+      .thenCompose(this::fetchMaterialTypes);
   }
 
   private <T extends ItemRelatedRecord> List<String> getItemIds(MultipleRecords<T> records) {
@@ -410,10 +499,24 @@ public class ItemRepository {
     Result<Item> item) {
 
     return fetchHoldingsRecord(item)
-      .thenComposeAsync(this::fetchInstance)
-      .thenComposeAsync(this::fetchLocation)
-      .thenComposeAsync(this::fetchMaterialType)
-      .thenComposeAsync(this::fetchLoanType);
+      .thenCompose(this::fetchInstance)
+      .thenCompose(this::fetchLocation)
+      .thenCompose(this::fetchMaterialType)
+      .thenCompose(this::fetchLoanType);
+  }
+
+  /**
+   * Fetches the records related to many items at once, each kind of related
+   * record is fetched in batches rather than once per item
+   */
+  public CompletableFuture<Result<Collection<Item>>> fetchItemsRelatedRecords(
+    Collection<Item> items) {
+
+    return fetchHoldingRecords(succeeded(items))
+      .thenCompose(this::fetchInstances)
+      .thenCompose(this::fetchLocations)
+      .thenCompose(this::fetchMaterialTypes)
+      .thenCompose(this::fetchLoanTypes);
   }
 
   public static ItemRepository noLocationMaterialTypeAndLoanTypeInstance(org.folio.circulation.support.Clients clients) {
@@ -94,6 +94,21 @@ public class LocationRepository {
       .thenApply(mapResult(sds -> sds.toMap(Location::getId)));
   }
 
+  /**
+   * Fetches the locations of the items with the library, campus and
+   * institution of each location, the same as {@link #getLocation(Item)} does
+   * for a single item, each kind of record is fetched in batches
+   */
+  public CompletableFuture<Result<Map<String, Location>>> getAllItemLocationsInFull(
+    Collection<Item> inventoryRecords) {
+
+    return getAllItemLocations(inventoryRecords)
+      .thenCompose(r -> r.after(locations -> fetchCampuses(locations.values())))
+      .thenCompose(r -> r.after(this::fetchInstitutions))
+      .thenApply(mapResult(locations -> locations.stream()
+        .collect(Collectors.toMap(Location::getId, identity()))));
+  }
+
   private CompletableFuture<Result<Location>> loadLibrary(Location location) {
     if(isNull(location) || isNull(location.getLibraryId())) {
       return ofAsync(() -> null);
@@ -27,6 +27,7 @@ import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.cache.PolicyCache;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.GetManyRecordsClient;
@@ -35,10 +36,12 @@ import org.folio.circulation.support.results.Result;
 import io.vertx.core.json.JsonObject;
 
 public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy> {
+  private static final PolicyCache<LoanPolicy> policyCache = PolicyCache.create();
+
   private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
 
   public LoanPolicyRepository(Clients clients) {
-    super(clients.loanPoliciesStorage(), clients);
+    super(clients.loanPoliciesStorage(), clients, policyCache);
     this.fixedDueDateSchedulesStorageClient = clients.fixedDueDateSchedules();
   }
 
@@ -105,10 +108,16 @@ public class LoanPolicyRepository extends CirculationPolicyRepository<LoanPolicy
       LoanPolicy::from);
   }
 
+  /**
+   * The fixed due date schedules are fetched together with the policy,
+   * so that cached loan policies include them
+   */
   @Override
-  public CompletableFuture<Result<LoanPolicy>> lookupPolicy(Loan loan) {
-    return super.lookupPolicy(loan)
-      .thenComposeAsync(r -> r.after(this::lookupSchedules));
+  protected CompletableFuture<Result<LoanPolicy>> loadPolicy(String policyId,
+    AppliedRuleConditions conditionsEntity) {
+
+    return super.loadPolicy(policyId, conditionsEntity)
+      .thenCompose(r -> r.after(this::lookupSchedules));
   }
 
   private CompletableFuture<Result<LoanPolicy>> lookupSchedules(LoanPolicy loanPolicy) {
@@ -11,6 +11,7 @@ import static org.folio.circulation.domain.representations.LoanProperties.LOST_I
 import static org.folio.circulation.domain.representations.LoanProperties.OVERDUE_FINE_POLICY;
 import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_AT_CHECKOUT;
 import static org.folio.circulation.domain.representations.LoanProperties.PATRON_GROUP_ID_AT_CHECKOUT;
+import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.CqlSortBy.descending;
 import static org.folio.circulation.support.json.JsonPropertyWriter.write;
 import static org.folio.circulation.support.results.Result.failed;
@@ -113,7 +114,7 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
 
     return loansStorageClient.put(loan.getId(), storageLoan)
       .thenApply(noContentRecordInterpreter(loan)::flatMap)
-      .thenComposeAsync(r -> r.after(this::refreshLoanRepresentation));
+      .thenCompose(r -> r.after(this::refreshLoanRepresentation));
   }
 
   /**
@@ -155,8 +156,8 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
 
   public CompletableFuture<Result<Loan>> getById(String id) {
     return fetchLoan(id)
-      .thenComposeAsync(this::fetchItem)
-      .thenComposeAsync(this::fetchUser)
+      .thenCompose(this::fetchItem)
+      .thenCompose(this::fetchUser)
       .exceptionally(CommonFailures::failedDueToServerError);
   }
 
@@ -192,6 +193,24 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
     return queryLoanStorage(cqlQuery, pageLimit);
   }
 
+  /**
+   * Finds the closed loans that still have a borrower, in order of id starting
+   * after {@code lastLoanId}, or from the first loan when it is null
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findLoansToAnonymizeAfter(
+    String lastLoanId, PageLimit pageLimit) {
+
+    Result<CqlQuery> cqlQuery = getStatusCQLQuery("Closed")
+      .combine(CqlQuery.hasValue(USER_ID), CqlQuery::and);
+
+    if (lastLoanId != null) {
+      cqlQuery = cqlQuery.combine(CqlQuery.greaterThan("id", lastLoanId), CqlQuery::and);
+    }
+
+    return queryLoanStorage(cqlQuery.map(query -> query.sortBy(ascending("id"))),
+      pageLimit);
+  }
+
   private CompletableFuture<Result<MultipleRecords<Loan>>> queryLoanStorage(
     Result<CqlQuery> statusQuery, PageLimit pageLimit) {
 
@@ -212,7 +231,7 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
   public CompletableFuture<Result<MultipleRecords<Loan>>> findBy(String query) {
     return loansStorageClient.getManyWithRawQueryStringParameters(query)
       .thenApply(flatMapResult(this::mapResponseToLoans))
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenCompose(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
   public CompletableFuture<Result<MultipleRecords<Loan>>> findByIds(Collection<String> loanIds) {
@@ -220,7 +239,7 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       findWithMultipleCqlIndexValues(loansStorageClient, RECORDS_PROPERTY_NAME, Loan::from);
 
     return fetcher.findByIds(loanIds)
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+      .thenCompose(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
   }
 
   private Result<MultipleRecords<Loan>> mapResponseToLoans(Response response) {
@@ -300,6 +319,18 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
     return queryLoanStorage(statusQuery.combine(itemIdQuery, CqlQuery::and), one());
   }
 
+  /**
+   * Finds all of the open loans for many items at once, in batches of item ids
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansForItems(
+    Collection<String> itemIds) {
+
+    final FindWithMultipleCqlIndexValues<Loan> fetcher =
+      findWithMultipleCqlIndexValues(loansStorageClient, RECORDS_PROPERTY_NAME, Loan::from);
+
+    return fetcher.findByIdIndexAndQuery(itemIds, ITEM_ID, getStatusCQLQuery("Open"));
+  }
+
   public CompletableFuture<Result<MultipleRecords<Request>>> findOpenLoansFor(
     MultipleRecords<Request> multipleRequests) {
 
@@ -346,19 +377,48 @@ public class LoanRepository implements GetManyRecordsRepository<Loan> {
       .withLoan(loanMap.getOrDefault(request.getItemId(), null));
   }
 
-  public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserIdWithItem(
-    PageLimit loansLimit, LoanAndRelatedRecords loanAndRelatedRecords) {
+  /**
+   * Counts the open loans of a user without fetching them
+   */
+  public CompletableFuture<Result<Integer>> countOpenLoansByUserId(String userId) {
+    return queryLoanStorage(openLoansByUserIdQuery(userId), PageLimit.limit(0))
+      .thenApply(mapResult(MultipleRecords::getTotalRecords));
+  }
+
+  /**
+   * Finds a page of the open loans of a user in order of id, starting after
+   * {@code lastLoanId}, or from the first loan when it is null. Only the item
+   * record of each loan is included (without holdings, instance, location or
+   * material type)
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserIdWithItemRecord(
+    String userId, String lastLoanId, PageLimit pageLimit) {
 
-    String userId = loanAndRelatedRecords.getLoan().getUser().getId();
+    Result<CqlQuery> cqlQuery = openLoansByUserIdQuery(userId);
 
-    final Result<CqlQuery> statusQuery = getStatusCQLQuery("Open");
-    final Result<CqlQuery> userIdQuery = exactMatch(USER_ID, userId);
+    if (lastLoanId != null) {
+      cqlQuery = cqlQuery.combine(CqlQuery.greaterThan("id", lastLoanId), CqlQuery::and);
+    }
+
+    return queryLoanStorage(cqlQuery.map(query -> query.sortBy(ascending("id"))),
+        pageLimit)
+      .thenCompose(loans -> itemRepository.fetchItemRecordsFor(loans, Loan::withItem));
+  }
+
+  /**
+   * Finds the open loans of a user, including the item of each loan with the
+   * same related records as when fetching a single loan
+   */
+  public CompletableFuture<Result<MultipleRecords<Loan>>> findOpenLoansByUserId(
+    String userId, PageLimit pageLimit) {
 
-    Result<CqlQuery> cqlQueryResult = statusQuery
-      .combine(userIdQuery, CqlQuery::and);
+    return queryLoanStorage(openLoansByUserIdQuery(userId), pageLimit)
+      .thenCompose(loans -> itemRepository.fetchItemsInFullFor(loans, Loan::withItem));
+  }
 
-    return queryLoanStorage(cqlQueryResult, loansLimit)
-      .thenComposeAsync(loans -> itemRepository.fetchItemsFor(loans, Loan::withItem));
+  private Result<CqlQuery> openLoansByUserIdQuery(String userId) {
+    return getStatusCQLQuery("Open")
+      .combine(exactMatch(USER_ID, userId), CqlQuery::and);
   }
 
   public CompletableFuture<Result<Loan>> findLastLoanForItem(String itemId) {
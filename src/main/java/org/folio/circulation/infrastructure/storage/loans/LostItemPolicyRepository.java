@@ -21,6 +21,7 @@ import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.cache.PolicyCache;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.results.Result;
@@ -28,9 +29,10 @@ import org.folio.circulation.support.results.Result;
 import io.vertx.core.json.JsonObject;
 
 public class LostItemPolicyRepository extends CirculationPolicyRepository<LostItemPolicy> {
+  private static final PolicyCache<LostItemPolicy> policyCache = PolicyCache.create();
 
   public LostItemPolicyRepository(Clients clients) {
-    super(clients.lostItemPoliciesStorage(), clients);
+    super(clients.lostItemPoliciesStorage(), clients, policyCache);
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupLostItemPolicy(
@@ -21,6 +21,7 @@ import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.cache.PolicyCache;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.results.Result;
@@ -28,8 +29,10 @@ import org.folio.circulation.support.results.Result;
 import io.vertx.core.json.JsonObject;
 
 public class OverdueFinePolicyRepository extends CirculationPolicyRepository<OverdueFinePolicy> {
+  private static final PolicyCache<OverdueFinePolicy> policyCache = PolicyCache.create();
+
   public OverdueFinePolicyRepository(Clients clients) {
-    super(clients.overdueFinesPoliciesStorage(), clients);
+    super(clients.overdueFinesPoliciesStorage(), clients, policyCache);
   }
 
   public CompletableFuture<Result<LoanAndRelatedRecords>> lookupOverdueFinePolicy(
@@ -9,11 +9,14 @@ import org.folio.circulation.rules.AppliedRuleConditions;
 import org.folio.circulation.rules.RulesExecutionParameters;
 import org.folio.circulation.rules.CirculationRuleMatch;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.cache.PolicyCache;
 import org.folio.circulation.support.results.Result;
 
 import io.vertx.core.json.JsonObject;
 
 public class PatronNoticePolicyRepository extends CirculationPolicyRepository<PatronNoticePolicy> {
+  private static final PolicyCache<PatronNoticePolicy> policyCache = PolicyCache.create();
+
   private final Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper;
 
   public PatronNoticePolicyRepository(Clients clients) {
@@ -23,7 +26,7 @@ public class PatronNoticePolicyRepository extends CirculationPolicyRepository<Pa
   private PatronNoticePolicyRepository(
     Clients clients,
     Function<JsonObject, Result<PatronNoticePolicy>> patronNoticePolicyMapper) {
-    super(clients.patronNoticePolicesStorageClient(), clients);
+    super(clients.patronNoticePolicesStorageClient(), clients, policyCache);
     this.patronNoticePolicyMapper = patronNoticePolicyMapper;
   }
 
@@ -20,6 +20,7 @@ import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ForwardOnFailure;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.SingleRecordFetcher;
+import org.folio.circulation.support.cache.PolicyCache;
 import org.folio.circulation.support.http.client.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,12 +30,16 @@ import io.vertx.core.json.JsonObject;
 public class RequestPolicyRepository {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+  private static final PolicyCache<RequestPolicy> policyCache = PolicyCache.create();
+
   private final CirculationRulesClient circulationRequestRulesClient;
   private final CollectionResourceClient requestPoliciesStorageClient;
+  private final String tenantId;
 
   public RequestPolicyRepository(Clients clients) {
     this.circulationRequestRulesClient = clients.circulationRequestRules();
     this.requestPoliciesStorageClient = clients.requestPoliciesStorage();
+    this.tenantId = clients.tenantId();
   }
 
   public CompletableFuture<Result<RequestAndRelatedRecords>> lookupRequestPolicy(
@@ -48,11 +53,18 @@ public class RequestPolicyRepository {
 
   private CompletableFuture<Result<RequestPolicy>> lookupRequestPolicy(Item item, User user) {
     return lookupRequestPolicyId(item, user)
-      .thenComposeAsync(r -> r.after(this::lookupRequestPolicy))
-      .thenApply(result -> result.map(RequestPolicy::from));
+      .thenCompose(r -> r.after(this::lookupRequestPolicy));
+  }
+
+  private CompletableFuture<Result<RequestPolicy>> lookupRequestPolicy(
+    String requestPolicyId) {
+
+    return policyCache.get(tenantId, requestPolicyId,
+      () -> fetchRequestPolicy(requestPolicyId)
+        .thenApply(result -> result.map(RequestPolicy::from)));
   }
 
-  private CompletableFuture<Result<JsonObject>> lookupRequestPolicy(
+  private CompletableFuture<Result<JsonObject>> fetchRequestPolicy(
     String requestPolicyId) {
 
     return SingleRecordFetcher.json(requestPoliciesStorageClient, "request policy",
@@ -83,7 +95,7 @@ public class RequestPolicyRepository {
       patronGroupId);
 
     return circulationRulesResponse
-      .thenComposeAsync(r -> r.after(this::processRulesResponse));
+      .thenCompose(r -> r.after(this::processRulesResponse));
   }
 
   private CompletableFuture<Result<String>> processRulesResponse(Response response) {
@@ -1,6 +1,8 @@
 package org.folio.circulation.infrastructure.storage.requests;
 
+import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
 import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
@@ -8,7 +10,10 @@ import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.http.client.PageLimit.oneThousand;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.folio.circulation.domain.ItemRelatedRecord;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
@@ -66,6 +71,34 @@ public class RequestQueueRepository {
       .thenApply(r -> r.map(RequestQueue::new));
   }
 
+  /**
+   * Gets the request queues for many items at once, the open requests for all
+   * of the items are fetched in batches of item ids
+   *
+   * @return the request queue for each item id, including empty queues for
+   * items with no open requests
+   */
+  public CompletableFuture<Result<Map<String, RequestQueue>>> getQueuesForItems(
+    Collection<String> itemIds) {
+
+    final Result<CqlQuery> statusQuery = exactMatchAny("status", RequestStatus.openStates());
+
+    return requestRepository.findByItemIds(itemIds, statusQuery)
+      .thenApply(r -> r.map(requests -> groupByItem(itemIds, requests.getRecords())));
+  }
+
+  private static Map<String, RequestQueue> groupByItem(Collection<String> itemIds,
+    Collection<Request> requests) {
+
+    final Map<String, List<Request>> requestsByItem = requests.stream()
+      .collect(Collectors.groupingBy(Request::getItemId));
+
+    return itemIds.stream()
+      .distinct()
+      .collect(Collectors.toMap(identity(), itemId -> new RequestQueue(
+        requestsByItem.getOrDefault(itemId, emptyList()))));
+  }
+
   public CompletableFuture<Result<RequestQueue>> getRequestQueueWithoutItemLookup(String itemId) {
     final Result<CqlQuery> itemIdQuery = exactMatch("itemId", itemId);
     final Result<CqlQuery> statusQuery = exactMatchAny("status", RequestStatus.openStates());
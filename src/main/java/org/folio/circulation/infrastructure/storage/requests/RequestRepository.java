@@ -5,6 +5,7 @@ import static org.folio.circulation.support.results.Result.failed;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.ofAsync;
 import static org.folio.circulation.support.results.Result.succeeded;
+import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
 import static org.folio.circulation.support.results.ResultBinding.mapResult;
 import static org.folio.circulation.support.http.ResponseMapping.forwardOnFailure;
@@ -27,6 +28,7 @@ import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.storage.RequestBatch;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
+import org.folio.circulation.support.FindWithMultipleCqlIndexValues;
 import org.folio.circulation.support.RecordNotFoundFailure;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.SingleRecordFetcher;
@@ -82,21 +84,34 @@ public class RequestRepository {
   public CompletableFuture<Result<MultipleRecords<Request>>> findBy(String query) {
     return requestsStorageClient.getManyWithRawQueryStringParameters(query)
       .thenApply(flatMapResult(this::mapResponseToRequests))
-      .thenComposeAsync(result -> itemRepository.fetchItemsFor(result, Request::withItem))
-      .thenComposeAsync(result -> result.after(loanRepository::findOpenLoansFor))
-      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests))
-      .thenComposeAsync(result -> result.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers));
+      .thenCompose(result -> itemRepository.fetchItemsFor(result, Request::withItem))
+      .thenCompose(result -> result.after(loanRepository::findOpenLoansFor))
+      .thenCompose(result -> result.after(servicePointRepository::findServicePointsForRequests))
+      .thenCompose(result -> result.after(userRepository::findUsersForRequests))
+      .thenCompose(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers));
   }
 
   CompletableFuture<Result<MultipleRecords<Request>>> findBy(CqlQuery query,
     PageLimit pageLimit) {
 
     return findByWithoutItems(query, pageLimit)
-      .thenComposeAsync(requests ->
+      .thenCompose(requests ->
         itemRepository.fetchItemsFor(requests, Request::withItem));
   }
 
+  /**
+   * Finds the requests for many items at once, in batches of item ids
+   */
+  CompletableFuture<Result<MultipleRecords<Request>>> findByItemIds(
+    Collection<String> itemIds, Result<CqlQuery> andQuery) {
+
+    final FindWithMultipleCqlIndexValues<Request> fetcher =
+      findWithMultipleCqlIndexValues(requestsStorageClient, "requests", Request::from);
+
+    return fetcher.findByIdIndexAndQuery(itemIds, "itemId", andQuery)
+      .thenCompose(requests -> itemRepository.fetchItemsFor(requests, Request::withItem));
+  }
+
   CompletableFuture<Result<MultipleRecords<Request>>> findByWithoutItems(
     CqlQuery query, PageLimit pageLimit) {
 
@@ -127,13 +142,13 @@ public class RequestRepository {
 
   public CompletableFuture<Result<Request>> getById(String id) {
     return fetchRequest(id)
-      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor,
+      .thenCompose(result -> result.combineAfter(itemRepository::fetchFor,
         Request::withItem))
-      .thenComposeAsync(this::fetchRequester)
-      .thenComposeAsync(this::fetchProxy)
-      .thenComposeAsync(this::fetchLoan)
-      .thenComposeAsync(this::fetchPickupServicePoint)
-      .thenComposeAsync(this::fetchPatronGroups);
+      .thenCompose(this::fetchRequester)
+      .thenCompose(this::fetchProxy)
+      .thenCompose(this::fetchLoan)
+      .thenCompose(this::fetchPickupServicePoint)
+      .thenCompose(this::fetchPatronGroups);
   }
 
   private CompletableFuture<Result<Request>> fetchRequest(String id) {
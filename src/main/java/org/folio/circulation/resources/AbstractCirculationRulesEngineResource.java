@@ -19,12 +19,12 @@ import org.folio.circulation.support.results.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 import lombok.val;
 
 /**
@@ -49,9 +49,9 @@ public abstract class AbstractCirculationRulesEngineResource extends Resource {
    * Create a circulation rules engine that listens at applyPath and applyAllPath.
    * @param applyPath  URL path for circulation rules triggering that returns the first match
    * @param applyAllPath  URL path for circulation rules triggering that returns all matches
-   * @param client  the HttpClient to use for requests via Okapi
+   * @param client  the WebClient to use for requests via Okapi
    */
-  AbstractCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client,
+  AbstractCirculationRulesEngineResource(String applyPath, String applyAllPath, WebClient client,
     GetSinglePolicy getSinglePolicy, GetAllPolicies getAllPolicies) {
 
     super(client);
@@ -0,0 +1,106 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.domain.validation.UserNotFoundValidator.refuseWhenLoggedInUserNotPresent;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.CheckInContext;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.domain.representations.BulkCheckInByBarcodeRequest;
+import org.folio.circulation.domain.representations.BulkCheckInByBarcodeResponse;
+import org.folio.circulation.domain.representations.CheckInByBarcodeRequest;
+import org.folio.circulation.infrastructure.storage.ServicePointRepository;
+import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.support.BoundedParallelExecutor;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
+
+/**
+ * Checks in many items at the same service point at once.
+ * <p>
+ * The items, their open loans and request queues are fetched for all of the
+ * items in batches, then each item is checked in the same way as a check in
+ * by barcode, a few at a time. The check in of one item failing does not fail
+ * the others, the outcome is included for each item. An item checked in more
+ * than once is checked in one time after another.
+ */
+public class BulkCheckInByBarcodeResource extends Resource {
+  private static final int MAXIMUM_CHECK_INS_IN_PROGRESS = 10;
+
+  public BulkCheckInByBarcodeResource(WebClient client) {
+    super(client);
+  }
+
+  @Override
+  public void register(Router router) {
+    RouteRegistration routeRegistration = new RouteRegistration(
+      "/circulation/bulk-check-in-by-barcode", router);
+
+    routeRegistration.create(this::checkIn);
+  }
+
+  private void checkIn(RoutingContext routingContext) {
+    final WebContext context = new WebContext(routingContext);
+
+    final Clients clients = Clients.create(context, client);
+
+    final Result<BulkCheckInByBarcodeRequest> bulkRequestResult
+      = BulkCheckInByBarcodeRequest.from(routingContext.getBodyAsJson());
+
+    final EventPublisher eventPublisher = new EventPublisher(routingContext);
+
+    final CompletableFuture<Result<ServicePoint>> checkInServicePoint =
+      bulkRequestResult.after(request -> new ServicePointRepository(clients)
+        .getServicePointById(request.getServicePointId()));
+
+    refuseWhenLoggedInUserNotPresent(context)
+      .next(notUsed -> bulkRequestResult)
+      .after(request -> PrefetchedCheckInRecords.fetch(request.getItemBarcodes(), clients)
+        .thenCompose(r -> r.after(prefetchedRecords -> checkInEachItem(request,
+          prefetchedRecords, checkInServicePoint, context, clients, eventPublisher))))
+      .thenApply(r -> r.map(BulkCheckInByBarcodeResponse::toHttpResponse))
+      .thenAccept(context::writeResultToHttpResponse);
+  }
+
+  private CompletableFuture<Result<BulkCheckInByBarcodeResponse>> checkInEachItem(
+    BulkCheckInByBarcodeRequest request, PrefetchedCheckInRecords prefetchedRecords,
+    CompletableFuture<Result<ServicePoint>> checkInServicePoint, WebContext context,
+    Clients clients, EventPublisher eventPublisher) {
+
+    final List<CheckInByBarcodeRequest> checkInRequests = request.toCheckInRequests();
+
+    return new BoundedParallelExecutor(MAXIMUM_CHECK_INS_IN_PROGRESS)
+      .executeOrderedByKey(checkInRequests, CheckInByBarcodeRequest::getItemBarcode,
+        checkInRequest -> checkInItem(checkInRequest, prefetchedRecords,
+          checkInServicePoint, context, clients, eventPublisher))
+      .thenApply(checkIns -> succeeded(
+        new BulkCheckInByBarcodeResponse(request.getItemBarcodes(), checkIns)))
+      .whenComplete((notUsed, throwable) -> CheckInProcessAdapter.logReusedResponses(
+        clients.reusedResponseStatistics()));
+  }
+
+  /**
+   * Each check in has its own process adapter, so that the stage timings
+   * logged are those of that check in alone
+   */
+  private CompletableFuture<Result<CheckInContext>> checkInItem(
+    CheckInByBarcodeRequest checkInRequest, PrefetchedCheckInRecords prefetchedRecords,
+    CompletableFuture<Result<ServicePoint>> checkInServicePoint, WebContext context,
+    Clients clients, EventPublisher eventPublisher) {
+
+    final CheckInProcessAdapter processAdapter =
+      CheckInProcessAdapter.newInstance(clients, prefetchedRecords);
+
+    return new CheckInByBarcodeProcess(context, clients, processAdapter, eventPublisher)
+      .checkIn(checkInRequest, checkInServicePoint)
+      .whenComplete((notUsed, throwable) -> processAdapter.logStageTimings());
+  }
+}
@@ -0,0 +1,93 @@
+package org.folio.circulation.resources;
+
+import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.ITEM_BARCODE;
+import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.CheckInContext;
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.ServicePoint;
+import org.folio.circulation.domain.notice.schedule.RequestScheduledNoticeService;
+import org.folio.circulation.domain.notice.session.PatronActionSessionService;
+import org.folio.circulation.domain.representations.CheckInByBarcodeRequest;
+import org.folio.circulation.domain.validation.CheckInValidators;
+import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Checks in a single item, either for a check in by barcode or for each item
+ * of a bulk check in
+ */
+class CheckInByBarcodeProcess {
+  private final WebContext context;
+  private final CheckInProcessAdapter processAdapter;
+  private final EventPublisher eventPublisher;
+  private final CheckInValidators checkInValidators;
+  private final RequestScheduledNoticeService requestScheduledNoticeService;
+  private final PatronActionSessionService patronActionSessionService;
+
+  CheckInByBarcodeProcess(WebContext context, Clients clients,
+    CheckInProcessAdapter processAdapter, EventPublisher eventPublisher) {
+
+    this.context = context;
+    this.processAdapter = processAdapter;
+    this.eventPublisher = eventPublisher;
+    this.checkInValidators = new CheckInValidators(
+      CheckInByBarcodeProcess::errorWhenInIncorrectStatus);
+    this.requestScheduledNoticeService = RequestScheduledNoticeService.using(clients);
+    this.patronActionSessionService = PatronActionSessionService.using(clients);
+  }
+
+  /**
+   * @param checkInServicePoint  the check in service point only depends upon
+   * the request, so it can be fetched straight away and is used once the item
+   * has been updated
+   */
+  CompletableFuture<Result<CheckInContext>> checkIn(
+    CheckInByBarcodeRequest checkInRequest,
+    CompletableFuture<Result<ServicePoint>> checkInServicePoint) {
+
+    return succeeded(new CheckInContext(checkInRequest))
+      .combineAfter(processAdapter::findItem, (records, item) -> records
+        .withItem(item)
+        .withItemStatusBeforeCheckIn(item.getStatus()))
+      .thenApply(checkInValidators::refuseWhenItemIsNotAllowedForCheckIn)
+      .thenApply(checkInValidators::refuseWhenClaimedReturnedIsNotResolved)
+      .thenApply(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
+      .thenCompose(r -> r.after(processAdapter::findRequestQueueAndOpenLoan))
+      .thenCompose(findLoanResult -> findLoanResult.combineAfter(
+        processAdapter::checkInLoan, CheckInContext::withLoan))
+      .thenCompose(checkInLoan -> checkInLoan.combineAfter(
+        processAdapter::updateRequestQueue, CheckInContext::withRequestQueue))
+      .thenCompose(updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
+        processAdapter::updateItem, CheckInContext::withItem))
+      .thenApply(handleItemStatus -> handleItemStatus.next(processAdapter::sendItemStatusPatronNotice))
+      .thenCompose(updateItemResult -> updateItemResult.after(records ->
+        processAdapter.findServicePointsAndRequestDetails(records, checkInServicePoint)))
+      .thenCompose(updateItemResult -> updateItemResult.combineAfter(
+        processAdapter::updateLoan, CheckInContext::withLoan))
+      .thenCompose(updateItemResult -> updateItemResult.after(
+        patronActionSessionService::saveCheckInSessionRecord))
+      .thenCompose(r -> r.after(processAdapter::refundLostItemFees))
+      .thenCompose(r -> r.after(
+        records -> processAdapter.createOverdueFineIfNecessary(records, context)))
+      .thenCompose(r -> r.after(eventPublisher::publishItemCheckedInEvents))
+      .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices));
+  }
+
+  private static ValidationErrorFailure errorWhenInIncorrectStatus(Item item) {
+    String message =
+      String.format("%s (%s) (Barcode: %s) has the item status %s and cannot be checked in",
+        item.getTitle(),
+        item.getMaterialTypeName(),
+        item.getBarcode(),
+        item.getStatusName());
+
+    return singleValidationError(message, ITEM_BARCODE, item.getBarcode());
+  }
+}
@@ -1,29 +1,24 @@
 package org.folio.circulation.resources;
 
-import static org.folio.circulation.domain.representations.CheckOutByBarcodeRequest.ITEM_BARCODE;
 import static org.folio.circulation.domain.validation.UserNotFoundValidator.refuseWhenLoggedInUserNotPresent;
-import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 
-import org.folio.circulation.domain.CheckInContext;
-import org.folio.circulation.domain.Item;
-import org.folio.circulation.domain.notice.schedule.RequestScheduledNoticeService;
-import org.folio.circulation.domain.notice.session.PatronActionSessionService;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.domain.ServicePoint;
 import org.folio.circulation.domain.representations.CheckInByBarcodeRequest;
 import org.folio.circulation.domain.representations.CheckInByBarcodeResponse;
-import org.folio.circulation.domain.validation.CheckInValidators;
 import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
-import org.folio.circulation.support.ValidationErrorFailure;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class CheckInByBarcodeResource extends Resource {
-  public CheckInByBarcodeResource(HttpClient client) {
+  public CheckInByBarcodeResource(WebClient client) {
     super(client);
   }
 
@@ -43,72 +38,23 @@ public class CheckInByBarcodeResource extends Resource {
     final Result<CheckInByBarcodeRequest> checkInRequestResult
       = CheckInByBarcodeRequest.from(routingContext.getBodyAsJson());
 
-    final EventPublisher eventPublisher = new EventPublisher(routingContext);
-
-    final var checkInValidators = new CheckInValidators(this::errorWhenInIncorrectStatus);
     final CheckInProcessAdapter processAdapter = CheckInProcessAdapter.newInstance(clients);
 
-    final RequestScheduledNoticeService requestScheduledNoticeService =
-      RequestScheduledNoticeService.using(clients);
+    final CheckInByBarcodeProcess checkInProcess = new CheckInByBarcodeProcess(
+      context, clients, processAdapter, new EventPublisher(routingContext));
 
-    final PatronActionSessionService patronActionSessionService =
-      PatronActionSessionService.using(clients);
+    // The check in service point only depends upon the request, so it is
+    // fetched straight away and used once the item has been updated
+    final CompletableFuture<Result<ServicePoint>> checkInServicePoint =
+      checkInRequestResult.after(processAdapter::getCheckInServicePoint);
 
     refuseWhenLoggedInUserNotPresent(context)
       .next(notUsed -> checkInRequestResult)
-      .map(CheckInContext::new)
-      .combineAfter(processAdapter::findItem, (records, item) -> records
-        .withItem(item)
-        .withItemStatusBeforeCheckIn(item.getStatus()))
-      .thenApply(checkInValidators::refuseWhenItemIsNotAllowedForCheckIn)
-      .thenApply(checkInValidators::refuseWhenClaimedReturnedIsNotResolved)
-      .thenComposeAsync(findItemResult -> findItemResult.combineAfter(
-        processAdapter::getRequestQueue, CheckInContext::withRequestQueue))
-      .thenApply(findRequestQueueResult -> findRequestQueueResult.map(
-        processAdapter::setInHouseUse))
-      .thenApplyAsync(r -> r.map(records -> records.withLoggedInUserId(context.getUserId())))
-      .thenComposeAsync(setUserResult -> setUserResult.after(processAdapter::logCheckInOperation))
-      .thenComposeAsync(logCheckInResult -> logCheckInResult.combineAfter(
-        processAdapter::findSingleOpenLoan, CheckInContext::withLoan))
-      .thenComposeAsync(findLoanResult -> findLoanResult.combineAfter(
-        processAdapter::checkInLoan, CheckInContext::withLoan))
-      .thenComposeAsync(checkInLoan -> checkInLoan.combineAfter(
-        processAdapter::updateRequestQueue, CheckInContext::withRequestQueue))
-      .thenComposeAsync(updateRequestQueueResult -> updateRequestQueueResult.combineAfter(
-        processAdapter::updateItem, CheckInContext::withItem))
-      .thenApply(handleItemStatus -> handleItemStatus.next(processAdapter::sendItemStatusPatronNotice))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getDestinationServicePoint, CheckInContext::withItem))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getCheckInServicePoint, CheckInContext::withCheckInServicePoint))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getPickupServicePoint, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getRequester, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::getAddressType, CheckInContext::withHighestPriorityFulfillableRequest))
-      .thenComposeAsync(updateItemResult -> updateItemResult.combineAfter(
-        processAdapter::updateLoan, CheckInContext::withLoan))
-      .thenComposeAsync(updateItemResult -> updateItemResult.after(
-        patronActionSessionService::saveCheckInSessionRecord))
-      .thenComposeAsync(r -> r.after(processAdapter::refundLostItemFees))
-      .thenComposeAsync(r -> r.after(
-        records -> processAdapter.createOverdueFineIfNecessary(records, context)))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishItemCheckedInEvents))
-      .thenApply(r -> r.next(requestScheduledNoticeService::rescheduleRequestNotices))
+      .after(checkInRequest -> checkInProcess.checkIn(checkInRequest, checkInServicePoint))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::fromRecords))
       .thenApply(r -> r.map(CheckInByBarcodeResponse::toHttpResponse))
-      .thenAccept(context::writeResultToHttpResponse);
-  }
-
-  private ValidationErrorFailure errorWhenInIncorrectStatus(Item item) {
-    String message =
-      String.format("%s (%s) (Barcode: %s) has the item status %s and cannot be checked in",
-        item.getTitle(),
-        item.getMaterialTypeName(),
-        item.getBarcode(),
-        item.getStatusName());
-
-    return singleValidationError(message, ITEM_BARCODE, item.getBarcode());
+      .thenAccept(context::writeResultToHttpResponse)
+      .whenComplete((notUsed, throwable) -> processAdapter.logStageTimings(
+        clients.reusedResponseStatistics()));
   }
 }
@@ -10,8 +10,10 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import org.apache.commons.lang3.StringUtils;
+import org.folio.circulation.domain.representations.CheckInByBarcodeRequest;
 import org.folio.circulation.domain.representations.logs.NoticeLogContext;
 import org.folio.circulation.infrastructure.storage.users.AddressTypeRepository;
+import org.folio.circulation.domain.AddressType;
 import org.folio.circulation.domain.CheckInContext;
 import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.Loan;
@@ -38,9 +40,11 @@ import org.folio.circulation.services.LostItemFeeRefundService;
 import org.folio.circulation.storage.ItemByBarcodeInStorageFinder;
 import org.folio.circulation.storage.SingleOpenLoanForItemInStorageFinder;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.cache.CacheStatistics;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.logging.StageTimings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +65,8 @@ class CheckInProcessAdapter {
   private final OverdueFineCalculatorService overdueFineCalculatorService;
   private final FeeFineScheduledNoticeService feeFineScheduledNoticeService;
   private final LostItemFeeRefundService lostItemFeeRefundService;
+  private final PrefetchedCheckInRecords prefetchedRecords;
+  private final StageTimings timings = new StageTimings("Check in");
 
   @SuppressWarnings("squid:S00107")
   CheckInProcessAdapter(
@@ -75,7 +81,8 @@ class CheckInProcessAdapter {
     LogCheckInService logCheckInService,
     OverdueFineCalculatorService overdueFineCalculatorService,
     FeeFineScheduledNoticeService feeFineScheduledNoticeService,
-    LostItemFeeRefundService lostItemFeeRefundService) {
+    LostItemFeeRefundService lostItemFeeRefundService,
+    PrefetchedCheckInRecords prefetchedRecords) {
 
     this.itemFinder = itemFinder;
     this.singleOpenLoanFinder = singleOpenLoanFinder;
@@ -92,9 +99,20 @@ class CheckInProcessAdapter {
     this.overdueFineCalculatorService = overdueFineCalculatorService;
     this.feeFineScheduledNoticeService = feeFineScheduledNoticeService;
     this.lostItemFeeRefundService = lostItemFeeRefundService;
+    this.prefetchedRecords = prefetchedRecords;
   }
 
   public static CheckInProcessAdapter newInstance(Clients clients) {
+    return newInstance(clients, PrefetchedCheckInRecords.none());
+  }
+
+  /**
+   * @param prefetchedRecords  records fetched for many check ins at once, used
+   * instead of fetching them for each check in
+   */
+  static CheckInProcessAdapter newInstance(Clients clients,
+    PrefetchedCheckInRecords prefetchedRecords) {
+
     final LoanRepository loanRepository = new LoanRepository(clients);
     final UserRepository userRepository = new UserRepository(clients);
 
@@ -120,17 +138,44 @@ class CheckInProcessAdapter {
       new LogCheckInService(clients),
       OverdueFineCalculatorService.using(clients),
       FeeFineScheduledNoticeService.using(clients),
-      new LostItemFeeRefundService(clients));
+      new LostItemFeeRefundService(clients),
+      prefetchedRecords);
   }
 
   CompletableFuture<Result<Item>> findItem(CheckInContext context) {
-    return itemFinder.findItemByBarcode(context.getCheckInRequestBarcode());
+    final String barcode = context.getCheckInRequestBarcode();
+
+    return prefetchedRecords.takeItem(barcode)
+      .map(item -> completedFuture(succeeded(item)))
+      .orElseGet(() -> timings.time("find item",
+        () -> itemFinder.findItemByBarcode(barcode)));
+  }
+
+  /**
+   * Finds the request queue and the open loan for the item at the same time,
+   * the check in is logged once the request queue is known
+   */
+  CompletableFuture<Result<CheckInContext>> findRequestQueueAndOpenLoan(
+    CheckInContext context) {
+
+    final CompletableFuture<Result<Loan>> openLoan = findSingleOpenLoan(context);
+
+    return getRequestQueue(context)
+      .thenApply(r -> r.map(context::withRequestQueue))
+      .thenApply(r -> r.map(this::setInHouseUse))
+      .thenCompose(r -> r.after(this::logCheckInOperation))
+      .thenCompose(r -> r.combineAfter(() -> openLoan, CheckInContext::withLoan));
   }
 
   CompletableFuture<Result<Loan>> findSingleOpenLoan(
     CheckInContext context) {
 
-    return singleOpenLoanFinder.findSingleOpenLoan(context.getItem());
+    final Item item = context.getItem();
+
+    return prefetchedRecords.takeOpenLoans(item)
+      .map(openLoans -> singleOpenLoanFinder.findSingleOpenLoan(item, openLoans))
+      .orElseGet(() -> timings.time("find open loan",
+        () -> singleOpenLoanFinder.findSingleOpenLoan(item)));
   }
 
   CompletableFuture<Result<Loan>> checkInLoan(CheckInContext context) {
@@ -142,27 +187,52 @@ class CheckInProcessAdapter {
   CompletableFuture<Result<RequestQueue>> getRequestQueue(
     CheckInContext context) {
 
-    return requestQueueRepository.get(context.getItem().getItemId());
+    final Item item = context.getItem();
+
+    return prefetchedRecords.takeRequestQueue(item)
+      .map(requestQueue -> completedFuture(succeeded(requestQueue)))
+      .orElseGet(() -> timings.time("find request queue",
+        () -> requestQueueRepository.get(item.getItemId())));
   }
 
   CompletableFuture<Result<Item>> updateItem(CheckInContext context) {
-    return updateItem.onCheckIn(context.getItem(), context.getRequestQueue(),
-      context.getCheckInServicePointId(), context.getLoggedInUserId(),
-      context.getCheckInProcessedDateTime());
+    return timings.time("update item", () -> updateItem.onCheckIn(context.getItem(),
+      context.getRequestQueue(), context.getCheckInServicePointId(),
+      context.getLoggedInUserId(), context.getCheckInProcessedDateTime()));
   }
 
   CompletableFuture<Result<RequestQueue>> updateRequestQueue(
     CheckInContext context) {
 
-    return requestQueueUpdate.onCheckIn(context.getRequestQueue(),
-      context.getCheckInServicePointId().toString());
+    return timings.time("update request queue", () -> requestQueueUpdate.onCheckIn(
+      context.getRequestQueue(), context.getCheckInServicePointId().toString()));
   }
 
   CompletableFuture<Result<Loan>> updateLoan(CheckInContext context) {
     // Loan must be updated after item
     // due to snapshot of item status stored with the loan
     // as this is how the loan action history is populated
-    return loanRepository.updateLoan(context.getLoan());
+    return timings.time("update loan", () -> loanRepository.updateLoan(context.getLoan()));
+  }
+
+  /**
+   * Finds the service points and the details of the highest priority fulfillable
+   * request at the same time, once the item and request queue have been updated
+   */
+  CompletableFuture<Result<CheckInContext>> findServicePointsAndRequestDetails(
+    CheckInContext context, CompletableFuture<Result<ServicePoint>> checkInServicePoint) {
+
+    final CompletableFuture<Result<Item>> destinationServicePoint
+      = getDestinationServicePoint(context);
+    final CompletableFuture<Result<Request>> requestDetails
+      = getHighestPriorityFulfillableRequestDetails(context);
+
+    return destinationServicePoint
+      .thenApply(r -> r.map(context::withItem))
+      .thenCompose(r -> r.combineAfter(() -> checkInServicePoint,
+        CheckInContext::withCheckInServicePoint))
+      .thenCompose(r -> r.combineAfter(() -> requestDetails,
+        CheckInContext::withHighestPriorityFulfillableRequest));
   }
 
   CompletableFuture<Result<Item>> getDestinationServicePoint(CheckInContext context) {
@@ -170,7 +240,8 @@ class CheckInProcessAdapter {
 
     if (item.getInTransitDestinationServicePointId() != null && item.getInTransitDestinationServicePoint() == null) {
       final UUID inTransitDestinationServicePointId = UUID.fromString(item.getInTransitDestinationServicePointId());
-      return servicePointRepository.getServicePointById(inTransitDestinationServicePointId)
+      return timings.time("find destination service point",
+        () -> servicePointRepository.getServicePointById(inTransitDestinationServicePointId))
         .thenCompose(result ->
           result.after(servicePoint ->
             completedFuture(succeeded(updateItem.onDestinationServicePointUpdate(item, servicePoint))))
@@ -180,37 +251,40 @@ class CheckInProcessAdapter {
     return completedFuture(succeeded(item));
   }
 
-  CompletableFuture<Result<ServicePoint>> getCheckInServicePoint(CheckInContext context) {
-    return servicePointRepository.getServicePointById(context.getCheckInServicePointId());
-  }
+  CompletableFuture<Result<ServicePoint>> getCheckInServicePoint(
+    CheckInByBarcodeRequest checkInRequest) {
 
-  CompletableFuture<Result<Request>> getPickupServicePoint(CheckInContext context) {
-    Request firstRequest = context.getHighestPriorityFulfillableRequest();
-    if (firstRequest == null) {
-      return completedFuture(succeeded(null));
-    }
-    return StringUtils.isNotBlank(firstRequest.getPickupServicePointId())
-      ? servicePointRepository.getServicePointById(UUID.fromString(firstRequest.getPickupServicePointId()))
-      .thenApply(r -> r.map(firstRequest::withPickupServicePoint))
-      : completedFuture(succeeded(firstRequest));
+    return timings.time("find check in service point",
+      () -> servicePointRepository.getServicePointById(checkInRequest.getServicePointId()));
   }
 
-  CompletableFuture<Result<Request>> getRequester(CheckInContext context) {
+  CompletableFuture<Result<Request>> getHighestPriorityFulfillableRequestDetails(
+    CheckInContext context) {
+
     Request firstRequest = context.getHighestPriorityFulfillableRequest();
     if (firstRequest == null) {
       return completedFuture(succeeded(null));
     }
-    return userRepository.getUser(firstRequest)
-      .thenApply(r -> r.map(firstRequest::withRequester));
+
+    final CompletableFuture<Result<ServicePoint>> pickupServicePoint
+      = getPickupServicePoint(firstRequest);
+    final CompletableFuture<Result<User>> requester = timings.time("find requester",
+      () -> userRepository.getUser(firstRequest));
+    final CompletableFuture<Result<AddressType>> addressType = timings.time(
+      "find address type", () -> addressTypeRepository.getAddressTypeById(
+        firstRequest.getDeliveryAddressTypeId()));
+
+    return pickupServicePoint
+      .thenApply(r -> r.map(firstRequest::withPickupServicePoint))
+      .thenCompose(r -> r.combineAfter(() -> requester, Request::withRequester))
+      .thenCompose(r -> r.combineAfter(() -> addressType, Request::withAddressType));
   }
 
-  CompletableFuture<Result<Request>> getAddressType(CheckInContext context) {
-    Request firstRequest = context.getHighestPriorityFulfillableRequest();
-    if (firstRequest == null) {
-      return completedFuture(succeeded(null));
-    }
-    return addressTypeRepository.getAddressTypeById(firstRequest.getDeliveryAddressTypeId())
-      .thenApply(r -> r.map(firstRequest::withAddressType));
+  private CompletableFuture<Result<ServicePoint>> getPickupServicePoint(Request request) {
+    return StringUtils.isNotBlank(request.getPickupServicePointId())
+      ? timings.time("find pickup service point", () -> servicePointRepository
+        .getServicePointById(UUID.fromString(request.getPickupServicePointId())))
+      : completedFuture(succeeded(request.getPickupServicePoint()));
   }
 
   Result<CheckInContext> sendItemStatusPatronNotice(CheckInContext context) {
@@ -262,17 +336,35 @@ class CheckInProcessAdapter {
   public CompletableFuture<Result<CheckInContext>> logCheckInOperation(
     CheckInContext checkInContext) {
 
-    return logCheckInService.logCheckInOperation(checkInContext);
+    return timings.time("log check in",
+      () -> logCheckInService.logCheckInOperation(checkInContext));
   }
 
   CompletableFuture<Result<CheckInContext>> createOverdueFineIfNecessary(
     CheckInContext records, WebContext context) {
 
-    return overdueFineCalculatorService.createOverdueFineIfNecessary(records, context.getUserId())
+    return timings.time("create overdue fine", () -> overdueFineCalculatorService
+        .createOverdueFineIfNecessary(records, context.getUserId()))
       .thenApply(r -> r.next(action -> feeFineScheduledNoticeService.scheduleOverdueFineNotices(records, action)));
   }
 
   CompletableFuture<Result<CheckInContext>> refundLostItemFees(CheckInContext context) {
-    return lostItemFeeRefundService.refundLostItemFees(context);
+    return timings.time("refund lost item fees",
+      () -> lostItemFeeRefundService.refundLostItemFees(context));
+  }
+
+  void logStageTimings(CacheStatistics reusedResponses) {
+    logStageTimings();
+    logReusedResponses(reusedResponses);
+  }
+
+  void logStageTimings() {
+    timings.log();
+  }
+
+  static void logReusedResponses(CacheStatistics reusedResponses) {
+    if (log.isDebugEnabled()) {
+      log.debug("Check in reused storage responses ({})", reusedResponses);
+    }
   }
 }
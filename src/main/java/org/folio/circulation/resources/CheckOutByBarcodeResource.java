@@ -11,14 +11,18 @@ import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.circulation.domain.AutomatedPatronBlocks;
+import org.folio.circulation.domain.Item;
 import org.folio.circulation.domain.LoanAndRelatedRecords;
 import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.domain.LoanService;
 import org.folio.circulation.domain.UpdateRequestQueue;
+import org.folio.circulation.domain.User;
 import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeService;
 import org.folio.circulation.domain.notice.session.PatronActionSessionService;
 import org.folio.circulation.domain.representations.CheckOutByBarcodeRequest;
 import org.folio.circulation.domain.validation.CheckOutValidators;
+import org.folio.circulation.infrastructure.storage.AutomatedPatronBlocksRepository;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
@@ -38,18 +42,19 @@ import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.HttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTimeZone;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class CheckOutByBarcodeResource extends Resource {
 
   private final String rootPath;
   private final CheckOutStrategy checkOutStrategy;
 
-  public CheckOutByBarcodeResource(String rootPath, HttpClient client, CheckOutStrategy checkOutStrategy) {
+  public CheckOutByBarcodeResource(String rootPath, WebClient client, CheckOutStrategy checkOutStrategy) {
     super(client);
     this.rootPath = rootPath;
     this.checkOutStrategy = checkOutStrategy;
@@ -82,6 +87,8 @@ public class CheckOutByBarcodeResource extends Resource {
     final PatronNoticePolicyRepository patronNoticePolicyRepository = new PatronNoticePolicyRepository(clients);
     final PatronGroupRepository patronGroupRepository = new PatronGroupRepository(clients);
     final ConfigurationRepository configurationRepository = new ConfigurationRepository(clients);
+    final AutomatedPatronBlocksRepository automatedPatronBlocksRepository =
+      new AutomatedPatronBlocksRepository(clients);
     final ScheduledNoticesRepository scheduledNoticesRepository = ScheduledNoticesRepository.using(clients);
     final LoanScheduledNoticeService scheduledNoticeService =
       new LoanScheduledNoticeService(scheduledNoticesRepository, patronNoticePolicyRepository);
@@ -98,40 +105,54 @@ public class CheckOutByBarcodeResource extends Resource {
     final PatronActionSessionService patronActionSessionService =
       PatronActionSessionService.using(clients);
 
+    // These lookups do not depend upon each other, so they are all started
+    // straight away. The results are still validated one after another below,
+    // so that the order and deferral of validation errors does not change
+    final CompletableFuture<Result<User>> user = userRepository
+      .getUserByBarcode(request.getUserBarcode());
+    final CompletableFuture<Result<AutomatedPatronBlocks>> automatedPatronBlocks = user
+      .thenCompose(r -> r.after(u -> automatedPatronBlocksRepository.findByUserId(u.getId())));
+    final CompletableFuture<Result<User>> proxyUser = userRepository
+      .getProxyUserByBarcode(request.getProxyUserBarcode());
+    final CompletableFuture<Result<Item>> item = itemRepository
+      .fetchByBarcode(request.getItemBarcode());
+    final CompletableFuture<Result<DateTimeZone>> timeZone = configurationRepository
+      .findTimeZoneConfiguration();
+
     ofAsync(() -> new LoanAndRelatedRecords(request.toLoan()))
       .thenApply(validators::refuseCheckOutWhenServicePointIsNotPresent)
-      .thenComposeAsync(r -> lookupUser(request.getUserBarcode(), userRepository, r, errorHandler))
-      .thenComposeAsync(validators::refuseWhenCheckOutActionIsBlockedForPatron)
-      .thenComposeAsync(r -> lookupProxyUser(request.getProxyUserBarcode(), userRepository, r, errorHandler))
+      .thenCompose(r -> lookupUser(user, r, errorHandler))
+      .thenCompose(r -> validators.refuseWhenCheckOutActionIsBlockedForPatron(r,
+        automatedPatronBlocks))
+      .thenCompose(r -> lookupProxyUser(proxyUser, r, errorHandler))
       .thenApply(validators::refuseWhenUserIsInactive)
       .thenApply(validators::refuseWhenProxyUserIsInactive)
-      .thenComposeAsync(validators::refuseWhenInvalidProxyRelationship)
-      .thenComposeAsync(r -> lookupItem(request.getItemBarcode(), itemRepository, r))
+      .thenCompose(validators::refuseWhenInvalidProxyRelationship)
+      .thenCompose(r -> lookupItem(item, r))
       .thenApply(validators::refuseWhenItemNotFound)
       .thenApply(validators::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(validators::refuseWhenItemIsNotAllowedForCheckOut)
-      .thenComposeAsync(validators::refuseWhenItemHasOpenLoans)
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenCompose(validators::refuseWhenItemHasOpenLoans)
+      .thenCompose(r -> r.after(requestQueueRepository::get))
       .thenApply(validators::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(l -> lookupLoanPolicy(l, loanPolicyRepository, errorHandler)))
-      .thenComposeAsync(validators::refuseWhenItemLimitIsReached)
+      .thenCompose(r -> r.after(l -> lookupLoanPolicy(l, loanPolicyRepository, errorHandler)))
+      .thenCompose(validators::refuseWhenItemLimitIsReached)
       .thenApply(r -> validators.refuseWhenItemIsNotLoanable(r, checkOutStrategy))
       .thenApply(r -> r.next(errorHandler::failWithValidationErrors))
-      .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
-        LoanAndRelatedRecords::withTimeZone))
-      .thenComposeAsync(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy))
+      .thenCompose(r -> r.combineAfter(() -> timeZone, LoanAndRelatedRecords::withTimeZone))
+      .thenCompose(r -> r.after(overdueFinePolicyRepository::lookupOverdueFinePolicy))
+      .thenCompose(r -> r.after(lostItemPolicyRepository::lookupLostItemPolicy))
       .thenApply(r -> r.next(this::setItemLocationIdAtCheckout))
-      .thenComposeAsync(r -> r.after(relatedRecords -> checkOutStrategy.checkOut(relatedRecords,
+      .thenCompose(r -> r.after(relatedRecords -> checkOutStrategy.checkOut(relatedRecords,
         routingContext.getBodyAsJson(), clients)))
       .thenApply(r -> r.map(this::checkOutItem))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords))
-      .thenComposeAsync(r -> r.after(l -> updateItem(l, itemRepository)))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
-      .thenComposeAsync(r -> r.after(patronActionSessionService::saveCheckOutSessionRecord))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishItemCheckedOutEvent))
+      .thenCompose(r -> r.after(requestQueueUpdate::onCheckOut))
+      .thenCompose(r -> r.after(loanService::truncateLoanWhenItemRecalled))
+      .thenCompose(r -> r.after(patronGroupRepository::findPatronGroupForLoanAndRelatedRecords))
+      .thenCompose(r -> r.after(l -> updateItem(l, itemRepository)))
+      .thenCompose(r -> r.after(loanRepository::createLoan))
+      .thenCompose(r -> r.after(patronActionSessionService::saveCheckOutSessionRecord))
+      .thenCompose(r -> r.after(eventPublisher::publishItemCheckedOutEvent))
       .thenApply(r -> r.next(scheduledNoticeService::scheduleNoticesForLoanDueDate))
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
@@ -169,28 +190,28 @@ public class CheckOutByBarcodeResource extends Resource {
     return String.format("/circulation/loans/%s", id);
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupUser(
+    CompletableFuture<Result<User>> user, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    return userRepository.getUserByBarcode(barcode)
+    return user
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withRequestingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_USER, loanResult));
   }
 
-  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(String barcode,
-    UserRepository userRepository, Result<LoanAndRelatedRecords> loanResult,
+  private CompletableFuture<Result<LoanAndRelatedRecords>> lookupProxyUser(
+    CompletableFuture<Result<User>> proxyUser, Result<LoanAndRelatedRecords> loanResult,
     CirculationErrorHandler errorHandler) {
 
-    return userRepository.getProxyUserByBarcode(barcode)
+    return proxyUser
       .thenApply(userResult -> loanResult.combine(userResult, LoanAndRelatedRecords::withProxyingUser))
       .thenApply(r -> errorHandler.handleValidationResult(r, FAILED_TO_FETCH_PROXY_USER, loanResult));
   }
 
   private CompletableFuture<Result<LoanAndRelatedRecords>> lookupItem(
-    String barcode, ItemRepository itemRepository, Result<LoanAndRelatedRecords> loanResult) {
+    CompletableFuture<Result<Item>> item, Result<LoanAndRelatedRecords> loanResult) {
 
-    return itemRepository.fetchByBarcode(barcode)
+    return item
       .thenApply(itemResult -> loanResult.combine(itemResult, LoanAndRelatedRecords::withItem));
   }
 
@@ -25,11 +25,14 @@ import org.apache.commons.collections4.MapUtils;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.rules.CirculationRulesException;
 import org.folio.circulation.rules.CirculationRulesParser;
+import org.folio.circulation.rules.ExecutableRules;
 import org.folio.circulation.rules.Text2Drools;
 import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ForwardOnFailure;
+import org.folio.circulation.support.cache.PolicyCache;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.http.server.ForwardResponse;
@@ -38,12 +41,12 @@ import org.folio.circulation.support.results.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 import io.vertx.ext.web.handler.BodyHandler;
 
 /**
@@ -61,7 +64,7 @@ public class CirculationRulesResource extends Resource {
    * @param rootPath  URL path
    * @param client HTTP client
    */
-  public CirculationRulesResource(String rootPath, HttpClient client) {
+  public CirculationRulesResource(String rootPath, WebClient client) {
     super(client);
     this.rootPath = rootPath;
   }
@@ -147,12 +150,21 @@ public class CirculationRulesResource extends Resource {
       return;
     }
 
+    final String rulesHash = ExecutableRules.contentHash(rulesInput.getString("rulesAsText"));
+    final EventPublisher eventPublisher = new EventPublisher(routingContext);
+
     clients.circulationRulesStorage().put(rulesInput.copy())
       .thenApply(this::failWhenResponseOtherThanNoContent)
-      .thenApply(result -> result.map(response -> noContent()))
+      .thenApply(result -> result.map(response -> {
+        CirculationRulesCache.getInstance().clearCache(webContext.getTenantId());
+        PolicyCache.invalidate(webContext.getTenantId());
+        // other module instances reload their rules when they receive the event,
+        // the response doesn't wait for the event to be published
+        eventPublisher.publishCirculationRulesChangedEvent(rulesHash);
+
+        return noContent();
+      }))
       .thenAccept(webContext::writeResultToHttpResponse);
-
-    CirculationRulesCache.getInstance().clearCache(webContext.getTenantId());
   }
 
   private Result<Response> failWhenResponseOtherThanNoContent(Result<Response> result) {
@@ -189,19 +201,19 @@ public class CirculationRulesResource extends Resource {
     Map<String, Set<String>> ids = new HashMap<>();
 
     return Result.ofAsync(() -> ids)
-      .thenCombineAsync(
+      .thenCombine(
         getPolicyIdsByType(loanPolicyClient, "loanPolicies", "l"),
         (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
-      .thenCombineAsync(
+      .thenCombine(
         getPolicyIdsByType(noticePolicyClient, "patronNoticePolicies", "n"),
         (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
-      .thenCombineAsync(
+      .thenCombine(
         getPolicyIdsByType(requestPolicyClient, "requestPolicies", "r"),
         (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
-      .thenCombineAsync(
+      .thenCombine(
         getPolicyIdsByType(overdueFinePolicyClient, "overdueFinePolicies", "o"),
         (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap))
-      .thenCombineAsync(
+      .thenCombine(
         getPolicyIdsByType(lostItemFeePolicyClient, "lostItemFeePolicies", "i"),
         (resultTotalIds, resultNewIds) -> resultTotalIds.combine(resultNewIds, this::getTotalMap));
   }
@@ -18,13 +18,13 @@ import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class ClaimItemReturnedResource extends Resource {
-  public ClaimItemReturnedResource(HttpClient client) {
+  public ClaimItemReturnedResource(WebClient client) {
     super(client);
   }
 
@@ -1,14 +1,14 @@
 package org.folio.circulation.resources;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 import org.folio.circulation.support.RouteRegistration;
 
 abstract class CollectionResource extends Resource {
   private final String rootPath;
 
-  CollectionResource(HttpClient client, String rootPath) {
+  CollectionResource(WebClient client, String rootPath) {
     super(client);
     this.rootPath = rootPath;
   }
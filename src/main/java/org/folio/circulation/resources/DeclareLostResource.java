@@ -27,13 +27,13 @@ import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class DeclareLostResource extends Resource {
 
-  public DeclareLostResource(HttpClient client) {
+  public DeclareLostResource(WebClient client) {
     super(client);
   }
 
@@ -50,7 +50,7 @@ public class DeclareLostResource extends Resource {
 
     validateDeclaredLostRequest(routingContext)
       .after(request -> declareItemLost(request, clients, context))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDeclaredLostEvent))
+      .thenCompose(r -> r.after(eventPublisher::publishDeclaredLostEvent))
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .thenAccept(context::writeResultToHttpResponse);
   }
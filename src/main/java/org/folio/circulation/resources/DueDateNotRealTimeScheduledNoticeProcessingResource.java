@@ -18,6 +18,7 @@ import org.folio.circulation.domain.notice.schedule.ScheduledNoticeGroupDefiniti
 import org.folio.circulation.domain.notice.schedule.TriggeringEvent;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.ClockManager;
 import org.folio.circulation.support.CqlSortBy;
@@ -27,7 +28,7 @@ import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 public class DueDateNotRealTimeScheduledNoticeProcessingResource extends ScheduledNoticeProcessingResource {
 
@@ -41,7 +42,7 @@ public class DueDateNotRealTimeScheduledNoticeProcessingResource extends Schedul
         .collect(Collectors.toList())
     );
 
-  public DueDateNotRealTimeScheduledNoticeProcessingResource(HttpClient client) {
+  public DueDateNotRealTimeScheduledNoticeProcessingResource(WebClient client) {
     super("/circulation/due-date-not-real-time-scheduled-notices-processing", client);
   }
 
@@ -73,10 +74,12 @@ public class DueDateNotRealTimeScheduledNoticeProcessingResource extends Schedul
 
   @Override
   protected CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> handleNotices(
-    Clients clients, MultipleRecords<ScheduledNotice> notices) {
+    Clients clients, MultipleRecords<ScheduledNotice> notices,
+    BoundedParallelExecutor executor) {
 
     final DueDateNotRealTimeScheduledNoticeHandler dueDateNoticeHandler =
-      DueDateNotRealTimeScheduledNoticeHandler.using(clients, DateTime.now(DateTimeZone.UTC));
+      DueDateNotRealTimeScheduledNoticeHandler.using(clients,
+        DateTime.now(DateTimeZone.UTC), executor);
 
     Map<ScheduledNoticeGroupDefinition, List<ScheduledNotice>> orderedGroups =
       notices.getRecords().stream().collect(Collectors.groupingBy(
@@ -11,13 +11,13 @@ import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class EndPatronActionSessionResource extends Resource {
 
-  public EndPatronActionSessionResource(HttpClient client) {
+  public EndPatronActionSessionResource(WebClient client) {
     super(client);
   }
 
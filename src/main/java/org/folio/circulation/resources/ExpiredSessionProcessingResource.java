@@ -22,13 +22,13 @@ import org.folio.circulation.support.results.CommonFailures;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class ExpiredSessionProcessingResource extends Resource {
 
-  public ExpiredSessionProcessingResource(HttpClient client) {
+  public ExpiredSessionProcessingResource(WebClient client) {
     super(client);
   }
 
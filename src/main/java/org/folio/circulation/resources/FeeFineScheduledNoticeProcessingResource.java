@@ -15,13 +15,14 @@ import org.folio.circulation.domain.notice.schedule.ScheduledNotice;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
 import org.folio.circulation.domain.notice.schedule.TriggeringEvent;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.ClockManager;
 import org.folio.circulation.support.CqlSortBy;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.http.client.PageLimit;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 public class FeeFineScheduledNoticeProcessingResource extends ScheduledNoticeProcessingResource {
   private static final List<TriggeringEvent> TRIGGERING_EVENTS_TO_PROCESS = List.of(
@@ -31,7 +32,7 @@ public class FeeFineScheduledNoticeProcessingResource extends ScheduledNoticePro
     AGED_TO_LOST_RETURNED
   );
 
-  public FeeFineScheduledNoticeProcessingResource(HttpClient client) {
+  public FeeFineScheduledNoticeProcessingResource(WebClient client) {
     super("/circulation/fee-fine-scheduled-notices-processing", client);
   }
 
@@ -47,9 +48,10 @@ public class FeeFineScheduledNoticeProcessingResource extends ScheduledNoticePro
 
   @Override
   protected CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> handleNotices(
-    Clients clients, MultipleRecords<ScheduledNotice> scheduledNotices) {
+    Clients clients, MultipleRecords<ScheduledNotice> scheduledNotices,
+    BoundedParallelExecutor executor) {
 
-    return FeeFineScheduledNoticeHandler.using(clients)
+    return FeeFineScheduledNoticeHandler.using(clients, executor)
       .handleNotices(scheduledNotices.getRecords())
       .thenApply(mapResult(v -> scheduledNotices));
   }
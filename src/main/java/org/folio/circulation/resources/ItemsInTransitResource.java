@@ -3,7 +3,6 @@ package org.folio.circulation.resources;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.domain.ItemStatus.IN_TRANSIT;
 import static org.folio.circulation.domain.RequestStatus.openStates;
-import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.succeeded;
@@ -11,18 +10,22 @@ import static org.folio.circulation.support.fetching.RecordFetching.findWithMult
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collector;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.folio.circulation.domain.InTransitReportEntry;
 import org.folio.circulation.domain.Item;
-import org.folio.circulation.domain.ItemsReportFetcher;
 import org.folio.circulation.domain.Loan;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.Request;
@@ -39,22 +42,22 @@ import org.folio.circulation.support.GetManyRecordsClient;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.HttpResponse;
+import org.folio.circulation.support.http.server.JsonArrayHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 
 public class ItemsInTransitResource extends Resource {
 
   private static final String ITEM_ID = "itemId";
+  private static final String ITEMS_KEY = "items";
   private final String rootPath;
 
-  public ItemsInTransitResource(String rootPath, HttpClient client) {
+  public ItemsInTransitResource(String rootPath, WebClient client) {
     super(client);
     this.rootPath = rootPath;
   }
@@ -78,29 +81,37 @@ public class ItemsInTransitResource extends Resource {
     final PatronGroupRepository patronGroupRepository = new PatronGroupRepository(clients);
     final Comparator<InTransitReportEntry> sortByCheckinServicePointComparator = sortByCheckinServicePointComparator();
 
-    itemReportRepository.getAllItemsByField("status.name", IN_TRANSIT.getValue())
-      .thenComposeAsync(r -> r.after(itemsReportFetcher ->
-        fetchItemsRelatedRecords(itemsReportFetcher, itemRepository, servicePointRepository)))
-      .thenComposeAsync(r -> r.after(inTransitReportEntries ->
+    final Queue<InTransitReportEntry> entries = new ConcurrentLinkedQueue<>();
+
+    itemReportRepository.scanAllItemsByField("status.name", IN_TRANSIT.getValue(),
+      page -> fetchItemsRelatedRecords(page, itemRepository, servicePointRepository)
+        .thenApply(r -> r.map(pageEntries -> addEntries(entries, pageEntries))))
+      .thenApply(r -> r.map(notUsed -> new ArrayList<>(entries)))
+      .thenCompose(r -> r.after(inTransitReportEntries ->
         fetchLoans(loansStorageClient, servicePointRepository, inTransitReportEntries,
           sortByCheckinServicePointComparator)))
-      .thenComposeAsync(r -> findRequestsByItemsIds(requestsStorageClient, itemRepository,
+      .thenCompose(r -> findRequestsByItemsIds(requestsStorageClient, itemRepository,
         servicePointRepository, userRepository, patronGroupRepository, r.value()))
-      .thenApply(this::mapResultToJson)
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
+      .thenApply(r -> r.map(this::toItemsResponse))
       .thenAccept(context::writeResultToHttpResponse);
   }
 
   private CompletableFuture<Result<List<InTransitReportEntry>>> fetchItemsRelatedRecords(
-    ItemsReportFetcher itemsReportFetcher, ItemRepository itemRepository,
+    Collection<Item> items, ItemRepository itemRepository,
     ServicePointRepository servicePointRepository) {
 
-    List<Item> items = itemsReportFetcher.getResultListOfItems().stream()
-      .flatMap(resultListOfItem -> resultListOfItem.value().getRecords().stream())
-      .collect(Collectors.toList());
+    return itemRepository.fetchItemsRelatedRecords(items)
+      .thenCompose(r -> r.after(itemsWithRelatedRecords ->
+        fetchServicePoints(itemsWithRelatedRecords, servicePointRepository)))
+      .thenApply(r -> r.next(this::mapToInTransitReportEntries));
+  }
+
+  private Void addEntries(Queue<InTransitReportEntry> entries,
+    List<InTransitReportEntry> pageEntries) {
 
-    return allOf(items, item -> fetchRelatedRecords(itemRepository, servicePointRepository, item))
-    .thenApply(resultItem -> mapToInTransitReportEntries(resultItem.value()));
+    entries.addAll(pageEntries);
+
+    return null;
   }
 
   private Result<List<InTransitReportEntry>> mapToInTransitReportEntries(List<Item> items) {
@@ -111,19 +122,32 @@ public class ItemsInTransitResource extends Resource {
     return Result.succeeded(inTransitReportEntries);
   }
 
-  private CompletableFuture<Result<Item>> fetchRelatedRecords(ItemRepository itemRepository,
-                                                              ServicePointRepository servicePointRepository,
-                                                              Item item) {
-    return CompletableFuture.completedFuture(Result.succeeded(item))
-      .thenComposeAsync(itemRepository::fetchItemRelatedRecords)
-      .thenComposeAsync(result -> result
-        .combineAfter(currentItem -> servicePointRepository
-          .getServicePointById(currentItem.getInTransitDestinationServicePointId()),
-          Item::updateDestinationServicePoint))
-      .thenComposeAsync(result -> result
-        .combineAfter(currentItem -> servicePointRepository
-          .getServicePointById(currentItem.getLastCheckInServicePointId()),
-          Item::updateLastCheckInServicePoint));
+  private CompletableFuture<Result<List<Item>>> fetchServicePoints(
+    Collection<Item> items, ServicePointRepository servicePointRepository) {
+
+    final List<String> servicePointIds = items.stream()
+      .flatMap(item -> Stream.of(item.getInTransitDestinationServicePointId(),
+        getLastCheckInServicePointId(item)))
+      .collect(Collectors.toList());
+
+    return servicePointRepository.findServicePointsByIds(servicePointIds)
+      .thenApply(r -> r.map(servicePoints -> items.stream()
+        .map(item -> withServicePoints(item, servicePoints))
+        .collect(Collectors.toList())));
+  }
+
+  private Item withServicePoints(Item item, Map<String, ServicePoint> servicePoints) {
+    return item
+      .updateDestinationServicePoint(servicePoints.get(
+        item.getInTransitDestinationServicePointId()))
+      .updateLastCheckInServicePoint(servicePoints.get(
+        getLastCheckInServicePointId(item)));
+  }
+
+  private static String getLastCheckInServicePointId(Item item) {
+    return Optional.ofNullable(item.getLastCheckInServicePointId())
+      .map(UUID::toString)
+      .orElse(null);
   }
 
   private CompletableFuture<Result<List<InTransitReportEntry>>> findRequestsByItemsIds(
@@ -142,15 +166,15 @@ public class ItemsInTransitResource extends Resource {
       .map(q -> q.sortBy(ascending("position")));
 
     return fetcher.findByIdIndexAndQuery(mapToItemIdList(inTransitReportEntryList), ITEM_ID, cqlQueryResult)
-      .thenComposeAsync(requests ->
+      .thenCompose(requests ->
         itemRepository.fetchItemsFor(requests, Request::withItem))
-      .thenComposeAsync(result -> result.after(servicePointRepository::findServicePointsForRequests))
-      .thenComposeAsync(result -> result.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
-      .thenComposeAsync(r -> r.after(multipleRecords -> completedFuture(succeeded(
+      .thenCompose(result -> result.after(servicePointRepository::findServicePointsForRequests))
+      .thenCompose(result -> result.after(userRepository::findUsersForRequests))
+      .thenCompose(result -> result.after(patronGroupRepository::findPatronGroupsForRequestsUsers))
+      .thenCompose(r -> r.after(multipleRecords -> completedFuture(succeeded(
         multipleRecords.getRecords().stream().collect(
           Collectors.groupingBy(Request::getItemId))))))
-      .thenComposeAsync(r -> mapRequestToInTransitReportEntry(inTransitReportEntryList, r.value()));
+      .thenCompose(r -> mapRequestToInTransitReportEntry(inTransitReportEntryList, r.value()));
   }
 
   private CompletableFuture<Result<List<InTransitReportEntry>>> fetchLoans(
@@ -229,23 +253,29 @@ public class ItemsInTransitResource extends Resource {
     return CompletableFuture.completedFuture(Result.succeeded(inTransitReportEntryList));
   }
 
-  private Result<JsonObject> mapResultToJson
-    (Result<List<InTransitReportEntry>> inTransitReportEntry) {
+  private HttpResponse toItemsResponse(List<InTransitReportEntry> inTransitReportEntries) {
+    final ItemReportRepresentation itemReportRepresentation = new ItemReportRepresentation();
 
-    return inTransitReportEntry.map(resultList -> resultList
-      .stream().map(itemAndRelatedRecord -> new ItemReportRepresentation()
-        .createItemReport(itemAndRelatedRecord))
-      .collect(Collector.of(JsonArray::new, JsonArray::add, JsonArray::add)))
-      .next(jsonArray -> Result.succeeded(new JsonObject()
-        .put("items", jsonArray)
-        .put("totalRecords", jsonArray.size())));
+    return JsonArrayHttpResponse.ok(ITEMS_KEY, inTransitReportEntries,
+      itemReportRepresentation::createItemReport);
   }
 
+  /**
+   * Entries are gathered from pages fetched at the same time, so the item id
+   * keeps the order stable for entries with the same check in service point
+   */
   private Comparator<InTransitReportEntry> sortByCheckinServicePointComparator() {
-    return Comparator.comparing(inTransitReportEntry-> Optional.ofNullable(inTransitReportEntry
-      .getLoan()).map(loan -> Optional.ofNullable(loan.getCheckinServicePoint())
-      .map(ServicePoint::getName).orElse(null))
-      .orElse(null), Comparator.nullsLast(String::compareTo));
+    return Comparator.comparing(this::getCheckinServicePointName,
+        Comparator.nullsLast(String::compareTo))
+      .thenComparing(inTransitReportEntry -> inTransitReportEntry.getItem().getItemId(),
+        Comparator.nullsLast(String::compareTo));
+  }
+
+  private String getCheckinServicePointName(InTransitReportEntry inTransitReportEntry) {
+    return Optional.ofNullable(inTransitReportEntry.getLoan())
+      .map(Loan::getCheckinServicePoint)
+      .map(ServicePoint::getName)
+      .orElse(null);
   }
 
 }
@@ -9,13 +9,13 @@ import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class LoanAnonymizationResource extends Resource {
 
-  public LoanAnonymizationResource(HttpClient client) {
+  public LoanAnonymizationResource(WebClient client) {
     super(client);
   }
 
@@ -45,12 +45,12 @@ import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class LoanCollectionResource extends CollectionResource {
-  public LoanCollectionResource(HttpClient client) {
+  public LoanCollectionResource(WebClient client) {
     super(client, "/circulation/loans");
   }
 
@@ -103,21 +103,21 @@ public class LoanCollectionResource extends CollectionResource {
       .thenApply(this::refuseWhenNotOpenOrClosed)
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombine(itemRepository.fetchFor(loan), this::addItem)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenApply(this::refuseWhenHoldingDoesNotExist)
       .thenApply(alreadyCheckedOutValidator::refuseWhenItemIsAlreadyCheckedOut)
       .thenApply(itemStatusValidator::refuseWhenItemIsMissing)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
-      .thenCombineAsync(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser)
+      .thenCompose(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
+      .thenCombine(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
+      .thenCombine(userRepository.getUserFailOnNotFound(loan.getUserId()), this::addUser)
       .thenApply(requestedByAnotherPatronValidator::refuseWhenRequestedByAnotherPatron)
-      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
-      .thenComposeAsync(r -> r.after(requestQueueUpdate::onCheckOut))
-      .thenComposeAsync(r -> r.after(updateItem::onLoanCreated))
-      .thenComposeAsync(r -> r.after(loanService::truncateLoanWhenItemRecalled))
-      .thenComposeAsync(r -> r.after(loanRepository::createLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenCompose(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
+      .thenCompose(r -> r.after(requestQueueUpdate::onCheckOut))
+      .thenCompose(r -> r.after(updateItem::onLoanCreated))
+      .thenCompose(r -> r.after(loanService::truncateLoanWhenItemRecalled))
+      .thenCompose(r -> r.after(loanRepository::createLoan))
+      .thenCompose(r -> r.after(eventPublisher::publishDueDateChangedEvent))
       .thenApply(r -> r.map(LoanAndRelatedRecords::getLoan))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::created))
@@ -170,19 +170,19 @@ public class LoanCollectionResource extends CollectionResource {
       .thenApply(this::refuseWhenOpenAndNoUserId)
       .thenApply(spLoanLocationValidator::checkServicePointLoanLocation)
       .thenApply(this::refuseWhenClosedAndNoCheckInServicePointId)
-      .thenCombineAsync(itemRepository.fetchFor(loan), this::addItem)
+      .thenCombine(itemRepository.fetchFor(loan), this::addItem)
       .thenApply(itemNotFoundValidator::refuseWhenItemNotFound)
       .thenCompose(changeDueDateValidator::refuseChangeDueDateForItemInDisallowedStatus)
-      .thenCombineAsync(userRepository.getUser(loan.getUserId()), this::addUser)
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
-      .thenCombineAsync(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
-      .thenComposeAsync(result -> result.after(requestQueueUpdate::onCheckIn))
-      .thenComposeAsync(result -> result.after(updateItem::onLoanUpdate))
+      .thenCombine(userRepository.getUser(loan.getUserId()), this::addUser)
+      .thenCompose(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid))
+      .thenCombine(requestQueueRepository.get(loan.getItemId()), this::addRequestQueue)
+      .thenCompose(result -> result.after(requestQueueUpdate::onCheckIn))
+      .thenCompose(result -> result.after(updateItem::onLoanUpdate))
       // Loan must be updated after item
       // due to snapshot of item status stored with the loan
       // as this is how the loan action history is populated
-      .thenComposeAsync(result -> result.after(loanRepository::updateLoan))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenCompose(result -> result.after(loanRepository::updateLoan))
+      .thenCompose(r -> r.after(eventPublisher::publishDueDateChangedEvent))
       .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
       .thenCompose(r -> r.after(loanNoticeSender::sendManualDueDateChangeNotice))
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
@@ -207,13 +207,13 @@ public class LoanCollectionResource extends CollectionResource {
     String id = routingContext.request().getParam("id");
 
     loanRepository.getById(id)
-      .thenComposeAsync(accountRepository::findAccountsAndActionsForLoan)
-      .thenComposeAsync(servicePointRepository::findServicePointsForLoan)
-      .thenComposeAsync(userRepository::findUserForLoan)
-      .thenComposeAsync(loanPolicyRepository::findPolicyForLoan)
-      .thenComposeAsync(overdueFinePolicyRepository::findOverdueFinePolicyForLoan)
-      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan)
-      .thenComposeAsync(patronGroupRepository::findGroupForLoan)
+      .thenCompose(accountRepository::findAccountsAndActionsForLoan)
+      .thenCompose(servicePointRepository::findServicePointsForLoan)
+      .thenCompose(userRepository::findUserForLoan)
+      .thenCompose(loanPolicyRepository::findPolicyForLoan)
+      .thenCompose(overdueFinePolicyRepository::findOverdueFinePolicyForLoan)
+      .thenCompose(lostItemPolicyRepository::findLostItemPolicyForLoan)
+      .thenCompose(patronGroupRepository::findGroupForLoan)
       .thenApply(loanResult -> loanResult.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(JsonHttpResponse::ok))
       .thenAccept(context::writeResultToHttpResponse);
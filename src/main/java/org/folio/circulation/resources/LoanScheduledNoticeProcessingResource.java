@@ -12,6 +12,7 @@ import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeHandler;
 import org.folio.circulation.domain.notice.schedule.ScheduledNotice;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CqlSortBy;
 import org.folio.circulation.support.http.client.PageLimit;
@@ -19,11 +20,11 @@ import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 public class LoanScheduledNoticeProcessingResource extends ScheduledNoticeProcessingResource {
 
-  public LoanScheduledNoticeProcessingResource(HttpClient client) {
+  public LoanScheduledNoticeProcessingResource(WebClient client) {
     super("/circulation/loan-scheduled-notices-processing", client);
   }
 
@@ -40,10 +41,11 @@ public class LoanScheduledNoticeProcessingResource extends ScheduledNoticeProces
 
   @Override
   protected CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> handleNotices(
-    Clients clients, MultipleRecords<ScheduledNotice> noticesResult) {
+    Clients clients, MultipleRecords<ScheduledNotice> noticesResult,
+    BoundedParallelExecutor executor) {
 
     final LoanScheduledNoticeHandler loanNoticeHandler =
-      LoanScheduledNoticeHandler.using(clients, DateTime.now(DateTimeZone.UTC));
+      LoanScheduledNoticeHandler.using(clients, DateTime.now(DateTimeZone.UTC), executor);
 
     return loanNoticeHandler.handleNotices(noticesResult.getRecords())
       .thenApply(mapResult(v -> noticesResult));
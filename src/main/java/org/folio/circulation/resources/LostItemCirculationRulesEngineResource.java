@@ -2,11 +2,11 @@ package org.folio.circulation.resources;
 
 import org.folio.circulation.rules.CirculationRulesProcessor;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 public class LostItemCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public LostItemCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
+  public LostItemCirculationRulesEngineResource(String applyPath, String applyAllPath, WebClient client) {
     super(applyPath, applyAllPath, client,
       CirculationRulesProcessor::getLostItemPolicyAndMatch,
       CirculationRulesProcessor::getLostItemPolicies);
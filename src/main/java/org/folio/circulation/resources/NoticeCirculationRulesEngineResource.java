@@ -2,7 +2,7 @@ package org.folio.circulation.resources;
 
 import org.folio.circulation.rules.CirculationRulesProcessor;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 /**
  * The circulation rules engine calculates the loan policy based on
@@ -10,7 +10,7 @@ import io.vertx.core.http.HttpClient;
  */
 public class NoticeCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public NoticeCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
+  public NoticeCirculationRulesEngineResource(String applyPath, String applyAllPath, WebClient client) {
     super(applyPath, applyAllPath, client,
       CirculationRulesProcessor::getNoticePolicyAndMatch,
       CirculationRulesProcessor::getNoticePolicies);
@@ -2,12 +2,12 @@ package org.folio.circulation.resources;
 
 import org.folio.circulation.rules.CirculationRulesProcessor;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 
 public class OverdueFineCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public OverdueFineCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
+  public OverdueFineCirculationRulesEngineResource(String applyPath, String applyAllPath, WebClient client) {
     super(applyPath, applyAllPath, client,
       CirculationRulesProcessor::getOverduePolicyAndMatch,
       CirculationRulesProcessor::getOverduePolicies);
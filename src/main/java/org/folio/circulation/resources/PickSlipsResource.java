@@ -3,14 +3,18 @@ package org.folio.circulation.resources;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.folio.circulation.support.results.ResultBinding.flatMapResult;
 import static org.folio.circulation.support.fetching.MultipleCqlIndexValuesCriteria.byIndex;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithCqlQuery;
 import static org.folio.circulation.support.fetching.RecordFetching.findWithMultipleCqlIndexValues;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 
 import java.util.Collection;
 import java.util.List;
@@ -18,7 +22,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.infrastructure.storage.users.AddressTypeRepository;
@@ -34,18 +38,18 @@ import org.folio.circulation.infrastructure.storage.ServicePointRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
 import org.folio.circulation.domain.notice.TemplateContextUtil;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.infrastructure.storage.inventory.ItemReportRepository;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.JsonArrayResponseWriter;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class PickSlipsResource extends Resource {
   private static final String STATUS_KEY = "status";
@@ -55,16 +59,16 @@ public class PickSlipsResource extends Resource {
   private static final String PICK_SLIPS_KEY = "pickSlips";
   private static final String STATUS_NAME_KEY = "status.name";
   private static final String REQUEST_TYPE_KEY = "requestType";
-  private static final String TOTAL_RECORDS_KEY = "totalRecords";
   private static final String SERVICE_POINT_ID_PARAM = "servicePointId";
   private static final String EFFECTIVE_LOCATION_ID_KEY = "effectiveLocationId";
   private static final String PRIMARY_SERVICE_POINT_KEY = "primaryServicePoint";
 
   private static final PageLimit LOCATIONS_LIMIT = PageLimit.oneThousand();
+  private static final int LOCATION_IDS_PER_QUERY = 50;
 
   private final String rootPath;
 
-  public PickSlipsResource(String rootPath, HttpClient client) {
+  public PickSlipsResource(String rootPath, WebClient client) {
     super(client);
     this.rootPath = rootPath;
   }
@@ -86,15 +90,38 @@ public class PickSlipsResource extends Resource {
     final UUID servicePointId = UUID.fromString(
       routingContext.request().getParam(SERVICE_POINT_ID_PARAM));
 
+    final JsonArrayResponseWriter<Request> writer = new JsonArrayResponseWriter<>(
+      routingContext.response(), PICK_SLIPS_KEY,
+      TemplateContextUtil::createStaffSlipContext);
+
     fetchLocationsForServicePoint(servicePointId, clients)
-      .thenComposeAsync(r -> r.after(locations -> fetchPagedItemsForLocations(locations, clients)))
-      .thenComposeAsync(r -> r.after(items -> fetchOpenPageRequestsForItems(items, clients)))
-      .thenComposeAsync(r -> r.after(userRepository::findUsersForRequests))
-      .thenComposeAsync(r -> r.after(addressTypeRepository::findAddressTypesForRequests))
-      .thenComposeAsync(r -> r.after(servicePointRepository::findServicePointsForRequests))
-      .thenApply(flatMapResult(this::mapResultToJson))
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
-      .thenAccept(context::writeResultToHttpResponse);
+      .thenCompose(r -> r.after(locations -> scanPagedItemsForLocations(
+        locations, clients, items -> fetchPickSlipsForItems(items, locations,
+          clients, userRepository, addressTypeRepository, servicePointRepository)
+          .thenCompose(pickSlips -> pickSlips.after(
+            requests -> writer.write(requests.getRecords()))))))
+      .thenAccept(writer::end);
+  }
+
+  /**
+   * Each item is only in one page, so the pick slips can be made for the items
+   * of each page on their own
+   */
+  private CompletableFuture<Result<MultipleRecords<Request>>> fetchPickSlipsForItems(
+    Collection<Item> items, MultipleRecords<Location> locations, Clients clients,
+    UserRepository userRepository, AddressTypeRepository addressTypeRepository,
+    ServicePointRepository servicePointRepository) {
+
+    final ItemRepository itemRepository = new ItemRepository(clients, false, true, true);
+
+    return itemRepository.fetchItemsRelatedRecords(items)
+      .thenCompose(r -> r.after(itemsWithRelatedRecords -> fetchLocationDetailsForItems(
+        itemsWithRelatedRecords, locations.getRecords(), clients)))
+      .thenCompose(r -> r.after(itemsWithLocations ->
+        fetchOpenPageRequestsForItems(itemsWithLocations, clients)))
+      .thenCompose(r -> r.after(userRepository::findUsersForRequests))
+      .thenCompose(r -> r.after(addressTypeRepository::findAddressTypesForRequests))
+      .thenCompose(r -> r.after(servicePointRepository::findServicePointsForRequests));
   }
 
   private CompletableFuture<Result<MultipleRecords<Location>>> fetchLocationsForServicePoint(
@@ -104,25 +131,32 @@ public class PickSlipsResource extends Resource {
       .findByQuery(exactMatch(PRIMARY_SERVICE_POINT_KEY, servicePointId.toString()), LOCATIONS_LIMIT);
   }
 
-  private CompletableFuture<Result<Collection<Item>>> fetchPagedItemsForLocations(
-    MultipleRecords<Location> multipleLocations, Clients clients) {
-
-    Collection<Location> locations = multipleLocations.getRecords();
+  /**
+   * Passes each page of the paged items in the locations to
+   * {@code pageConsumer}, the locations are scanned a batch at a time
+   */
+  private CompletableFuture<Result<Void>> scanPagedItemsForLocations(
+    MultipleRecords<Location> multipleLocations, Clients clients,
+    Function<Collection<Item>, CompletableFuture<Result<Void>>> pageConsumer) {
 
-    Set<String> locationIds = locations.stream()
+    List<String> locationIds = multipleLocations.getRecords().stream()
       .map(Location::getId)
       .filter(StringUtils::isNoneBlank)
-      .collect(toSet());
+      .distinct()
+      .collect(toList());
 
     if (locationIds.isEmpty()) {
-      return completedFuture(succeeded(emptyList()));
+      return completedFuture(succeeded(null));
     }
 
-    final ItemRepository itemRepository = new ItemRepository(clients, false, true, true);
-    Result<CqlQuery> statusQuery = exactMatch(STATUS_NAME_KEY, ItemStatus.PAGED.getValue());
+    final ItemReportRepository itemReportRepository = new ItemReportRepository(clients);
+    final Result<CqlQuery> statusQuery = exactMatch(STATUS_NAME_KEY, ItemStatus.PAGED.getValue());
 
-    return itemRepository.findByIndexNameAndQuery(locationIds, EFFECTIVE_LOCATION_ID_KEY, statusQuery)
-      .thenComposeAsync(r -> r.after(items -> fetchLocationDetailsForItems(items, locations, clients)));
+    return allOf(partition(locationIds, LOCATION_IDS_PER_QUERY), 1,
+      batch -> itemReportRepository.scanAllItemsByQuery(
+        statusQuery.combine(exactMatchAny(EFFECTIVE_LOCATION_ID_KEY, batch), CqlQuery::and),
+        pageConsumer))
+      .thenApply(r -> r.map(notUsed -> null));
   }
 
   private CompletableFuture<Result<Collection<Item>>> fetchLocationDetailsForItems(
@@ -144,9 +178,9 @@ public class PickSlipsResource extends Resource {
     final LocationRepository locationRepository = LocationRepository.using(clients);
 
     return completedFuture(succeeded(locationsForItems))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchLibraries))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchInstitutions))
-      .thenComposeAsync(r -> r.after(locationRepository::fetchCampuses))
+      .thenCompose(r -> r.after(locationRepository::fetchLibraries))
+      .thenCompose(r -> r.after(locationRepository::fetchInstitutions))
+      .thenCompose(r -> r.after(locationRepository::fetchCampuses))
       .thenApply(flatMapResult(locations -> matchLocationsToItems(items, locations)));
   }
 
@@ -196,16 +230,4 @@ public class PickSlipsResource extends Resource {
     ));
   }
 
-  private Result<JsonObject> mapResultToJson(MultipleRecords<Request> requests) {
-    List<JsonObject> representations = requests.getRecords().stream()
-      .map(TemplateContextUtil::createStaffSlipContext)
-      .collect(Collectors.toList());
-
-    JsonObject jsonRepresentations = new JsonObject()
-      .put(PICK_SLIPS_KEY, representations)
-      .put(TOTAL_RECORDS_KEY, representations.size());
-
-    return succeeded(jsonRepresentations);
-  }
-
 }
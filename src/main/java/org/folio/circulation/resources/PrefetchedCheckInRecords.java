@@ -0,0 +1,148 @@
+package org.folio.circulation.resources;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.RequestQueue;
+import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.infrastructure.storage.requests.RequestQueueRepository;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * The items, open loans (with their borrowers) and request queues for many
+ * check ins, fetched in batches before any of the items are checked in.
+ * <p>
+ * Each record is only used once, so that an item checked in more than once
+ * is fetched again from storage after it has been changed by the earlier
+ * check in. Anything not fetched in advance, for example an item whose
+ * barcode did not match exactly, is also fetched from storage during the
+ * check in.
+ * <p>
+ * The items are fetched with the same related records as for a single check
+ * in. The open loans and request queues are not fetched again before each
+ * check in, so a change made by another process whilst a large bulk check in
+ * is in progress is not seen by the check ins of the items it affects.
+ */
+class PrefetchedCheckInRecords {
+  private final Map<String, Item> itemsByBarcode;
+  private final Map<String, MultipleRecords<Loan>> openLoansByItemId;
+  private final Map<String, RequestQueue> requestQueuesByItemId;
+
+  private PrefetchedCheckInRecords(Map<String, Item> itemsByBarcode,
+    Map<String, MultipleRecords<Loan>> openLoansByItemId,
+    Map<String, RequestQueue> requestQueuesByItemId) {
+
+    this.itemsByBarcode = new HashMap<>(itemsByBarcode);
+    this.openLoansByItemId = new HashMap<>(openLoansByItemId);
+    this.requestQueuesByItemId = new HashMap<>(requestQueuesByItemId);
+  }
+
+  static PrefetchedCheckInRecords none() {
+    return new PrefetchedCheckInRecords(Map.of(), Map.of(), Map.of());
+  }
+
+  static CompletableFuture<Result<PrefetchedCheckInRecords>> fetch(
+    Collection<String> itemBarcodes, Clients clients) {
+
+    final ItemRepository itemRepository = new ItemRepository(clients, true, true, true);
+    final LoanRepository loanRepository = new LoanRepository(clients);
+    final UserRepository userRepository = new UserRepository(clients);
+    final RequestQueueRepository requestQueueRepository = RequestQueueRepository.using(clients);
+
+    return itemRepository.findByIndexNameAndQueryInFull(distinct(itemBarcodes), "barcode",
+        CqlQuery.noQuery())
+      .thenCompose(r -> r.after(items -> fetchForItems(items, loanRepository,
+        userRepository, requestQueueRepository)));
+  }
+
+  private static CompletableFuture<Result<PrefetchedCheckInRecords>> fetchForItems(
+    Collection<Item> items, LoanRepository loanRepository,
+    UserRepository userRepository, RequestQueueRepository requestQueueRepository) {
+
+    if (items.isEmpty()) {
+      return completedFuture(succeeded(none()));
+    }
+
+    final List<String> itemIds = distinct(items.stream()
+      .map(Item::getItemId)
+      .collect(Collectors.toList()));
+
+    final CompletableFuture<Result<Map<String, RequestQueue>>> requestQueues
+      = requestQueueRepository.getQueuesForItems(itemIds);
+
+    return loanRepository.findOpenLoansForItems(itemIds)
+      .thenCompose(r -> r.after(openLoans ->
+        userRepository.findUsersForLoans(openLoans.getRecords())))
+      .thenApply(r -> r.map(openLoans -> groupByItem(itemIds, openLoans)))
+      .thenCompose(r -> r.combineAfter(() -> requestQueues,
+        (openLoans, queues) -> new PrefetchedCheckInRecords(
+          mapByBarcode(items), openLoans, queues)));
+  }
+
+  /**
+   * @return the open loans for each item, including no loans for items that
+   * have none
+   */
+  private static Map<String, MultipleRecords<Loan>> groupByItem(
+    Collection<String> itemIds, Collection<Loan> openLoans) {
+
+    final Map<String, List<Loan>> loansByItem = openLoans.stream()
+      .collect(Collectors.groupingBy(Loan::getItemId));
+
+    return itemIds.stream()
+      .collect(Collectors.toMap(identity(), itemId -> {
+        final List<Loan> loans = loansByItem.getOrDefault(itemId, emptyList());
+
+        return new MultipleRecords<>(loans, loans.size());
+      }));
+  }
+
+  private static Map<String, Item> mapByBarcode(Collection<Item> items) {
+    return items.stream()
+      .filter(item -> item.getBarcode() != null)
+      .collect(Collectors.toMap(Item::getBarcode, item -> item,
+        (first, second) -> first));
+  }
+
+  private static List<String> distinct(Collection<String> values) {
+    return values.stream().distinct().collect(Collectors.toList());
+  }
+
+  /**
+   * @return the item with exactly this barcode, unless it has already been used
+   */
+  synchronized Optional<Item> takeItem(String barcode) {
+    return Optional.ofNullable(itemsByBarcode.remove(barcode));
+  }
+
+  /**
+   * @return the open loans of the item, unless they have already been used
+   */
+  synchronized Optional<MultipleRecords<Loan>> takeOpenLoans(Item item) {
+    return Optional.ofNullable(openLoansByItemId.remove(item.getItemId()));
+  }
+
+  /**
+   * @return the request queue of the item, unless it has already been used
+   */
+  synchronized Optional<RequestQueue> takeRequestQueue(Item item) {
+    return Optional.ofNullable(requestQueuesByItemId.remove(item.getItemId()));
+  }
+}
@@ -76,16 +76,16 @@ import org.joda.time.format.ISODateTimeFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class RequestByInstanceIdResource extends Resource {
 
   private final Logger log;
 
-  public RequestByInstanceIdResource(HttpClient client) {
+  public RequestByInstanceIdResource(WebClient client) {
     super(client);
     log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
   }
@@ -2,7 +2,7 @@ package org.folio.circulation.resources;
 
 import org.folio.circulation.rules.CirculationRulesProcessor;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 /**
  * The circulation rules engine calculates the request policy based on
@@ -10,7 +10,7 @@ import io.vertx.core.http.HttpClient;
  */
 public class RequestCirculationRulesEngineResource extends AbstractCirculationRulesEngineResource {
 
-  public RequestCirculationRulesEngineResource(String applyPath, String applyAllPath, HttpClient client) {
+  public RequestCirculationRulesEngineResource(String applyPath, String applyAllPath, WebClient client) {
     super(applyPath, applyAllPath, client,
       CirculationRulesProcessor::getRequestPolicyAndMatch,
       CirculationRulesProcessor::getRequestPolicies);
@@ -47,13 +47,13 @@ import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class RequestCollectionResource extends CollectionResource {
-  public RequestCollectionResource(HttpClient client) {
+  public RequestCollectionResource(WebClient client) {
     super(client, "/circulation/requests");
   }
 
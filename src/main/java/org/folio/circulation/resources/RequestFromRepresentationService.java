@@ -69,16 +69,16 @@ class RequestFromRepresentationService {
         .mapFailure(err -> errorHandler.handleValidationError(err, INVALID_ITEM_ID, r)))
       .thenApply(r -> r.map(this::removeRelatedRecordInformation))
       .thenApply(r -> r.map(Request::from))
-      .thenComposeAsync(r -> r.after(when(
+      .thenCompose(r -> r.after(when(
         this::shouldFetchItemAndLoan, this::fetchItemAndLoan, req -> ofAsync(() -> req))))
-      .thenComposeAsync(r -> r.combineAfter(userRepository::getUser, Request::withRequester))
-      .thenComposeAsync(r -> r.combineAfter(userRepository::getProxyUser, Request::withProxy))
-      .thenComposeAsync(r -> r.combineAfter(servicePointRepository::getServicePointForRequest,
+      .thenCompose(r -> r.combineAfter(userRepository::getUser, Request::withRequester))
+      .thenCompose(r -> r.combineAfter(userRepository::getProxyUser, Request::withProxy))
+      .thenCompose(r -> r.combineAfter(servicePointRepository::getServicePointForRequest,
         Request::withPickupServicePoint))
       .thenApply(r -> r.map(RequestAndRelatedRecords::new))
-      .thenComposeAsync(r -> r.combineAfter(requestQueueRepository::get,
+      .thenCompose(r -> r.combineAfter(requestQueueRepository::get,
         RequestAndRelatedRecords::withRequestQueue))
-      .thenComposeAsync(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid)
+      .thenCompose(r -> r.after(proxyRelationshipValidator::refuseWhenInvalid)
         .thenApply(res -> errorHandler.handleValidationResult(res, INVALID_PROXY_RELATIONSHIP, r)))
       .thenApply(r -> r.next(pickupLocationValidator::refuseInvalidPickupServicePoint)
         .mapFailure(err -> errorHandler.handleValidationError(err, INVALID_PICKUP_SERVICE_POINT, r)));
@@ -91,8 +91,8 @@ class RequestFromRepresentationService {
   private CompletableFuture<Result<Request>> fetchItemAndLoan(Request request) {
     return succeeded(request)
       .combineAfter(itemRepository::fetchFor, Request::withItem)
-      .thenComposeAsync(r -> r.combineAfter(loanRepository::findOpenLoanForRequest, Request::withLoan))
-      .thenComposeAsync(r -> r.combineAfter(this::getUserForExistingLoan, this::addUserToLoan));
+      .thenCompose(r -> r.combineAfter(loanRepository::findOpenLoanForRequest, Request::withLoan))
+      .thenCompose(r -> r.combineAfter(this::getUserForExistingLoan, this::addUserToLoan));
   }
 
   private CompletableFuture<Result<User>> getUserForExistingLoan(Request request) {
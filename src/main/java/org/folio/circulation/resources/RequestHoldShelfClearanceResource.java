@@ -24,7 +24,6 @@ import java.util.stream.IntStream;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.circulation.domain.HoldShelfClearanceRequestContext;
 import org.folio.circulation.domain.Item;
-import org.folio.circulation.domain.ItemsReportFetcher;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.infrastructure.storage.inventory.ItemReportRepository;
 import org.folio.circulation.domain.Request;
@@ -37,14 +36,12 @@ import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.PageLimit;
 import org.folio.circulation.support.http.client.Response;
-import org.folio.circulation.support.http.server.JsonHttpResponse;
+import org.folio.circulation.support.http.server.JsonArrayResponseWriter;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.JsonArray;
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class RequestHoldShelfClearanceResource extends Resource {
 
@@ -63,12 +60,11 @@ public class RequestHoldShelfClearanceResource extends Resource {
   private static final String REQUESTS_KEY = "requests";
   private static final String STATUS_KEY = "status";
   private static final String STATUS_NAME_KEY = "status.name";
-  private static final String TOTAL_RECORDS_KEY = "totalRecords";
   private static final String REQUEST_CLOSED_DATE_KEY = "awaitingPickupRequestClosedDate";
 
   private final String rootPath;
 
-  public RequestHoldShelfClearanceResource(String rootPath, HttpClient client) {
+  public RequestHoldShelfClearanceResource(String rootPath, WebClient client) {
     super(client);
     this.rootPath = rootPath;
   }
@@ -89,25 +85,42 @@ public class RequestHoldShelfClearanceResource extends Resource {
 
     final String servicePointId = routingContext.request().getParam(SERVICE_POINT_ID_PARAM);
 
-    itemReportRepository.getAllItemsByField(STATUS_NAME_KEY, AWAITING_PICKUP.getValue())
-      .thenComposeAsync(r -> r.after(this::mapContextToItemIdList))
-      .thenComposeAsync(r -> r.after(this::mapItemIdsInBatchItemIds))
-      .thenComposeAsync(r -> findAwaitingPickupRequestsByItemsIds(requestsStorage, r.value()))
-      .thenComposeAsync(r -> findExpiredOrCancelledRequestByItemIds(requestsStorage, r.value()))
-      .thenApply(r -> findExpiredOrCancelledRequestByServicePoint(servicePointId, r.value()))
-      .thenCompose(r -> fetchItemToRequest(r, itemRepository))
-      .thenApply(this::mapResultToJson)
-      .thenApply(r -> r.map(JsonHttpResponse::ok))
-      .thenAccept(context::writeResultToHttpResponse);
+    final RequestRepresentation requestRepresentation = new RequestRepresentation();
+
+    final JsonArrayResponseWriter<Request> writer = new JsonArrayResponseWriter<>(
+      routingContext.response(), REQUESTS_KEY,
+      requestRepresentation::extendedRepresentation);
+
+    itemReportRepository.scanAllItemsByField(STATUS_NAME_KEY, AWAITING_PICKUP.getValue(),
+      page -> findRequestsToClearForItems(page, servicePointId, requestsStorage,
+        itemRepository)
+        .thenCompose(r -> r.after(writer::write)))
+      .thenAccept(writer::end);
   }
 
-  private CompletableFuture<Result<List<String>>> mapContextToItemIdList(ItemsReportFetcher itemsReportFetcher) {
-    List<String> itemIds = itemsReportFetcher.getResultListOfItems().stream()
-      .flatMap(records -> records.value().getRecords().stream())
-      .filter(item -> StringUtils.isNoneBlank(item.getItemId()))
+  /**
+   * Each item is only in one page, so the requests to clear can be found for
+   * the items of each page on their own
+   */
+  private CompletableFuture<Result<List<Request>>> findRequestsToClearForItems(
+    Collection<Item> items, String servicePointId,
+    GetManyRecordsClient requestsStorage, ItemRepository itemRepository) {
+
+    return mapItemIdsInBatchItemIds(itemIds(items))
+      .thenCompose(r -> r.after(batchItemIds ->
+        findAwaitingPickupRequestsByItemsIds(requestsStorage, batchItemIds)))
+      .thenCompose(r -> r.after(context ->
+        findExpiredOrCancelledRequestByItemIds(requestsStorage, context)))
+      .thenApply(r -> r.next(context ->
+        findExpiredOrCancelledRequestByServicePoint(servicePointId, context)))
+      .thenCompose(r -> fetchItemToRequest(r, itemRepository));
+  }
+
+  private List<String> itemIds(Collection<Item> items) {
+    return items.stream()
       .map(Item::getItemId)
+      .filter(StringUtils::isNoneBlank)
       .collect(Collectors.toList());
-    return CompletableFuture.completedFuture(Result.succeeded(itemIds));
   }
 
   private CompletableFuture<Result<List<List<String>>>> mapItemIdsInBatchItemIds(List<String> itemIds) {
@@ -131,35 +144,33 @@ public class RequestHoldShelfClearanceResource extends Resource {
 
   private CompletableFuture<Result<HoldShelfClearanceRequestContext>> findAwaitingPickupRequestsByItemsIds(GetManyRecordsClient client,
                                                                                                            List<List<String>> batchItemIds) {
-    List<Result<MultipleRecords<Request>>> awaitingPickupRequests = findAwaitingPickupRequests(client, batchItemIds);
-    return CompletableFuture.completedFuture(Result.succeeded(
-      createHoldShelfClearanceRequestContext(batchItemIds, awaitingPickupRequests)));
+    return findAwaitingPickupRequests(client, batchItemIds)
+      .thenApply(r -> r.map(awaitingPickupRequests ->
+        createHoldShelfClearanceRequestContext(batchItemIds, awaitingPickupRequests)));
   }
 
-  private List<Result<MultipleRecords<Request>>> findAwaitingPickupRequests(GetManyRecordsClient client,
-                                                                            List<List<String>> batchItemIds) {
-    return batchItemIds.stream()
-      .map(batch -> {
-        final Result<CqlQuery> statusQuery = exactMatch(STATUS_KEY, OPEN_AWAITING_PICKUP.getValue());
-        final Result<CqlQuery> itemIdsQuery = exactMatchAny(ITEM_ID_KEY, batch);
+  private CompletableFuture<Result<List<MultipleRecords<Request>>>> findAwaitingPickupRequests(
+    GetManyRecordsClient client, List<List<String>> batchItemIds) {
 
-        Result<CqlQuery> cqlQueryResult = statusQuery
-          .combine(itemIdsQuery, CqlQuery::and);
+    return allOf(batchItemIds, batch -> {
+      final Result<CqlQuery> statusQuery = exactMatch(STATUS_KEY, OPEN_AWAITING_PICKUP.getValue());
+      final Result<CqlQuery> itemIdsQuery = exactMatchAny(ITEM_ID_KEY, batch);
 
-        return findRequestsByCqlQuery(client, cqlQueryResult, limit(batch.size()));
-      })
-      .map(CompletableFuture::join)
-      .collect(Collectors.toList());
+      Result<CqlQuery> cqlQueryResult = statusQuery
+        .combine(itemIdsQuery, CqlQuery::and);
+
+      return findRequestsByCqlQuery(client, cqlQueryResult, limit(batch.size()));
+    });
   }
 
   private HoldShelfClearanceRequestContext createHoldShelfClearanceRequestContext(List<List<String>> batchItemIds,
-                                                                                  List<Result<MultipleRecords<Request>>> results) {
+                                                                                  List<MultipleRecords<Request>> results) {
     List<String> allAwaitingPickupItemIds = batchItemIds.stream()
       .flatMap(Collection::stream)
       .collect(Collectors.toList());
 
     List<String> awaitingPickupRequestItemIds = results.stream()
-      .flatMap(r -> r.value().getRecords().stream())
+      .flatMap(r -> r.getRecords().stream())
       .map(Request::getItemId)
       .collect(Collectors.toList());
 
@@ -172,9 +183,9 @@ public class RequestHoldShelfClearanceResource extends Resource {
 
   private CompletableFuture<Result<HoldShelfClearanceRequestContext>> findExpiredOrCancelledRequestByItemIds(GetManyRecordsClient client,
                                                                                                              HoldShelfClearanceRequestContext context) {
-    List<Result<MultipleRecords<Request>>> requestList = findRequestsSortedByClosedDate(client, context.getAwaitingPickupItemIds());
-    List<Request> firstRequestFromList = getFirstRequestFromList(requestList);
-    return CompletableFuture.completedFuture(Result.succeeded(context.withExpiredOrCancelledRequests(firstRequestFromList)));
+    return findRequestsSortedByClosedDate(client, context.getAwaitingPickupItemIds())
+      .thenApply(r -> r.map(this::getFirstRequestFromList))
+      .thenApply(r -> r.map(context::withExpiredOrCancelledRequests));
   }
 
   private Predicate<Request> hasContextRequestForServicePoint(String servicePointId) {
@@ -197,29 +208,31 @@ public class RequestHoldShelfClearanceResource extends Resource {
   /**
    * Find for each item ids requests sorted by awaitingPickupRequestClosedDate
    */
-  private List<Result<MultipleRecords<Request>>> findRequestsSortedByClosedDate(GetManyRecordsClient client,
-                                                                                List<String> itemIds) {
-    return itemIds.stream()
+  private CompletableFuture<Result<List<MultipleRecords<Request>>>> findRequestsSortedByClosedDate(
+    GetManyRecordsClient client, List<String> itemIds) {
+
+    final List<String> nonNullItemIds = itemIds.stream()
       .filter(Objects::nonNull)
-      .map(itemId -> {
-        final Result<CqlQuery> itemIdQuery = CqlQuery.exactMatch(ITEM_ID_KEY, itemId);
-        final Result<CqlQuery> notEmptyDateQuery = CqlQuery.greaterThan(REQUEST_CLOSED_DATE_KEY, StringUtils.EMPTY);
-        final Result<CqlQuery> statusQuery = exactMatchAny(STATUS_KEY,
-          Arrays.asList(CLOSED_PICKUP_EXPIRED.getValue(), CLOSED_CANCELLED.getValue()));
-
-        Result<CqlQuery> cqlQueryResult = itemIdQuery
-          .combine(statusQuery, CqlQuery::and)
-          .combine(notEmptyDateQuery, CqlQuery::and)
-          .map(q -> q.sortBy(descending(REQUEST_CLOSED_DATE_KEY)));
-
-        return findRequestsByCqlQuery(client, cqlQueryResult, limit(PAGE_REQUEST_LIMIT));
-      }).map(CompletableFuture::join)
       .collect(Collectors.toList());
+
+    return allOf(nonNullItemIds, itemId -> {
+      final Result<CqlQuery> itemIdQuery = CqlQuery.exactMatch(ITEM_ID_KEY, itemId);
+      final Result<CqlQuery> notEmptyDateQuery = CqlQuery.greaterThan(REQUEST_CLOSED_DATE_KEY, StringUtils.EMPTY);
+      final Result<CqlQuery> statusQuery = exactMatchAny(STATUS_KEY,
+        Arrays.asList(CLOSED_PICKUP_EXPIRED.getValue(), CLOSED_CANCELLED.getValue()));
+
+      Result<CqlQuery> cqlQueryResult = itemIdQuery
+        .combine(statusQuery, CqlQuery::and)
+        .combine(notEmptyDateQuery, CqlQuery::and)
+        .map(q -> q.sortBy(descending(REQUEST_CLOSED_DATE_KEY)));
+
+      return findRequestsByCqlQuery(client, cqlQueryResult, limit(PAGE_REQUEST_LIMIT));
+    });
   }
 
-  private List<Request> getFirstRequestFromList(List<Result<MultipleRecords<Request>>> multipleRecordsList) {
+  private List<Request> getFirstRequestFromList(List<MultipleRecords<Request>> multipleRecordsList) {
     return multipleRecordsList.stream()
-      .map(r -> r.value().getRecords().stream().findFirst())
+      .map(r -> r.getRecords().stream().findFirst())
       .filter(Optional::isPresent)
       .map(Optional::get)
       .collect(Collectors.toList());
@@ -241,23 +254,9 @@ public class RequestHoldShelfClearanceResource extends Resource {
       requests -> allOf(requests, request -> fetchItem(itemRepository, request)));
   }
 
-  private Result<JsonObject> mapResultToJson(Result<List<Request>> requestsResult) {
-    return requestsResult.map(this::toRequestsResponse);
-  }
-
-  private JsonObject toRequestsResponse(List<Request> requests) {
-    final List<JsonObject> requestsRepresentations = requests.stream()
-      .map(request -> new RequestRepresentation().extendedRepresentation(request))
-      .collect(Collectors.toList());
-
-    return new JsonObject()
-      .put(REQUESTS_KEY, new JsonArray(requestsRepresentations))
-      .put(TOTAL_RECORDS_KEY, requestsRepresentations.size());
-  }
-
   private CompletableFuture<Result<Request>> fetchItem(ItemRepository itemRepository, Request request) {
     return CompletableFuture.completedFuture(Result.succeeded(request))
-      .thenComposeAsync(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem));
+      .thenCompose(result -> result.combineAfter(itemRepository::fetchFor, Request::withItem));
   }
 
   private Result<MultipleRecords<Request>> mapResponseToRequest(Response response) {
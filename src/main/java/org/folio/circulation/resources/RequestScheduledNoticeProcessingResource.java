@@ -11,6 +11,7 @@ import org.folio.circulation.domain.notice.schedule.ScheduledNotice;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
 import org.folio.circulation.domain.notice.schedule.TriggeringEvent;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CqlSortBy;
 import org.folio.circulation.support.results.Result;
@@ -18,11 +19,11 @@ import org.folio.circulation.support.http.client.PageLimit;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 public class RequestScheduledNoticeProcessingResource extends ScheduledNoticeProcessingResource {
 
-  public RequestScheduledNoticeProcessingResource(HttpClient client) {
+  public RequestScheduledNoticeProcessingResource(WebClient client) {
     super("/circulation/request-scheduled-notices-processing" ,client);
   }
 
@@ -39,9 +40,10 @@ public class RequestScheduledNoticeProcessingResource extends ScheduledNoticePro
 
   @Override
   protected CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> handleNotices(
-    Clients clients, MultipleRecords<ScheduledNotice> scheduledNotices) {
+    Clients clients, MultipleRecords<ScheduledNotice> scheduledNotices,
+    BoundedParallelExecutor executor) {
 
-    return RequestScheduledNoticeHandler.using(clients)
+    return RequestScheduledNoticeHandler.using(clients, executor)
       .handleNotices(scheduledNotices.getRecords())
       .thenApply(mapResult(v -> scheduledNotices));
   }
@@ -1,12 +1,12 @@
 package org.folio.circulation.resources;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.WebClient;
 
 public abstract class Resource {
-  protected final HttpClient client;
+  protected final WebClient client;
 
-  public Resource(HttpClient client) {
+  public Resource(WebClient client) {
     this.client = client;
   }
 
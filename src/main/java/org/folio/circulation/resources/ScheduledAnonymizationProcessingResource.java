@@ -11,9 +11,9 @@ import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.CommonFailures;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 /**
  * Perform automatic loan anonymization based on tenant settings for loan history.
@@ -22,7 +22,7 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class ScheduledAnonymizationProcessingResource extends Resource {
 
-  public ScheduledAnonymizationProcessingResource(HttpClient client) {
+  public ScheduledAnonymizationProcessingResource(WebClient client) {
     super(client);
   }
 
@@ -5,10 +5,12 @@ import static org.folio.circulation.support.results.MappingFunctions.toFixedValu
 
 import java.util.concurrent.CompletableFuture;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.domain.notice.schedule.ScheduledNotice;
 import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
 import org.folio.circulation.infrastructure.storage.notices.ScheduledNoticesRepository;
+import org.folio.circulation.support.BoundedParallelExecutor;
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.client.PageLimit;
@@ -17,14 +19,14 @@ import org.folio.circulation.support.http.server.WebContext;
 import org.folio.circulation.support.results.CommonFailures;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public abstract class ScheduledNoticeProcessingResource extends Resource {
   private final String rootPath;
 
-  ScheduledNoticeProcessingResource(String rootPath, HttpClient client) {
+  ScheduledNoticeProcessingResource(String rootPath, WebClient client) {
     super(client);
     this.rootPath = rootPath;
   }
@@ -45,10 +47,15 @@ public abstract class ScheduledNoticeProcessingResource extends Resource {
     final ConfigurationRepository configurationRepository =
       new ConfigurationRepository(clients);
 
+    final CompletableFuture<Result<BoundedParallelExecutor>> executor = safelyInitialise(
+      configurationRepository::lookupSchedulerNoticesProcessingConcurrency)
+      .thenApply(r -> r.map(BoundedParallelExecutor::new));
+
     safelyInitialise(configurationRepository::lookupSchedulerNoticesProcessingLimit)
       .thenCompose(r -> r.after(limit -> findNoticesToSend(configurationRepository,
         scheduledNoticesRepository, limit)))
-      .thenCompose(r -> r.after(notices -> handleNotices(clients, notices)))
+      .thenCompose(r -> r.combineAfter(notices -> executor, Pair::of))
+      .thenCompose(r -> r.after(p -> handleNotices(clients, p.getLeft(), p.getRight())))
       .thenApply(r -> r.map(toFixedValue(NoContentResponse::noContent)))
       .exceptionally(CommonFailures::failedDueToServerError)
       .thenAccept(context::writeResultToHttpResponse);
@@ -58,6 +65,11 @@ public abstract class ScheduledNoticeProcessingResource extends Resource {
     ConfigurationRepository configurationRepository,
     ScheduledNoticesRepository scheduledNoticesRepository, PageLimit pageLimit);
 
+  /**
+   * Handles the notices, the executor limits how many notices are handled
+   * at the same time
+   */
   protected abstract CompletableFuture<Result<MultipleRecords<ScheduledNotice>>> handleNotices(
-    Clients clients, MultipleRecords<ScheduledNotice> noticesResult);
+    Clients clients, MultipleRecords<ScheduledNotice> noticesResult,
+    BoundedParallelExecutor executor);
 }
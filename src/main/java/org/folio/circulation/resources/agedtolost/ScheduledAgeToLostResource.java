@@ -9,12 +9,12 @@ import org.folio.circulation.support.RouteRegistration;
 import org.folio.circulation.support.http.server.NoContentResponse;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class ScheduledAgeToLostResource extends Resource {
-  public ScheduledAgeToLostResource(HttpClient client) {
+  public ScheduledAgeToLostResource(WebClient client) {
     super(client);
   }
 
@@ -0,0 +1,59 @@
+package org.folio.circulation.resources.handlers;
+
+import static org.folio.circulation.domain.subscribers.CirculationRulesChangedEvent.fromJson;
+import static org.folio.circulation.support.http.server.NoContentResponse.noContent;
+
+import org.folio.circulation.domain.subscribers.CirculationRulesChangedEvent;
+import org.folio.circulation.resources.Resource;
+import org.folio.circulation.rules.cache.CirculationRulesCache;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.cache.PolicyCache;
+import org.folio.circulation.support.http.server.WebContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
+
+/**
+ * Makes this module instance reload the circulation rules when they have been
+ * changed through any instance of the module.
+ */
+public class CirculationRulesChangedHandlerResource extends Resource {
+  private static final Logger log = LoggerFactory.getLogger(
+    CirculationRulesChangedHandlerResource.class);
+
+  public CirculationRulesChangedHandlerResource(WebClient client) {
+    super(client);
+  }
+
+  @Override
+  public void register(Router router) {
+    new RouteRegistration("/circulation/handlers/circulation-rules-changed", router)
+      .create(this::handleCirculationRulesChangedEvent);
+  }
+
+  private void handleCirculationRulesChangedEvent(RoutingContext routingContext) {
+    final WebContext context = new WebContext(routingContext);
+
+    // policies are usually changed together with the circulation rules
+    PolicyCache.invalidate(context.getTenantId());
+
+    try {
+      final CirculationRulesChangedEvent event = fromJson(routingContext.getBodyAsJson());
+
+      CirculationRulesCache.getInstance().rulesChanged(context.getTenantId(),
+        event.getRulesHash());
+    }
+    catch (Exception e) {
+      log.error("Cannot handle event [{}], error occurred",
+        routingContext.getBodyAsString(), e);
+
+      // the rules are reloaded anyway, no matter what the event was
+      CirculationRulesCache.getInstance().clearCache(context.getTenantId());
+    }
+
+    context.write(noContent());
+  }
+}
@@ -31,15 +31,15 @@ import org.folio.circulation.support.results.Result;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class LoanRelatedFeeFineClosedHandlerResource extends Resource {
   private static final Logger log = LoggerFactory.getLogger(
     LoanRelatedFeeFineClosedHandlerResource.class);
 
-  public LoanRelatedFeeFineClosedHandlerResource(HttpClient client) {
+  public LoanRelatedFeeFineClosedHandlerResource(WebClient client) {
     super(client);
   }
 
@@ -89,7 +89,7 @@ public class LoanRelatedFeeFineClosedHandlerResource extends Resource {
     final LostItemPolicyRepository lostItemPolicyRepository = new LostItemPolicyRepository(clients);
 
     return accountRepository.findAccountsForLoan(loan)
-      .thenComposeAsync(lostItemPolicyRepository::findLostItemPolicyForLoan)
+      .thenCompose(lostItemPolicyRepository::findLostItemPolicyForLoan)
       .thenCompose(loanResult -> closeLoanAndUpdateItem(loanResult, clients));
   }
 
@@ -11,12 +11,12 @@ import org.folio.circulation.storage.SingleOpenLoanByUserAndItemBarcodeFinder;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
 
 public class OverrideRenewalByBarcodeResource extends RenewalResource {
 
-  public OverrideRenewalByBarcodeResource(HttpClient client) {
+  public OverrideRenewalByBarcodeResource(WebClient client) {
     super("/circulation/override-renewal-by-barcode", new OverrideRenewalStrategy(),
       new OverrideRenewalFeeProcessingStrategy(), client);
   }
@@ -43,8 +43,16 @@ public class RegularRenewalStrategy implements RenewalStrategy {
   public CompletableFuture<Result<RenewalContext>> renew(RenewalContext context,
     Clients clients) {
 
-    final ClosedLibraryStrategyService strategyService =
-      ClosedLibraryStrategyService.using(clients, DateTime.now(DateTimeZone.UTC), true);
+    return renew(context, ClosedLibraryStrategyService.using(clients,
+      DateTime.now(DateTimeZone.UTC), true));
+  }
+
+  /**
+   * Renews using a closed library strategy service that can be shared by the
+   * renewals of many loans
+   */
+  public CompletableFuture<Result<RenewalContext>> renew(RenewalContext context,
+    ClosedLibraryStrategyService strategyService) {
 
     return completedFuture(renew(context))
       .thenCompose(r -> r.after(strategyService::applyClosedLibraryDueDateManagement));
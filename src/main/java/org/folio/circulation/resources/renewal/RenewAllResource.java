@@ -0,0 +1,151 @@
+package org.folio.circulation.resources.renewal;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.http.client.PageLimit.oneThousand;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.folio.circulation.StoreLoanAndItem;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.RequestQueue;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.policy.library.ClosedLibraryStrategyService;
+import org.folio.circulation.infrastructure.storage.ConfigurationRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.infrastructure.storage.requests.RequestQueueRepository;
+import org.folio.circulation.infrastructure.storage.users.UserRepository;
+import org.folio.circulation.resources.Resource;
+import org.folio.circulation.resources.context.RenewalContext;
+import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.support.BoundedParallelExecutor;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.RouteRegistration;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.server.WebContext;
+import org.folio.circulation.support.results.Result;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
+
+/**
+ * Renews all of the open loans of a patron at once.
+ * <p>
+ * The patron, their automated blocks, the time zone, their open loans (with
+ * the items) and the request queues for the items are fetched once for all of
+ * the loans. Each loan is then renewed in the same way as renewing by ID, a
+ * few at a time, with loan policies taken from the policy cache. A loan that
+ * cannot be renewed does not prevent the others from being renewed, the
+ * outcome is included for each loan.
+ */
+public class RenewAllResource extends Resource {
+  private static final PageLimit MAXIMUM_SUPPORTED_OPEN_LOANS = oneThousand();
+  private static final int MAXIMUM_RENEWALS_IN_PROGRESS = 10;
+
+  private final RegularRenewalStrategy renewalStrategy = new RegularRenewalStrategy();
+
+  public RenewAllResource(WebClient client) {
+    super(client);
+  }
+
+  @Override
+  public void register(Router router) {
+    RouteRegistration routeRegistration = new RouteRegistration(
+      "/circulation/renew-all", router);
+
+    routeRegistration.create(this::renewAll);
+  }
+
+  private void renewAll(RoutingContext routingContext) {
+    final WebContext webContext = new WebContext(routingContext);
+    final Clients clients = Clients.create(webContext, client);
+
+    final LoanRepository loanRepository = new LoanRepository(clients);
+    final UserRepository userRepository = new UserRepository(clients);
+    final ConfigurationRepository configurationRepository = new ConfigurationRepository(clients);
+
+    final RenewalCompletion renewalCompletion = new RenewalCompletion(clients,
+      new RegularRenewalFeeProcessingStrategy(), new StoreLoanAndItem(clients),
+      new EventPublisher(routingContext));
+
+    final JsonObject bodyAsJson = routingContext.getBodyAsJson();
+
+    final CompletableFuture<Result<DateTimeZone>> timeZone =
+      configurationRepository.findTimeZoneConfiguration();
+
+    RenewAllRequest.from(bodyAsJson)
+      .after(request -> userRepository.getUserFailOnNotFound(request.getUserId()))
+      .thenCompose(r -> r.after(RenewalResource.automatedPatronBlocksValidator(clients)
+        ::refuseWhenRenewalActionIsBlockedForPatron))
+      .thenCompose(r -> r.after(user -> loanRepository.findOpenLoansByUserId(
+          user.getId(), MAXIMUM_SUPPORTED_OPEN_LOANS)
+        .thenApply(loansResult -> loansResult.map(loans -> withUser(loans, user)))))
+      .thenCompose(r -> r.after(loans -> timeZone
+        .thenCompose(zoneResult -> zoneResult.after(zone -> renewEachLoan(loans,
+          loan -> RenewalContext.create(loan, bodyAsJson, webContext.getUserId())
+            .withTimeZone(zone), renewalCompletion, clients)))))
+      .thenApply(r -> r.map(RenewAllResponse::toHttpResponse))
+      .thenAccept(webContext::writeResultToHttpResponse);
+  }
+
+  private CompletableFuture<Result<RenewAllResponse>> renewEachLoan(List<Loan> loans,
+    Function<Loan, RenewalContext> createContext, RenewalCompletion renewalCompletion,
+    Clients clients) {
+
+    if (loans.isEmpty()) {
+      return completedFuture(succeeded(new RenewAllResponse(emptyList(), emptyList())));
+    }
+
+    final LoanPolicyRepository loanPolicyRepository = new LoanPolicyRepository(clients);
+
+    final ClosedLibraryStrategyService closedLibraryStrategyService =
+      ClosedLibraryStrategyService.using(clients, DateTime.now(DateTimeZone.UTC), true);
+
+    final List<String> itemIds = loans.stream()
+      .map(Loan::getItemId)
+      .distinct()
+      .collect(Collectors.toList());
+
+    return RequestQueueRepository.using(clients).getQueuesForItems(itemIds)
+      .thenCompose(r -> r.after(requestQueues -> new BoundedParallelExecutor(
+          MAXIMUM_RENEWALS_IN_PROGRESS)
+        .execute(loans, loan -> renew(createContext.apply(loan)
+            .withRequestQueue(requestQueueFor(loan, requestQueues)),
+          loanPolicyRepository, closedLibraryStrategyService, renewalCompletion))
+        .thenApply(renewals -> succeeded(new RenewAllResponse(loans, renewals)))));
+  }
+
+  private CompletableFuture<Result<Loan>> renew(RenewalContext renewalContext,
+    LoanPolicyRepository loanPolicyRepository,
+    ClosedLibraryStrategyService closedLibraryStrategyService,
+    RenewalCompletion renewalCompletion) {
+
+    return loanPolicyRepository.lookupLoanPolicy(renewalContext)
+      .thenCompose(r -> r.after(context ->
+        renewalStrategy.renew(context, closedLibraryStrategyService)))
+      .thenCompose(r -> r.after(renewalCompletion::complete))
+      .thenApply(r -> r.map(RenewalContext::getLoan));
+  }
+
+  private static RequestQueue requestQueueFor(Loan loan,
+    Map<String, RequestQueue> requestQueues) {
+
+    return requestQueues.getOrDefault(loan.getItemId(), new RequestQueue(emptyList()));
+  }
+
+  private static List<Loan> withUser(MultipleRecords<Loan> loans, User user) {
+    return new ArrayList<>(loans.mapRecords(loan -> loan.withUser(user)).getRecords());
+  }
+}
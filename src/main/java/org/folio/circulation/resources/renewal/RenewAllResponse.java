@@ -0,0 +1,67 @@
+package org.folio.circulation.resources.renewal;
+
+import static org.folio.circulation.support.http.server.JsonHttpResponse.ok;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+
+import java.util.List;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.LoanRepresentation;
+import org.folio.circulation.domain.representations.ErrorsRepresentation;
+import org.folio.circulation.support.http.server.HttpResponse;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The outcome of the renewal of each open loan of a patron, a loan that
+ * cannot be renewed does not prevent the others from being renewed
+ */
+public class RenewAllResponse {
+  private final List<Loan> loans;
+  private final List<Result<Loan>> renewals;
+
+  /**
+   * @param loans  the loans before renewal, in the same order as the renewal
+   * of each loan
+   */
+  public RenewAllResponse(List<Loan> loans, List<Result<Loan>> renewals) {
+    this.loans = loans;
+    this.renewals = renewals;
+  }
+
+  public HttpResponse toHttpResponse() {
+    return ok(toJson());
+  }
+
+  JsonObject toJson() {
+    final LoanRepresentation loanRepresentation = new LoanRepresentation();
+    final JsonArray renewalsJson = new JsonArray();
+
+    for (int index = 0; index < renewals.size(); index++) {
+      final Loan loan = loans.get(index);
+      final Result<Loan> renewal = renewals.get(index);
+      final JsonObject json = new JsonObject();
+
+      write(json, "loanId", loan.getId());
+      write(json, "itemId", loan.getItemId());
+
+      if (renewal.succeeded()) {
+        write(json, "loan", loanRepresentation.extendedLoan(renewal.value()));
+      }
+      else {
+        write(json, "errors", ErrorsRepresentation.errorsFrom(renewal.cause()));
+      }
+
+      renewalsJson.add(json);
+    }
+
+    final JsonObject json = new JsonObject();
+
+    write(json, "renewals", renewalsJson);
+    write(json, "totalRecords", renewals.size());
+
+    return json;
+  }
+}
@@ -11,11 +11,11 @@ import org.folio.circulation.storage.SingleOpenLoanByUserAndItemBarcodeFinder;
 import org.folio.circulation.support.results.Result;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
 
 public class RenewByBarcodeResource extends RenewalResource {
-  public RenewByBarcodeResource(HttpClient client) {
+  public RenewByBarcodeResource(WebClient client) {
     super("/circulation/renew-by-barcode", new RegularRenewalStrategy(),
       new RegularRenewalFeeProcessingStrategy(), client);
   }
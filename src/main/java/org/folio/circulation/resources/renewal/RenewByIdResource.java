@@ -16,11 +16,11 @@ import org.folio.circulation.storage.SingleOpenLoanForItemInStorageFinder;
 import org.folio.circulation.infrastructure.storage.inventory.ItemRepository;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
 
 public class RenewByIdResource extends RenewalResource {
-  public RenewByIdResource(HttpClient client) {
+  public RenewByIdResource(WebClient client) {
     super("/circulation/renew-by-id", new RegularRenewalStrategy(),
       new RegularRenewalFeeProcessingStrategy(), client);
   }
@@ -47,7 +47,7 @@ public class RenewByIdResource extends RenewalResource {
 
     return requestResult
       .after(checkInRequest -> itemFinder.findItemById(itemId))
-      .thenComposeAsync(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan))
+      .thenCompose(itemResult -> itemResult.after(singleOpenLoanFinder::findSingleOpenLoan))
       .thenApply(UserNotFoundValidator::refuseWhenUserNotFound)
       .thenApply(loanResult -> loanResult.combineToResult(requestResult,
         this::refuseWhenUserDoesNotMatch));
@@ -0,0 +1,47 @@
+package org.folio.circulation.resources.renewal;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.StoreLoanAndItem;
+import org.folio.circulation.domain.notice.schedule.FeeFineScheduledNoticeService;
+import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeService;
+import org.folio.circulation.resources.LoanNoticeSender;
+import org.folio.circulation.resources.context.RenewalContext;
+import org.folio.circulation.services.EventPublisher;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Stores a renewed loan (and its item), then processes fees and fines,
+ * publishes the due date change and schedules and sends the notices for it
+ */
+class RenewalCompletion {
+  private final Clients clients;
+  private final RenewalFeeProcessingStrategy feeProcessing;
+  private final StoreLoanAndItem storeLoanAndItem;
+  private final EventPublisher eventPublisher;
+  private final FeeFineScheduledNoticeService feeFineNoticesService;
+  private final LoanScheduledNoticeService scheduledNoticeService;
+  private final LoanNoticeSender loanNoticeSender;
+
+  RenewalCompletion(Clients clients, RenewalFeeProcessingStrategy feeProcessing,
+    StoreLoanAndItem storeLoanAndItem, EventPublisher eventPublisher) {
+
+    this.clients = clients;
+    this.feeProcessing = feeProcessing;
+    this.storeLoanAndItem = storeLoanAndItem;
+    this.eventPublisher = eventPublisher;
+    this.feeFineNoticesService = FeeFineScheduledNoticeService.using(clients);
+    this.scheduledNoticeService = LoanScheduledNoticeService.using(clients);
+    this.loanNoticeSender = LoanNoticeSender.using(clients);
+  }
+
+  CompletableFuture<Result<RenewalContext>> complete(RenewalContext renewalContext) {
+    return storeLoanAndItem.updateLoanAndItemInStorage(renewalContext)
+      .thenCompose(r -> r.after(context -> feeProcessing.processFeesFines(context, clients)))
+      .thenApply(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
+      .thenCompose(r -> r.after(eventPublisher::publishDueDateChangedEvent))
+      .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
+      .thenApply(r -> r.next(loanNoticeSender::sendRenewalPatronNotice));
+  }
+}
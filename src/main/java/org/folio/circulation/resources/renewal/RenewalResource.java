@@ -12,11 +12,8 @@ import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
 import org.folio.circulation.domain.LoanRepresentation;
 import org.folio.circulation.infrastructure.storage.requests.RequestQueueRepository;
 import org.folio.circulation.infrastructure.storage.users.UserRepository;
-import org.folio.circulation.domain.notice.schedule.LoanScheduledNoticeService;
-import org.folio.circulation.domain.notice.schedule.FeeFineScheduledNoticeService;
 import org.folio.circulation.infrastructure.storage.loans.LoanPolicyRepository;
 import org.folio.circulation.domain.validation.AutomatedPatronBlocksValidator;
-import org.folio.circulation.resources.LoanNoticeSender;
 import org.folio.circulation.resources.Resource;
 import org.folio.circulation.resources.context.RenewalContext;
 import org.folio.circulation.services.EventPublisher;
@@ -30,10 +27,10 @@ import org.folio.circulation.support.http.server.JsonHttpResponse;
 import org.folio.circulation.support.http.server.ValidationError;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public abstract class RenewalResource extends Resource {
   private final String rootPath;
@@ -41,7 +38,7 @@ public abstract class RenewalResource extends Resource {
   private final RenewalFeeProcessingStrategy feeProcessing;
 
   RenewalResource(String rootPath, RenewalStrategy renewalStrategy,
-    RenewalFeeProcessingStrategy feeProcessing, HttpClient client) {
+    RenewalFeeProcessingStrategy feeProcessing, WebClient client) {
 
     super(client);
     this.rootPath = rootPath;
@@ -70,21 +67,12 @@ public abstract class RenewalResource extends Resource {
 
     final LoanRepresentation loanRepresentation = new LoanRepresentation();
     final ConfigurationRepository configurationRepository = new ConfigurationRepository(clients);
-    final LoanScheduledNoticeService scheduledNoticeService = LoanScheduledNoticeService.using(clients);
 
-    final EventPublisher eventPublisher = new EventPublisher(routingContext);
+    final RenewalCompletion renewalCompletion = new RenewalCompletion(clients,
+      feeProcessing, storeLoanAndItem, new EventPublisher(routingContext));
 
-    final LoanNoticeSender loanNoticeSender = LoanNoticeSender.using(clients);
-
-    final AutomatedPatronBlocksRepository automatedPatronBlocksRepository =
-      new AutomatedPatronBlocksRepository(clients);
     final AutomatedPatronBlocksValidator automatedPatronBlocksValidator =
-      new AutomatedPatronBlocksValidator(automatedPatronBlocksRepository,
-        messages -> new ValidationErrorFailure(messages.stream()
-          .map(message -> new ValidationError(message, new HashMap<>()))
-          .collect(Collectors.toList())));
-    final FeeFineScheduledNoticeService feeFineNoticesService =
-      FeeFineScheduledNoticeService.using(clients);
+      automatedPatronBlocksValidator(clients);
 
     //TODO: Validation check for same user should be in the domain service
     JsonObject bodyAsJson = routingContext.getBodyAsJson();
@@ -93,24 +81,26 @@ public abstract class RenewalResource extends Resource {
 
     findLoanResult
       .thenApply(r -> r.map(loan -> RenewalContext.create(loan, bodyAsJson, webContext.getUserId())))
-      .thenComposeAsync(r -> r.after(
+      .thenCompose(r -> r.after(
         automatedPatronBlocksValidator::refuseWhenRenewalActionIsBlockedForPatron))
-      .thenComposeAsync(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
-      .thenComposeAsync(r -> r.after(requestQueueRepository::get))
+      .thenCompose(r -> r.after(loanPolicyRepository::lookupLoanPolicy))
+      .thenCompose(r -> r.after(requestQueueRepository::get))
       .thenCompose(r -> r.combineAfter(configurationRepository::findTimeZoneConfiguration,
         RenewalContext::withTimeZone))
-      .thenComposeAsync(r -> r.after(context -> renewalStrategy.renew(context, clients)))
-      .thenComposeAsync(r -> r.after(storeLoanAndItem::updateLoanAndItemInStorage))
-      .thenComposeAsync(r -> r.after(context -> feeProcessing.processFeesFines(context, clients)))
-      .thenApplyAsync(r -> r.next(feeFineNoticesService::scheduleOverdueFineNotices))
-      .thenComposeAsync(r -> r.after(eventPublisher::publishDueDateChangedEvent))
-      .thenApply(r -> r.next(scheduledNoticeService::rescheduleDueDateNotices))
-      .thenApply(r -> r.next(loanNoticeSender::sendRenewalPatronNotice))
+      .thenCompose(r -> r.after(context -> renewalStrategy.renew(context, clients)))
+      .thenCompose(r -> r.after(renewalCompletion::complete))
       .thenApply(r -> r.map(loanRepresentation::extendedLoan))
       .thenApply(r -> r.map(this::toResponse))
       .thenAccept(webContext::writeResultToHttpResponse);
   }
 
+  static AutomatedPatronBlocksValidator automatedPatronBlocksValidator(Clients clients) {
+    return new AutomatedPatronBlocksValidator(new AutomatedPatronBlocksRepository(clients),
+      messages -> new ValidationErrorFailure(messages.stream()
+        .map(message -> new ValidationError(message, new HashMap<>()))
+        .collect(Collectors.toList())));
+  }
+
   private HttpResponse toResponse(JsonObject body) {
     return JsonHttpResponse.ok(body,
       String.format("/circulation/loans/%s", body.getString("id")));
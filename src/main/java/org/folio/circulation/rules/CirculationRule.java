@@ -0,0 +1,55 @@
+package org.folio.circulation.rules;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A single rule of the circulation rules: the criteria of the line and of all of its
+ * parent lines, the policies of the line and the salience Drools would use for it.
+ */
+@Getter
+@ToString
+public final class CirculationRule {
+  private final int lineNumber;
+  private final int salience;
+  private final List<Criterium> criteria;
+  /** policy id for each policy type letter l, r, n, o, i */
+  private final Map<String, String> policies;
+  private final Set<String> criteriumTypes;
+
+  public CirculationRule(int lineNumber, int salience, List<Criterium> criteria,
+    Map<String, String> policies) {
+
+    this.lineNumber = lineNumber;
+    this.salience = salience;
+    this.criteria = List.copyOf(criteria);
+    this.policies = Map.copyOf(policies);
+    this.criteriumTypes = criteria.stream()
+      .map(Criterium::getType)
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  public String getPolicyId(String policyType) {
+    return policies.get(policyType);
+  }
+
+  public boolean usesCriteriumType(String type) {
+    return criteriumTypes.contains(type);
+  }
+
+  /**
+   * @param type  criterium type letter
+   * @param id  the id of the property of that type
+   * @return whether all criteria of this type are satisfied by the id
+   */
+  public boolean matches(String type, String id) {
+    return criteria.stream()
+      .filter(criterium -> criterium.getType().equals(type))
+      .allMatch(criterium -> criterium.matches(id));
+  }
+}
@@ -0,0 +1,32 @@
+package org.folio.circulation.rules;
+
+import java.util.Arrays;
+
+/**
+ * Which implementation executes the circulation rules.
+ */
+public enum CirculationRulesEngineType {
+  DROOLS("drools"),
+  INDEX("index");
+
+  /**
+   * @param value  representation of the engine type, for example from configuration
+   * @return the engine type, {@link #DROOLS} if the value is unknown or missing
+   */
+  public static CirculationRulesEngineType from(String value) {
+    return Arrays.stream(values())
+      .filter(v -> v.getRepresentation().equalsIgnoreCase(value))
+      .findFirst()
+      .orElse(DROOLS);
+  }
+
+  private final String representation;
+
+  CirculationRulesEngineType(String representation) {
+    this.representation = representation;
+  }
+
+  public String getRepresentation() {
+    return representation;
+  }
+}
@@ -0,0 +1,203 @@
+package org.folio.circulation.rules;
+
+import static java.util.Comparator.comparingInt;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.folio.circulation.support.json.JsonPropertyWriter.write;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.folio.circulation.domain.Location;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Immutable decision index of the circulation rules, an alternative to {@link Drools}
+ * that doesn't need a session per lookup.
+ * <p>
+ * The rules are ordered by descending salience. For each criterium type there is a bitset
+ * per id mentioned in the rules with a bit for each rule that the id satisfies, and one bitset
+ * for all other ids. Looking up the rules that match is the intersection of seven bitsets,
+ * the first set bit is the rule Drools would fire first, and that rule holds all five policies.
+ */
+public class CirculationRulesIndex implements CirculationRulesEngine {
+  private static final String[] CRITERIUM_TYPES = {"t", "a", "b", "c", "s", "m", "g"};
+
+  private final List<CirculationRule> rules;
+  private final Map<String, CriteriumIndex> indexes = new HashMap<>();
+
+  public CirculationRulesIndex(List<CirculationRule> rules) {
+    this.rules = new ArrayList<>(rules);
+    this.rules.sort(comparingInt(CirculationRule::getSalience).reversed()
+      .thenComparingInt(CirculationRule::getLineNumber));
+
+    for (String type : CRITERIUM_TYPES) {
+      indexes.put(type, new CriteriumIndex(type, this.rules));
+    }
+  }
+
+  /**
+   * Compile circulation rules in FOLIO text format into a decision index.
+   * @param text String with a circulation rules file in FOLIO syntax.
+   * @return the index
+   */
+  public static CirculationRulesIndex fromText(String text) {
+    return new CirculationRulesIndex(Text2Drools.convertToRules(text));
+  }
+
+  /**
+   * Find the highest priority rule that matches, it determines all five policies at once.
+   * @param params request params
+   * @param location - location with institution, library and campus
+   * @return the rule, or null if no rule matches
+   */
+  public CirculationRule match(MultiMap params, Location location) {
+    final BitSet matching = matching(params, location);
+    final int first = matching.nextSetBit(0);
+
+    return first < 0 ? null : rules.get(first);
+  }
+
+  @Override
+  public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
+    final CirculationRule rule = match(params, location);
+
+    if (rule == null) {
+      return new CirculationRuleMatch(null, new AppliedRuleConditions(false, false, false));
+    }
+
+    return new CirculationRuleMatch(rule.getPolicyId("l"), new AppliedRuleConditions(
+      rule.usesCriteriumType("m"), rule.usesCriteriumType("t"), rule.usesCriteriumType("g")));
+  }
+
+  @Override
+  public JsonArray loanPolicies(MultiMap params, Location location) {
+    return policies(params, location, "l", "loanPolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
+    return policy(params, location, "r");
+  }
+
+  @Override
+  public JsonArray requestPolicies(MultiMap params, Location location) {
+    return policies(params, location, "r", "requestPolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
+    return policy(params, location, "n");
+  }
+
+  @Override
+  public JsonArray noticePolicies(MultiMap params, Location location) {
+    return policies(params, location, "n", "noticePolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
+    return policy(params, location, "o");
+  }
+
+  @Override
+  public JsonArray overduePolicies(MultiMap params, Location location) {
+    return policies(params, location, "o", "overduePolicyId");
+  }
+
+  @Override
+  public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
+    return policy(params, location, "i");
+  }
+
+  @Override
+  public JsonArray lostItemPolicies(MultiMap params, Location location) {
+    return policies(params, location, "i", "lostItemPolicyId");
+  }
+
+  private CirculationRuleMatch policy(MultiMap params, Location location, String policyType) {
+    final CirculationRule rule = match(params, location);
+
+    return new CirculationRuleMatch(rule == null ? null : rule.getPolicyId(policyType),
+      new AppliedRuleConditions(false, false, false));
+  }
+
+  private JsonArray policies(MultiMap params, Location location, String policyType,
+    String propertyName) {
+
+    final BitSet matching = matching(params, location);
+    final JsonArray array = new JsonArray();
+
+    for (int i = matching.nextSetBit(0); i >= 0; i = matching.nextSetBit(i + 1)) {
+      final CirculationRule rule = rules.get(i);
+      final JsonObject json = new JsonObject();
+
+      write(json, propertyName, rule.getPolicyId(policyType));
+      write(json, "circulationRuleLine", rule.getLineNumber());
+
+      array.add(json);
+    }
+
+    return array;
+  }
+
+  private BitSet matching(MultiMap params, Location location) {
+    final BitSet matching = new BitSet(rules.size());
+    matching.set(0, rules.size());
+
+    matching.and(indexes.get("t").matching(params.get(LOAN_TYPE_ID_NAME)));
+    matching.and(indexes.get("a").matching(location.getInstitutionId()));
+    matching.and(indexes.get("b").matching(location.getCampusId()));
+    matching.and(indexes.get("c").matching(location.getLibraryId()));
+    matching.and(indexes.get("s").matching(params.get(LOCATION_ID_NAME)));
+    matching.and(indexes.get("m").matching(params.get(ITEM_TYPE_ID_NAME)));
+    matching.and(indexes.get("g").matching(params.get(PATRON_TYPE_ID_NAME)));
+
+    return matching;
+  }
+
+  private static class CriteriumIndex {
+    private final Map<String, BitSet> rulesById = new HashMap<>();
+    private final BitSet rulesForOtherIds;
+
+    CriteriumIndex(String type, List<CirculationRule> rules) {
+      rules.stream()
+        .flatMap(rule -> rule.getCriteria().stream())
+        .filter(criterium -> criterium.getType().equals(type))
+        .flatMap(criterium -> criterium.getNames().stream())
+        .distinct()
+        .forEach(id -> rulesById.put(id, rulesMatching(type, id, rules)));
+
+      // an id that no rule mentions (or no id at all) behaves the same as null
+      rulesForOtherIds = rulesMatching(type, null, rules);
+    }
+
+    BitSet matching(String id) {
+      if (id == null) {
+        return rulesForOtherIds;
+      }
+
+      return rulesById.getOrDefault(id, rulesForOtherIds);
+    }
+
+    private static BitSet rulesMatching(String type, String id, List<CirculationRule> rules) {
+      final BitSet bitSet = new BitSet(rules.size());
+
+      for (int i = 0; i < rules.size(); i++) {
+        if (rules.get(i).matches(type, id)) {
+          bitSet.set(i);
+        }
+      }
+
+      return bitSet;
+    }
+  }
+}
@@ -14,6 +14,7 @@ import org.folio.circulation.rules.cache.CirculationRulesCache;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.FetchSingleRecord;
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.async.WorkerPool;
 import org.folio.circulation.support.results.Result;
 import org.slf4j.Logger;
 
@@ -43,7 +44,7 @@ public class CirculationRulesProcessor {
 
   public CompletableFuture<Result<JsonArray>> getLoanPolicies(RulesExecutionParameters params) {
     return triggerRules(params,
-      (drools, newParams) -> drools.loanPolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.loanPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getLostItemPolicyAndMatch(
@@ -54,7 +55,7 @@ public class CirculationRulesProcessor {
 
   public CompletableFuture<Result<JsonArray>> getLostItemPolicies(RulesExecutionParameters params) {
     return triggerRules(params,
-      (drools, newParams) -> drools.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.lostItemPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getNoticePolicyAndMatch(
@@ -65,7 +66,7 @@ public class CirculationRulesProcessor {
 
   public CompletableFuture<Result<JsonArray>> getNoticePolicies(RulesExecutionParameters params) {
     return triggerRules(params,
-      (drools, newParams) -> drools.noticePolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.noticePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getOverduePolicyAndMatch(
@@ -76,7 +77,7 @@ public class CirculationRulesProcessor {
 
   public CompletableFuture<Result<JsonArray>> getOverduePolicies(RulesExecutionParameters params) {
     return triggerRules(params,
-      (drools, newParams) -> drools.overduePolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.overduePolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   public CompletableFuture<Result<CirculationRuleMatch>> getRequestPolicyAndMatch(
@@ -87,20 +88,24 @@ public class CirculationRulesProcessor {
 
   public CompletableFuture<Result<JsonArray>> getRequestPolicies(RulesExecutionParameters params) {
     return triggerRules(params,
-      (drools, newParams) -> drools.requestPolicies(newParams.toMap(), newParams.getLocation()));
+      (rulesEngine, newParams) -> rulesEngine.requestPolicies(newParams.toMap(), newParams.getLocation()));
   }
 
   private <T> CompletableFuture<Result<T>> triggerRules(RulesExecutionParameters params,
-    BiFunction<Drools, RulesExecutionParameters, T> droolsFunction) {
+    BiFunction<CirculationRulesEngine, RulesExecutionParameters, T> rulesFunction) {
 
     val rulesFuture = CirculationRulesCache.getInstance()
-      .getDrools(tenantId, circulationRulesStorage);
+      .getRulesEngine(tenantId, circulationRulesStorage);
 
-    return fetchLocation(params).thenCombine(rulesFuture, combined(
-      (newParams, drools) -> {
-        log.info("Applying circulation rules with parameters: {}", newParams);
-        return succeeded(droolsFunction.apply(drools, newParams));
-      }));
+    // finding all the matching policies is done by Drools without memoizing,
+    // so is done on the worker pool rather than the event loop
+    return fetchLocation(params)
+      .thenCombine(rulesFuture, (parameters, rules) -> parameters.combine(rules,
+        (newParams, rulesEngine) -> WorkerPool.getInstance().supply(() -> {
+          log.info("Applying circulation rules with parameters: {}", newParams);
+          return succeeded(rulesFunction.apply(rulesEngine, newParams));
+        })))
+      .thenCompose(r -> r.after(rulesApplied -> rulesApplied));
   }
 
   private <T> CompletableFuture<Result<T>> executeRules(RulesExecutionParameters params,
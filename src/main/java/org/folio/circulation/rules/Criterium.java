@@ -0,0 +1,36 @@
+package org.folio.circulation.rules;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One criterium of a circulation rule, for example {@code m book dvd} or {@code g !visitor}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public final class Criterium {
+  /** criterium type letter, one of t, a, b, c, s, m, g */
+  private final String type;
+  /** the names (UUIDs) listed after the type letter, empty for {@code all} */
+  private final Set<String> names;
+  private final boolean negated;
+  private final boolean all;
+
+  /**
+   * Same semantics as the Drools pattern generated by Text2Drools:
+   * {@code all} matches any id, a null id doesn't equal any name.
+   * @param id  the id of the item's, patron's or location's property of this type
+   * @return whether the id satisfies this criterium
+   */
+  public boolean matches(String id) {
+    if (all) {
+      return true;
+    }
+
+    return negated != names.contains(id);
+  }
+}
@@ -6,6 +6,9 @@ import static org.folio.circulation.support.results.Result.of;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -23,42 +26,68 @@ public class ExecutableRules {
 
   @Getter()
   private final String text;
-  private final Drools drools;
+  @Getter
+  private final String contentHash;
+  @Getter
+  private final CirculationRulesEngine rulesEngine;
 
-  public ExecutableRules(String text, Drools drools) {
+  public ExecutableRules(String text, CirculationRulesEngine rulesEngine) {
     this.text = text;
-    this.drools = drools;
+    this.contentHash = contentHash(text);
+    this.rulesEngine = rulesEngine;
+  }
+
+  /**
+   * @param rulesAsText  circulation rules
+   * @return hex encoded SHA-256 hash of the circulation rules
+   */
+  public static String contentHash(String rulesAsText) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final byte[] hash = digest.digest(rulesAsText.getBytes(StandardCharsets.UTF_8));
+      final StringBuilder hex = new StringBuilder();
+
+      for (byte b : hash) {
+        hex.append(String.format("%02x", b));
+      }
+
+      return hex.toString();
+    }
+    catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
   }
 
   public Result<CirculationRuleMatch> determineLoanPolicy(RulesExecutionParameters parameters) {
-    return determinePolicy(parameters, drools::loanPolicy, "loan policy");
+    return determinePolicy(parameters, rulesEngine::loanPolicy, "loan policy");
   }
 
   public Result<CirculationRuleMatch> determineRequestPolicy(RulesExecutionParameters parameters) {
-    return determinePolicy(parameters, drools::requestPolicy, "request policy");
+    return determinePolicy(parameters, rulesEngine::requestPolicy, "request policy");
   }
 
   public Result<CirculationRuleMatch> determineNoticePolicy(RulesExecutionParameters parameters) {
-    return determinePolicy(parameters, drools::noticePolicy, "notice policy");
+    return determinePolicy(parameters, rulesEngine::noticePolicy, "notice policy");
   }
 
   public Result<CirculationRuleMatch> determineLostItemPolicy(RulesExecutionParameters parameters) {
-    return determinePolicy(parameters, drools::lostItemPolicy, "lost item policy");
+    return determinePolicy(parameters, rulesEngine::lostItemPolicy, "lost item policy");
   }
 
   public Result<CirculationRuleMatch> determineOverduePolicy(RulesExecutionParameters parameters) {
-    return determinePolicy(parameters, drools::overduePolicy, "overdude policy");
+    return determinePolicy(parameters, rulesEngine::overduePolicy, "overdude policy");
   }
 
   private Result<CirculationRuleMatch> determinePolicy(RulesExecutionParameters parameters,
-    BiFunction<MultiMap, Location, CirculationRuleMatch> droolsExecutor, String policyType) {
+    BiFunction<MultiMap, Location, CirculationRuleMatch> rulesExecutor, String policyType) {
 
     if (log.isInfoEnabled()) {
       log.info("Executing circulation rules: `{}` with parameters: `{}` to determine {}",
         text, parameters, policyType);
     }
 
-    return of(() -> droolsExecutor.apply(parameters.toMap(), parameters.getLocation()))
+    return of(() -> rulesExecutor.apply(parameters.toMap(), parameters.getLocation()))
       .failWhen(this::noMatch, fail(parameters, policyType));
   }
 
@@ -0,0 +1,130 @@
+package org.folio.circulation.rules;
+
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.folio.circulation.domain.Location;
+import org.folio.circulation.support.cache.CacheStatistics;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Remembers the policy matches of a rules engine for each combination of item type,
+ * loan type, patron group, location and policy type.
+ * <p>
+ * The memo belongs to the engine it wraps, replacing the engine (when the circulation
+ * rules change) discards the memo with it. The lists of all matching policies
+ * are not remembered, these are only requested by the circulation rules engine API.
+ */
+public class MemoizingCirculationRulesEngine implements CirculationRulesEngine {
+  private static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+  private final CirculationRulesEngine rulesEngine;
+  private final Map<List<String>, CirculationRuleMatch> matches;
+  private final CacheStatistics statistics = new CacheStatistics();
+
+  public MemoizingCirculationRulesEngine(CirculationRulesEngine rulesEngine) {
+    this(rulesEngine, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public MemoizingCirculationRulesEngine(CirculationRulesEngine rulesEngine, int maximumSize) {
+    this.rulesEngine = rulesEngine;
+    this.matches = Collections.synchronizedMap(
+      new LinkedHashMap<List<String>, CirculationRuleMatch>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+          Map.Entry<List<String>, CirculationRuleMatch> eldest) {
+
+          return size() > maximumSize;
+        }
+      });
+  }
+
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public CirculationRuleMatch loanPolicy(MultiMap params, Location location) {
+    return memoize("l", params, location, rulesEngine::loanPolicy);
+  }
+
+  @Override
+  public JsonArray loanPolicies(MultiMap params, Location location) {
+    return rulesEngine.loanPolicies(params, location);
+  }
+
+  @Override
+  public CirculationRuleMatch requestPolicy(MultiMap params, Location location) {
+    return memoize("r", params, location, rulesEngine::requestPolicy);
+  }
+
+  @Override
+  public JsonArray requestPolicies(MultiMap params, Location location) {
+    return rulesEngine.requestPolicies(params, location);
+  }
+
+  @Override
+  public CirculationRuleMatch noticePolicy(MultiMap params, Location location) {
+    return memoize("n", params, location, rulesEngine::noticePolicy);
+  }
+
+  @Override
+  public JsonArray noticePolicies(MultiMap params, Location location) {
+    return rulesEngine.noticePolicies(params, location);
+  }
+
+  @Override
+  public CirculationRuleMatch overduePolicy(MultiMap params, Location location) {
+    return memoize("o", params, location, rulesEngine::overduePolicy);
+  }
+
+  @Override
+  public JsonArray overduePolicies(MultiMap params, Location location) {
+    return rulesEngine.overduePolicies(params, location);
+  }
+
+  @Override
+  public CirculationRuleMatch lostItemPolicy(MultiMap params, Location location) {
+    return memoize("i", params, location, rulesEngine::lostItemPolicy);
+  }
+
+  @Override
+  public JsonArray lostItemPolicies(MultiMap params, Location location) {
+    return rulesEngine.lostItemPolicies(params, location);
+  }
+
+  private CirculationRuleMatch memoize(String policyType, MultiMap params, Location location,
+    BiFunction<MultiMap, Location, CirculationRuleMatch> rulesExecutor) {
+
+    final List<String> key = Arrays.asList(policyType,
+      params.get(ITEM_TYPE_ID_NAME), params.get(LOAN_TYPE_ID_NAME),
+      params.get(PATRON_TYPE_ID_NAME), params.get(LOCATION_ID_NAME),
+      location.getInstitutionId(), location.getCampusId(), location.getLibraryId());
+
+    final CirculationRuleMatch memoizedMatch = matches.get(key);
+
+    if (memoizedMatch != null) {
+      statistics.recordHit();
+      return memoizedMatch;
+    }
+
+    statistics.recordMiss();
+
+    final CirculationRuleMatch match = rulesExecutor.apply(params, location);
+
+    matches.put(key, match);
+
+    return match;
+  }
+}
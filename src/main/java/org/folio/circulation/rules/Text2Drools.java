@@ -1,10 +1,13 @@
 package org.folio.circulation.rules;
 
 import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableList;
 import static org.apache.commons.text.StringEscapeUtils.escapeJava;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +38,9 @@ import org.folio.circulation.rules.CirculationRulesParser.TwoPrioritiesContext;
 
 /**
  * Convert a circulation rules text in FOLIO format into a drools rules text.
+ * <p>
+ * While converting it also collects each generated rule as a {@link CirculationRule}
+ * so that the rules can be evaluated without Drools, see {@link CirculationRulesIndex}.
  */
 public class Text2Drools extends CirculationRulesBaseListener {
   @SuppressWarnings("squid:CommentedOutCodeLine")  // Example code is allowed
@@ -86,6 +92,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
       "global Match match\n" +
       "\n");
 
+  private final List<CirculationRule> rules = new ArrayList<>();
   private final LinkedList<Matcher> stack = new LinkedList<>();
   private final String[] policyTypes = {"l", "r", "n", "o", "i"};
   private final PolicyValidator policyValidator;
@@ -125,7 +132,26 @@ public class Text2Drools extends CirculationRulesBaseListener {
     return getDroolsRepresentation(text, text2drools);
   }
 
+  /**
+   * Convert circulation rules from FOLIO text format into a list of rules,
+   * each with the salience the Drools file would use.
+   * @param text String with a circulation rules file in FOLIO syntax.
+   * @return the rules in the order of their lines
+   */
+  public static List<CirculationRule> convertToRules(String text) {
+    Text2Drools text2drools = new Text2Drools((policyType, policies, token) -> {});
+    walk(text, text2drools);
+
+    return unmodifiableList(text2drools.rules);
+  }
+
   private static String getDroolsRepresentation(String text, Text2Drools text2drools) {
+    walk(text, text2drools);
+
+    return text2drools.drools.toString();
+  }
+
+  private static void walk(String text, Text2Drools text2drools) {
     CharStream input = CharStreams.fromString(text);
     CirculationRulesLexer lexer = new CirculationRulesLexer(input);
     CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -135,8 +161,6 @@ public class Text2Drools extends CirculationRulesBaseListener {
     CirculationRulesFileContext entryPoint = parser.circulationRulesFile();
     ParseTreeWalker walker = new ParseTreeWalker();
     walker.walk(text2drools, entryPoint);
-
-    return text2drools.drools.toString();
   }
 
   /**
@@ -316,21 +340,31 @@ public class Text2Drools extends CirculationRulesBaseListener {
     }
 
     int line = policies.getStart().getLine();
+    int salience = getSalience(line);
+    List<Criterium> criteria = new ArrayList<>();
+    Map<String, String> policyIds = new HashMap<>();
+
     drools.append("rule \"line ").append(line).append("\"\n");
-    drools.append("  salience ").append(getSalience(line)).append("\n");
+    drools.append("  salience ").append(salience).append("\n");
     drools.append("  when\n");
-    stack.descendingIterator().forEachRemaining(matcher -> drools.append(matcher.drools));
+    stack.descendingIterator().forEachRemaining(matcher -> {
+      drools.append(matcher.drools);
+      criteria.addAll(matcher.criteria);
+    });
     drools.append("  then\n");
 
     for (PolicyContext policy : policies.policy()) {
       drools.append(policyMatchString(policy));
       appendQuotedString(drools, policy.NAME().getText());
       drools.append(";\n");
+      policyIds.put(policy.POLICY_TYPE().getText(), policy.NAME().getText());
     }
 
     drools.append("    match.lineNumber = ").append(line).append(";\n");
     drools.append("    drools.halt();\n");
     drools.append("end\n\n");
+
+    rules.add(new CirculationRule(line, salience, criteria, policyIds));
   }
 
   private static String policyMatchString(PolicyContext policy) {
@@ -408,6 +442,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
 
     if (criteriumContext.all() != null) {
       matcher.drools.append("() // all\n");
+      matcher.criteria.add(new Criterium(criteriumTypeLetter, emptySet(), false, true));
       return;
     }
 
@@ -418,6 +453,10 @@ public class Text2Drools extends CirculationRulesBaseListener {
       not = true;
     }
 
+    Set<String> names = new LinkedHashSet<>();
+    criteriumContext.NAME().forEach(name -> names.add(name.getText()));
+    matcher.criteria.add(new Criterium(criteriumTypeLetter, names, not, false));
+
     if (criteriumContext.NAME().size() == 1) {
       matcher.drools.append(not ? "(id != " : "(id == " );
       appendQuotedString(matcher.drools, criteriumContext.NAME(0).getText());
@@ -474,6 +513,7 @@ public class Text2Drools extends CirculationRulesBaseListener {
     Set<String> criteriaUsed = new HashSet<>(4);
     int maxCriteriumPriority;
     StringBuilder drools;
+    List<Criterium> criteria = new ArrayList<>();
 
     public Matcher(int indentation, Set<String> criteriaUsed,
       int maxCriteriumPriority, StringBuilder drools) {
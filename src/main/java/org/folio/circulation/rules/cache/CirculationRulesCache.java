@@ -2,8 +2,9 @@ package org.folio.circulation.rules.cache;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
 import static org.folio.circulation.support.results.Result.failed;
-import static org.folio.circulation.support.results.Result.ofAsync;
+import static org.folio.circulation.support.results.Result.of;
 import static org.folio.circulation.support.results.Result.succeeded;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -11,28 +12,38 @@ import java.lang.invoke.MethodHandles;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.folio.circulation.rules.CirculationRulesEngine;
+import org.folio.circulation.rules.CirculationRulesEngineType;
+import org.folio.circulation.rules.CirculationRulesIndex;
 import org.folio.circulation.rules.Drools;
 import org.folio.circulation.rules.ExecutableRules;
+import org.folio.circulation.rules.MemoizingCirculationRulesEngine;
 import org.folio.circulation.rules.Text2Drools;
 import org.folio.circulation.support.CollectionResourceClient;
 import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.cache.CacheStatistics;
 import org.folio.circulation.support.results.Result;
 import org.slf4j.Logger;
 
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
 public final class CirculationRulesCache {
   private static final Logger log = getLogger(MethodHandles.lookup().lookupClass());
 
   private static final CirculationRulesCache instance = new CirculationRulesCache();
-  /** after this time the rules get loaded before executing the circulation rules engine */
-  private static final long MAX_AGE_IN_MILLISECONDS = 5000;
   /** after this time the circulation rules engine is executed first for a fast reply
-   * and then the circulation rules get reloaded */
+   * and then the circulation rules get reloaded. Pubsub delivers the circulation rules
+   * changed event to only one module instance, the other instances rely on this reload
+   * to pick up the change, so it must stay short */
   private static final long TRIGGER_AGE_IN_MILLISECONDS = 4000;
-  /** rules and Drools for each tenantId */
+  /** rules and rules engine for each tenantId */
   private final Map<String, Rules> rulesMap = new ConcurrentHashMap<>();
+  private volatile CirculationRulesEngineType engineType = CirculationRulesEngineType.DROOLS;
 
   public static CirculationRulesCache getInstance() {
     return instance;
@@ -40,6 +51,19 @@ public final class CirculationRulesCache {
 
   private CirculationRulesCache() {}
 
+  /**
+   * Select the implementation used to execute the circulation rules.
+   * Changing the engine type drops the cache, so that the rules get rebuilt.
+   * @param engineType  the engine to use for all tenants
+   */
+  public void useEngine(CirculationRulesEngineType engineType) {
+    if (this.engineType != engineType) {
+      log.info("Using {} circulation rules engine", engineType.getRepresentation());
+      this.engineType = engineType;
+      dropCache();
+    }
+  }
+
   /**
    * Completely drop the cache. This enforces rebuilding the drools rules
    * even when the circulation rules haven't changed.
@@ -49,7 +73,8 @@ public final class CirculationRulesCache {
   }
 
   /**
-   * Enforce reload of the tenant's circulation rules.
+   * Enforce reload of the tenant's circulation rules, requests after this wait
+   * for the reloaded rules.
    * This doesn't rebuild the drools rules if the circulation rules haven't changed.
    * @param tenantId  id of the tenant
    */
@@ -58,39 +83,98 @@ public final class CirculationRulesCache {
     if (rules == null) {
       return;
     }
-    rules.reloadTimestamp = 0;
+    rules.requiredGeneration.incrementAndGet();
   }
 
-  private boolean isCurrent(Rules rules) {
+  /**
+   * Enforce reload of the tenant's circulation rules after they have been changed,
+   * unless the loaded rules already are the changed ones.
+   * @param tenantId  id of the tenant
+   * @param rulesHash  content hash of the changed circulation rules
+   */
+  public void rulesChanged(String tenantId, String rulesHash) {
+    Rules rules = rulesMap.get(tenantId);
     if (rules == null) {
-      return false;
+      return;
     }
-    return rules.reloadTimestamp + MAX_AGE_IN_MILLISECONDS > System.currentTimeMillis();
+
+    final ExecutableRules executableRules = rules.executableRules;
+
+    if (executableRules != null && isUsable(rules)
+      && executableRules.getContentHash().equals(rulesHash)) {
+
+      log.info("Circulation rules for tenant {} are already up to date", tenantId);
+      return;
+    }
+
+    clearCache(tenantId);
   }
 
   /**
-   * Reload is needed if the last reload is TRIGGER_AGE_IN_MILLISECONDS old
-   * and a reload hasn't been initiated yet.
+   * The rules must be (re)loaded before they can be used when they haven't been
+   * loaded yet or when they have been cleared since they were last loaded.
+   * @param rules - rules to check
+   * @return whether the rules can be used without waiting for a reload
+   */
+  private boolean isUsable(Rules rules) {
+    return rules.executableRules != null
+      && rules.loadedGeneration >= rules.requiredGeneration.get();
+  }
+
+  /**
+   * Reload is needed if the last reload is TRIGGER_AGE_IN_MILLISECONDS old.
    * @param rules - rules to reload
    * @return whether reload is needed
    */
   private boolean reloadNeeded(Rules rules) {
-    if (rules.reloadInitiated) {
-      return false;
-    }
     return rules.reloadTimestamp + TRIGGER_AGE_IN_MILLISECONDS < System.currentTimeMillis();
   }
 
+  /**
+   * Start a reload of the rules unless one that satisfies the current generation
+   * is already in flight, in which case that one is shared.
+   * @param rules - rules to reload
+   * @param circulationRulesClient - client for fetching the rules from storage
+   * @return the rules when the (shared) reload has finished
+   */
   private CompletableFuture<Result<Rules>> reloadRules(Rules rules,
     CollectionResourceClient circulationRulesClient) {
 
+    while (true) {
+      final Reload inFlight = rules.reload.get();
+      final long generation = rules.requiredGeneration.get();
+
+      if (inFlight != null && inFlight.generation >= generation) {
+        return inFlight.rules;
+      }
+
+      final Reload reload = new Reload(generation);
+
+      if (rules.reload.compareAndSet(inFlight, reload)) {
+        fetchAndApplyRules(rules, reload, circulationRulesClient)
+          .whenComplete((result, throwable) -> {
+            rules.reload.compareAndSet(reload, null);
+
+            if (throwable != null) {
+              reload.rules.completeExceptionally(throwable);
+            }
+            else {
+              reload.rules.complete(result);
+            }
+          });
+
+        return reload.rules;
+      }
+    }
+  }
+
+  private CompletableFuture<Result<Rules>> fetchAndApplyRules(Rules rules,
+    Reload reload, CollectionResourceClient circulationRulesClient) {
+
     return circulationRulesClient.get()
       .thenCompose(r -> r.after(response -> {
         JsonObject circulationRules = new JsonObject(response.getBody());
 
-        rules.reloadTimestamp = System.currentTimeMillis();
-        rules.reloadInitiated = false;
-
         if (log.isInfoEnabled()) {
           log.info("circulationRules = {}", circulationRules.encodePrettily());
         }
@@ -102,61 +186,156 @@ public final class CirculationRulesCache {
             "Cannot apply blank circulation rules")));
         }
 
-        if (rules.rulesAsText.equals(rulesAsText)) {
-          return ofAsync(() -> rules);
-        }
+        final ExecutableRules currentRules = rules.executableRules;
 
-        rules.rulesAsText = rulesAsText;
-        rules.rulesAsDrools = Text2Drools.convert(rulesAsText);
+        if (currentRules != null
+          && currentRules.getContentHash().equals(ExecutableRules.contentHash(rulesAsText))) {
 
-        log.info("rulesAsDrools = {}", rules.rulesAsDrools);
-        rules.drools = new Drools(rules.rulesAsDrools);
+          return completedFuture(succeeded(applyRules(rules, reload, currentRules,
+            rules.ruleMatchStatistics)));
+        }
 
-        return ofAsync(() -> rules);
+        return compileRulesEngine(rulesAsText)
+          .thenApply(result -> result.map(rulesEngine -> applyRules(rules, reload,
+            new ExecutableRules(rulesAsText, rulesEngine), rulesEngine.getStatistics())));
       }));
   }
 
-  public CompletableFuture<Result<ExecutableRules>> getExecutableRules(String tenantId,
-    CollectionResourceClient circulationRulesClient) {
+  /**
+   * Replace the rules unless a reload for a later generation has already replaced them.
+   * Text and engine (with its memo of rule matches) are replaced in one step.
+   */
+  private Rules applyRules(Rules rules, Reload reload, ExecutableRules executableRules,
+    CacheStatistics ruleMatchStatistics) {
+
+    synchronized (rules) {
+      if (reload.generation < rules.loadedGeneration) {
+        return rules;
+      }
+
+      if (executableRules != rules.executableRules) {
+        if (rules.ruleMatchStatistics != null) {
+          log.info("Replacing circulation rules, rule matches cache {}",
+            rules.ruleMatchStatistics);
+        }
+
+        rules.ruleMatchStatistics = ruleMatchStatistics;
+        rules.executableRules = executableRules;
+      }
 
-    return getDrools(tenantId, circulationRulesClient)
-      .thenApply(r -> r.map(drools ->
-        new ExecutableRules(rulesMap.get(tenantId).rulesAsText, drools)));
+      rules.reloadTimestamp = System.currentTimeMillis();
+      rules.loadedGeneration = reload.generation;
+
+      return rules;
+    }
   }
 
-  public CompletableFuture<Result<Drools>> getDrools(String tenantId,
-    CollectionResourceClient circulationRulesClient) {
+  /**
+   * Build the rules engine on a worker thread, building Drools takes too long
+   * for the event loop. Builds on the calling thread when not running on Vert.x.
+   */
+  private CompletableFuture<Result<MemoizingCirculationRulesEngine>> compileRulesEngine(
+    String rulesAsText) {
+
+    final Context context = Vertx.currentContext();
+
+    if (context == null) {
+      return completedFuture(of(() -> memoize(buildRulesEngine(rulesAsText))));
+    }
+
+    final CompletableFuture<Result<MemoizingCirculationRulesEngine>> compiled =
+      new CompletableFuture<>();
 
-    final CompletableFuture<Result<Drools>> cfDrools = new CompletableFuture<>();
+    context.owner().<Result<MemoizingCirculationRulesEngine>>executeBlocking(
+      promise -> promise.complete(of(() -> memoize(buildRulesEngine(rulesAsText)))),
+      false,
+      asyncResult -> {
+        if (asyncResult.succeeded()) {
+          compiled.complete(asyncResult.result());
+        }
+        else {
+          compiled.complete(failedDueToServerError(asyncResult.cause()));
+        }
+      });
+
+    return compiled;
+  }
+
+  private MemoizingCirculationRulesEngine memoize(CirculationRulesEngine rulesEngine) {
+    return new MemoizingCirculationRulesEngine(rulesEngine);
+  }
+
+  private CirculationRulesEngine buildRulesEngine(String rulesAsText) {
+    if (engineType == CirculationRulesEngineType.INDEX) {
+      return CirculationRulesIndex.fromText(rulesAsText);
+    }
+
+    String rulesAsDrools = Text2Drools.convert(rulesAsText);
+    log.info("rulesAsDrools = {}", rulesAsDrools);
+
+    return new Drools(rulesAsDrools);
+  }
+
+  /**
+   * Hit and miss counts of the tenant's memo of rule matches,
+   * since the circulation rules were last changed.
+   * @param tenantId  id of the tenant
+   * @return the statistics, null if the tenant's rules haven't been loaded yet
+   */
+  public CacheStatistics getRuleMatchStatistics(String tenantId) {
     Rules rules = rulesMap.get(tenantId);
 
-    if (isCurrent(rules)) {
-      cfDrools.complete(succeeded(rules.drools));
+    return rules == null ? null : rules.ruleMatchStatistics;
+  }
+
+  public CompletableFuture<Result<CirculationRulesEngine>> getRulesEngine(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
+
+    return getExecutableRules(tenantId, circulationRulesClient)
+      .thenApply(r -> r.map(ExecutableRules::getRulesEngine));
+  }
+
+  /**
+   * Get the tenant's executable rules. Once loaded, the rules are used while
+   * a reload is in progress, requests only wait for the first load and for
+   * the reload after the rules have been cleared.
+   */
+  public CompletableFuture<Result<ExecutableRules>> getExecutableRules(String tenantId,
+    CollectionResourceClient circulationRulesClient) {
+
+    final Rules rules = rulesMap.computeIfAbsent(tenantId, key -> new Rules());
 
+    if (isUsable(rules)) {
       if (reloadNeeded(rules)) {
-        rules.reloadInitiated = true;
-        reloadRules(rules, circulationRulesClient)
-          .thenCompose(r -> r.after(updatedRules -> ofAsync(() -> updatedRules.drools)));
+        reloadRules(rules, circulationRulesClient);
       }
 
-      return cfDrools;
-    }
-
-    if (rules == null) {
-      rules = new Rules();
-      rulesMap.put(tenantId, rules);
+      return completedFuture(succeeded(rules.executableRules));
     }
 
     return reloadRules(rules, circulationRulesClient)
-      .thenCompose(r -> r.after(updatedRules -> ofAsync(() -> updatedRules.drools)));
+      .thenApply(r -> r.map(updatedRules -> updatedRules.executableRules));
   }
 
-  private class Rules {
-    private volatile String rulesAsText = "";
-    private volatile String rulesAsDrools = "";
-    private volatile Drools drools;
+  private static class Rules {
+    private volatile ExecutableRules executableRules;
+    private volatile CacheStatistics ruleMatchStatistics;
     /** System.currentTimeMillis() of the last load/reload of the rules from the storage */
     private volatile long reloadTimestamp;
-    private volatile boolean reloadInitiated = false;
+    /** incremented when the rules are cleared, a reload for at least this generation is needed */
+    private final AtomicLong requiredGeneration = new AtomicLong();
+    /** generation of the reload that last replaced the rules */
+    private volatile long loadedGeneration = -1;
+    /** reload in flight, shared by all requests needing it */
+    private final AtomicReference<Reload> reload = new AtomicReference<>();
+  }
+
+  private static class Reload {
+    private final long generation;
+    private final CompletableFuture<Result<Rules>> rules = new CompletableFuture<>();
+
+    private Reload(long generation) {
+      this.generation = generation;
+    }
   }
 }
@@ -1,6 +1,7 @@
 package org.folio.circulation.services;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.EventType.CIRCULATION_RULES_CHANGED;
 import static org.folio.circulation.domain.EventType.ITEM_CHECKED_IN;
 import static org.folio.circulation.domain.EventType.ITEM_CHECKED_OUT;
 import static org.folio.circulation.domain.EventType.ITEM_CLAIMED_RETURNED;
@@ -47,6 +48,7 @@ public class EventPublisher {
   public static final String DUE_DATE_FIELD = "dueDate";
   public static final String RETURN_DATE_FIELD = "returnDate";
   public static final String DUE_DATE_CHANGED_BY_RECALL_FIELD = "dueDateChangedByRecall";
+  public static final String RULES_HASH_FIELD = "rulesHash";
   public static final String FAILED_TO_PUBLISH_LOG_TEMPLATE =
     "Failed to publish {} event: loan is null";
 
@@ -72,7 +74,7 @@ public class EventPublisher {
       write(payloadJsonObject, DUE_DATE_FIELD, loan.getDueDate());
 
       JsonObject logEventPayload = mapToCheckOutLogEventJson(loanAndRelatedRecords);
-      CompletableFuture.runAsync(() -> pubSubPublishingService.publishEvent(LOG_RECORD.name(), logEventPayload.encode()));
+      pubSubPublishingService.publishEvent(LOG_RECORD.name(), logEventPayload.encode());
 
       return pubSubPublishingService.publishEvent(ITEM_CHECKED_OUT.name(), payloadJsonObject.encode())
         .thenApply(r -> succeeded(loanAndRelatedRecords));
@@ -88,7 +90,7 @@ public class EventPublisher {
     CheckInContext checkInContext) {
 
     JsonObject logEventPayload = mapToCheckInLogEventJson(checkInContext);
-    CompletableFuture.runAsync(() -> pubSubPublishingService.publishEvent(LOG_RECORD.name(), logEventPayload.encode()));
+    pubSubPublishingService.publishEvent(LOG_RECORD.name(), logEventPayload.encode());
 
     if (checkInContext.getLoan() != null) {
       Loan loan = checkInContext.getLoan();
@@ -128,7 +130,7 @@ public class EventPublisher {
 
     LoanLogContext loanLogContext = LoanLogContext.from(loan)
       .withDescription(String.format("Additional information: %s", loan.getActionComment()));
-    CompletableFuture.runAsync(() -> publishLogRecord(loanLogContext.asJson(), LOAN));
+    publishLogRecord(loanLogContext.asJson(), LOAN);
 
     JsonObject payloadJson = new JsonObject();
     write(payloadJson, USER_ID_FIELD, loan.getUserId());
@@ -150,7 +152,7 @@ public class EventPublisher {
         .withAction(LogContextActionResolver.resolveAction(loan.getAction()))
         .withDescription(String.format("New due date: %s (from %s)",
           loan.getDueDate(), loan.getOriginalDueDate()));
-      CompletableFuture.runAsync(() -> publishLogRecord(loanLogContext.asJson(), LOAN));
+      publishLogRecord(loanLogContext.asJson(), LOAN);
 
       return pubSubPublishingService.publishEvent(LOAN_DUE_DATE_CHANGED.name(),
         payloadJsonObject.encode())
@@ -193,7 +195,7 @@ public class EventPublisher {
   }
 
   public CompletableFuture<Result<Void>> publishAgedToLostEvent(Loan loan) {
-    return publishLogRecord(LoanLogContext.from(loan)
+    return queueLogRecord(LoanLogContext.from(loan)
       .withDescription(String.format("Due date: %s", loan.getAgedToLostDateTime())).asJson(), LOAN);
   }
 
@@ -217,7 +219,21 @@ public class EventPublisher {
   }
 
   public CompletableFuture<Result<Void>> publishAnonymizeEvent(Loan loan) {
-    return publishLogRecord(LoanLogContext.from(loan).withAction("Anonymize").asJson(), LOAN);
+    return publishLogRecord(anonymizeLogRecord(loan), LOAN);
+  }
+
+  /**
+   * Queues the anonymize events of a bulk anonymization, rather than
+   * publishing them straight away, see {@link PubSubEventQueue}
+   */
+  public CompletableFuture<Result<LoanAnonymizationRecords>> queueAnonymizeEvents(LoanAnonymizationRecords records) {
+    return allOf(records.getAnonymizedLoans(),
+      loan -> queueLogRecord(anonymizeLogRecord(loan), LOAN))
+      .thenApply(r -> succeeded(records));
+  }
+
+  private static JsonObject anonymizeLogRecord(Loan loan) {
+    return LoanLogContext.from(loan).withAction("Anonymize").asJson();
   }
 
   public CompletableFuture<Result<Void>> publishRecallRequestedEvent(Loan loan) {
@@ -226,16 +242,44 @@ public class EventPublisher {
       .withDescription(String.format("New due date: %s (from %s)", loan.getDueDate(), loan.getOriginalDueDate())).asJson(), LOAN);
   }
 
+  public CompletableFuture<Result<Void>> publishCirculationRulesChangedEvent(
+    String rulesHash) {
+
+    JsonObject payloadJson = new JsonObject();
+    write(payloadJson, RULES_HASH_FIELD, rulesHash);
+
+    return pubSubPublishingService.publishEvent(CIRCULATION_RULES_CHANGED.name(),
+      payloadJson.encode())
+      .thenApply(r -> succeeded(null));
+  }
+
   public CompletableFuture<Result<Void>> publishLogRecord(JsonObject context, LogEventType payloadType) {
+    return pubSubPublishingService.publishEvent(LOG_RECORD.name(),
+      logRecordPayload(context, payloadType))
+      .thenApply(r -> succeeded(null));
+  }
+
+  /**
+   * Queues a log record of a bulk operation, such as anonymization, to be
+   * published once there is room, rather than straight away
+   */
+  public CompletableFuture<Result<Void>> queueLogRecord(JsonObject context,
+    LogEventType payloadType) {
+
+    return pubSubPublishingService.queueEvent(LOG_RECORD.name(),
+      logRecordPayload(context, payloadType))
+      .thenApply(r -> succeeded(null));
+  }
+
+  private static String logRecordPayload(JsonObject context, LogEventType payloadType) {
     JsonObject eventJson = new JsonObject();
     write(eventJson, LOG_EVENT_TYPE.value(), payloadType.value());
     write(eventJson, PAYLOAD.value(), context);
-    return pubSubPublishingService.publishEvent(LOG_RECORD.name(), eventJson.encode())
-      .thenApply(r -> succeeded(null));
+    return eventJson.encode();
   }
 
   public RequestAndRelatedRecords publishLogRecordAsync(RequestAndRelatedRecords requestAndRelatedRecords, Request originalRequest, LogEventType logEventType) {
-    CompletableFuture.runAsync(() -> publishLogRecord(mapToRequestLogEventJson(originalRequest, requestAndRelatedRecords.getRequest()), logEventType));
+    publishLogRecord(mapToRequestLogEventJson(originalRequest, requestAndRelatedRecords.getRequest()), logEventType);
     return requestAndRelatedRecords;
   }
 }
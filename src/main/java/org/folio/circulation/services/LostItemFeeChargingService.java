@@ -74,7 +74,7 @@ public class LostItemFeeChargingService {
 
         return fetchFeeFineOwner(referenceData)
           .thenApply(this::refuseWhenFeeFineOwnerIsNotFound)
-          .thenComposeAsync(this::fetchFeeFineTypes)
+          .thenCompose(this::fetchFeeFineTypes)
           .thenApply(this::buildAccountsAndActions)
           .thenCompose(r -> r.after(feeFineFacade::createAccounts))
           .thenApply(r -> r.map(notUsed -> loan));
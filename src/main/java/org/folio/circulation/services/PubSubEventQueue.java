@@ -0,0 +1,220 @@
+package org.folio.circulation.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.rest.jaxrs.model.Event;
+import org.folio.rest.util.OkapiConnectionParams;
+import org.folio.util.pubsub.PubSubClientUtils;
+
+import io.vertx.core.Context;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Publishes the events of bulk operations, such as anonymizing loans or aging
+ * items to lost, so that they do not flood pubsub.
+ * <p>
+ * Only a limited number of events are published at a time, across all
+ * tenants, the others wait in a queue for their turn. Pubsub accepts only
+ * one event per request, so each event is published as soon as there is
+ * room. An event that could not be published is tried again after a delay
+ * that doubles with each attempt.
+ */
+public class PubSubEventQueue {
+  private static final Logger logger = LoggerFactory.getLogger(PubSubEventQueue.class);
+
+  static final int MAXIMUM_PUBLISHES_IN_PROGRESS = 10;
+  static final int MAXIMUM_ATTEMPTS = 3;
+  static final long FIRST_RETRY_DELAY_MILLISECONDS = 500;
+
+  private static final PubSubEventQueue instance = new PubSubEventQueue(
+    PubSubEventQueue::sendOnContext, PubSubEventQueue::setTimerOnContext);
+
+  private final EventSender sender;
+  private final Scheduler scheduler;
+  private final PubSubPublishingStatistics statistics = new PubSubPublishingStatistics(this);
+
+  private final Deque<QueuedEvent> waiting = new ArrayDeque<>();
+  private int inProgress = 0;
+  private int awaitingRetry = 0;
+
+  PubSubEventQueue(EventSender sender, Scheduler scheduler) {
+    this.sender = sender;
+    this.scheduler = scheduler;
+  }
+
+  public static PubSubEventQueue getInstance() {
+    return instance;
+  }
+
+  /**
+   * Queues {@code event} to be published once fewer than the maximum number
+   * of events are being published
+   *
+   * @param context the Vert.x context to publish the event on
+   * @return true once the event has been published, false or failed when it
+   * could not be published within the allowed number of attempts
+   */
+  public CompletableFuture<Boolean> publish(Event event,
+    OkapiConnectionParams params, Context context) {
+
+    final QueuedEvent queued = new QueuedEvent(event, params, context);
+
+    synchronized (this) {
+      waiting.add(queued);
+    }
+
+    publishWaiting();
+
+    return queued.published;
+  }
+
+  public PubSubPublishingStatistics getStatistics() {
+    return statistics;
+  }
+
+  synchronized int getWaiting() {
+    return waiting.size();
+  }
+
+  synchronized int getInProgress() {
+    return inProgress;
+  }
+
+  synchronized int getAwaitingRetry() {
+    return awaitingRetry;
+  }
+
+  private void publishWaiting() {
+    final List<QueuedEvent> toPublish = new ArrayList<>();
+
+    synchronized (this) {
+      while (inProgress < MAXIMUM_PUBLISHES_IN_PROGRESS && !waiting.isEmpty()) {
+        inProgress++;
+        toPublish.add(waiting.poll());
+      }
+    }
+
+    toPublish.forEach(this::send);
+  }
+
+  private void send(QueuedEvent queued) {
+    queued.attempts++;
+
+    CompletableFuture<Boolean> sent;
+
+    try {
+      sent = sender.send(queued.event, queued.params, queued.context);
+    }
+    catch (Exception e) {
+      sent = CompletableFuture.failedFuture(e);
+    }
+
+    sent.whenComplete((result, throwable) -> sent(queued, result, throwable));
+  }
+
+  private void sent(QueuedEvent queued, Boolean result, Throwable throwable) {
+    synchronized (this) {
+      inProgress--;
+    }
+
+    final Event event = queued.event;
+
+    if (Boolean.TRUE.equals(result)) {
+      statistics.recordPublished();
+      logger.debug("Event published successfully. ID: {}, type: {}, payload: {}",
+        event.getId(), event.getEventType(), event.getEventPayload());
+      queued.published.complete(true);
+    }
+    else if (queued.attempts < MAXIMUM_ATTEMPTS) {
+      statistics.recordRetried();
+
+      synchronized (this) {
+        awaitingRetry++;
+      }
+
+      logger.warn("Failed to publish event, trying again. ID: {}, type: {}, attempt: {}",
+        throwable, event.getId(), event.getEventType(), queued.attempts);
+
+      scheduler.schedule(queued.context, retryDelay(queued.attempts),
+        () -> retry(queued));
+    }
+    else {
+      statistics.recordFailed();
+      logger.error("Failed to publish event. ID: {}, type: {}, payload: {}", throwable,
+        event.getId(), event.getEventType(), event.getEventPayload());
+
+      if (throwable == null) {
+        queued.published.complete(false);
+      } else {
+        queued.published.completeExceptionally(throwable);
+      }
+    }
+
+    publishWaiting();
+  }
+
+  private void retry(QueuedEvent queued) {
+    synchronized (this) {
+      awaitingRetry--;
+      waiting.addFirst(queued);
+    }
+
+    publishWaiting();
+  }
+
+  static long retryDelay(int attempts) {
+    return FIRST_RETRY_DELAY_MILLISECONDS << (attempts - 1);
+  }
+
+  private static CompletableFuture<Boolean> sendOnContext(Event event,
+    OkapiConnectionParams params, Context context) {
+
+    final CompletableFuture<Boolean> sent = new CompletableFuture<>();
+
+    context.runOnContext(v -> PubSubClientUtils.sendEventMessage(event, params)
+      .whenComplete((result, throwable) -> {
+        if (throwable == null) {
+          sent.complete(result);
+        } else {
+          sent.completeExceptionally(throwable);
+        }
+      }));
+
+    return sent;
+  }
+
+  private static void setTimerOnContext(Context context, long delayMilliseconds,
+    Runnable task) {
+
+    context.runOnContext(v -> context.owner().setTimer(delayMilliseconds,
+      timerId -> task.run()));
+  }
+
+  interface EventSender {
+    CompletableFuture<Boolean> send(Event event, OkapiConnectionParams params,
+      Context context);
+  }
+
+  interface Scheduler {
+    void schedule(Context context, long delayMilliseconds, Runnable task);
+  }
+
+  private static class QueuedEvent {
+    private final Event event;
+    private final OkapiConnectionParams params;
+    private final Context context;
+    private final CompletableFuture<Boolean> published = new CompletableFuture<>();
+    private int attempts = 0;
+
+    private QueuedEvent(Event event, OkapiConnectionParams params, Context context) {
+      this.event = event;
+      this.params = params;
+      this.context = context;
+    }
+  }
+}
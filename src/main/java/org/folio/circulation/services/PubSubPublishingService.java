@@ -36,20 +36,10 @@ public class PubSubPublishingService {
   }
 
   public CompletableFuture<Boolean> publishEvent(String eventType, String payload) {
-    Event event = new Event()
-      .withId(UUID.randomUUID().toString())
-      .withEventType(eventType)
-      .withEventPayload(payload)
-      .withEventMetadata(new EventMetadata()
-        .withPublishedBy(PubSubClientUtils.constructModuleName())
-        .withTenantId(okapiHeaders.get(OKAPI_TENANT_HEADER))
-        .withEventTTL(1));
+    Event event = createEvent(eventType, payload);
+    OkapiConnectionParams params = connectionParams();
 
     final CompletableFuture<Boolean> publishResult = new CompletableFuture<>();
-    OkapiConnectionParams params = new OkapiConnectionParams();
-    params.setOkapiUrl(okapiHeaders.get(OKAPI_URL_HEADER));
-    params.setTenantId(okapiHeaders.get(OKAPI_TENANT_HEADER));
-    params.setToken(okapiHeaders.get(OKAPI_TOKEN_HEADER));
 
     vertxContext.runOnContext(v -> PubSubClientUtils.sendEventMessage(event, params)
       .whenComplete((result, throwable) -> {
@@ -71,4 +61,33 @@ public class PubSubPublishingService {
 
     return publishResult;
   }
+
+  /**
+   * Queues an event of a bulk operation to be published once there is room,
+   * see {@link PubSubEventQueue}
+   */
+  public CompletableFuture<Boolean> queueEvent(String eventType, String payload) {
+    return PubSubEventQueue.getInstance()
+      .publish(createEvent(eventType, payload), connectionParams(), vertxContext);
+  }
+
+  private Event createEvent(String eventType, String payload) {
+    return new Event()
+      .withId(UUID.randomUUID().toString())
+      .withEventType(eventType)
+      .withEventPayload(payload)
+      .withEventMetadata(new EventMetadata()
+        .withPublishedBy(PubSubClientUtils.constructModuleName())
+        .withTenantId(okapiHeaders.get(OKAPI_TENANT_HEADER))
+        .withEventTTL(1));
+  }
+
+  private OkapiConnectionParams connectionParams() {
+    OkapiConnectionParams params = new OkapiConnectionParams();
+    params.setOkapiUrl(okapiHeaders.get(OKAPI_URL_HEADER));
+    params.setTenantId(okapiHeaders.get(OKAPI_TENANT_HEADER));
+    params.setToken(okapiHeaders.get(OKAPI_TOKEN_HEADER));
+
+    return params;
+  }
 }
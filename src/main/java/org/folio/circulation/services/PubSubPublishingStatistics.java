@@ -0,0 +1,81 @@
+package org.folio.circulation.services;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queue depth and outcomes of the events published by a {@link PubSubEventQueue}.
+ */
+public class PubSubPublishingStatistics {
+  private final PubSubEventQueue queue;
+
+  private final LongAdder published = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  PubSubPublishingStatistics(PubSubEventQueue queue) {
+    this.queue = queue;
+  }
+
+  void recordPublished() {
+    published.increment();
+  }
+
+  void recordRetried() {
+    retried.increment();
+  }
+
+  void recordFailed() {
+    failed.increment();
+  }
+
+  public long getPublished() {
+    return published.sum();
+  }
+
+  /**
+   * @return attempts to publish an event that failed and were tried again
+   */
+  public long getRetried() {
+    return retried.sum();
+  }
+
+  /**
+   * @return events that could not be published within the allowed attempts
+   */
+  public long getFailed() {
+    return failed.sum();
+  }
+
+  /**
+   * @return events that have not been published yet, including those in progress
+   */
+  public int getQueueDepth() {
+    return getWaiting() + getInProgress() + getAwaitingRetry();
+  }
+
+  /**
+   * @return events waiting for their turn to be published
+   */
+  public int getWaiting() {
+    return queue.getWaiting();
+  }
+
+  public int getInProgress() {
+    return queue.getInProgress();
+  }
+
+  /**
+   * @return events that failed to be published and will be tried again
+   */
+  public int getAwaitingRetry() {
+    return queue.getAwaitingRetry();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("published: %d, retried: %d, failed: %d, "
+        + "waiting: %d, in progress: %d, awaiting retry: %d",
+      getPublished(), getRetried(), getFailed(), getWaiting(),
+      getInProgress(), getAwaitingRetry());
+  }
+}
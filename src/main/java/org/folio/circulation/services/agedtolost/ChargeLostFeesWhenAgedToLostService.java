@@ -9,8 +9,8 @@ import static org.folio.circulation.domain.representations.LoanProperties.DATE_L
 import static org.folio.circulation.domain.representations.LoanProperties.ITEM_STATUS;
 import static org.folio.circulation.domain.representations.LoanProperties.LOST_ITEM_HAS_BEEN_BILLED;
 import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.backgroundActionsInProgress;
 import static org.folio.circulation.support.ClockManager.getClockManager;
-import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThanOrEqualTo;
@@ -48,6 +48,7 @@ import org.folio.circulation.services.EventPublisher;
 import org.folio.circulation.services.FeeFineFacade;
 import org.folio.circulation.services.support.CreateAccountCommand;
 import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.fetching.PageKey;
 import org.folio.circulation.support.fetching.PageableFetcher;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.results.Result;
@@ -82,7 +83,9 @@ public class ChargeLostFeesWhenAgedToLostService {
     this.userRepository = new UserRepository(clients);
     this.storeLoanAndItem = new StoreLoanAndItem(loanRepository, itemRepository);
     this.eventPublisher = new EventPublisher(clients.pubSubPublishingService());
-    this.loanPageableFetcher = new PageableFetcher<>(loanRepository);
+    this.loanPageableFetcher = new PageableFetcher<>(loanRepository)
+      .pagedBy(PageKey.byId(Loan::getId))
+      .readingAhead();
     this.feeFineScheduledNoticeService = FeeFineScheduledNoticeService.using(clients);
   }
 
@@ -105,7 +108,7 @@ public class ChargeLostFeesWhenAgedToLostService {
 
         return succeeded(LoanToChargeFees.usingLoans(allLoans))
           .after(this::fetchFeeFineOwners)
-          .thenComposeAsync(this::fetchFeeFineTypes)
+          .thenCompose(this::fetchFeeFineTypes)
           .thenCompose(this::chargeLostFeesForLoans)
           .thenCompose(this::publishClosedLoansLogEvents);
       }));
@@ -115,7 +118,8 @@ public class ChargeLostFeesWhenAgedToLostService {
     Result<List<LoanToChargeFees>> loansToChargeFeesResult) {
 
     return loansToChargeFeesResult
-      .after(loansToChargeFees -> allOf(loansToChargeFees, this::chargeLostFeesForLoan));
+      .after(loansToChargeFees -> allOf(loansToChargeFees,
+        backgroundActionsInProgress(), this::chargeLostFeesForLoan));
   }
 
   private CompletableFuture<Result<Loan>> chargeLostFeesForLoan(LoanToChargeFees loanToChargeFees) {
@@ -223,7 +227,7 @@ public class ChargeLostFeesWhenAgedToLostService {
 
     return itemRepository.fetchItemsFor(succeeded(loans), Loan::withItem)
       .thenCompose(r -> r.after(multipleLoans -> userRepository.findUsersForLoans(multipleLoans)))
-      .thenComposeAsync(r -> r.after(lostItemPolicyRepository::findLostItemPoliciesForLoans));
+      .thenCompose(r -> r.after(lostItemPolicyRepository::findLostItemPoliciesForLoans));
   }
 
   private Result<CqlQuery> loanFetchQuery() {
@@ -240,8 +244,7 @@ public class ChargeLostFeesWhenAgedToLostService {
       lostItemHasBeenBilled, "false");
 
     return billingDateQuery.combine(agedToLostQuery, CqlQuery::and)
-      .combine(hasNotBeenBilledQuery, CqlQuery::and)
-      .map(query -> query.sortBy(ascending(billingDateProperty)));
+      .combine(hasNotBeenBilledQuery, CqlQuery::and);
   }
 
   private Result<LoanToChargeFees> validateCanCreateAccountForLoan(LoanToChargeFees loanToChargeFees) {
@@ -286,7 +289,8 @@ public class ChargeLostFeesWhenAgedToLostService {
   }
 
   private CompletableFuture<Result<Void>> publishClosedLoansLogEvents(Result<List<Loan>> loansResult) {
-    return loansResult.after(loans -> allOf(loans, eventPublisher::publishClosedLoanEvent))
+    return loansResult.after(loans -> allOf(loans, backgroundActionsInProgress(),
+        eventPublisher::publishClosedLoanEvent))
       .thenApply(r -> r.map(v -> null));
   }
 }
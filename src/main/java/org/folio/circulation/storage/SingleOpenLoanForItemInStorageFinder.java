@@ -4,6 +4,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.function.Function.identity;
 import static org.folio.circulation.domain.validation.CommonFailures.moreThanOneOpenLoanFailure;
 import static org.folio.circulation.support.results.Result.of;
+import static org.folio.circulation.support.results.Result.succeeded;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -34,6 +35,18 @@ public class SingleOpenLoanForItemInStorageFinder {
   }
 
   public CompletableFuture<Result<Loan>> findSingleOpenLoan(Item item) {
+    return loanRepository.findOpenLoans(item)
+      .thenCompose(r -> r.after(openLoans -> findSingleOpenLoan(item, openLoans)));
+  }
+
+  /**
+   * Chooses the single open loan for the item from open loans that have
+   * already been fetched, the borrower is only fetched when the loan does not
+   * already have one
+   */
+  public CompletableFuture<Result<Loan>> findSingleOpenLoan(Item item,
+    MultipleRecords<Loan> openLoans) {
+
     //Use same error for no loans and more than one loan to maintain compatibility
     final MoreThanOneLoanValidator moreThanOneLoanValidator
       = new MoreThanOneLoanValidator(moreThanOneOpenLoanFailure(item.getBarcode()));
@@ -41,12 +54,12 @@ public class SingleOpenLoanForItemInStorageFinder {
     final NoLoanValidator noLoanValidator
       = new NoLoanValidator(moreThanOneOpenLoanFailure(item.getBarcode()));
 
-    return loanRepository.findOpenLoans(item)
-      .thenApply(moreThanOneLoanValidator::failWhenMoreThanOneLoan)
+    return completedFuture(moreThanOneLoanValidator.failWhenMoreThanOneLoan(
+        succeeded(openLoans)))
       .thenApply(loanResult -> loanResult.map(this::getFirstLoan))
       .thenApply(checkForNoLoanIfNeeded(noLoanValidator, allowNoLoanToBeFound))
       .thenApply(loanResult -> loanResult.map(loan -> mapPossibleSingleLoan(loan, item)))
-      .thenComposeAsync(this::fetchUser)
+      .thenCompose(this::fetchUser)
       .thenApply(loanResult -> loanResult.map(possibleLoan -> possibleLoan.orElse(null)));
   }
 
@@ -80,6 +93,10 @@ public class SingleOpenLoanForItemInStorageFinder {
       return completedFuture(of(() -> null));
     }
 
+    if (possibleLoan.get().getUser() != null) {
+      return completedFuture(succeeded(possibleLoan.get().getUser()));
+    }
+
     return userRepository.getUser(possibleLoan.get());
   }
 
@@ -9,6 +9,10 @@ import java.util.stream.Collectors;
 import org.folio.circulation.support.results.Result;
 
 public class AsyncCoordinationUtil {
+  private static final int DEFAULT_BACKGROUND_ACTIONS_IN_PROGRESS = 10;
+
+  private static volatile int backgroundActionsInProgress =
+    DEFAULT_BACKGROUND_ACTIONS_IN_PROGRESS;
 
   private AsyncCoordinationUtil() {
     throw new UnsupportedOperationException();
@@ -40,4 +44,50 @@ public class AsyncCoordinationUtil {
       .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
   }
 
+  /**
+   * Applies {@code asyncAction} to all the elements in {@code collection},
+   * with no more than {@code maximumInProgress} actions in progress at a time,
+   * and combines results to list
+   */
+  public static <T, R> CompletableFuture<Result<List<R>>> allOf(
+    Collection<T> collection, int maximumInProgress,
+    Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+    return new BoundedParallelExecutor(maximumInProgress)
+      .execute(collection, asyncAction)
+      .thenApply(Result::combineAll);
+  }
+
+  /**
+   * Applies {@code asyncAction} to the elements in {@code collection}, with no
+   * more than {@code maximumInProgress} actions in progress at a time, until
+   * an action fails
+   *
+   * @return the results of all actions, or the first failure
+   */
+  public static <T, R> CompletableFuture<Result<List<R>>> allOfUntilFirstFailure(
+    Collection<T> collection, int maximumInProgress,
+    Function<T, CompletableFuture<Result<R>>> asyncAction) {
+
+    return new BoundedParallelExecutor(maximumInProgress)
+      .executeUntilFirstFailure(collection, asyncAction);
+  }
+
+  /**
+   * @return how many actions of a background job, such as aging items to lost,
+   * should be in progress at a time, so that the job leaves enough
+   * connections for the requests made by users
+   */
+  public static int backgroundActionsInProgress() {
+    return backgroundActionsInProgress;
+  }
+
+  public static void limitBackgroundActionsInProgressTo(int maximumInProgress) {
+    if (maximumInProgress < 1) {
+      throw new IllegalArgumentException(
+        "Maximum number of actions in progress must be at least 1");
+    }
+
+    backgroundActionsInProgress = maximumInProgress;
+  }
 }
@@ -0,0 +1,212 @@
+package org.folio.circulation.support;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.results.CommonFailures;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Applies an asynchronous action to the elements of a collection with a limited
+ * number of actions in progress at the same time.
+ * <p>
+ * A failed action (including one that throws or completes exceptionally) only
+ * fails the result for its own element, the other elements are still processed,
+ * unless the collection is processed until the first failure.
+ */
+public class BoundedParallelExecutor {
+  private final int maximumInProgress;
+
+  public BoundedParallelExecutor(int maximumInProgress) {
+    if (maximumInProgress < 1) {
+      throw new IllegalArgumentException(
+        "Maximum number of actions in progress must be at least 1");
+    }
+
+    this.maximumInProgress = maximumInProgress;
+  }
+
+  public int getMaximumInProgress() {
+    return maximumInProgress;
+  }
+
+  /**
+   * Applies {@code action} to all the elements in {@code collection}
+   *
+   * @return the result for each element, in the order of the collection
+   */
+  public <T, R> CompletableFuture<List<Result<R>>> execute(Collection<T> collection,
+    Function<T, CompletableFuture<Result<R>>> action) {
+
+    final List<List<Integer>> partitions = IntStream.range(0, collection.size())
+      .mapToObj(List::of)
+      .collect(Collectors.toList());
+
+    return execute(new ArrayList<>(collection), partitions, action, null);
+  }
+
+  /**
+   * Applies {@code action} to the elements in {@code collection}, no more
+   * actions are started once one has failed
+   *
+   * @return the results for all elements, in the order of the collection, or
+   * the first failure
+   */
+  public <T, R> CompletableFuture<Result<List<R>>> executeUntilFirstFailure(
+    Collection<T> collection, Function<T, CompletableFuture<Result<R>>> action) {
+
+    final List<List<Integer>> partitions = IntStream.range(0, collection.size())
+      .mapToObj(List::of)
+      .collect(Collectors.toList());
+
+    final AtomicReference<Result<R>> firstFailure = new AtomicReference<>();
+
+    return execute(new ArrayList<>(collection), partitions, action, firstFailure)
+      .thenApply(results -> firstFailure.get() == null
+        ? Result.combineAll(results)
+        : firstFailure.get().map(List::of));
+  }
+
+  /**
+   * Applies {@code action} to all the elements in {@code collection}, elements
+   * with the same key are processed one after another in the order of the collection
+   *
+   * @return the result for each element, in the order of the collection
+   */
+  public <T, R> CompletableFuture<List<Result<R>>> executeOrderedByKey(
+    Collection<T> collection, Function<T, ?> keyFunction,
+    Function<T, CompletableFuture<Result<R>>> action) {
+
+    final List<T> elements = new ArrayList<>(collection);
+    final Map<Object, List<Integer>> partitions = new LinkedHashMap<>();
+
+    for (int index = 0; index < elements.size(); index++) {
+      partitions.computeIfAbsent(keyFunction.apply(elements.get(index)),
+        key -> new ArrayList<>()).add(index);
+    }
+
+    return execute(elements, new ArrayList<>(partitions.values()), action, null);
+  }
+
+  /**
+   * @param firstFailure  when not null, is set to the first failed result and
+   * no more actions are started after it
+   */
+  private <T, R> CompletableFuture<List<Result<R>>> execute(List<T> elements,
+    List<List<Integer>> partitions, Function<T, CompletableFuture<Result<R>>> action,
+    AtomicReference<Result<R>> firstFailure) {
+
+    final Queue<List<Integer>> remainingPartitions = new ConcurrentLinkedQueue<>(partitions);
+    final AtomicReferenceArray<Result<R>> results = new AtomicReferenceArray<>(elements.size());
+
+    final CompletableFuture<?>[] workers = IntStream
+      .range(0, Math.min(maximumInProgress, partitions.size()))
+      .mapToObj(worker -> {
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+
+        processRemainingPartitions(null, remainingPartitions, elements, action,
+          results, firstFailure, finished);
+
+        return finished;
+      })
+      .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(workers)
+      .thenApply(notUsed -> IntStream.range(0, results.length())
+        .mapToObj(results::get)
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Carries on in the same loop for as long as actions complete synchronously,
+   * and resumes the loop from the callback of an action that does not
+   *
+   * @param indexes  the remaining indexes of the partition being processed,
+   * null when the next partition is to be taken from {@code remainingPartitions}
+   */
+  private <T, R> void processRemainingPartitions(Iterator<Integer> indexes,
+    Queue<List<Integer>> remainingPartitions, List<T> elements,
+    Function<T, CompletableFuture<Result<R>>> action, AtomicReferenceArray<Result<R>> results,
+    AtomicReference<Result<R>> firstFailure, CompletableFuture<Void> finished) {
+
+    Iterator<Integer> currentPartition = indexes;
+
+    while (true) {
+      if (hasFailed(firstFailure)) {
+        finished.complete(null);
+        return;
+      }
+
+      if (currentPartition == null || !currentPartition.hasNext()) {
+        final List<Integer> partition = remainingPartitions.poll();
+
+        if (partition == null) {
+          finished.complete(null);
+          return;
+        }
+
+        currentPartition = partition.iterator();
+        continue;
+      }
+
+      final int index = currentPartition.next();
+      final CompletableFuture<Result<R>> applied = safelyApply(action, elements.get(index));
+
+      if (!applied.isDone()) {
+        final Iterator<Integer> resumeFrom = currentPartition;
+
+        applied.thenAccept(result -> {
+          recordResult(index, result, results, firstFailure);
+
+          processRemainingPartitions(resumeFrom, remainingPartitions, elements,
+            action, results, firstFailure, finished);
+        });
+
+        return;
+      }
+
+      recordResult(index, applied.join(), results, firstFailure);
+    }
+  }
+
+  private static <R> void recordResult(int index, Result<R> result,
+    AtomicReferenceArray<Result<R>> results, AtomicReference<Result<R>> firstFailure) {
+
+    results.set(index, result);
+
+    if (firstFailure != null && result.failed()) {
+      firstFailure.compareAndSet(null, result);
+    }
+  }
+
+  private static <R> boolean hasFailed(AtomicReference<Result<R>> firstFailure) {
+    return firstFailure != null && firstFailure.get() != null;
+  }
+
+  private static <T, R> CompletableFuture<Result<R>> safelyApply(
+    Function<T, CompletableFuture<Result<R>>> action, T element) {
+
+    try {
+      return action.apply(element)
+        .exceptionally(CommonFailures::failedDueToServerError);
+    }
+    catch (Exception e) {
+      return completedFuture(failedDueToServerError(e));
+    }
+  }
+}
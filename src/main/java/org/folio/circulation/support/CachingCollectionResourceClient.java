@@ -0,0 +1,35 @@
+package org.folio.circulation.support;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.cache.ReferenceDataCache;
+import org.folio.circulation.support.http.client.OkapiHttpClient;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Collection resource client for reference data that serves requests for
+ * a single record from the {@link ReferenceDataCache}. All other requests
+ * go to storage.
+ */
+public class CachingCollectionResourceClient extends CollectionResourceClient {
+  private final ReferenceDataCache cache;
+  private final String tenantId;
+  private final String recordType;
+
+  public CachingCollectionResourceClient(OkapiHttpClient client, URL collectionRoot,
+    ReferenceDataCache cache, String tenantId, String recordType) {
+
+    super(client, collectionRoot);
+
+    this.cache = cache;
+    this.tenantId = tenantId;
+    this.recordType = recordType;
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String id) {
+    return cache.get(tenantId, recordType, id, () -> super.get(id));
+  }
+}
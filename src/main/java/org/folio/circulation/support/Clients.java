@@ -4,326 +4,348 @@ import java.net.MalformedURLException;
 
 import org.folio.circulation.rules.CirculationRulesProcessor;
 import org.folio.circulation.services.PubSubPublishingService;
+import org.folio.circulation.support.cache.CacheStatistics;
+import org.folio.circulation.support.cache.ReferenceDataCache;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
+import org.folio.circulation.support.http.client.RequestScopedOkapiHttpClient;
 import org.folio.circulation.support.http.server.WebContext;
 
-import io.vertx.core.http.HttpClient;
+import io.vertx.ext.web.client.WebClient;
 
 public class Clients {
-  private final CollectionResourceClient requestsStorageClient;
-  private final CollectionResourceClient requestsBatchStorageClient;
-  private final CollectionResourceClient cancellationReasonStorageClient;
-  private final CollectionResourceClient itemsStorageClient;
-  private final CollectionResourceClient holdingsStorageClient;
-  private final CollectionResourceClient instancesStorageClient;
-  private final CollectionResourceClient usersStorageClient;
-  private final CollectionResourceClient addressTypesStorageClient;
-  private final CollectionResourceClient loansStorageClient;
-  private final CollectionResourceClient locationsStorageClient;
-  private final CollectionResourceClient institutionsStorageClient;
-  private final CollectionResourceClient campusesStorageClient;
-  private final CollectionResourceClient librariesStorageClient;
-  private final CollectionResourceClient materialTypesStorageClient;
-  private final CollectionResourceClient loanTypesStorageClient;
-  private final GetManyRecordsClient proxiesForClient;
-  private final CollectionResourceClient loanPoliciesStorageClient;
-  private final CollectionResourceClient overdueFinesPoliciesPoliciesStorageClient;
-  private final CollectionResourceClient lostItemPoliciesStorageClient;
-  private final GetManyRecordsClient fixedDueDateSchedulesStorageClient;
-  private final CirculationRulesClient circulationLoanRulesClient;
-  private final CirculationRulesClient circulationOverdueFinesRulesClient;
-  private final CirculationRulesClient circulationLostItemRulesClient;
-  private final CirculationRulesClient circulationRequestRulesClient;
-  private final CirculationRulesClient circulationNoticeRulesClient;
-  private final CollectionResourceClient circulationRulesStorageClient;
-  private final CollectionResourceClient requestPoliciesStorageClient;
-  private final CollectionResourceClient servicePointsStorageClient;
-  private final CollectionResourceClient calendarStorageClient;
-  private final CollectionResourceClient patronGroupsStorageClient;
-  private final CollectionResourceClient patronNoticePolicesStorageClient;
-  private final CollectionResourceClient patronNoticeClient;
-  private final GetManyRecordsClient configurationStorageClient;
-  private final CollectionResourceClient scheduledNoticesStorageClient;
-  private final CollectionResourceClient accountsStorageClient;
-  private final CollectionResourceClient feeFineActionsStorageClient;
-  private final CollectionResourceClient feeFineOwnerStorageClient;
-  private final CollectionResourceClient feeFineStorageClient;
-  private final CollectionResourceClient anonymizeStorageLoansClient;
-  private final CollectionResourceClient patronActionSessionsStorageClient;
-  private final CollectionResourceClient patronExpiredSessionsStorageClient;
-  private final GetManyRecordsClient userManualBlocksStorageClient;
-  private final CollectionResourceClient templateNoticeClient;
-  private final CollectionResourceClient checkInStorageClient;
-  private final CollectionResourceClient automatedPatronBlocksClient;
-  private final CollectionResourceClient notesClient;
-  private final CollectionResourceClient noteTypesClient;
-  private final PubSubPublishingService pubSubPublishingService;
-  private final CirculationRulesProcessor circulationRulesProcessor;
-  private final CollectionResourceClient accountsRefundClient;
-  private final CollectionResourceClient accountsCancelClient;
-
-  public static Clients create(WebContext context, HttpClient httpClient) {
-    return new Clients(context.createHttpClient(httpClient), context);
-  }
-
-  private Clients(OkapiHttpClient client, WebContext context) {
-    try {
-      requestsStorageClient = createRequestsStorageClient(client, context);
-      requestsBatchStorageClient = createRequestsBatchStorageClient(client, context);
-      cancellationReasonStorageClient = createCancellationReasonStorageClient(client, context);
-      itemsStorageClient = createItemsStorageClient(client, context);
-      holdingsStorageClient = createHoldingsStorageClient(client, context);
-      instancesStorageClient = createInstanceStorageClient(client, context);
-      usersStorageClient = createUsersStorageClient(client, context);
-      addressTypesStorageClient = createAddressTypesStorageClient(client, context);
-      loansStorageClient = createLoansStorageClient(client, context);
-      overdueFinesPoliciesPoliciesStorageClient = createOverdueFinesPoliciesStorageClient(client, context);
-      lostItemPoliciesStorageClient = createLostItemPoliciesStorageClient(client, context);
-      locationsStorageClient = createLocationsStorageClient(client, context);
-      anonymizeStorageLoansClient = createAnonymizeStorageLoansClient(client, context);
-      institutionsStorageClient = createInstitutionsStorageClient(client, context);
-      campusesStorageClient = createCampusesStorageClient(client, context);
-      librariesStorageClient = createLibrariesStorageClient(client, context);
-      materialTypesStorageClient = createMaterialTypesStorageClient(client, context);
-      loanTypesStorageClient = createLoanTypesStorageClient(client, context);
-      proxiesForClient = createProxyUsersStorageClient(client, context);
-      circulationLoanRulesClient = createCirculationLoanRulesClient(client, context);
-      circulationRequestRulesClient = createCirculationRequestRulesClient(client, context);
-      circulationNoticeRulesClient = createCirculationNoticeRulesClient(client, context);
-      circulationOverdueFinesRulesClient = createCirculationOverdueFinesRulesClient(client, context);
-      circulationLostItemRulesClient = createCirculationLostItemRulesClient(client, context);
-      circulationRulesStorageClient = createCirculationRulesStorageClient(client, context);
-      loanPoliciesStorageClient = createLoanPoliciesStorageClient(client, context);
-      requestPoliciesStorageClient = createRequestPoliciesStorageClient(client, context);
-      fixedDueDateSchedulesStorageClient = createFixedDueDateSchedulesStorageClient(client, context);
-      servicePointsStorageClient = createServicePointsStorageClient(client, context);
-      patronGroupsStorageClient = createPatronGroupsStorageClient(client, context);
-      calendarStorageClient = createCalendarStorageClient(client, context);
-      patronNoticePolicesStorageClient = createPatronNoticePolicesStorageClient(client, context);
-      patronNoticeClient = createPatronNoticeClient(client, context);
-      configurationStorageClient = createConfigurationStorageClient(client, context);
-      scheduledNoticesStorageClient = createScheduledNoticesStorageClient(client, context);
-      accountsStorageClient = createAccountsStorageClient(client, context);
-      feeFineActionsStorageClient = createFeeFineActionsStorageClient(client,context);
-      feeFineOwnerStorageClient = createFeeFineOwnerStorageClient(client,context);
-      feeFineStorageClient = createFeeFineStorageClient(client,context);
-      patronActionSessionsStorageClient = createPatronActionSessionsStorageClient(client, context);
-      patronExpiredSessionsStorageClient = createPatronExpiredSessionsStorageClient(client, context);
-      userManualBlocksStorageClient = createUserManualBlocksStorageClient(client, context);
-      templateNoticeClient = createTemplateNoticeClient(client, context);
-      checkInStorageClient = createCheckInStorageClient(client, context);
-      automatedPatronBlocksClient = createAutomatedPatronBlocksClient(client, context);
-      notesClient = createNotesClient(client, context);
-      noteTypesClient = createNoteTypesClient(client, context);
-      pubSubPublishingService = createPubSubPublishingService(context);
-      circulationRulesProcessor = new CirculationRulesProcessor(context.getTenantId(),
-        circulationRulesStorageClient, locationsStorageClient);
-      accountsRefundClient = createAccountsRefundClient(client, context);
-      accountsCancelClient = createAccountsCancelClient(client, context);
-    }
-    catch(MalformedURLException e) {
-      throw new InvalidOkapiLocationException(context.getOkapiLocation(), e);
-    }
+  private final String tenantId;
+  private final String okapiLocation;
+  private final RequestScopedOkapiHttpClient requestScopedClient;
+  private final LazyClient<CollectionResourceClient> requestsStorageClient;
+  private final LazyClient<CollectionResourceClient> requestsBatchStorageClient;
+  private final LazyClient<CollectionResourceClient> cancellationReasonStorageClient;
+  private final LazyClient<CollectionResourceClient> itemsStorageClient;
+  private final LazyClient<CollectionResourceClient> holdingsStorageClient;
+  private final LazyClient<CollectionResourceClient> instancesStorageClient;
+  private final LazyClient<CollectionResourceClient> usersStorageClient;
+  private final LazyClient<CollectionResourceClient> addressTypesStorageClient;
+  private final LazyClient<CollectionResourceClient> loansStorageClient;
+  private final LazyClient<CollectionResourceClient> locationsStorageClient;
+  private final LazyClient<CollectionResourceClient> institutionsStorageClient;
+  private final LazyClient<CollectionResourceClient> campusesStorageClient;
+  private final LazyClient<CollectionResourceClient> librariesStorageClient;
+  private final LazyClient<CollectionResourceClient> materialTypesStorageClient;
+  private final LazyClient<CollectionResourceClient> loanTypesStorageClient;
+  private final LazyClient<GetManyRecordsClient> proxiesForClient;
+  private final LazyClient<CollectionResourceClient> loanPoliciesStorageClient;
+  private final LazyClient<CollectionResourceClient> overdueFinesPoliciesPoliciesStorageClient;
+  private final LazyClient<CollectionResourceClient> lostItemPoliciesStorageClient;
+  private final LazyClient<GetManyRecordsClient> fixedDueDateSchedulesStorageClient;
+  private final LazyClient<CirculationRulesClient> circulationLoanRulesClient;
+  private final LazyClient<CirculationRulesClient> circulationOverdueFinesRulesClient;
+  private final LazyClient<CirculationRulesClient> circulationLostItemRulesClient;
+  private final LazyClient<CirculationRulesClient> circulationRequestRulesClient;
+  private final LazyClient<CirculationRulesClient> circulationNoticeRulesClient;
+  private final LazyClient<CollectionResourceClient> circulationRulesStorageClient;
+  private final LazyClient<CollectionResourceClient> requestPoliciesStorageClient;
+  private final LazyClient<CollectionResourceClient> servicePointsStorageClient;
+  private final LazyClient<CollectionResourceClient> calendarStorageClient;
+  private final LazyClient<CollectionResourceClient> patronGroupsStorageClient;
+  private final LazyClient<CollectionResourceClient> patronNoticePolicesStorageClient;
+  private final LazyClient<CollectionResourceClient> patronNoticeClient;
+  private final LazyClient<CollectionResourceClient> configurationStorageClient;
+  private final LazyClient<CollectionResourceClient> scheduledNoticesStorageClient;
+  private final LazyClient<CollectionResourceClient> accountsStorageClient;
+  private final LazyClient<CollectionResourceClient> feeFineActionsStorageClient;
+  private final LazyClient<CollectionResourceClient> feeFineOwnerStorageClient;
+  private final LazyClient<CollectionResourceClient> feeFineStorageClient;
+  private final LazyClient<CollectionResourceClient> anonymizeStorageLoansClient;
+  private final LazyClient<CollectionResourceClient> patronActionSessionsStorageClient;
+  private final LazyClient<CollectionResourceClient> patronExpiredSessionsStorageClient;
+  private final LazyClient<GetManyRecordsClient> userManualBlocksStorageClient;
+  private final LazyClient<CollectionResourceClient> templateNoticeClient;
+  private final LazyClient<CollectionResourceClient> checkInStorageClient;
+  private final LazyClient<CollectionResourceClient> automatedPatronBlocksClient;
+  private final LazyClient<CollectionResourceClient> notesClient;
+  private final LazyClient<CollectionResourceClient> noteTypesClient;
+  private final LazyClient<PubSubPublishingService> pubSubPublishingService;
+  private final LazyClient<CirculationRulesProcessor> circulationRulesProcessor;
+  private final LazyClient<CollectionResourceClient> accountsRefundClient;
+  private final LazyClient<CollectionResourceClient> accountsCancelClient;
+
+  public static Clients create(WebContext context, WebClient webClient) {
+    return new Clients(new RequestScopedOkapiHttpClient(
+      context.createHttpClient(webClient)), context);
+  }
+
+  /**
+   * The clients are only created when first used, as most requests only use
+   * a few of them
+   */
+  private Clients(RequestScopedOkapiHttpClient client, WebContext context) {
+    tenantId = context.getTenantId();
+    okapiLocation = context.getOkapiLocation();
+    requestScopedClient = client;
+
+    requestsStorageClient = lazy(() -> createRequestsStorageClient(client, context));
+    requestsBatchStorageClient = lazy(() -> createRequestsBatchStorageClient(client, context));
+    cancellationReasonStorageClient = lazy(() -> createCancellationReasonStorageClient(client, context));
+    itemsStorageClient = lazy(() -> createItemsStorageClient(client, context));
+    holdingsStorageClient = lazy(() -> createHoldingsStorageClient(client, context));
+    instancesStorageClient = lazy(() -> createInstanceStorageClient(client, context));
+    usersStorageClient = lazy(() -> createUsersStorageClient(client, context));
+    addressTypesStorageClient = lazy(() -> createAddressTypesStorageClient(client, context));
+    loansStorageClient = lazy(() -> createLoansStorageClient(client, context));
+    overdueFinesPoliciesPoliciesStorageClient = lazy(() -> createOverdueFinesPoliciesStorageClient(client, context));
+    lostItemPoliciesStorageClient = lazy(() -> createLostItemPoliciesStorageClient(client, context));
+    locationsStorageClient = lazy(() -> createLocationsStorageClient(client, context));
+    anonymizeStorageLoansClient = lazy(() -> createAnonymizeStorageLoansClient(client, context));
+    institutionsStorageClient = lazy(() -> createInstitutionsStorageClient(client, context));
+    campusesStorageClient = lazy(() -> createCampusesStorageClient(client, context));
+    librariesStorageClient = lazy(() -> createLibrariesStorageClient(client, context));
+    materialTypesStorageClient = lazy(() -> createMaterialTypesStorageClient(client, context));
+    loanTypesStorageClient = lazy(() -> createLoanTypesStorageClient(client, context));
+    proxiesForClient = lazy(() -> createProxyUsersStorageClient(client, context));
+    circulationLoanRulesClient = lazy(() -> createCirculationLoanRulesClient(client, context));
+    circulationRequestRulesClient = lazy(() -> createCirculationRequestRulesClient(client, context));
+    circulationNoticeRulesClient = lazy(() -> createCirculationNoticeRulesClient(client, context));
+    circulationOverdueFinesRulesClient = lazy(() -> createCirculationOverdueFinesRulesClient(client, context));
+    circulationLostItemRulesClient = lazy(() -> createCirculationLostItemRulesClient(client, context));
+    circulationRulesStorageClient = lazy(() -> createCirculationRulesStorageClient(client, context));
+    loanPoliciesStorageClient = lazy(() -> createLoanPoliciesStorageClient(client, context));
+    requestPoliciesStorageClient = lazy(() -> createRequestPoliciesStorageClient(client, context));
+    fixedDueDateSchedulesStorageClient = lazy(() -> createFixedDueDateSchedulesStorageClient(client, context));
+    servicePointsStorageClient = lazy(() -> createServicePointsStorageClient(client, context));
+    patronGroupsStorageClient = lazy(() -> createPatronGroupsStorageClient(client, context));
+    calendarStorageClient = lazy(() -> createCalendarStorageClient(client, context));
+    patronNoticePolicesStorageClient = lazy(() -> createPatronNoticePolicesStorageClient(client, context));
+    patronNoticeClient = lazy(() -> createPatronNoticeClient(client, context));
+    configurationStorageClient = lazy(() -> createConfigurationStorageClient(client, context));
+    scheduledNoticesStorageClient = lazy(() -> createScheduledNoticesStorageClient(client, context));
+    accountsStorageClient = lazy(() -> createAccountsStorageClient(client, context));
+    feeFineActionsStorageClient = lazy(() -> createFeeFineActionsStorageClient(client,context));
+    feeFineOwnerStorageClient = lazy(() -> createFeeFineOwnerStorageClient(client,context));
+    feeFineStorageClient = lazy(() -> createFeeFineStorageClient(client,context));
+    patronActionSessionsStorageClient = lazy(() -> createPatronActionSessionsStorageClient(client, context));
+    patronExpiredSessionsStorageClient = lazy(() -> createPatronExpiredSessionsStorageClient(client, context));
+    userManualBlocksStorageClient = lazy(() -> createUserManualBlocksStorageClient(client, context));
+    templateNoticeClient = lazy(() -> createTemplateNoticeClient(client, context));
+    checkInStorageClient = lazy(() -> createCheckInStorageClient(client, context));
+    automatedPatronBlocksClient = lazy(() -> createAutomatedPatronBlocksClient(client, context));
+    notesClient = lazy(() -> createNotesClient(client, context));
+    noteTypesClient = lazy(() -> createNoteTypesClient(client, context));
+    pubSubPublishingService = lazy(() -> createPubSubPublishingService(context));
+    circulationRulesProcessor = lazy(() -> new CirculationRulesProcessor(tenantId,
+      circulationRulesStorage(), locationsStorage()));
+    accountsRefundClient = lazy(() -> createAccountsRefundClient(client, context));
+    accountsCancelClient = lazy(() -> createAccountsCancelClient(client, context));
+  }
+
+  public String tenantId() {
+    return tenantId;
+  }
+
+  /**
+   * @return hits are storage requests saved by reusing a response fetched
+   * earlier whilst handling the same request
+   */
+  public CacheStatistics reusedResponseStatistics() {
+    return requestScopedClient.getStatistics();
   }
 
   public CollectionResourceClient requestsStorage() {
-    return requestsStorageClient;
+    return requestsStorageClient.get();
   }
 
   public CollectionResourceClient requestsBatchStorage() {
-    return requestsBatchStorageClient;
+    return requestsBatchStorageClient.get();
   }
 
   public CollectionResourceClient cancellationReasonStorage() {
-    return cancellationReasonStorageClient;
+    return cancellationReasonStorageClient.get();
   }
 
   public CollectionResourceClient requestPoliciesStorage() {
-    return requestPoliciesStorageClient;
+    return requestPoliciesStorageClient.get();
   }
 
   public CollectionResourceClient itemsStorage() {
-    return itemsStorageClient;
+    return itemsStorageClient.get();
   }
 
   public CollectionResourceClient holdingsStorage() {
-    return holdingsStorageClient;
+    return holdingsStorageClient.get();
   }
 
   public CollectionResourceClient instancesStorage() {
-    return instancesStorageClient;
+    return instancesStorageClient.get();
   }
 
   public CollectionResourceClient usersStorage() {
-    return usersStorageClient;
+    return usersStorageClient.get();
   }
 
   public CollectionResourceClient addressTypesStorage() {
-    return addressTypesStorageClient;
+    return addressTypesStorageClient.get();
   }
 
   public CollectionResourceClient loansStorage() {
-    return loansStorageClient;
+    return loansStorageClient.get();
   }
 
   public CollectionResourceClient anonymizeStorageLoansClient() {
-    return anonymizeStorageLoansClient;
+    return anonymizeStorageLoansClient.get();
   }
 
   public CollectionResourceClient locationsStorage() {
-    return locationsStorageClient;
+    return locationsStorageClient.get();
   }
 
   public CollectionResourceClient institutionsStorage() {
-    return institutionsStorageClient;
+    return institutionsStorageClient.get();
   }
 
   public CollectionResourceClient campusesStorage() {
-    return campusesStorageClient;
+    return campusesStorageClient.get();
   }
 
   public CollectionResourceClient librariesStorage() {
-    return librariesStorageClient;
+    return librariesStorageClient.get();
   }
 
   public CollectionResourceClient materialTypesStorage() {
-    return materialTypesStorageClient;
+    return materialTypesStorageClient.get();
   }
 
   public CollectionResourceClient loanTypesStorage() {
-    return loanTypesStorageClient;
+    return loanTypesStorageClient.get();
   }
 
   public CollectionResourceClient loanPoliciesStorage() {
-    return loanPoliciesStorageClient;
+    return loanPoliciesStorageClient.get();
   }
 
   public CollectionResourceClient overdueFinesPoliciesStorage() {
-    return overdueFinesPoliciesPoliciesStorageClient;
+    return overdueFinesPoliciesPoliciesStorageClient.get();
   }
 
   public CollectionResourceClient lostItemPoliciesStorage() {
-    return lostItemPoliciesStorageClient;
+    return lostItemPoliciesStorageClient.get();
   }
 
   public GetManyRecordsClient fixedDueDateSchedules() {
-    return fixedDueDateSchedulesStorageClient;
+    return fixedDueDateSchedulesStorageClient.get();
   }
 
   public CollectionResourceClient servicePointsStorage() {
-    return servicePointsStorageClient;
+    return servicePointsStorageClient.get();
   }
 
   public CollectionResourceClient patronGroupsStorage() {
-    return patronGroupsStorageClient;
+    return patronGroupsStorageClient.get();
   }
 
   public CollectionResourceClient calendarStorageClient() {
-    return calendarStorageClient;
+    return calendarStorageClient.get();
   }
 
-  public GetManyRecordsClient configurationStorageClient() {
-    return configurationStorageClient;
+  public CollectionResourceClient configurationStorageClient() {
+    return configurationStorageClient.get();
   }
 
   public GetManyRecordsClient userProxies() {
-    return proxiesForClient;
+    return proxiesForClient.get();
   }
 
   public CirculationRulesClient circulationLoanRules() {
-    return circulationLoanRulesClient;
+    return circulationLoanRulesClient.get();
   }
 
   public CirculationRulesClient circulationOverdueFineRules() {
-    return circulationOverdueFinesRulesClient;
+    return circulationOverdueFinesRulesClient.get();
   }
 
   public CirculationRulesClient circulationLostItemRules() {
-    return circulationLostItemRulesClient;
+    return circulationLostItemRulesClient.get();
   }
 
   public CirculationRulesClient circulationRequestRules(){
-    return circulationRequestRulesClient;
+    return circulationRequestRulesClient.get();
   }
 
   public CirculationRulesClient circulationNoticeRules(){
-    return circulationNoticeRulesClient;
+    return circulationNoticeRulesClient.get();
   }
 
   public CollectionResourceClient circulationRulesStorage() {
-    return circulationRulesStorageClient;
+    return circulationRulesStorageClient.get();
   }
 
   public CollectionResourceClient patronNoticePolicesStorageClient() {
-    return patronNoticePolicesStorageClient;
+    return patronNoticePolicesStorageClient.get();
   }
 
   public CollectionResourceClient patronNoticeClient() {
-    return patronNoticeClient;
+    return patronNoticeClient.get();
   }
 
   public CollectionResourceClient scheduledNoticesStorageClient() {
-    return scheduledNoticesStorageClient;
+    return scheduledNoticesStorageClient.get();
   }
 
   public CollectionResourceClient accountsStorageClient() {
-    return accountsStorageClient;
+    return accountsStorageClient.get();
   }
 
   public CollectionResourceClient feeFineActionsStorageClient() {
-    return feeFineActionsStorageClient;
+    return feeFineActionsStorageClient.get();
   }
 
   public CollectionResourceClient feeFineOwnerStorageClient() {
-    return feeFineOwnerStorageClient;
+    return feeFineOwnerStorageClient.get();
   }
 
   public CollectionResourceClient feeFineStorageClient() {
-    return feeFineStorageClient;
+    return feeFineStorageClient.get();
   }
 
   public CollectionResourceClient patronActionSessionsStorageClient() {
-    return patronActionSessionsStorageClient;
+    return patronActionSessionsStorageClient.get();
   }
 
   public CollectionResourceClient patronExpiredSessionsStorageClient() {
-    return patronExpiredSessionsStorageClient;
+    return patronExpiredSessionsStorageClient.get();
   }
 
   public GetManyRecordsClient userManualBlocksStorageClient() {
-    return userManualBlocksStorageClient;
+    return userManualBlocksStorageClient.get();
   }
 
   public CollectionResourceClient checkInStorageClient() {
-    return checkInStorageClient;
+    return checkInStorageClient.get();
   }
 
   public CollectionResourceClient automatedPatronBlocksClient() {
-    return automatedPatronBlocksClient;
+    return automatedPatronBlocksClient.get();
   }
 
   public CollectionResourceClient notesClient() {
-    return notesClient;
+    return notesClient.get();
   }
 
   public CollectionResourceClient noteTypesClient() {
-    return noteTypesClient;
+    return noteTypesClient.get();
   }
 
   public CirculationRulesProcessor circulationRulesProcessor() {
-    return circulationRulesProcessor;
+    return circulationRulesProcessor.get();
   }
 
   public PubSubPublishingService pubSubPublishingService() {
-    return pubSubPublishingService;
+    return pubSubPublishingService.get();
   }
 
   public CollectionResourceClient accountsRefundClient() {
-    return accountsRefundClient;
+    return accountsRefundClient.get();
   }
 
   public CollectionResourceClient accountsCancelClient() {
-    return accountsCancelClient;
+    return accountsCancelClient.get();
   }
 
   private static CollectionResourceClient getCollectionResourceClient(
@@ -334,8 +356,17 @@ public class Clients {
     return new CollectionResourceClient(client, context.getOkapiBasedUrl(path));
   }
 
+  private static CollectionResourceClient getCachingCollectionResourceClient(
+    OkapiHttpClient client, WebContext context, String path)
+    throws MalformedURLException {
+
+    return new CachingCollectionResourceClient(client,
+      context.getOkapiBasedUrl(path), ReferenceDataCache.getInstance(),
+      context.getTenantId(), path);
+  }
+
   public CollectionResourceClient templateNoticeClient() {
-    return templateNoticeClient;
+    return templateNoticeClient.get();
   }
 
   private static CirculationRulesClient createCirculationLoanRulesClient(
@@ -458,14 +489,14 @@ public class Clients {
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/locations");
+    return getCachingCollectionResourceClient(client, context, "/locations");
   }
 
   private static CollectionResourceClient createInstitutionsStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
+    return getCachingCollectionResourceClient(client, context,
       "/location-units/institutions");
   }
 
@@ -473,7 +504,7 @@ public class Clients {
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
+    return getCachingCollectionResourceClient(client, context,
       "/location-units/campuses");
   }
 
@@ -481,7 +512,7 @@ public class Clients {
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context,
+    return getCachingCollectionResourceClient(client, context,
       "/location-units/libraries");
   }
 
@@ -496,14 +527,14 @@ public class Clients {
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/material-types");
+    return getCachingCollectionResourceClient(client, context, "/material-types");
   }
 
   private CollectionResourceClient createLoanTypesStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/loan-types");
+    return getCachingCollectionResourceClient(client, context, "/loan-types");
   }
 
   private CollectionResourceClient createLoanPoliciesStorageClient(
@@ -559,7 +590,7 @@ public class Clients {
     OkapiHttpClient client, WebContext context)
       throws MalformedURLException {
 
-    return getCollectionResourceClient(client, context, "/service-points");
+    return getCachingCollectionResourceClient(client, context, "/service-points");
   }
 
   private CollectionResourceClient createPatronGroupsStorageClient(
@@ -591,7 +622,7 @@ public class Clients {
     return getCollectionResourceClient(client, context, "/patron-notice");
   }
 
-  private GetManyRecordsClient createConfigurationStorageClient(
+  private CollectionResourceClient createConfigurationStorageClient(
     OkapiHttpClient client, WebContext context)
     throws MalformedURLException {
 
@@ -708,4 +739,35 @@ public class Clients {
 
     return getCollectionResourceClient(client, context, "/accounts/%s/cancel");
   }
+
+  private <T> LazyClient<T> lazy(ClientFactory<T> factory) {
+    return new LazyClient<>(factory);
+  }
+
+  @FunctionalInterface
+  private interface ClientFactory<T> {
+    T create() throws MalformedURLException;
+  }
+
+  private final class LazyClient<T> {
+    private final ClientFactory<T> factory;
+    private T client;
+
+    private LazyClient(ClientFactory<T> factory) {
+      this.factory = factory;
+    }
+
+    private synchronized T get() {
+      if (client == null) {
+        try {
+          client = factory.create();
+        }
+        catch (MalformedURLException e) {
+          throw new InvalidOkapiLocationException(okapiLocation, e);
+        }
+      }
+
+      return client;
+    }
+  }
 }
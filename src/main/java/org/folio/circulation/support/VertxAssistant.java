@@ -2,7 +2,9 @@ package org.folio.circulation.support;
 
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.json.JsonObject;
+import org.folio.circulation.support.http.client.HttpClientPoolMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +26,8 @@ public class VertxAssistant {
       return;
     }
 
-    vertx = Vertx.vertx();
+    vertx = Vertx.vertx(new VertxOptions()
+      .setMetricsOptions(HttpClientPoolMetrics.metricsOptions()));
     vertx.exceptionHandler(ex -> log.error("Unhandled exception caught by vertx", ex));
   }
 
@@ -0,0 +1,37 @@
+package org.folio.circulation.support.async;
+
+import java.util.concurrent.Executor;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Runs tasks on the Vert.x context that was current when the executor was
+ * created, so that work started from another thread carries on where the
+ * request is being handled.
+ * <p>
+ * A task submitted from the context itself is run straight away rather than
+ * being queued, and when there was no context (for example in a unit test)
+ * all tasks are run straight away.
+ */
+public final class CallingContextExecutor implements Executor {
+  private final Context context;
+
+  private CallingContextExecutor(Context context) {
+    this.context = context;
+  }
+
+  public static Executor callingContext() {
+    return new CallingContextExecutor(Vertx.currentContext());
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (context == null || Vertx.currentContext() == context) {
+      task.run();
+    }
+    else {
+      context.runOnContext(notUsed -> task.run());
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package org.folio.circulation.support.async;
+
+import static org.folio.circulation.support.async.CallingContextExecutor.callingContext;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+
+/**
+ * A bounded pool of threads for CPU heavy stages, such as evaluating the
+ * circulation rules, that should not hold up the Vert.x event loop.
+ * <p>
+ * The result of a task is handed back on the Vert.x context that submitted
+ * it. When the queue is full the task is run by the caller instead, so the
+ * pool never grows without limit.
+ */
+public class WorkerPool {
+  private static final int DEFAULT_QUEUE_CAPACITY = 1_000;
+
+  private static volatile WorkerPool instance = new WorkerPool(
+    Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, System::nanoTime);
+
+  private final ThreadPoolExecutor executor;
+  private final WorkerPoolStatistics statistics;
+  private final LongSupplier currentTimeNanos;
+
+  WorkerPool(int threads, int queueCapacity, LongSupplier currentTimeNanos) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Worker pool must have at least 1 thread");
+    }
+
+    this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity), new WorkerThreadFactory());
+    this.currentTimeNanos = currentTimeNanos;
+    this.statistics = new WorkerPoolStatistics(executor, currentTimeNanos);
+  }
+
+  public static WorkerPool getInstance() {
+    return instance;
+  }
+
+  /**
+   * Replaces the shared pool with one with {@code threads} threads, tasks
+   * already submitted to the previous pool still run
+   */
+  public static void useThreads(int threads) {
+    final WorkerPool previous = instance;
+
+    instance = new WorkerPool(threads, DEFAULT_QUEUE_CAPACITY, System::nanoTime);
+
+    previous.executor.shutdown();
+  }
+
+  /**
+   * Runs {@code work} on the pool
+   *
+   * @return the result of the work, completed on the calling Vert.x context,
+   * failed if the work throws
+   */
+  public <T> CompletableFuture<Result<T>> supply(Supplier<Result<T>> work) {
+    final Executor caller = callingContext();
+    final CompletableFuture<Result<T>> future = new CompletableFuture<>();
+    final long submittedAt = currentTimeNanos.getAsLong();
+
+    final Runnable task = () -> {
+      final long startedAt = currentTimeNanos.getAsLong();
+      final Result<T> result = run(work);
+
+      statistics.recordCompleted(startedAt - submittedAt,
+        currentTimeNanos.getAsLong() - startedAt);
+
+      caller.execute(() -> future.complete(result));
+    };
+
+    try {
+      executor.execute(task);
+    }
+    catch (RejectedExecutionException e) {
+      statistics.recordRejected();
+      task.run();
+    }
+
+    return future;
+  }
+
+  public WorkerPoolStatistics getStatistics() {
+    return statistics;
+  }
+
+  private static <T> Result<T> run(Supplier<Result<T>> work) {
+    try {
+      return work.get();
+    }
+    catch (Exception e) {
+      return failedDueToServerError(e);
+    }
+  }
+
+  private static class WorkerThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      final Thread thread = new Thread(runnable,
+        "circulation-worker-" + threadCount.incrementAndGet());
+
+      thread.setDaemon(true);
+
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.folio.circulation.support.async;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Queueing and utilization of a {@link WorkerPool}.
+ */
+public class WorkerPoolStatistics {
+  private final ThreadPoolExecutor executor;
+  private final LongSupplier currentTimeNanos;
+  private final long startedAt;
+
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder queueWaitNanos = new LongAdder();
+  private final LongAdder busyNanos = new LongAdder();
+
+  WorkerPoolStatistics(ThreadPoolExecutor executor, LongSupplier currentTimeNanos) {
+    this.executor = executor;
+    this.currentTimeNanos = currentTimeNanos;
+    this.startedAt = currentTimeNanos.getAsLong();
+  }
+
+  void recordCompleted(long waitedNanos, long ranNanos) {
+    completed.increment();
+    queueWaitNanos.add(waitedNanos);
+    busyNanos.add(ranNanos);
+  }
+
+  void recordRejected() {
+    rejected.increment();
+  }
+
+  /**
+   * @return tasks that have been run, including those run by the caller
+   */
+  public long getCompleted() {
+    return completed.sum();
+  }
+
+  /**
+   * @return tasks run by the caller because the queue was full
+   */
+  public long getRejected() {
+    return rejected.sum();
+  }
+
+  public int getQueued() {
+    return executor.getQueue().size();
+  }
+
+  public int getActive() {
+    return executor.getActiveCount();
+  }
+
+  /**
+   * @return average time a task waited in the queue, 0 when none have run
+   */
+  public double getAverageQueueWaitMillis() {
+    final long count = getCompleted();
+
+    return count == 0 ? 0 : (double) NANOSECONDS.toMicros(queueWaitNanos.sum()) / count / 1000;
+  }
+
+  /**
+   * @return share of the time of all threads spent running tasks since the pool was created
+   */
+  public double getUtilization() {
+    final long available = (currentTimeNanos.getAsLong() - startedAt)
+      * executor.getMaximumPoolSize();
+
+    return available <= 0 ? 0 : Math.min(1, (double) busyNanos.sum() / available);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("completed: %d, rejected: %d, queued: %d, active: %d, "
+        + "average queue wait: %.3f ms, utilization: %.3f",
+      getCompleted(), getRejected(), getQueued(), getActive(),
+      getAverageQueueWaitMillis(), getUtilization());
+  }
+}
@@ -0,0 +1,120 @@
+package org.folio.circulation.support.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Size and time bounded cache of asynchronously loaded values.
+ * <p>
+ * A value is kept for a limited time, when the cache is full the least recently used
+ * value is evicted. Concurrent requests for a value that isn't cached share a single load.
+ * Failed loads and values that shouldn't be kept are loaded again the next time.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class AsyncCache<K, V> {
+  private final long maximumAgeInMilliseconds;
+  private final LongSupplier currentTimeMillis;
+  private final CacheStatistics statistics;
+  private final Map<K, CachedValue<V>> values;
+
+  public AsyncCache(long maximumAgeInMilliseconds, int maximumSize,
+    LongSupplier currentTimeMillis, CacheStatistics statistics) {
+
+    this.maximumAgeInMilliseconds = maximumAgeInMilliseconds;
+    this.currentTimeMillis = currentTimeMillis;
+    this.statistics = statistics;
+    this.values = new LinkedHashMap<K, CachedValue<V>>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+        return size() > maximumSize;
+      }
+    };
+  }
+
+  /**
+   * Get a value, either from the cache or using the loader.
+   *
+   * @param key  key of the value
+   * @param loader  loads the value when it isn't cached
+   * @param keep  whether a successfully loaded value is kept in the cache
+   * @return the (possibly shared) value
+   */
+  public CompletableFuture<Result<V>> get(K key,
+    Supplier<CompletableFuture<Result<V>>> loader, Predicate<V> keep) {
+
+    final long now = currentTimeMillis.getAsLong();
+    final CachedValue<V> cachedValue;
+
+    synchronized (values) {
+      final CachedValue<V> existing = values.get(key);
+
+      if (existing != null && now - existing.loadedAt < maximumAgeInMilliseconds) {
+        statistics.recordHit();
+        return existing.value;
+      }
+
+      statistics.recordMiss();
+      cachedValue = new CachedValue<>(now);
+      values.put(key, cachedValue);
+    }
+
+    load(loader).whenComplete((result, throwable) -> {
+      if (throwable != null || result == null || result.failed()
+        || !keep.test(result.value())) {
+
+        synchronized (values) {
+          values.remove(key, cachedValue);
+        }
+      }
+
+      if (throwable != null) {
+        cachedValue.value.completeExceptionally(throwable);
+      }
+      else {
+        cachedValue.value.complete(result);
+      }
+    });
+
+    return cachedValue.value;
+  }
+
+  public void invalidateAll() {
+    synchronized (values) {
+      values.clear();
+    }
+  }
+
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  private static <V> CompletableFuture<Result<V>> load(
+    Supplier<CompletableFuture<Result<V>>> loader) {
+
+    try {
+      return loader.get();
+    }
+    catch (Exception e) {
+      final CompletableFuture<Result<V>> failure = new CompletableFuture<>();
+      failure.completeExceptionally(e);
+      return failure;
+    }
+  }
+
+  private static class CachedValue<V> {
+    private final long loadedAt;
+    private final CompletableFuture<Result<V>> value = new CompletableFuture<>();
+
+    private CachedValue(long loadedAt) {
+      this.loadedAt = loadedAt;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package org.folio.circulation.support.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit and miss counts of an in-memory cache.
+ */
+public class CacheStatistics {
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public void recordHit() {
+    hits.increment();
+  }
+
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return hits / (hits + misses), 0 when there haven't been any lookups
+   */
+  public double getHitRate() {
+    final long hitCount = getHits();
+    final long total = hitCount + getMisses();
+
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("hits: %d, misses: %d, hit rate: %.3f",
+      getHits(), getMisses(), getHitRate());
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.circulation.support.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Keeps the policies of one policy type, already mapped to domain objects,
+ * for each tenant.
+ * <p>
+ * Policies rarely change and there are only a few of them. A policy is kept
+ * for a limited time, policies changed in storage are picked up at the latest
+ * when that time has passed. The policies of a tenant are dropped when the
+ * tenant's circulation rules are changed.
+ * The domain objects are shared by all requests and must not be changed.
+ *
+ * @param <T> type of the policy
+ */
+public class PolicyCache<T> {
+  private static final long MAXIMUM_AGE_IN_MILLISECONDS = 60_000;
+  private static final int MAXIMUM_SIZE = 500;
+  /** all policy caches, for invalidating the policies of a tenant */
+  private static final List<PolicyCache<?>> caches = new CopyOnWriteArrayList<>();
+
+  private final Map<String, AsyncCache<String, T>> policies = new ConcurrentHashMap<>();
+  private final CacheStatistics statistics = new CacheStatistics();
+
+  private PolicyCache() { }
+
+  public static <T> PolicyCache<T> create() {
+    final PolicyCache<T> cache = new PolicyCache<>();
+
+    caches.add(cache);
+
+    return cache;
+  }
+
+  /**
+   * Drop the cached policies (of all policy types) of a tenant.
+   * @param tenantId  id of the tenant
+   */
+  public static void invalidate(String tenantId) {
+    caches.forEach(cache -> cache.policies.remove(tenantId));
+  }
+
+  /**
+   * Drop the cached policies of all tenants.
+   */
+  public static void invalidateAll() {
+    caches.forEach(cache -> cache.policies.clear());
+  }
+
+  /**
+   * Get a policy, either from the cache or using the loader.
+   *
+   * @param tenantId  id of the tenant the policy belongs to
+   * @param key  identifies the policy within the tenant, for example its id
+   * @param loader  fetches and maps the policy when it isn't cached
+   * @return the (possibly shared) policy
+   */
+  public CompletableFuture<Result<T>> get(String tenantId, String key,
+    Supplier<CompletableFuture<Result<T>>> loader) {
+
+    return policies.computeIfAbsent(tenantId, id -> new AsyncCache<>(
+        MAXIMUM_AGE_IN_MILLISECONDS, MAXIMUM_SIZE, System::currentTimeMillis, statistics))
+      .get(key, loader, policy -> policy != null);
+  }
+
+  /**
+   * @return hits and misses over all tenants
+   */
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+}
@@ -0,0 +1,107 @@
+package org.folio.circulation.support.cache;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.slf4j.Logger;
+
+/**
+ * Keeps the storage responses of reference data records (locations, location units,
+ * service points, material types and loan types) that rarely change, for each tenant.
+ * <p>
+ * An entry is kept for a limited time and each record type of a tenant keeps
+ * a limited number of entries, the least recently used are evicted first.
+ * Concurrent requests for a record that isn't cached share a single storage request.
+ * Only successfully found records are kept, failures and missing records are
+ * requested again the next time.
+ */
+public final class ReferenceDataCache {
+  private static final Logger log = getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final ReferenceDataCache instance = new ReferenceDataCache(
+    60_000, 1000, System::currentTimeMillis);
+  /** how often the statistics of each record type get logged */
+  private static final long STATISTICS_LOG_INTERVAL_IN_MILLISECONDS = 300_000;
+
+  private final long maximumAgeInMilliseconds;
+  private final int maximumSize;
+  private final LongSupplier currentTimeMillis;
+  /** responses for each tenant and record type */
+  private final Map<String, AsyncCache<String, Response>> responses = new ConcurrentHashMap<>();
+  private final Map<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+  private final AtomicLong lastStatisticsLogged;
+
+  public static ReferenceDataCache getInstance() {
+    return instance;
+  }
+
+  ReferenceDataCache(long maximumAgeInMilliseconds, int maximumSize,
+    LongSupplier currentTimeMillis) {
+
+    this.maximumAgeInMilliseconds = maximumAgeInMilliseconds;
+    this.maximumSize = maximumSize;
+    this.currentTimeMillis = currentTimeMillis;
+    this.lastStatisticsLogged = new AtomicLong(currentTimeMillis.getAsLong());
+  }
+
+  /**
+   * Get the response for a record, either from the cache or using the loader.
+   *
+   * @param tenantId  id of the tenant the record belongs to
+   * @param recordType  type of the record, for example the path of the storage collection
+   * @param id  id of the record
+   * @param loader  fetches the record from storage when it isn't cached
+   * @return the (possibly shared) response for the record
+   */
+  public CompletableFuture<Result<Response>> get(String tenantId, String recordType,
+    String id, Supplier<CompletableFuture<Result<Response>>> loader) {
+
+    logStatisticsPeriodically(currentTimeMillis.getAsLong());
+
+    return responsesFor(tenantId, recordType)
+      .get(id, loader, response -> response != null && response.getStatusCode() == 200);
+  }
+
+  /**
+   * @param recordType  type of the record
+   * @return hits and misses for the record type over all tenants
+   */
+  public CacheStatistics getStatistics(String recordType) {
+    return statistics.computeIfAbsent(recordType, type -> new CacheStatistics());
+  }
+
+  /**
+   * Drop the cached records of all tenants, the statistics are kept.
+   */
+  public void clear() {
+    responses.clear();
+  }
+
+  private AsyncCache<String, Response> responsesFor(String tenantId, String recordType) {
+    return responses.computeIfAbsent(tenantId + "/" + recordType,
+      key -> new AsyncCache<>(maximumAgeInMilliseconds, maximumSize, currentTimeMillis,
+        getStatistics(recordType)));
+  }
+
+  private void logStatisticsPeriodically(long now) {
+    final long lastLogged = lastStatisticsLogged.get();
+
+    if (now - lastLogged < STATISTICS_LOG_INTERVAL_IN_MILLISECONDS
+      || !lastStatisticsLogged.compareAndSet(lastLogged, now)) {
+
+      return;
+    }
+
+    statistics.forEach((recordType, recordTypeStatistics) ->
+      log.info("Reference data cache for {}: {}", recordType, recordTypeStatistics));
+  }
+}
@@ -0,0 +1,65 @@
+package org.folio.circulation.support.fetching;
+
+import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+
+import java.util.function.Function;
+
+import org.folio.circulation.support.CqlSortBy;
+import org.folio.circulation.support.CqlSortClause;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.results.Result;
+
+/**
+ * Keys to page records by, the next page starts after the keys of the last
+ * record of the previous page rather than at an offset.
+ * <p>
+ * Records that stop matching the query whilst a page is being processed do not
+ * cause later records to be skipped, as happens when paging by offset.
+ */
+public final class PageKey<T> {
+  private static final String ID = "id";
+
+  private final String index;
+  private final Function<T, String> indexValue;
+  private final Function<T, String> id;
+
+  private PageKey(String index, Function<T, String> indexValue, Function<T, String> id) {
+    this.index = index;
+    this.indexValue = indexValue;
+    this.id = id;
+  }
+
+  public static <T> PageKey<T> byId(Function<T, String> id) {
+    return new PageKey<>(null, null, id);
+  }
+
+  /**
+   * Pages by {@code index} and then by id for records with the same value
+   * for the index, the index must have a value for every record
+   */
+  public static <T> PageKey<T> by(String index, Function<T, String> indexValue,
+    Function<T, String> id) {
+
+    return new PageKey<>(index, indexValue, id);
+  }
+
+  CqlSortBy sortBy() {
+    return index == null
+      ? CqlSortBy.ascending(ID)
+      : CqlSortBy.sortBy(CqlSortClause.ascending(index), CqlSortClause.ascending(ID));
+  }
+
+  Result<CqlQuery> after(T lastRecord) {
+    final Result<CqlQuery> idAfter = greaterThan(ID, id.apply(lastRecord));
+
+    if (index == null) {
+      return idAfter;
+    }
+
+    final String value = indexValue.apply(lastRecord);
+
+    return greaterThan(index, value)
+      .combine(exactMatch(index, value).combine(idAfter, CqlQuery::and), CqlQuery::or);
+  }
+}
@@ -1,76 +1,187 @@
 package org.folio.circulation.support.fetching;
 
-import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.folio.circulation.support.http.client.Offset.zeroOffset;
 import static org.folio.circulation.support.http.client.PageLimit.limit;
-import static org.folio.circulation.support.results.Result.failed;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import org.folio.circulation.domain.MultipleRecords;
-import org.folio.circulation.support.ServerErrorFailure;
 import org.folio.circulation.support.http.client.CqlQuery;
 import org.folio.circulation.support.http.client.Offset;
 import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.results.CommonFailures;
 import org.folio.circulation.support.results.Result;
 import org.slf4j.Logger;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 
-@AllArgsConstructor
+/**
+ * Fetches all the records matching a query a page at a time, and passes each
+ * page to a processor before moving on to the next page.
+ * <p>
+ * Pages are fetched by offset unless a {@link PageKey} is given. Pages are
+ * processed in a loop rather than recursively, so there is no limit on the
+ * number of pages.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PageableFetcher<T> {
   private static final Logger log = getLogger(PageableFetcher.class);
 
-  // This limit needed to prevent stack overflow for recursive fetch
-  private static final int DEFAULT_MAX_ALLOWED_RECORDS_LIMIT = 1_000_000;
   private static final PageLimit DEFAULT_PAGE_SIZE_LIMIT = limit(500);
 
   private final GetManyRecordsRepository<T> repository;
   private final PageLimit pageSize;
-  private final int maxAllowedRecordsToFetchLimit;
+  private final PageKey<T> pageKey;
+  private final boolean readAhead;
 
   public PageableFetcher(GetManyRecordsRepository<T> repository) {
-    this(repository, DEFAULT_PAGE_SIZE_LIMIT, DEFAULT_MAX_ALLOWED_RECORDS_LIMIT);
+    this(repository, DEFAULT_PAGE_SIZE_LIMIT);
+  }
+
+  public PageableFetcher(GetManyRecordsRepository<T> repository, PageLimit pageSize) {
+    this(repository, pageSize, null, false);
+  }
+
+  /**
+   * Fetch each page after the keys of the last record of the previous page,
+   * the sort of the query is replaced by the sort of the keys
+   */
+  public PageableFetcher<T> pagedBy(PageKey<T> pageKey) {
+    return new PageableFetcher<>(repository, pageSize, pageKey, readAhead);
+  }
+
+  /**
+   * Start fetching the next page whilst the current page is being processed
+   */
+  public PageableFetcher<T> readingAhead() {
+    return new PageableFetcher<>(repository, pageSize, pageKey, true);
   }
 
   public CompletableFuture<Result<Void>> processPages(CqlQuery query, PageProcessor<T> pageProcessor) {
-    return processPagesRecursively(query, pageProcessor, zeroOffset(), 0);
+    final CqlQuery sortedQuery = pageKey == null ? query : query.sortBy(pageKey.sortBy());
+    final CompletableFuture<Result<Void>> processed = new CompletableFuture<>();
+
+    processPagesFrom(new PageFetch(zeroOffset(),
+      () -> repository.getMany(sortedQuery, pageSize, zeroOffset())),
+      sortedQuery, pageProcessor, processed, 0);
+
+    return processed;
+  }
+
+  /**
+   * Carries on in the same loop for as long as pages are processed synchronously,
+   * and resumes the loop from the callback of a page that is not
+   */
+  private void processPagesFrom(PageFetch firstPage, CqlQuery query,
+    PageProcessor<T> pageProcessor, CompletableFuture<Result<Void>> processed,
+    int recordsProcessedSoFar) {
+
+    PageFetch currentPage = firstPage;
+    int recordsProcessed = recordsProcessedSoFar;
+
+    while (true) {
+      final CompletableFuture<Result<ProcessedPage>> pageProcessed =
+        processPage(currentPage, query, pageProcessor);
+
+      if (!pageProcessed.isDone()) {
+        final int recordsProcessedBeforePage = recordsProcessed;
+
+        pageProcessed.whenComplete((result, throwable) -> {
+          final Result<ProcessedPage> outcome = throwable != null
+            ? CommonFailures.failedDueToServerError(throwable)
+            : result;
+
+          continueWith(outcome, query, pageProcessor, processed,
+            recordsProcessedBeforePage);
+        });
+
+        return;
+      }
+
+      final Result<ProcessedPage> outcome = joinQuietly(pageProcessed);
+
+      if (outcome.failed() || outcome.value().isLastPage()) {
+        complete(outcome, processed, recordsProcessed);
+        return;
+      }
+
+      recordsProcessed += outcome.value().recordsOnPage;
+      currentPage = outcome.value().nextPage;
+    }
+  }
+
+  private void continueWith(Result<ProcessedPage> outcome, CqlQuery query,
+    PageProcessor<T> pageProcessor, CompletableFuture<Result<Void>> processed,
+    int recordsProcessedSoFar) {
+
+    if (outcome.failed() || outcome.value().isLastPage()) {
+      complete(outcome, processed, recordsProcessedSoFar);
+    } else {
+      processPagesFrom(outcome.value().nextPage, query, pageProcessor, processed,
+        recordsProcessedSoFar + outcome.value().recordsOnPage);
+    }
   }
 
-  private CompletableFuture<Result<Void>> processPagesRecursively(CqlQuery query,
-    PageProcessor<T> pageProcessor, Offset currentOffset, int recordsFetchedOnPreviousIteration) {
+  private void complete(Result<ProcessedPage> outcome,
+    CompletableFuture<Result<Void>> processed, int recordsProcessedBeforePage) {
+
+    if (outcome.succeeded()) {
+      log.info("All pages have been fetched, total records fetched {}",
+        recordsProcessedBeforePage + outcome.value().recordsOnPage);
+    }
 
-    return repository.getMany(query, pageSize, currentOffset)
-      .thenCompose(r -> r.after(records -> pageProcessor.processPage(records)
-          .thenCompose(processResult -> processResult.after(unused -> {
-            final int recordsFetchedSoFar = recordsFetchedOnPreviousIteration + records.size();
+    processed.complete(outcome.map(notUsed -> null));
+  }
 
-            if (hasFetchedAllPages(records)) {
-              log.info("All pages have been fetched, total records fetched {}", recordsFetchedSoFar);
+  private CompletableFuture<Result<ProcessedPage>> processPage(PageFetch page,
+    CqlQuery query, PageProcessor<T> pageProcessor) {
 
-              return completedFuture(processResult);
-            } else if (hasReachedRecordsLimit(recordsFetchedSoFar)) {
-              log.warn("Terminating fetching because records limit in {} has been reached",
-                maxAllowedRecordsToFetchLimit);
+    return page.fetch.get()
+      .thenCompose(r -> r.after(records -> {
+        final PageFetch nextPage = hasFetchedAllPages(records)
+          ? null
+          : startIfReadingAhead(nextPage(page, query, records));
 
-              return itemCountLimitHasBeenReached();
-            } else {
-              final var nextOffset = currentOffset.nextPage(pageSize);
-              return processPagesRecursively(query, pageProcessor, nextOffset, recordsFetchedSoFar);
-            }
-          }))
-      ));
+        return pageProcessor.processPage(records)
+          .thenApply(processResult -> processResult.map(
+            notUsed -> new ProcessedPage(records.size(), nextPage)));
+      }));
   }
 
-  private CompletableFuture<Result<Void>> itemCountLimitHasBeenReached() {
-    return completedFuture(failed(new ServerErrorFailure(
-      "Maximum allowed item count is set to " + maxAllowedRecordsToFetchLimit
-        + " and it has been reached")));
+  private PageFetch nextPage(PageFetch page, CqlQuery query, MultipleRecords<T> records) {
+    if (pageKey == null) {
+      final Offset nextOffset = page.offset.nextPage(pageSize);
+
+      return new PageFetch(nextOffset,
+        () -> repository.getMany(query, pageSize, nextOffset));
+    }
+
+    // the keys are taken before the page is processed, in case processing changes the records
+    final Result<CqlQuery> nextPageQuery = pageKey.after(lastRecord(records))
+      .map(query::and);
+
+    return new PageFetch(zeroOffset(), () -> nextPageQuery
+      .after(q -> repository.getMany(q, pageSize, zeroOffset())));
   }
 
-  private boolean hasReachedRecordsLimit(int recordFetchedSoFar) {
-    return recordFetchedSoFar >= maxAllowedRecordsToFetchLimit;
+  private PageFetch startIfReadingAhead(PageFetch page) {
+    if (!readAhead) {
+      return page;
+    }
+
+    final CompletableFuture<Result<MultipleRecords<T>>> fetched = page.fetch.get();
+
+    return new PageFetch(page.offset, () -> fetched);
+  }
+
+  private T lastRecord(MultipleRecords<T> records) {
+    return records.getRecords().stream()
+      .reduce((first, second) -> second)
+      .orElseThrow();
   }
 
   private boolean hasFetchedAllPages(MultipleRecords<T> latestPage) {
@@ -80,4 +191,29 @@ public final class PageableFetcher<T> {
 
     return latestPage.size() < pageSize.getLimit();
   }
+
+  private static <R> Result<R> joinQuietly(CompletableFuture<Result<R>> future) {
+    try {
+      return future.join();
+    }
+    catch (CompletionException e) {
+      return CommonFailures.failedDueToServerError(e.getCause());
+    }
+  }
+
+  @AllArgsConstructor
+  private final class PageFetch {
+    private final Offset offset;
+    private final Supplier<CompletableFuture<Result<MultipleRecords<T>>>> fetch;
+  }
+
+  @AllArgsConstructor
+  private final class ProcessedPage {
+    private final int recordsOnPage;
+    private final PageFetch nextPage;
+
+    private boolean isLastPage() {
+      return nextPage == null;
+    }
+  }
 }
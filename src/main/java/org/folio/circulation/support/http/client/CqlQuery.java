@@ -76,6 +76,10 @@ public class CqlQuery implements QueryParameter {
     return Result.of(() -> new CqlQuery(format("%s>\"%s\"", index, value), none()));
   }
 
+  public static Result<CqlQuery> greaterThanOrEqualTo(String index, Object value) {
+    return of(() -> new CqlQuery(format("%s>=\"%s\"", index, value), none()));
+  }
+
   public static Result<CqlQuery> lessThan(String index, Object value) {
     return Result.of(() -> new CqlQuery(format("%s<\"%s\"", index, value), none()));
   }
@@ -94,11 +98,27 @@ public class CqlQuery implements QueryParameter {
   }
 
   public CqlQuery and(CqlQuery other) {
-    if (StringUtils.isBlank(other.asText())) {
+    if (StringUtils.isBlank(other.query)) {
       return this;
     }
 
-    return new CqlQuery(format("%s and %s", asText(), other.asText()), sortBy);
+    if (StringUtils.isBlank(query)) {
+      return new CqlQuery(other.query, sortBy);
+    }
+
+    return new CqlQuery(format("%s and %s", query, other.query), sortBy);
+  }
+
+  /**
+   * Both queries are wrapped in parentheses, so that the result can be
+   * combined with {@link #and(CqlQuery)} without changing its meaning
+   */
+  public CqlQuery or(CqlQuery other) {
+    if (StringUtils.isBlank(other.query) || StringUtils.isBlank(query)) {
+      return new CqlQuery("", sortBy);
+    }
+
+    return new CqlQuery(format("((%s) or (%s))", query, other.query), sortBy);
   }
 
   public CqlQuery sortBy(CqlSortBy sortBy) {
@@ -0,0 +1,62 @@
+package org.folio.circulation.support.http.client;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options for the HTTP client used for all requests to other modules, taken
+ * from the module configuration.
+ * <p>
+ * Any option that is not configured keeps the default of Vert.x, except for
+ * the connection pool size, which is larger than the default of 5.
+ */
+public class HttpClientConfiguration {
+  public static final String MAXIMUM_POOL_SIZE = "maxPoolSize";
+  public static final String MAXIMUM_WAIT_QUEUE_SIZE = "maxWaitQueueSize";
+  public static final String KEEP_ALIVE = "keepAlive";
+  public static final String KEEP_ALIVE_TIMEOUT_SECONDS = "keepAliveTimeout";
+  public static final String IDLE_TIMEOUT_SECONDS = "idleTimeout";
+  public static final String HTTP_2 = "http2";
+  public static final String PIPELINING = "pipelining";
+
+  private static final int DEFAULT_MAXIMUM_POOL_SIZE = 100;
+
+  private HttpClientConfiguration() { }
+
+  /**
+   * @param configuration  options as strings, may be null when nothing is configured
+   */
+  public static HttpClientOptions optionsFrom(JsonObject configuration) {
+    final JsonObject options = configuration == null ? new JsonObject() : configuration;
+    final HttpClientOptions defaults = new HttpClientOptions();
+
+    final HttpClientOptions clientOptions = new HttpClientOptions()
+      .setMaxPoolSize(integer(options, MAXIMUM_POOL_SIZE, DEFAULT_MAXIMUM_POOL_SIZE))
+      .setMaxWaitQueueSize(integer(options, MAXIMUM_WAIT_QUEUE_SIZE,
+        defaults.getMaxWaitQueueSize()))
+      .setKeepAlive(bool(options, KEEP_ALIVE, defaults.isKeepAlive()))
+      .setKeepAliveTimeout(integer(options, KEEP_ALIVE_TIMEOUT_SECONDS,
+        defaults.getKeepAliveTimeout()))
+      .setIdleTimeout(integer(options, IDLE_TIMEOUT_SECONDS, defaults.getIdleTimeout()))
+      .setPipelining(bool(options, PIPELINING, defaults.isPipelining()));
+
+    if (bool(options, HTTP_2, false)) {
+      clientOptions.setProtocolVersion(HttpVersion.HTTP_2);
+    }
+
+    return clientOptions;
+  }
+
+  private static int integer(JsonObject options, String name, int defaultValue) {
+    final String value = options.getString(name);
+
+    return value == null ? defaultValue : Integer.parseInt(value.trim());
+  }
+
+  private static boolean bool(JsonObject options, String name, boolean defaultValue) {
+    final String value = options.getString(name);
+
+    return value == null ? defaultValue : Boolean.parseBoolean(value.trim());
+  }
+}
@@ -0,0 +1,156 @@
+package org.folio.circulation.support.http.client;
+
+import java.util.function.LongSupplier;
+
+import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.metrics.MetricsOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+/**
+ * Records the use of the connection pools of HTTP clients in
+ * {@link HttpClientStatistics}, through the metrics service provider
+ * interface of Vert.x.
+ * <p>
+ * Only HTTP client metrics are provided, Vert.x does not collect any other
+ * metrics.
+ */
+public class HttpClientPoolMetrics implements
+  HttpClientMetrics<HttpClientPoolMetrics.RequestTiming, Void, Void, Void, Long> {
+
+  private final HttpClientStatistics statistics;
+  private final LongSupplier currentTimeNanos;
+
+  HttpClientPoolMetrics(HttpClientStatistics statistics, LongSupplier currentTimeNanos) {
+    this.statistics = statistics;
+    this.currentTimeNanos = currentTimeNanos;
+  }
+
+  /**
+   * @return metrics options to create Vert.x with, so that the connection
+   * pools of HTTP clients are measured
+   */
+  public static MetricsOptions metricsOptions() {
+    return new MetricsOptions()
+      .setEnabled(true)
+      .setFactory(new PoolMetricsFactory());
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public Long enqueueRequest(Void endpoint) {
+    statistics.requestQueued();
+
+    return currentTimeNanos.getAsLong();
+  }
+
+  @Override
+  public void dequeueRequest(Void endpoint, Long queuedAt) {
+    statistics.requestDequeued(currentTimeNanos.getAsLong() - queuedAt);
+  }
+
+  @Override
+  public void endpointConnected(Void endpoint, Void socket) {
+    statistics.connectionOpened();
+  }
+
+  @Override
+  public void endpointDisconnected(Void endpoint, Void socket) {
+    statistics.connectionClosed();
+  }
+
+  @Override
+  public RequestTiming requestBegin(Void endpoint, Void socket,
+    SocketAddress localAddress, SocketAddress remoteAddress,
+    HttpClientRequest request) {
+
+    statistics.requestStarted();
+
+    return new RequestTiming(destination(request.path()),
+      currentTimeNanos.getAsLong());
+  }
+
+  @Override
+  public void responseBegin(RequestTiming timing, HttpClientResponse response) {
+    if (timing != null) {
+      statistics.firstByteReceived(timing.destination,
+        currentTimeNanos.getAsLong() - timing.startedAt);
+    }
+  }
+
+  @Override
+  public void responseEnd(RequestTiming timing, HttpClientResponse response) {
+    finished(timing);
+  }
+
+  @Override
+  public void requestReset(RequestTiming timing) {
+    finished(timing);
+  }
+
+  private void finished(RequestTiming timing) {
+    if (timing != null && !timing.finished) {
+      timing.finished = true;
+      statistics.requestFinished();
+    }
+  }
+
+  /**
+   * @return the first segment of the path, usually the interface of the
+   * module the request is made to
+   */
+  static String destination(String path) {
+    if (path == null) {
+      return "/";
+    }
+
+    final String withoutLeadingSlash = path.startsWith("/") ? path.substring(1) : path;
+    final int endOfSegment = withoutLeadingSlash.indexOf('/');
+
+    final String segment = endOfSegment < 0
+      ? withoutLeadingSlash
+      : withoutLeadingSlash.substring(0, endOfSegment);
+
+    return segment.isEmpty() ? "/" : segment;
+  }
+
+  static class RequestTiming {
+    private final String destination;
+    private final long startedAt;
+    private boolean finished = false;
+
+    private RequestTiming(String destination, long startedAt) {
+      this.destination = destination;
+      this.startedAt = startedAt;
+    }
+  }
+
+  private static class PoolMetricsFactory implements VertxMetricsFactory {
+    @Override
+    public VertxMetrics metrics(VertxOptions options) {
+      return new VertxMetrics() {
+        @Override
+        public boolean isEnabled() {
+          return true;
+        }
+
+        @Override
+        public HttpClientMetrics<?, ?, ?, ?, ?> createHttpClientMetrics(
+          HttpClientOptions options) {
+
+          return new HttpClientPoolMetrics(HttpClientStatistics.getInstance(),
+            System::nanoTime);
+        }
+      };
+    }
+  }
+}
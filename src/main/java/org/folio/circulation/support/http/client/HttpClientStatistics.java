@@ -0,0 +1,140 @@
+package org.folio.circulation.support.http.client;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Use of the connection pools of the HTTP clients that make requests to
+ * other modules, so that the pool can be sized from what it is used for.
+ * <p>
+ * Time to first byte is kept for each destination, the first segment of the
+ * path of the request, for example loan-storage.
+ */
+public class HttpClientStatistics {
+  private static final HttpClientStatistics instance = new HttpClientStatistics();
+
+  private final AtomicInteger openConnections = new AtomicInteger();
+  private final AtomicInteger requestsInProgress = new AtomicInteger();
+  private final AtomicInteger queuedRequests = new AtomicInteger();
+  private final LongAdder dequeuedRequests = new LongAdder();
+  private final LongAdder queueWaitNanos = new LongAdder();
+  private final Map<String, DestinationStatistics> destinations = new ConcurrentHashMap<>();
+
+  HttpClientStatistics() { }
+
+  public static HttpClientStatistics getInstance() {
+    return instance;
+  }
+
+  void connectionOpened() {
+    openConnections.incrementAndGet();
+  }
+
+  void connectionClosed() {
+    openConnections.decrementAndGet();
+  }
+
+  void requestQueued() {
+    queuedRequests.incrementAndGet();
+  }
+
+  void requestDequeued(long waitedNanos) {
+    queuedRequests.decrementAndGet();
+    dequeuedRequests.increment();
+    queueWaitNanos.add(waitedNanos);
+  }
+
+  void requestStarted() {
+    requestsInProgress.incrementAndGet();
+  }
+
+  void requestFinished() {
+    requestsInProgress.decrementAndGet();
+  }
+
+  void firstByteReceived(String destination, long nanosSinceRequestStarted) {
+    destinations.computeIfAbsent(destination, d -> new DestinationStatistics())
+      .record(nanosSinceRequestStarted);
+  }
+
+  public int getOpenConnections() {
+    return openConnections.get();
+  }
+
+  /**
+   * @return requests that have been sent and not yet been fully responded to,
+   * each holds a connection unless pipelining or HTTP/2 is used
+   */
+  public int getRequestsInProgress() {
+    return requestsInProgress.get();
+  }
+
+  /**
+   * @return requests waiting for a connection from the pool
+   */
+  public int getQueuedRequests() {
+    return queuedRequests.get();
+  }
+
+  /**
+   * @return average time a request waited for a connection, 0 when none have
+   */
+  public double getAverageQueueWaitMillis() {
+    return averageMillis(queueWaitNanos.sum(), dequeuedRequests.sum());
+  }
+
+  /**
+   * @return average time from sending a request to the first byte of the
+   * response, for each destination that has been responded to
+   */
+  public Map<String, Double> getAverageTimeToFirstByteMillis() {
+    return destinations.entrySet().stream()
+      .collect(Collectors.toMap(Map.Entry::getKey,
+        entry -> entry.getValue().getAverageMillis(), (first, second) -> first,
+        TreeMap::new));
+  }
+
+  public long getResponses(String destination) {
+    final DestinationStatistics statistics = destinations.get(destination);
+
+    return statistics == null ? 0 : statistics.responses.sum();
+  }
+
+  @Override
+  public String toString() {
+    final String timeToFirstByte = getAverageTimeToFirstByteMillis().entrySet()
+      .stream()
+      .map(entry -> String.format("%s: %.3f ms (%d)", entry.getKey(), entry.getValue(),
+        getResponses(entry.getKey())))
+      .collect(Collectors.joining(", "));
+
+    return String.format("open connections: %d, requests in progress: %d, "
+        + "queued: %d, average queue wait: %.3f ms, average time to first byte: [%s]",
+      getOpenConnections(), getRequestsInProgress(), getQueuedRequests(),
+      getAverageQueueWaitMillis(), timeToFirstByte);
+  }
+
+  private static double averageMillis(long totalNanos, long count) {
+    return count == 0 ? 0 : (double) NANOSECONDS.toMicros(totalNanos) / count / 1000;
+  }
+
+  private static class DestinationStatistics {
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder timeToFirstByteNanos = new LongAdder();
+
+    private void record(long nanos) {
+      responses.increment();
+      timeToFirstByteNanos.add(nanos);
+    }
+
+    private double getAverageMillis() {
+      return averageMillis(timeToFirstByteNanos.sum(), responses.sum());
+    }
+  }
+}
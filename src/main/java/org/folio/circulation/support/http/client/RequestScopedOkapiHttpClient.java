@@ -0,0 +1,240 @@
+package org.folio.circulation.support.http.client;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.folio.circulation.support.cache.CacheStatistics;
+import org.folio.circulation.support.results.Result;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Okapi HTTP client for the handling of a single request to the module, that
+ * only makes a GET request for a URL once.
+ * <p>
+ * Later GET requests for the same URL (including query parameters) get the
+ * same response, including when the first request is still in progress.
+ * Only successful responses of a limited size are kept, for a limited number
+ * of URLs.
+ * <p>
+ * A change made through this client drops the kept responses that could be
+ * affected by it. For storage modules that is the changed collection, for
+ * any other module it is all of them, as the change may have side effects.
+ */
+public class RequestScopedOkapiHttpClient implements OkapiHttpClient {
+  private static final int MAXIMUM_RESPONSES = 200;
+  private static final int MAXIMUM_BODY_LENGTH = 256 * 1024;
+  private static final String STORAGE_MODULE_SUFFIX = "-storage";
+
+  private final OkapiHttpClient client;
+  private final CacheStatistics statistics = new CacheStatistics();
+  private final Map<String, CompletableFuture<Result<Response>>> responses =
+    new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(
+        Map.Entry<String, CompletableFuture<Result<Response>>> eldest) {
+
+        return size() > MAXIMUM_RESPONSES;
+      }
+    };
+
+  public RequestScopedOkapiHttpClient(OkapiHttpClient client) {
+    this.client = client;
+  }
+
+  /**
+   * @return hits are GET requests that were not made because the response
+   * was already available or in progress
+   */
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String url, Duration timeout,
+    QueryParameter... queryParameters) {
+
+    return getOnce(key(url, queryParameters),
+      () -> client.get(url, timeout, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(URL url,
+    QueryParameter... queryParameters) {
+
+    return getOnce(key(url.toString(), queryParameters),
+      () -> client.get(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> get(String url,
+    QueryParameter... queryParameters) {
+
+    return getOnce(key(url, queryParameters),
+      () -> client.get(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(URL url, JsonObject body) {
+    return change(url.toString(), client.post(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(String url, JsonObject body) {
+    return change(url, client.post(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> post(String url, JsonObject body,
+    Duration timeout) {
+
+    return change(url, client.post(url, body, timeout));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(URL url, JsonObject body) {
+    return change(url.toString(), client.put(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(String url, JsonObject body) {
+    return change(url, client.put(url, body));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> put(String url, JsonObject body,
+    Duration timeout) {
+
+    return change(url, client.put(url, body, timeout));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(URL url,
+    QueryParameter... queryParameters) {
+
+    return change(url.toString(), client.delete(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(String url,
+    QueryParameter... queryParameters) {
+
+    return change(url, client.delete(url, queryParameters));
+  }
+
+  @Override
+  public CompletableFuture<Result<Response>> delete(String url, Duration timeout,
+    QueryParameter... queryParameters) {
+
+    return change(url, client.delete(url, timeout, queryParameters));
+  }
+
+  /**
+   * Drops the affected responses both when the change is made and when it
+   * has been made, so that a response fetched whilst the change is in
+   * progress is not used afterwards
+   */
+  private CompletableFuture<Result<Response>> change(String url,
+    CompletableFuture<Result<Response>> changed) {
+
+    forgetAffectedBy(url);
+
+    return changed.whenComplete((result, throwable) -> forgetAffectedBy(url));
+  }
+
+  private CompletableFuture<Result<Response>> getOnce(String key,
+    Supplier<CompletableFuture<Result<Response>>> fetch) {
+
+    synchronized (responses) {
+      final CompletableFuture<Result<Response>> kept = responses.get(key);
+
+      if (kept != null) {
+        statistics.recordHit();
+        return kept;
+      }
+
+      statistics.recordMiss();
+
+      final CompletableFuture<Result<Response>> fetched = fetch.get();
+
+      responses.put(key, fetched);
+
+      fetched.whenComplete((result, throwable) -> {
+        if (throwable != null || !canBeReused(result)) {
+          forget(key, fetched);
+        }
+      });
+
+      return fetched;
+    }
+  }
+
+  private void forgetAffectedBy(String url) {
+    final String affectedPrefix = storageCollection(url);
+
+    synchronized (responses) {
+      if (affectedPrefix == null) {
+        responses.clear();
+      }
+      else {
+        responses.keySet().removeIf(key -> key.equals(affectedPrefix)
+          || key.startsWith(affectedPrefix + "/")
+          || key.startsWith(affectedPrefix + "?"));
+      }
+    }
+  }
+
+  private void forget(String key, CompletableFuture<Result<Response>> response) {
+    synchronized (responses) {
+      responses.remove(key, response);
+    }
+  }
+
+  /**
+   * @return the URL of the collection a change is made to, when that is in a
+   * storage module, otherwise null
+   */
+  private static String storageCollection(String url) {
+    try {
+      final URL parsed = new URL(url);
+      final String[] segments = parsed.getPath().split("/");
+
+      if (segments.length < 3 || !segments[1].endsWith(STORAGE_MODULE_SUFFIX)) {
+        return null;
+      }
+
+      return String.format("%s://%s/%s/%s", parsed.getProtocol(),
+        parsed.getAuthority(), segments[1], segments[2]);
+    }
+    catch (MalformedURLException e) {
+      return null;
+    }
+  }
+
+  private static boolean canBeReused(Result<Response> result) {
+    return result != null
+      && result.succeeded()
+      && result.value().getStatusCode() == 200
+      && result.value().getBodyLength() <= MAXIMUM_BODY_LENGTH;
+  }
+
+  private static String key(String url, QueryParameter... queryParameters) {
+    if (queryParameters.length == 0) {
+      return url;
+    }
+
+    final StringBuilder query = new StringBuilder();
+
+    Stream.of(queryParameters).forEach(parameter -> parameter.consume(
+      (name, value) -> query.append(query.length() == 0 ? "?" : "&")
+        .append(name).append("=").append(value)));
+
+    return url + query;
+  }
+}
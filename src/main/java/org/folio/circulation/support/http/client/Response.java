@@ -2,6 +2,7 @@ package org.folio.circulation.support.http.client;
 
 import static io.vertx.core.MultiMap.caseInsensitiveMultiMap;
 import static java.lang.String.format;
+import static org.folio.circulation.support.http.client.BufferHelper.stringFromBuffer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
@@ -13,7 +14,8 @@ import io.vertx.ext.web.client.HttpResponse;
 import lombok.val;
 
 public class Response {
-  protected final String body;
+  private final Buffer bodyBuffer;
+  private String body;
   private final int statusCode;
   private final String contentType;
   private final MultiMap headers;
@@ -26,7 +28,23 @@ public class Response {
   public Response(int statusCode, String body, String contentType,
     MultiMap headers, String fromUrl) {
 
+    this(statusCode, null, body, contentType, headers, fromUrl);
+  }
+
+  /**
+   * The body is kept as it was received and only decoded when it is needed
+   */
+  Response(int statusCode, Buffer body, String contentType, MultiMap headers,
+    String fromUrl) {
+
+    this(statusCode, body, null, contentType, headers, fromUrl);
+  }
+
+  private Response(int statusCode, Buffer bodyBuffer, String body,
+    String contentType, MultiMap headers, String fromUrl) {
+
     this.statusCode = statusCode;
+    this.bodyBuffer = bodyBuffer;
     this.body = body;
     this.contentType = contentType;
     this.headers = headers;
@@ -38,12 +56,24 @@ public class Response {
 
     headers.addAll(response.headers());
 
-    return new Response(response.statusCode(), response.bodyAsString(),
+    final Buffer body = response.body();
+
+    return new Response(response.statusCode(), body == null ? Buffer.buffer() : body,
       headers.get(HttpHeaders.CONTENT_TYPE), headers, url);
   }
 
   public boolean hasBody() {
-    return StringUtils.isNotBlank(getBody());
+    if (bodyBuffer == null) {
+      return StringUtils.isNotBlank(body);
+    }
+
+    for (int index = 0; index < bodyBuffer.length(); index++) {
+      if (!Character.isWhitespace(bodyBuffer.getByte(index))) {
+        return true;
+      }
+    }
+
+    return false;
   }
 
   public int getStatusCode() {
@@ -51,12 +81,42 @@ public class Response {
   }
 
   public String getBody() {
+    if (body == null && bodyBuffer != null) {
+      body = stringFromBuffer(bodyBuffer);
+    }
+
     return body;
   }
 
+  /**
+   * @return the body as it was received, without decoding it to a string
+   * when that has not been needed yet
+   */
+  public Buffer getBodyAsBuffer() {
+    if (bodyBuffer != null) {
+      return bodyBuffer;
+    }
+
+    return body == null ? Buffer.buffer() : Buffer.buffer(body);
+  }
+
+  /**
+   * @return length of the body in bytes when it is kept as it was received,
+   * otherwise in characters
+   */
+  public int getBodyLength() {
+    if (bodyBuffer != null) {
+      return bodyBuffer.length();
+    }
+
+    return body == null ? 0 : body.length();
+  }
+
   public JsonObject getJson() {
     if(hasBody()) {
-      return new JsonObject(getBody());
+      return bodyBuffer != null
+        ? new JsonObject(bodyBuffer)
+        : new JsonObject(getBody());
     }
     else {
       return new JsonObject();
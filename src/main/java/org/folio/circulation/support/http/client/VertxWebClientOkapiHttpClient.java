@@ -21,7 +21,6 @@ import org.folio.circulation.support.ServerErrorFailure;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
@@ -37,11 +36,11 @@ public class VertxWebClientOkapiHttpClient implements OkapiHttpClient {
   private final String userId;
   private final String requestId;
 
-  public static OkapiHttpClient createClientUsing(HttpClient httpClient,
+  public static OkapiHttpClient createClientUsing(WebClient webClient,
     URL okapiUrl, String tenantId, String token, String userId, String requestId) {
 
-    return new VertxWebClientOkapiHttpClient(WebClient.wrap(httpClient),
-      okapiUrl, tenantId, token, userId, requestId);
+    return new VertxWebClientOkapiHttpClient(webClient, okapiUrl, tenantId,
+      token, userId, requestId);
   }
 
   private VertxWebClientOkapiHttpClient(WebClient webClient, URL okapiUrl,
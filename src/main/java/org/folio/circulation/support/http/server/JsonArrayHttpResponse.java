@@ -0,0 +1,92 @@
+package org.folio.circulation.support.http.server;
+
+import static io.vertx.core.buffer.Buffer.buffer;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes a collection of records as a chunked JSON response of the form
+ * {@code {"<property>": [...], "totalRecords": n}}
+ * <p>
+ * Each record is only mapped to JSON and encoded when it is written, and no
+ * more is written whilst the write queue of the response is full, so the whole
+ * representation of the collection is never held in memory at once.
+ */
+public class JsonArrayHttpResponse<T> implements HttpResponse {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String arrayPropertyName;
+  private final Collection<T> records;
+  private final Function<T, JsonObject> toJson;
+
+  public static <T> HttpResponse ok(String arrayPropertyName,
+    Collection<T> records, Function<T, JsonObject> toJson) {
+
+    return new JsonArrayHttpResponse<>(arrayPropertyName, records, toJson);
+  }
+
+  private JsonArrayHttpResponse(String arrayPropertyName,
+    Collection<T> records, Function<T, JsonObject> toJson) {
+
+    this.arrayPropertyName = arrayPropertyName;
+    this.records = records;
+    this.toJson = toJson;
+  }
+
+  @Override
+  public void writeTo(HttpServerResponse response) {
+    response.setStatusCode(200);
+    response.putHeader("content-type", "application/json; charset=utf-8");
+    response.setChunked(true);
+
+    response.write(buffer("{" + Json.encode(arrayPropertyName) + ":["));
+
+    writeRecords(response, records.iterator(), true);
+  }
+
+  private void writeRecords(HttpServerResponse response, Iterator<T> remaining,
+    boolean first) {
+
+    boolean firstRecord = first;
+
+    try {
+      while (remaining.hasNext()) {
+        if (response.closed()) {
+          return;
+        }
+
+        if (response.writeQueueFull()) {
+          final boolean nextIsFirst = firstRecord;
+
+          response.drainHandler(notUsed -> writeRecords(response, remaining,
+            nextIsFirst));
+
+          return;
+        }
+
+        final String record = toJson.apply(remaining.next()).encode();
+
+        response.write(firstRecord ? record : "," + record);
+
+        firstRecord = false;
+      }
+
+      response.end("],\"totalRecords\":" + records.size() + "}");
+    }
+    catch (Exception e) {
+      // the status has already been sent, so the response can only be abandoned
+      log.error("Failed to write {} to response", arrayPropertyName, e);
+      response.reset();
+    }
+  }
+}
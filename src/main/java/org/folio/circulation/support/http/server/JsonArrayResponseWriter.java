@@ -0,0 +1,160 @@
+package org.folio.circulation.support.http.server;
+
+import static io.vertx.core.buffer.Buffer.buffer;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.failed;
+import static org.folio.circulation.support.results.Result.succeeded;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.folio.circulation.support.ServerErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes records to a chunked JSON response of the form
+ * {@code {"<property>": [...], "totalRecords": n}} a page at a time, as the
+ * pages arrive from storage, so only the page being written is held in memory
+ * <p>
+ * The status and the start of the array are only written with the first page,
+ * so a failure before then is responded to as usual. A failure after that can
+ * only abandon the response.
+ * <p>
+ * Pages can be written from more than one thread. The future for a page does
+ * not complete whilst the write queue of the response is full, so that the
+ * next page is not fetched until the client has caught up. If the connection
+ * is closed or fails, the pages waiting for the queue to drain and any later
+ * pages fail, so that whatever is fetching the pages stops.
+ */
+public class JsonArrayResponseWriter<T> {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final HttpServerResponse response;
+  private final String arrayPropertyName;
+  private final Function<T, JsonObject> toJson;
+  private final List<CompletableFuture<Result<Void>>> waitingForDrain = new ArrayList<>();
+
+  private boolean started = false;
+  private boolean abandoned = false;
+  private int recordsWritten = 0;
+
+  public JsonArrayResponseWriter(HttpServerResponse response,
+    String arrayPropertyName, Function<T, JsonObject> toJson) {
+
+    this.response = response;
+    this.arrayPropertyName = arrayPropertyName;
+    this.toJson = toJson;
+
+    response.closeHandler(notUsed -> abandon("Connection closed"));
+    response.exceptionHandler(e -> abandon("Connection failed: " + e.getMessage()));
+  }
+
+  /**
+   * @return succeeds once the records have been written and the write queue
+   * of the response is no longer full
+   */
+  public synchronized CompletableFuture<Result<Void>> write(Collection<T> records) {
+    if (abandoned || response.closed()) {
+      return completedFuture(failed(new ServerErrorFailure(
+        "Response closed before all " + arrayPropertyName + " were written")));
+    }
+
+    try {
+      for (T record : records) {
+        final String encoded = toJson.apply(record).encode();
+
+        start();
+        response.write(recordsWritten == 0 ? encoded : "," + encoded);
+        recordsWritten++;
+      }
+    }
+    catch (Exception e) {
+      return completedFuture(failed(new ServerErrorFailure(e)));
+    }
+
+    if (!response.writeQueueFull()) {
+      return completedFuture(succeeded(null));
+    }
+
+    final CompletableFuture<Result<Void>> drained = new CompletableFuture<>();
+
+    waitingForDrain.add(drained);
+    response.drainHandler(notUsed -> drained());
+
+    return drained;
+  }
+
+  /**
+   * Ends the response once all pages have been written, or responds with the
+   * failure if nothing has been written yet
+   */
+  public synchronized void end(Result<Void> outcome) {
+    if (abandoned) {
+      log.warn("Response closed before all {} were written", arrayPropertyName);
+      return;
+    }
+
+    if (outcome.failed()) {
+      if (started) {
+        log.error("Failed to write all {} to response", arrayPropertyName);
+        response.reset();
+      }
+      else {
+        outcome.cause().writeTo(response);
+      }
+
+      return;
+    }
+
+    start();
+    response.end("],\"totalRecords\":" + recordsWritten + "}");
+  }
+
+  private void start() {
+    if (started) {
+      return;
+    }
+
+    response.setStatusCode(200);
+    response.putHeader("content-type", "application/json; charset=utf-8");
+    response.setChunked(true);
+
+    response.write(buffer("{" + Json.encode(arrayPropertyName) + ":["));
+
+    started = true;
+  }
+
+  private void drained() {
+    takeWaitingForDrain().forEach(future -> future.complete(succeeded(null)));
+  }
+
+  private void abandon(String reason) {
+    synchronized (this) {
+      abandoned = true;
+    }
+
+    log.warn("{} whilst writing {} to response", reason, arrayPropertyName);
+
+    takeWaitingForDrain().forEach(future -> future.complete(failed(
+      new ServerErrorFailure(reason + " before all " + arrayPropertyName
+        + " were written"))));
+  }
+
+  private synchronized List<CompletableFuture<Result<Void>>> takeWaitingForDrain() {
+    final List<CompletableFuture<Result<Void>>> waiting = new ArrayList<>(waitingForDrain);
+
+    waitingForDrain.clear();
+
+    return waiting;
+  }
+}
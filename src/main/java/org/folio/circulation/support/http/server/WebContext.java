@@ -10,16 +10,20 @@ import static org.folio.circulation.support.http.OkapiHeader.USER_ID;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.folio.circulation.support.InvalidOkapiLocationException;
 import org.folio.circulation.support.http.client.OkapiHttpClient;
 import org.folio.circulation.support.http.client.VertxWebClientOkapiHttpClient;
 import org.folio.circulation.support.results.Result;
 
-import io.vertx.core.http.HttpClient;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.client.WebClient;
 
 public class WebContext {
+  private static final int MAXIMUM_OKAPI_BASED_URLS = 1_000;
+  private static final Map<String, URL> okapiBasedUrls = new ConcurrentHashMap<>();
+
   private final RoutingContext routingContext;
 
   public WebContext(RoutingContext routingContext) {
@@ -68,14 +72,31 @@ public class WebContext {
     return getStringParameter(name, null);
   }
 
+  /**
+   * The URLs are only parsed once for each Okapi location and path, as they
+   * are needed for every request
+   */
   public URL getOkapiBasedUrl(String path) throws MalformedURLException {
+    final String key = getOkapiLocation() + path;
+    final URL existing = okapiBasedUrls.get(key);
+
+    if (existing != null) {
+      return existing;
+    }
+
     URL currentRequestUrl = new URL(getOkapiLocation());
 
-    return new URL(currentRequestUrl.getProtocol(), currentRequestUrl.getHost(),
-      currentRequestUrl.getPort(), path);
+    final URL okapiBasedUrl = new URL(currentRequestUrl.getProtocol(),
+      currentRequestUrl.getHost(), currentRequestUrl.getPort(), path);
+
+    if (okapiBasedUrls.size() < MAXIMUM_OKAPI_BASED_URLS) {
+      okapiBasedUrls.put(key, okapiBasedUrl);
+    }
+
+    return okapiBasedUrl;
   }
 
-  public OkapiHttpClient createHttpClient(HttpClient httpClient) {
+  public OkapiHttpClient createHttpClient(WebClient webClient) {
     URL okapiUrl;
 
     try {
@@ -85,7 +106,7 @@ public class WebContext {
       throw new InvalidOkapiLocationException(getOkapiLocation(), e);
     }
 
-    return VertxWebClientOkapiHttpClient.createClientUsing(httpClient,
+    return VertxWebClientOkapiHttpClient.createClientUsing(webClient,
       okapiUrl, getTenantId(), getOkapiToken(), getUserId(),
       getRequestId());
   }
@@ -0,0 +1,128 @@
+package org.folio.circulation.support.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.DatabindCodec;
+
+/**
+ * Reads a collection of records, such as a page of loans, from a JSON body
+ * without decoding the whole body first.
+ * <p>
+ * Each record is decoded and handed to the mapper as soon as it is read, so
+ * only the mapped records are kept, rather than the body, the decoded body and
+ * the mapped records at the same time. Elements of the array that are not
+ * objects are skipped, in the same way as {@link JsonObjectArrayPropertyFetcher}.
+ *
+ * @param <T> type of the mapped records
+ */
+public class StreamingJsonCollectionReader<T> {
+  private static final String TOTAL_RECORDS_PROPERTY_NAME = "totalRecords";
+
+  private final String recordsPropertyName;
+  private final Function<JsonObject, T> mapper;
+
+  private final List<T> records = new ArrayList<>();
+  private Integer totalRecords;
+
+  public StreamingJsonCollectionReader(String recordsPropertyName,
+    Function<JsonObject, T> mapper) {
+
+    this.recordsPropertyName = recordsPropertyName;
+    this.mapper = mapper;
+  }
+
+  /**
+   * @throws DecodeException when the body is not a JSON object
+   */
+  public StreamingJsonCollectionReader<T> read(Buffer body) {
+    try (InputStream input = new ByteBufInputStream(body.getByteBuf());
+      JsonParser parser = DatabindCodec.mapper().getFactory().createParser(input)) {
+
+      readCollection(parser);
+
+      return this;
+    }
+    catch (IOException e) {
+      throw new DecodeException("Failed to decode: " + e.getMessage());
+    }
+  }
+
+  public List<T> getRecords() {
+    return records;
+  }
+
+  /**
+   * @return the total number of records, or null when the body does not say
+   */
+  public Integer getTotalRecords() {
+    return totalRecords;
+  }
+
+  private void readCollection(JsonParser parser) throws IOException {
+    final JsonToken first = parser.nextToken();
+
+    if (first == null) {
+      return;
+    }
+
+    if (first != JsonToken.START_OBJECT) {
+      throw new DecodeException("Collection of records must be a JSON object");
+    }
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String propertyName = parser.getCurrentName();
+      final JsonToken value = parser.nextToken();
+
+      if (propertyName.equals(recordsPropertyName) && value == JsonToken.START_ARRAY) {
+        readRecords(parser);
+      }
+      else if (propertyName.equals(TOTAL_RECORDS_PROPERTY_NAME)) {
+        totalRecords = readInteger(parser, value);
+      }
+      else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void readRecords(JsonParser parser) throws IOException {
+    records.clear();
+
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() == JsonToken.START_OBJECT) {
+        records.add(mapper.apply(new JsonObject(parser.readValueAs(Map.class))));
+      }
+      else {
+        parser.skipChildren();
+      }
+    }
+  }
+
+  private static Integer readInteger(JsonParser parser, JsonToken value)
+    throws IOException {
+
+    if (value == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    if (!value.isNumeric()) {
+      throw new DecodeException(String.format("%s must be a number",
+        TOTAL_RECORDS_PROPERTY_NAME));
+    }
+
+    return parser.getNumberValue().intValue();
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.circulation.support.logging;
+
+import static java.util.stream.Collectors.joining;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records how long each stage of an operation takes, to break down the
+ * latency of the operation.
+ * <p>
+ * A stage is measured from when it is started until its future completes,
+ * stages that run at the same time overlap.
+ */
+public class StageTimings {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private final String operation;
+  private final LongSupplier currentTimeMillis;
+  private final long startedAt;
+  private final Map<String, Long> durations = new LinkedHashMap<>();
+
+  public StageTimings(String operation) {
+    this(operation, System::currentTimeMillis);
+  }
+
+  StageTimings(String operation, LongSupplier currentTimeMillis) {
+    this.operation = operation;
+    this.currentTimeMillis = currentTimeMillis;
+    this.startedAt = currentTimeMillis.getAsLong();
+  }
+
+  /**
+   * Start a stage and record its duration once it has completed
+   *
+   * @param stage  name of the stage, the durations of stages with the same name are added up
+   * @param action  starts the stage
+   * @return the future of the stage
+   */
+  public <T> CompletableFuture<T> time(String stage, Supplier<CompletableFuture<T>> action) {
+    final long stageStartedAt = currentTimeMillis.getAsLong();
+
+    return action.get().whenComplete((result, throwable) ->
+      record(stage, currentTimeMillis.getAsLong() - stageStartedAt));
+  }
+
+  public Map<String, Long> getDurations() {
+    synchronized (durations) {
+      return new LinkedHashMap<>(durations);
+    }
+  }
+
+  public void log() {
+    if (log.isDebugEnabled()) {
+      log.debug("{}", this);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s took %d ms (%s)", operation,
+      currentTimeMillis.getAsLong() - startedAt,
+      getDurations().entrySet().stream()
+        .map(stage -> String.format("%s: %d ms", stage.getKey(), stage.getValue()))
+        .collect(joining(", ")));
+  }
+
+  private void record(String stage, long duration) {
+    synchronized (durations) {
+      durations.merge(stage, duration, Long::sum);
+    }
+  }
+}
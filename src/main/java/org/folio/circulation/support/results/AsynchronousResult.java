@@ -75,7 +75,7 @@ public class AsynchronousResult<T> {
    * when the current result is successful and the mapping succeeds, otherwise a failure
    */
   public <R> AsynchronousResult<R> flatMapFuture(Function<T, CompletableFuture<Result<R>>> map) {
-    return fromFutureResult(completionStage.thenComposeAsync(r -> r.after(map)));
+    return fromFutureResult(completionStage.thenCompose(r -> r.after(map)));
   }
 
   public <R> AsynchronousResult<R> map(Function<T, R> mapper) {
@@ -32,7 +32,7 @@ public class MappingFunctions {
 
     return value ->
       conditionFunction.apply(value)
-        .thenComposeAsync(r -> r.after(condition -> isTrue(condition)
+        .thenCompose(r -> r.after(condition -> isTrue(condition)
           ? whenTrue.apply(value)
           : whenFalse.apply(value)));
   }
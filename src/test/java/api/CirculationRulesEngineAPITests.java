@@ -1,14 +1,20 @@
 package api;
 
+import static api.support.fakes.FakePubSub.getPublishedEventsAsList;
+import static api.support.fakes.PublishedEvents.byEventType;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
+import static org.folio.circulation.domain.EventType.CIRCULATION_RULES_CHANGED;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.StringContains.containsString;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.folio.circulation.rules.Campus;
+import org.folio.circulation.rules.ExecutableRules;
 import org.folio.circulation.rules.Institution;
 import org.folio.circulation.rules.ItemLocation;
 import org.folio.circulation.rules.ItemType;
@@ -374,20 +380,44 @@ public class CirculationRulesEngineAPITests extends APITests {
   }
 
   @Test
-  public void cacheIsInvalidatedAfterFiveSeconds() {
+  public void cacheIsInvalidatedWhenRulesChangedEventIsReceived() {
     setRules(rulesFallback);
     assertThat(applyRulesForLoanPolicy(m1, t1, g1, s1), is(lp6));
 
     circulationRulesFixture.updateCirculationRulesWithoutInvalidatingCache(
       rulesFallback2);
 
-    // Poll until the cached rules should have been replaced
-    await()
-      .atLeast(4, SECONDS)
-      .atMost(6, SECONDS)
-      .pollDelay(1, SECONDS)
-      .pollInterval(1, SECONDS)
-      .until(() -> applyRulesForLoanPolicy(m1, t1, g1, s1), is(lp7));
+    eventSubscribersFixture.publishCirculationRulesChangedEvent(
+      ExecutableRules.contentHash(rulesFallback2));
+
+    assertThat(applyRulesForLoanPolicy(m1, t1, g1, s1), is(lp7));
+  }
+
+  @Test
+  public void cacheIsKeptWhenRulesChangedEventIsForTheCachedRules() {
+    setRules(rulesFallback);
+    assertThat(applyRulesForLoanPolicy(m1, t1, g1, s1), is(lp6));
+
+    circulationRulesFixture.updateCirculationRulesWithoutInvalidatingCache(
+      rulesFallback2);
+
+    eventSubscribersFixture.publishCirculationRulesChangedEvent(
+      ExecutableRules.contentHash(rulesFallback));
+
+    assertThat(applyRulesForLoanPolicy(m1, t1, g1, s1), is(lp6));
+  }
+
+  @Test
+  public void rulesChangedEventIsPublishedWhenRulesAreReplaced() {
+    setRules(rulesFallback);
+
+    final List<JsonObject> events = await()
+      .atMost(1, SECONDS)
+      .until(() -> getPublishedEventsAsList(byEventType(CIRCULATION_RULES_CHANGED.name())),
+        hasSize(1));
+
+    assertThat(new JsonObject(events.get(0).getString("eventPayload"))
+      .getString("rulesHash"), is(ExecutableRules.contentHash(rulesFallback)));
   }
 
   private Policy applyRulesForLoanPolicy(ItemType itemType, LoanType loanType,
@@ -6,6 +6,7 @@ import static api.support.fakes.FakePubSub.getRegisteredPublishers;
 import static api.support.fakes.FakePubSub.getRegisteredSubscribers;
 import static api.support.fakes.FakePubSub.setFailPubSubRegistration;
 import static api.support.fakes.FakePubSub.setFailPubSubUnregistering;
+import static api.support.matchers.EventTypeMatchers.isCirculationRulesChangedEventType;
 import static api.support.matchers.EventTypeMatchers.isItemCheckedInEventType;
 import static api.support.matchers.EventTypeMatchers.isItemCheckedOutEventType;
 import static api.support.matchers.EventTypeMatchers.isItemClaimedReturnedEventType;
@@ -51,7 +52,7 @@ public class TenantActivationResourceTests extends APITests {
 
     assertThat(response.getStatusCode(), is(HTTP_CREATED.toInt()));
 
-    assertThat(getCreatedEventTypes().size(), is(6));
+    assertThat(getCreatedEventTypes().size(), is(7));
     assertThat(getRegisteredPublishers().size(), is(1));
 
     assertThat(getCreatedEventTypes(), hasItems(
@@ -60,7 +61,8 @@ public class TenantActivationResourceTests extends APITests {
       isItemDeclaredLostEventType(),
       isLoanDueDateChangedEventType(),
       isItemClaimedReturnedEventType(),
-      isLogRecordEventType()
+      isLogRecordEventType(),
+      isCirculationRulesChangedEventType()
     ));
 
     assertThat(getRegisteredPublishers(), hasItem(isValidPublishersRegistration()));
@@ -81,14 +83,15 @@ public class TenantActivationResourceTests extends APITests {
 
     assertThat(response.getStatusCode(), is(HTTP_NO_CONTENT.toInt()));
 
-    assertThat(getDeletedEventTypes().size(), is(6));
+    assertThat(getDeletedEventTypes().size(), is(7));
     assertThat(getDeletedEventTypes(), hasItems(
       EventTypeMatchers.ITEM_CHECKED_OUT,
       EventTypeMatchers.ITEM_CHECKED_IN,
       EventTypeMatchers.ITEM_DECLARED_LOST,
       EventTypeMatchers.ITEM_CLAIMED_RETURNED,
       EventTypeMatchers.LOAN_DUE_DATE_CHANGED,
-      EventTypeMatchers.LOG_RECORD
+      EventTypeMatchers.LOG_RECORD,
+      EventTypeMatchers.CIRCULATION_RULES_CHANGED
     ));
   }
 }
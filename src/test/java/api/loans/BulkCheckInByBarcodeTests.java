@@ -0,0 +1,355 @@
+package api.loans;
+
+import static api.support.builders.ItemBuilder.INTELLECTUAL_ITEM;
+import static api.support.fakes.PublishedEvents.byLogEventType;
+import static api.support.matchers.ItemMatchers.isAvailable;
+import static api.support.matchers.ItemMatchers.isAwaitingPickup;
+import static api.support.matchers.ItemStatusCodeMatcher.hasItemStatus;
+import static api.support.matchers.LoanMatchers.isClosed;
+import static api.support.matchers.PatronNoticeMatcher.hasEmailNoticeProperties;
+import static api.support.matchers.RequestMatchers.isOpenAwaitingPickup;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessage;
+import static api.support.matchers.ValidationErrorMatchers.hasParameter;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.waitAtMost;
+import static org.folio.circulation.domain.representations.logs.LogEventType.NOTICE;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+import static org.joda.time.DateTimeZone.UTC;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import api.support.APITests;
+import api.support.MultipleJsonRecords;
+import api.support.builders.BulkCheckInByBarcodeRequestBuilder;
+import api.support.builders.NoticeConfigurationBuilder;
+import api.support.builders.NoticePolicyBuilder;
+import api.support.builders.RequestBuilder;
+import api.support.fakes.FakePubSub;
+import api.support.fakes.FakeStorageModule;
+import api.support.fixtures.TemplateContextMatchers;
+import api.support.http.CqlQuery;
+import api.support.http.IndividualResource;
+import api.support.http.ItemResource;
+import io.vertx.core.json.JsonObject;
+
+public class BulkCheckInByBarcodeTests extends APITests {
+  private static final DateTime CHECK_IN_DATE = new DateTime(2020, 11, 5, 14, 23, 41, UTC);
+
+  @Test
+  public void itemsLoansAndRequestQueuesAreFetchedForAllItemsAtOnce() {
+    final IndividualResource james = usersFixture.james();
+    final UUID checkInServicePointId = servicePointsFixture.cd1().getId();
+
+    final ItemResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet(
+      randomBarcode());
+    final ItemResource nod = itemsFixture.basedUponNod(
+      item -> item.withBarcode(randomBarcode()));
+
+    final IndividualResource smallAngryPlanetLoan = checkOutFixture.checkOutByBarcode(
+      smallAngryPlanet, james);
+    final IndividualResource nodLoan = checkOutFixture.checkOutByBarcode(nod, james);
+
+    FakeStorageModule.clearRecentQueries();
+
+    final List<JsonObject> checkIns = checkIns(checkInFixture.bulkCheckInByBarcode(
+      new BulkCheckInByBarcodeRequestBuilder()
+        .forItems(smallAngryPlanet, nod)
+        .on(CHECK_IN_DATE)
+        .at(checkInServicePointId)));
+
+    assertThat(checkIns, hasSize(2));
+
+    assertThat(itemBarcode(checkIns.get(0)), is(barcodeOf(smallAngryPlanet)));
+    assertThat(checkedInLoan(checkIns.get(0)), isClosed());
+    assertThat(itemBarcode(checkIns.get(1)), is(barcodeOf(nod)));
+    assertThat(checkedInLoan(checkIns.get(1)), isClosed());
+
+    assertThat(loansStorageClient.get(smallAngryPlanetLoan).getJson(), isClosed());
+    assertThat(loansStorageClient.get(nodLoan).getJson(), isClosed());
+    assertThat(itemsClient.get(smallAngryPlanet).getJson(), isAvailable());
+    assertThat(itemsClient.get(nod).getJson(), isAvailable());
+
+    assertThat(wasItemFetchedAlongWithOthers(smallAngryPlanet), is(true));
+    assertThat(wasItemFetchedAlongWithOthers(nod), is(true));
+
+    assertThat(wasItemFetchedOnItsOwn(smallAngryPlanet), is(false));
+    assertThat(wasItemFetchedOnItsOwn(nod), is(false));
+    assertThat(wereOpenLoansFetchedOnTheirOwn(smallAngryPlanet), is(false));
+    assertThat(wereOpenLoansFetchedOnTheirOwn(nod), is(false));
+    assertThat(wasRequestQueueFetchedOnItsOwn(smallAngryPlanet), is(false));
+    assertThat(wasRequestQueueFetchedOnItsOwn(nod), is(false));
+  }
+
+  @Test
+  public void itemCheckedInMoreThanOnceIsFetchedAgainAfterFirstCheckIn() {
+    final UUID checkInServicePointId = servicePointsFixture.cd1().getId();
+
+    final ItemResource nod = itemsFixture.basedUponNod(
+      item -> item.withBarcode(randomBarcode()));
+
+    final IndividualResource loan = checkOutFixture.checkOutByBarcode(nod,
+      usersFixture.james());
+
+    FakeStorageModule.clearRecentQueries();
+
+    final List<JsonObject> checkIns = checkIns(checkInFixture.bulkCheckInByBarcode(
+      new BulkCheckInByBarcodeRequestBuilder()
+        .forItems(nod, nod)
+        .on(CHECK_IN_DATE)
+        .at(checkInServicePointId)));
+
+    assertThat(checkIns, hasSize(2));
+
+    assertThat("First check in should close the loan",
+      checkedInLoan(checkIns.get(0)), isClosed());
+
+    assertThat("Second check in should not find an open loan",
+      checkIns.get(1).getJsonObject("checkIn").containsKey("loan"), is(false));
+
+    assertThat(checkIns.get(1).getJsonObject("checkIn").getJsonObject("item"),
+      isAvailable());
+
+    assertThat(loansStorageClient.get(loan).getJson(), isClosed());
+    assertThat(itemsClient.get(nod).getJson(), isAvailable());
+
+    assertThat(wasItemFetchedOnItsOwn(nod), is(true));
+    assertThat(wereOpenLoansFetchedOnTheirOwn(nod), is(true));
+    assertThat(wasRequestQueueFetchedOnItsOwn(nod), is(true));
+
+    final MultipleJsonRecords checkInOperations = checkInOperationClient.getMany(
+      CqlQuery.queryFromTemplate("itemId=%s", nod.getId()));
+
+    assertThat(checkInOperations.totalRecords(), is(2));
+  }
+
+  @Test
+  public void unknownBarcodeDoesNotPreventOtherItemsBeingCheckedIn() {
+    final UUID checkInServicePointId = servicePointsFixture.cd1().getId();
+    final String unknownBarcode = randomBarcode();
+
+    final ItemResource nod = itemsFixture.basedUponNod(
+      item -> item.withBarcode(randomBarcode()));
+
+    final IndividualResource loan = checkOutFixture.checkOutByBarcode(nod,
+      usersFixture.james());
+
+    final MultipleJsonRecords response = checkInFixture.bulkCheckInByBarcode(
+      new BulkCheckInByBarcodeRequestBuilder()
+        .withItemBarcodes(unknownBarcode, barcodeOf(nod))
+        .on(CHECK_IN_DATE)
+        .at(checkInServicePointId));
+
+    final List<JsonObject> checkIns = checkIns(response);
+
+    assertThat(response.totalRecords(), is(2));
+
+    assertThat(itemBarcode(checkIns.get(0)), is(unknownBarcode));
+    assertThat(checkIns.get(0).containsKey("checkIn"), is(false));
+    assertThat(checkIns.get(0), hasErrorWith(allOf(
+      hasMessage(String.format("No item with barcode %s exists", unknownBarcode)),
+      hasParameter("itemBarcode", unknownBarcode))));
+
+    assertThat(itemBarcode(checkIns.get(1)), is(barcodeOf(nod)));
+    assertThat(checkedInLoan(checkIns.get(1)), isClosed());
+    assertThat(loansStorageClient.get(loan).getJson(), isClosed());
+  }
+
+  @Test
+  public void failureToCheckInOneItemDoesNotFailTheOthers() {
+    final UUID checkInServicePointId = servicePointsFixture.cd1().getId();
+    final String intellectualItemBarcode = randomBarcode();
+
+    final ItemResource intellectualItem = itemsFixture.basedUponNod(item -> item
+      .intellectualItem()
+      .withBarcode(intellectualItemBarcode));
+
+    final ItemResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet(
+      randomBarcode());
+
+    final IndividualResource loan = checkOutFixture.checkOutByBarcode(
+      smallAngryPlanet, usersFixture.james());
+
+    final List<JsonObject> checkIns = checkIns(checkInFixture.bulkCheckInByBarcode(
+      new BulkCheckInByBarcodeRequestBuilder()
+        .forItems(intellectualItem, smallAngryPlanet)
+        .on(CHECK_IN_DATE)
+        .at(checkInServicePointId)));
+
+    assertThat(checkIns, hasSize(2));
+
+    assertThat(checkIns.get(0), hasErrorWith(allOf(
+      hasMessage(String.format("Nod (Book) (Barcode: %s) has the item status "
+        + "Intellectual item and cannot be checked in", intellectualItemBarcode)),
+      hasParameter("itemBarcode", intellectualItemBarcode))));
+
+    assertThat(itemsFixture.getById(intellectualItem.getId()),
+      hasItemStatus(INTELLECTUAL_ITEM));
+
+    assertThat(checkedInLoan(checkIns.get(1)), isClosed());
+    assertThat(loansStorageClient.get(loan).getJson(), isClosed());
+    assertThat(itemsClient.get(smallAngryPlanet).getJson(), isAvailable());
+  }
+
+  @Test
+  public void requestIsFulfilledAndNoticeSentUsingFetchedRequestQueue() {
+    final UUID availableNoticeTemplateId = UUID.randomUUID();
+
+    use(new NoticePolicyBuilder()
+      .withName("Policy with available notice")
+      .withLoanNotices(Collections.singletonList(new NoticeConfigurationBuilder()
+        .withTemplateId(availableNoticeTemplateId)
+        .withAvailableEvent()
+        .create())));
+
+    final UUID pickupServicePointId = servicePointsFixture.cd1().getId();
+    final IndividualResource steve = usersFixture.steve();
+
+    final ItemResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet(
+      randomBarcode());
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet, usersFixture.james());
+
+    final IndividualResource request = requestsFixture.placeHoldShelfRequest(
+      smallAngryPlanet, steve, CHECK_IN_DATE.minusDays(2), pickupServicePointId);
+
+    FakeStorageModule.clearRecentQueries();
+
+    final List<JsonObject> checkIns = checkIns(checkInFixture.bulkCheckInByBarcode(
+      new BulkCheckInByBarcodeRequestBuilder()
+        .forItems(smallAngryPlanet)
+        .on(CHECK_IN_DATE)
+        .at(pickupServicePointId)));
+
+    final JsonObject checkIn = checkIns.get(0).getJsonObject("checkIn");
+
+    assertThat(checkIn.getJsonObject("item"), isAwaitingPickup());
+    assertThat(checkIn.getJsonObject("staffSlipContext").getJsonObject("requester")
+      .getString("lastName"), is(steve.getJson().getJsonObject("personal")
+        .getString("lastName")));
+
+    assertThat(requestsClient.get(request).getJson(), isOpenAwaitingPickup());
+    assertThat(itemsClient.get(smallAngryPlanet).getJson(), isAwaitingPickup());
+
+    assertThat(wasRequestQueueFetchedOnItsOwn(smallAngryPlanet), is(false));
+
+    waitAtMost(1, SECONDS)
+      .until(patronNoticesClient::getAll, hasSize(1));
+
+    assertThat(patronNoticesClient.getAll(), hasItems(
+      hasEmailNoticeProperties(steve.getId(), availableNoticeTemplateId,
+        TemplateContextMatchers.getUserContextMatchers(steve))));
+
+    waitAtMost(1, SECONDS)
+      .until(() -> FakePubSub.getPublishedEventsAsList(byLogEventType(NOTICE.value())),
+        hasSize(1));
+  }
+
+  @Test
+  public void staffSlipContextIsTheSameAsForCheckInOfSingleItem() {
+    final IndividualResource servicePoint = servicePointsFixture.cd1();
+    final IndividualResource steve = usersFixture.steve();
+
+    final ItemResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet(
+      randomBarcode());
+
+    requestsFixture.place(new RequestBuilder()
+      .open()
+      .page()
+      .forItem(smallAngryPlanet)
+      .by(steve)
+      .withRequestDate(CHECK_IN_DATE.minusDays(2))
+      .fulfilToHoldShelf()
+      .withPickupServicePointId(servicePoint.getId()));
+
+    final JsonObject singleCheckInContext = checkInFixture.checkInByBarcode(
+      smallAngryPlanet, CHECK_IN_DATE, servicePoint.getId()).getStaffSlipContext();
+
+    final List<JsonObject> checkIns = checkIns(checkInFixture.bulkCheckInByBarcode(
+      new BulkCheckInByBarcodeRequestBuilder()
+        .forItems(smallAngryPlanet)
+        .on(CHECK_IN_DATE)
+        .at(servicePoint)));
+
+    final JsonObject bulkCheckInContext = checkIns.get(0).getJsonObject("checkIn")
+      .getJsonObject("staffSlipContext");
+
+    final JsonObject itemContext = bulkCheckInContext.getJsonObject("item");
+
+    assertThat(itemContext.getString("effectiveLocationCampus"), is(notNullValue()));
+    assertThat(itemContext.getString("effectiveLocationInstitution"), is(notNullValue()));
+
+    assertThat(withoutLastCheckedInDateTime(bulkCheckInContext),
+      is(withoutLastCheckedInDateTime(singleCheckInContext)));
+  }
+
+  /**
+   * The time of the last check in is when the check in was processed, so
+   * differs between two check ins of the same item
+   */
+  private static JsonObject withoutLastCheckedInDateTime(JsonObject staffSlipContext) {
+    final JsonObject context = staffSlipContext.copy();
+
+    context.getJsonObject("item").remove("lastCheckedInDateTime");
+
+    return context;
+  }
+
+  private static List<JsonObject> checkIns(MultipleJsonRecords response) {
+    return response.stream().collect(Collectors.toList());
+  }
+
+  private static String itemBarcode(JsonObject checkIn) {
+    return checkIn.getString("itemBarcode");
+  }
+
+  private static JsonObject checkedInLoan(JsonObject checkIn) {
+    return checkIn.getJsonObject("checkIn").getJsonObject("loan");
+  }
+
+  private static String barcodeOf(IndividualResource item) {
+    return item.getJson().getString("barcode");
+  }
+
+  private static String randomBarcode() {
+    return String.valueOf(Math.abs(new Random().nextLong()));
+  }
+
+  private static boolean wasItemFetchedAlongWithOthers(IndividualResource item) {
+    return wasQueried("/item-storage/items", "barcode==(",
+      String.format("\"%s\"", barcodeOf(item)));
+  }
+
+  private static boolean wasItemFetchedOnItsOwn(IndividualResource item) {
+    return wasQueried("/item-storage/items",
+      String.format("barcode==\"%s\"", barcodeOf(item)));
+  }
+
+  private static boolean wereOpenLoansFetchedOnTheirOwn(IndividualResource item) {
+    return wasQueried("/loan-storage/loans",
+      String.format("itemId==\"%s\"", item.getId()));
+  }
+
+  private static boolean wasRequestQueueFetchedOnItsOwn(IndividualResource item) {
+    return wasQueried("/request-storage/requests",
+      String.format("itemId==\"%s\"", item.getId()));
+  }
+
+  private static boolean wasQueried(String path, String... criteria) {
+    return FakeStorageModule.getRecentQueries().stream()
+      .filter(query -> query.startsWith(path + "?"))
+      .anyMatch(query -> List.of(criteria).stream().allMatch(query::contains));
+  }
+}
@@ -1028,6 +1028,55 @@ public class CheckOutByBarcodeTests extends APITests {
     assertThat(videoTypeItem, hasItemStatus(CHECKED_OUT));
   }
 
+  @Test
+  public void canCheckOutWhenFewerItemsThanItemLimitAreCheckedOut() {
+    final UUID book = materialTypesFixture.book().getId();
+
+    circulationRulesFixture.updateCirculationRules(createRules("m " + book, 2));
+
+    IndividualResource firstBookTypeItem = itemsFixture.basedUponNod();
+    IndividualResource secondBookTypeItem = itemsFixture.basedUponSmallAngryPlanet();
+    IndividualResource thirdBookTypeItem = itemsFixture.basedUponTemeraire();
+    IndividualResource steve = usersFixture.steve();
+
+    checkOutFixture.checkOutByBarcode(firstBookTypeItem, steve);
+
+    checkOutFixture.checkOutByBarcode(secondBookTypeItem, steve);
+    secondBookTypeItem = itemsClient.get(secondBookTypeItem);
+    assertThat(secondBookTypeItem, hasItemStatus(CHECKED_OUT));
+
+    Response response = checkOutFixture.attemptCheckOutByBarcode(thirdBookTypeItem, steve);
+    assertThat(response.getJson(), hasErrorWith(allOf(
+      hasMessage("Patron has reached maximum limit of 2 items for material type"))));
+    thirdBookTypeItem = itemsClient.get(thirdBookTypeItem);
+    assertThat(thirdBookTypeItem, hasItemStatus(AVAILABLE));
+  }
+
+  @Test
+  public void cannotCheckOutWhenItemLimitIsReachedAmongOpenLoansOfOtherMaterialTypes() {
+    final UUID book = materialTypesFixture.book().getId();
+
+    circulationRulesFixture.updateCirculationRules(createRules("m " + book, 2));
+
+    IndividualResource firstBookTypeItem = itemsFixture.basedUponNod();
+    IndividualResource secondBookTypeItem = itemsFixture.basedUponSmallAngryPlanet();
+    IndividualResource thirdBookTypeItem = itemsFixture.basedUponTemeraire();
+    IndividualResource videoTypeItem = itemsFixture.basedUponDunkirk();
+    IndividualResource steve = usersFixture.steve();
+
+    checkOutFixture.checkOutByBarcode(videoTypeItem, steve);
+    checkOutFixture.checkOutByBarcode(firstBookTypeItem, steve);
+
+    // the two open loans reach the limit in total, but only one is a book
+    checkOutFixture.checkOutByBarcode(secondBookTypeItem, steve);
+    secondBookTypeItem = itemsClient.get(secondBookTypeItem);
+    assertThat(secondBookTypeItem, hasItemStatus(CHECKED_OUT));
+
+    Response response = checkOutFixture.attemptCheckOutByBarcode(thirdBookTypeItem, steve);
+    assertThat(response.getJson(), hasErrorWith(allOf(
+      hasMessage("Patron has reached maximum limit of 2 items for material type"))));
+  }
+
   @Test
   public void canCheckOutWhenItemLimitIsReachedForReadingRoomLoanType() {
 
@@ -1400,7 +1449,11 @@ public class CheckOutByBarcodeTests extends APITests {
   }
 
   private String createRules(String ruleCondition) {
-    final String loanPolicyWithItemLimitId = prepareLoanPolicyWithItemLimit(1).getId().toString();
+    return createRules(ruleCondition, 1);
+  }
+
+  private String createRules(String ruleCondition, int itemLimit) {
+    final String loanPolicyWithItemLimitId = prepareLoanPolicyWithItemLimit(itemLimit).getId().toString();
     final String loanPolicyWithoutItemLimitId = prepareLoanPolicyWithoutItemLimit().getId().toString();
     final String anyRequestPolicy = requestPoliciesFixture.allowAllRequestPolicy().getId().toString();
     final String anyNoticePolicy = noticePoliciesFixture.activeNotice().getId().toString();
@@ -0,0 +1,209 @@
+package api.loans;
+
+import static api.support.fixtures.AutomatedPatronBlocksFixture.MAX_NUMBER_OF_ITEMS_CHARGED_OUT_MESSAGE;
+import static api.support.fixtures.AutomatedPatronBlocksFixture.MAX_OUTSTANDING_FEE_FINE_BALANCE_MESSAGE;
+import static api.support.matchers.ResponseStatusCodeMatcher.hasStatus;
+import static api.support.matchers.ValidationErrorMatchers.hasErrorWith;
+import static api.support.matchers.ValidationErrorMatchers.hasMessage;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.waitAtMost;
+import static org.folio.HttpStatus.HTTP_UNPROCESSABLE_ENTITY;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.folio.circulation.domain.policy.Period;
+import org.folio.circulation.support.http.client.Response;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+import api.support.APITests;
+import api.support.MultipleJsonRecords;
+import api.support.builders.LoanPolicyBuilder;
+import api.support.builders.NoticeConfigurationBuilder;
+import api.support.builders.NoticePolicyBuilder;
+import api.support.builders.RequestBuilder;
+import api.support.http.IndividualResource;
+import io.vertx.core.json.JsonObject;
+
+public class RenewAllTests extends APITests {
+  private static final DateTime LOAN_DATE =
+    new DateTime(2018, 4, 21, 11, 21, 43, DateTimeZone.UTC);
+
+  @Test
+  public void loansThatCannotBeRenewedDoNotPreventOthersBeingRenewed() {
+    use(new LoanPolicyBuilder()
+      .withName("Limited Renewals Policy")
+      .rolling(Period.days(2))
+      .renewFromCurrentDueDate()
+      .limitedRenewals(1));
+
+    final IndividualResource jessica = usersFixture.jessica();
+    final IndividualResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final IndividualResource nod = itemsFixture.basedUponNod();
+
+    final IndividualResource renewableLoan = checkOutFixture.checkOutByBarcode(
+      smallAngryPlanet, jessica, LOAN_DATE);
+    final IndividualResource loanAtRenewalLimit = checkOutFixture.checkOutByBarcode(
+      nod, jessica, LOAN_DATE);
+
+    loansFixture.renewLoanById(nod, jessica);
+
+    final MultipleJsonRecords renewals = loansFixture.renewAll(jessica);
+
+    assertThat(renewals.totalRecords(), is(2));
+
+    final JsonObject renewal = renewalOf(renewals, renewableLoan);
+
+    assertThat(renewal.getString("itemId"), is(smallAngryPlanet.getId().toString()));
+    assertThat(renewal.containsKey("errors"), is(false));
+    assertThat(renewal.getJsonObject("loan").getString("action"), is("renewed"));
+    assertThat(renewal.getJsonObject("loan").getInteger("renewalCount"), is(1));
+
+    final JsonObject refusedRenewal = renewalOf(renewals, loanAtRenewalLimit);
+
+    assertThat(refusedRenewal.getString("itemId"), is(nod.getId().toString()));
+    assertThat(refusedRenewal.containsKey("loan"), is(false));
+    assertThat(refusedRenewal, hasErrorWith(
+      hasMessage("loan at maximum renewal number")));
+
+    assertThat(loansStorageClient.get(renewableLoan).getJson()
+      .getInteger("renewalCount"), is(1));
+    assertThat(loansStorageClient.get(loanAtRenewalLimit).getJson()
+      .getInteger("renewalCount"), is(1));
+  }
+
+  @Test
+  public void loanWithOpenRecallRequestIsNotRenewed() {
+    final IndividualResource jessica = usersFixture.jessica();
+    final IndividualResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final IndividualResource nod = itemsFixture.basedUponNod();
+
+    final IndividualResource recalledLoan = checkOutFixture.checkOutByBarcode(
+      smallAngryPlanet, jessica, LOAN_DATE);
+    final IndividualResource loan = checkOutFixture.checkOutByBarcode(
+      nod, jessica, LOAN_DATE);
+
+    requestsFixture.place(new RequestBuilder()
+      .recall()
+      .forItem(smallAngryPlanet)
+      .withPickupServicePointId(servicePointsFixture.cd1().getId())
+      .by(usersFixture.charlotte()));
+
+    final MultipleJsonRecords renewals = loansFixture.renewAll(jessica);
+
+    assertThat(renewals.totalRecords(), is(2));
+
+    assertThat(renewalOf(renewals, recalledLoan), hasErrorWith(
+      hasMessage("items cannot be renewed when there is an active recall request")));
+
+    assertThat(renewalOf(renewals, loan).getJsonObject("loan")
+      .getString("action"), is("renewed"));
+
+    assertThat(loansStorageClient.get(recalledLoan).getJson()
+      .getInteger("renewalCount", 0), is(0));
+  }
+
+  @Test
+  public void renewalOfAllLoansRefusedWhenAutomatedBlockExistsForPatron() {
+    final IndividualResource jessica = usersFixture.jessica();
+    final IndividualResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+    final IndividualResource nod = itemsFixture.basedUponNod();
+
+    final IndividualResource firstLoan = checkOutFixture.checkOutByBarcode(
+      smallAngryPlanet, jessica, LOAN_DATE);
+    final IndividualResource secondLoan = checkOutFixture.checkOutByBarcode(
+      nod, jessica, LOAN_DATE);
+
+    automatedPatronBlocksFixture.blockAction(jessica.getId().toString(), false, true, true);
+
+    final Response response = loansFixture.attemptRenewAll(jessica);
+
+    assertThat(response, hasStatus(HTTP_UNPROCESSABLE_ENTITY));
+    assertThat(response.getJson(), hasErrorWith(
+      hasMessage(MAX_NUMBER_OF_ITEMS_CHARGED_OUT_MESSAGE)));
+    assertThat(response.getJson(), hasErrorWith(
+      hasMessage(MAX_OUTSTANDING_FEE_FINE_BALANCE_MESSAGE)));
+
+    assertThat(loansStorageClient.get(firstLoan).getJson()
+      .getInteger("renewalCount", 0), is(0));
+    assertThat(loansStorageClient.get(secondLoan).getJson()
+      .getInteger("renewalCount", 0), is(0));
+  }
+
+  @Test
+  public void nothingIsRenewedForPatronWithNoOpenLoans() {
+    final IndividualResource jessica = usersFixture.jessica();
+    final IndividualResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet, usersFixture.steve(), LOAN_DATE);
+
+    final MultipleJsonRecords renewals = loansFixture.renewAll(jessica);
+
+    assertThat(renewals.totalRecords(), is(0));
+    assertThat(renewals.stream().collect(Collectors.toList()), is(empty()));
+  }
+
+  @Test
+  public void renewalNoticeContextIsTheSameAsForRenewalById() {
+    use(new LoanPolicyBuilder()
+        .withName("Limited renewals loan policy")
+        .rolling(Period.months(1))
+        .limitedRenewals(3),
+      new NoticePolicyBuilder()
+        .withName("Policy with renewal notice")
+        .withLoanNotices(Collections.singletonList(new NoticeConfigurationBuilder()
+          .withTemplateId(UUID.randomUUID())
+          .withRenewalEvent()
+          .create())));
+
+    final IndividualResource jessica = usersFixture.jessica();
+    final IndividualResource smallAngryPlanet = itemsFixture.basedUponSmallAngryPlanet();
+
+    checkOutFixture.checkOutByBarcode(smallAngryPlanet, jessica, LOAN_DATE);
+
+    loansFixture.renewLoanById(smallAngryPlanet, jessica);
+
+    final JsonObject renewalByIdContext = waitAtMost(1, SECONDS)
+      .until(patronNoticesClient::getAll, hasSize(1))
+      .get(0).getJsonObject("context");
+
+    patronNoticesClient.deleteAll();
+
+    loansFixture.renewAll(jessica);
+
+    final JsonObject renewAllContext = waitAtMost(1, SECONDS)
+      .until(patronNoticesClient::getAll, hasSize(1))
+      .get(0).getJsonObject("context");
+
+    final JsonObject itemContext = renewAllContext.getJsonObject("item");
+
+    assertThat(itemContext.getString("loanType"), is(notNullValue()));
+    assertThat(itemContext.getString("effectiveLocationCampus"), is(notNullValue()));
+    assertThat(itemContext.getString("effectiveLocationInstitution"), is(notNullValue()));
+
+    assertThat(itemContext, is(renewalByIdContext.getJsonObject("item")));
+    assertThat(renewAllContext.getJsonObject("user"),
+      is(renewalByIdContext.getJsonObject("user")));
+  }
+
+  private static JsonObject renewalOf(MultipleJsonRecords renewals,
+    IndividualResource loan) {
+
+    final List<JsonObject> renewalsOfLoan = renewals.stream()
+      .filter(renewal -> renewal.getString("loanId").equals(loan.getId().toString()))
+      .collect(Collectors.toList());
+
+    assertThat(renewalsOfLoan, hasSize(1));
+
+    return renewalsOfLoan.get(0);
+  }
+}
@@ -25,7 +25,7 @@ import api.support.fakes.FakeOkapi;
 import api.support.fakes.FakeStorageModule;
 import api.support.http.OkapiHeaders;
 import api.support.http.URLHelper;
-import io.vertx.core.Vertx;
+import io.vertx.ext.web.client.WebClient;
 
 public class APITestContext {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -98,7 +98,7 @@ public class APITestContext {
 
   public static OkapiHttpClient createWebClient() {
     return VertxWebClientOkapiHttpClient.createClientUsing(
-      vertxAssistant.createUsingVertx(Vertx::createHttpClient), okapiUrl(),
+      vertxAssistant.createUsingVertx(WebClient::create), okapiUrl(),
       TENANT_ID, TOKEN, USER_ID, REQUEST_ID);
   }
 
@@ -18,7 +18,10 @@ import java.time.ZoneOffset;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
+import org.folio.circulation.infrastructure.storage.CalendarCache;
 import org.folio.circulation.support.ClockManager;
+import org.folio.circulation.support.cache.PolicyCache;
+import org.folio.circulation.support.cache.ReferenceDataCache;
 import api.support.http.IndividualResource;
 import org.joda.time.DateTime;
 import org.junit.After;
@@ -27,6 +30,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 
 import api.support.fakes.FakePubSub;
+import api.support.fakes.FakeStorageModule;
 import api.support.fixtures.AddressTypesFixture;
 import api.support.fixtures.AgeToLostFixture;
 import api.support.fixtures.AutomatedPatronBlocksFixture;
@@ -305,11 +309,15 @@ public abstract class APITests {
 
     FakePubSub.clearPublishedEvents();
     FakePubSub.setFailPublishingWithBadRequestError(false);
+    FakeStorageModule.clearRecentQueries();
   }
 
   @After
   public void afterEach() {
     forTenantStorage().deleteAll();
+    ReferenceDataCache.getInstance().clear();
+    PolicyCache.invalidateAll();
+    CalendarCache.getInstance().invalidateAll();
 
     mockClockManagerToReturnDefaultDateTime();
   }
@@ -0,0 +1,61 @@
+package api.support.builders;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+import api.support.http.IndividualResource;
+import io.vertx.core.json.JsonObject;
+import lombok.AllArgsConstructor;
+import lombok.With;
+
+@With
+@AllArgsConstructor
+public class BulkCheckInByBarcodeRequestBuilder extends JsonBuilder implements Builder {
+  private final List<String> itemBarcodes;
+  private final DateTime checkInDate;
+  private final UUID servicePointId;
+
+  public BulkCheckInByBarcodeRequestBuilder() {
+    this(null, DateTime.now(DateTimeZone.UTC), null);
+  }
+
+  @Override
+  public JsonObject create() {
+    final JsonObject request = new JsonObject();
+
+    put(request, "itemBarcodes", this.itemBarcodes);
+    put(request, "checkInDate", this.checkInDate);
+    put(request, "servicePointId", this.servicePointId);
+
+    return request;
+  }
+
+  public BulkCheckInByBarcodeRequestBuilder forItems(IndividualResource... items) {
+    return withItemBarcodes(Stream.of(items)
+      .map(item -> item.getJson().getString("barcode"))
+      .toArray(String[]::new));
+  }
+
+  public BulkCheckInByBarcodeRequestBuilder withItemBarcodes(String... itemBarcodes) {
+    return new BulkCheckInByBarcodeRequestBuilder(asList(itemBarcodes),
+      this.checkInDate, this.servicePointId);
+  }
+
+  public BulkCheckInByBarcodeRequestBuilder on(DateTime checkInDate) {
+    return withCheckInDate(checkInDate);
+  }
+
+  public BulkCheckInByBarcodeRequestBuilder at(IndividualResource servicePoint) {
+    return at(servicePoint.getId());
+  }
+
+  public BulkCheckInByBarcodeRequestBuilder at(UUID servicePointId) {
+    return withServicePointId(servicePointId);
+  }
+}
@@ -50,6 +50,7 @@ import io.vertx.ext.web.handler.BodyHandler;
 public class FakeStorageModule extends AbstractVerticle {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
   private static final Set<String> queries = Collections.synchronizedSet(new HashSet<>());
+  private static final List<String> recentQueries = Collections.synchronizedList(new ArrayList<>());
 
   private final String rootPath;
   private final String collectionPropertyName;
@@ -73,6 +74,20 @@ public class FakeStorageModule extends AbstractVerticle {
     return queries.stream();
   }
 
+  /**
+   * @return the queries made since they were last cleared, in the order
+   * they were made
+   */
+  public static List<String> getRecentQueries() {
+    synchronized (recentQueries) {
+      return new ArrayList<>(recentQueries);
+    }
+  }
+
+  public static void clearRecentQueries() {
+    recentQueries.clear();
+  }
+
   FakeStorageModule(
     String rootPath,
     String collectionPropertyName,
@@ -348,7 +363,10 @@ public class FakeStorageModule extends AbstractVerticle {
     log.debug("Handling {}", routingContext.request().uri());
 
     if(query != null) {
-      queries.add(format("%s?%s", routingContext.request().path(), query));
+      final String pathAndQuery = format("%s?%s", routingContext.request().path(), query);
+
+      queries.add(pathAndQuery);
+      recentQueries.add(pathAndQuery);
     }
 
     Map<String, JsonObject> resourcesForTenant = getResourcesForTenant(context);
@@ -1,6 +1,8 @@
 package api.support.fixtures;
 
 import static api.support.APITestContext.getOkapiHeadersFromContext;
+import static api.support.MultipleJsonRecords.multipleRecordsFrom;
+import static api.support.http.InterfaceUrls.bulkCheckInByBarcodeUrl;
 import static api.support.http.InterfaceUrls.checkInByBarcodeUrl;
 
 import java.util.UUID;
@@ -11,7 +13,9 @@ import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 
 import api.support.CheckInByBarcodeResponse;
+import api.support.MultipleJsonRecords;
 import api.support.RestAssuredClient;
+import api.support.builders.BulkCheckInByBarcodeRequestBuilder;
 import api.support.builders.CheckInByBarcodeRequestBuilder;
 import api.support.http.OkapiHeaders;
 import io.vertx.core.json.JsonObject;
@@ -82,6 +86,13 @@ public class CheckInFixture {
     restAssuredClient.post(representation, checkInByBarcodeUrl(), 200, okapiHeaders);
   }
 
+  public MultipleJsonRecords bulkCheckInByBarcode(
+    BulkCheckInByBarcodeRequestBuilder builder) {
+
+    return multipleRecordsFrom(restAssuredClient.post(builder.create(),
+      bulkCheckInByBarcodeUrl(), 200, "bulk-check-in-by-barcode-request"), "checkIns");
+  }
+
   private IndividualResource defaultServicePoint() {
     return servicePointsFixture.cd1();
   }
@@ -32,4 +32,15 @@ public class EventSubscribersFixture {
       circulationModuleUrl("/circulation/handlers/loan-related-fee-fine-closed"),
       "loan-related-fee-fine-closed-event");
   }
+
+  public void publishCirculationRulesChangedEvent(String rulesHash) {
+    final JsonObject payload = new JsonObject();
+    write(payload, "rulesHash", rulesHash);
+
+    final Response response = restAssuredClient.post(payload,
+      circulationModuleUrl("/circulation/handlers/circulation-rules-changed"),
+      "circulation-rules-changed-event");
+
+    assertThat(response.getStatusCode(), is(204));
+  }
 }
@@ -7,6 +7,7 @@ import static api.support.http.AdditionalHttpStatusCodes.UNPROCESSABLE_ENTITY;
 import static api.support.http.CqlQuery.noQuery;
 import static api.support.http.InterfaceUrls.loansUrl;
 import static api.support.http.InterfaceUrls.overrideRenewalByBarcodeUrl;
+import static api.support.http.InterfaceUrls.renewAllUrl;
 import static api.support.http.InterfaceUrls.renewByBarcodeUrl;
 import static api.support.http.InterfaceUrls.renewByIdUrl;
 import static api.support.http.Limit.maximumLimit;
@@ -181,6 +182,20 @@ public class LoansFixture {
     return restAssuredClient.post(request, renewByIdUrl(), 422, "renewal-by-id-request");
   }
 
+  public MultipleJsonRecords renewAll(IndividualResource user) {
+    return multipleRecordsFrom(restAssuredClient.post(renewAllRequest(user),
+      renewAllUrl(), 200, "renew-all-request"), "renewals");
+  }
+
+  public Response attemptRenewAll(IndividualResource user) {
+    return restAssuredClient.post(renewAllRequest(user), renewAllUrl(), 422,
+      "renew-all-request");
+  }
+
+  private JsonObject renewAllRequest(IndividualResource user) {
+    return new JsonObject().put("userId", user.getId().toString());
+  }
+
   public IndividualResource getLoanById(UUID id) {
     return new IndividualResource(restAssuredClient.get(urlForLoan(id), 200, "get-loan-by-id"));
   }
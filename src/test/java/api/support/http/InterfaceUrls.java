@@ -145,6 +145,10 @@ public class InterfaceUrls {
     return circulationModuleUrl("/circulation/check-in-by-barcode");
   }
 
+  public static URL bulkCheckInByBarcodeUrl() {
+    return circulationModuleUrl("/circulation/bulk-check-in-by-barcode");
+  }
+
   public static URL renewByBarcodeUrl() {
     return circulationModuleUrl("/circulation/renew-by-barcode");
   }
@@ -157,6 +161,10 @@ public class InterfaceUrls {
     return circulationModuleUrl("/circulation/renew-by-id");
   }
 
+  public static URL renewAllUrl() {
+    return circulationModuleUrl("/circulation/renew-all");
+  }
+
   public static URL loansUrl() {
     return loansUrl("");
   }
@@ -14,6 +14,7 @@ public class EventTypeMatchers {
   public static final String ITEM_CLAIMED_RETURNED = "ITEM_CLAIMED_RETURNED";
   public static final String LOAN_DUE_DATE_CHANGED = "LOAN_DUE_DATE_CHANGED";
   public static final String LOG_RECORD = "LOG_RECORD";
+  public static final String CIRCULATION_RULES_CHANGED = "CIRCULATION_RULES_CHANGED";
 
   public static Matcher<JsonObject> isItemCheckedOutEventType() {
     return JsonObjectMatcher.allOfPaths(
@@ -50,4 +51,10 @@ public class EventTypeMatchers {
       hasJsonPath("eventType", is(LOG_RECORD))
     );
   }
+
+  public static Matcher<JsonObject> isCirculationRulesChangedEventType() {
+    return JsonObjectMatcher.allOfPaths(
+      hasJsonPath("eventType", is(CIRCULATION_RULES_CHANGED))
+    );
+  }
 }
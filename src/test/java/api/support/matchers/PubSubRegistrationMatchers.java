@@ -17,7 +17,8 @@ public class PubSubRegistrationMatchers {
       hasJsonPath("eventDescriptors[2].eventType", is("ITEM_DECLARED_LOST")),
       hasJsonPath("eventDescriptors[3].eventType", is("ITEM_CLAIMED_RETURNED")),
       hasJsonPath("eventDescriptors[4].eventType", is("LOAN_DUE_DATE_CHANGED")),
-      hasJsonPath("eventDescriptors[5].eventType", is("LOG_RECORD"))
+      hasJsonPath("eventDescriptors[5].eventType", is("LOG_RECORD")),
+      hasJsonPath("eventDescriptors[6].eventType", is("CIRCULATION_RULES_CHANGED"))
     );
   }
 
@@ -25,7 +26,9 @@ public class PubSubRegistrationMatchers {
     return JsonObjectMatcher.allOfPaths(
       hasJsonPath("moduleId", is(constructModuleName())),
       hasJsonPath("subscriptionDefinitions[0].eventType",
-        is("LOAN_RELATED_FEE_FINE_CLOSED"))
+        is("LOAN_RELATED_FEE_FINE_CLOSED")),
+      hasJsonPath("subscriptionDefinitions[1].eventType",
+        is("CIRCULATION_RULES_CHANGED"))
     );
   }
 }
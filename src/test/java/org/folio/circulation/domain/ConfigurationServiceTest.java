@@ -18,6 +18,7 @@ public class ConfigurationServiceTest {
   private static final String US_LOCALE = "en-US";
   private static final String VALUE = "value";
   private static final Integer DEFAULT_TIMEOUT_CONFIGURATION = 3;
+  private static final Integer DEFAULT_NOTICES_CONCURRENCY = 10;
 
   private static ConfigurationService service;
 
@@ -99,6 +100,22 @@ public class ConfigurationServiceTest {
     assertEquals(DEFAULT_TIMEOUT_CONFIGURATION, actualSessionTimeout);
   }
 
+  @Test
+  public void shouldUseConfiguredScheduledNoticesConcurrency() {
+    JsonObject jsonConfig = new JsonObject().put(VALUE, "4");
+    List<Configuration> records = Collections.singletonList(new Configuration(jsonConfig));
+
+    assertEquals(Integer.valueOf(4), service.findSchedulerNoticesConcurrency(records));
+  }
+
+  @Test
+  public void shouldUseDefaultScheduledNoticesConcurrencyWhenConfiguredValueIsNotPositive() {
+    JsonObject jsonConfig = new JsonObject().put(VALUE, "0");
+    List<Configuration> records = Collections.singletonList(new Configuration(jsonConfig));
+
+    assertEquals(DEFAULT_NOTICES_CONCURRENCY, service.findSchedulerNoticesConcurrency(records));
+  }
+
   private JsonObject getJsonObject(String timeZoneValue) {
     ConfigRecordBuilder config = new ConfigRecordBuilder(timeZoneValue);
     return new ConfigurationBuilder(Collections.singletonList(config)).create();
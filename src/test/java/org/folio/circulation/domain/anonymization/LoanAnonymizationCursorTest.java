@@ -0,0 +1,119 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class LoanAnonymizationCursorTest {
+  private final CollectionResourceClient configurationClient =
+    mock(CollectionResourceClient.class);
+
+  private final LoanAnonymizationCursor cursor =
+    new LoanAnonymizationCursor(configurationClient);
+
+  @Test
+  public void startsFromFirstLoanWhenNoCursorIsStored() {
+    storedEntries();
+
+    assertThat(cursor.lastLoanId().join().value(), is(nullValue()));
+  }
+
+  @Test
+  public void carriesOnAfterStoredLoan() {
+    final String loanId = UUID.randomUUID().toString();
+
+    storedEntries(entry(UUID.randomUUID().toString(),
+      new JsonObject().put("lastLoanId", loanId)));
+
+    assertThat(cursor.lastLoanId().join().value(), is(loanId));
+  }
+
+  @Test
+  public void cursorIsCreatedWhenFirstMoved() {
+    final String loanId = UUID.randomUUID().toString();
+
+    storedEntries();
+
+    when(configurationClient.post(any(JsonObject.class))).thenReturn(
+      completedFuture(succeeded(new Response(201,
+        new JsonObject().put("id", UUID.randomUUID().toString()).encode(),
+        "application/json"))));
+
+    cursor.lastLoanId().join();
+
+    assertThat(cursor.advanceTo(loanId).join().succeeded(), is(true));
+
+    final ArgumentCaptor<JsonObject> created = ArgumentCaptor.forClass(JsonObject.class);
+
+    verify(configurationClient).post(created.capture());
+
+    assertThat(created.getValue().getString("module"), is("LOAN_HISTORY"));
+    assertThat(new JsonObject(created.getValue().getString("value"))
+      .getString("lastLoanId"), is(loanId));
+  }
+
+  @Test
+  public void storedCursorIsUpdatedWhenMoved() {
+    final String entryId = UUID.randomUUID().toString();
+    final String loanId = UUID.randomUUID().toString();
+
+    storedEntries(entry(entryId, new JsonObject()));
+
+    when(configurationClient.put(eq(entryId), any(JsonObject.class))).thenReturn(
+      completedFuture(succeeded(new Response(204, "", "text/plain"))));
+
+    cursor.lastLoanId().join();
+
+    assertThat(cursor.advanceTo(loanId).join().succeeded(), is(true));
+    assertThat(cursor.reset().join().succeeded(), is(true));
+
+    final ArgumentCaptor<JsonObject> updated = ArgumentCaptor.forClass(JsonObject.class);
+
+    verify(configurationClient, times(2))
+      .put(eq(entryId), updated.capture());
+    verify(configurationClient, never()).post(any(JsonObject.class));
+
+    assertThat(new JsonObject(updated.getAllValues().get(0).getString("value"))
+      .getString("lastLoanId"), is(loanId));
+    assertThat(new JsonObject(updated.getAllValues().get(1).getString("value"))
+      .containsKey("lastLoanId"), is(false));
+  }
+
+  private void storedEntries(JsonObject... entries) {
+    when(configurationClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(completedFuture(succeeded(new Response(200, new JsonObject()
+        .put("configs", new JsonArray(List.of(entries)))
+        .put("totalRecords", entries.length)
+        .encode(), "application/json"))));
+  }
+
+  private static JsonObject entry(String id, JsonObject value) {
+    return new JsonObject()
+      .put("id", id)
+      .put("module", "LOAN_HISTORY")
+      .put("configName", "loan_anonymization_cursor")
+      .put("value", value.encode());
+  }
+}
@@ -0,0 +1,33 @@
+package org.folio.circulation.domain.anonymization;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class LoanAnonymizationRecordsTest {
+  @Test
+  public void combinedRecordsIncludeLoansFromBoth() {
+    final LoanAnonymizationRecords firstPage = new LoanAnonymizationRecords()
+      .withAnonymizedLoans(List.of("1", "2"))
+      .withNotAnonymizedLoans(Map.of("haveAssociatedFeesAndFines", Set.of("3")));
+
+    final LoanAnonymizationRecords secondPage = new LoanAnonymizationRecords()
+      .withAnonymizedLoans(List.of("4"))
+      .withNotAnonymizedLoans(Map.of("haveAssociatedFeesAndFines", Set.of("5"),
+        "intervalAfterLoanCloseNotPassed", Set.of("6")));
+
+    final LoanAnonymizationRecords combined = firstPage.combine(secondPage);
+
+    assertThat(combined.getAnonymizedLoanIds(), contains("1", "2", "4"));
+    assertThat(combined.getNotAnonymizedLoans().get("haveAssociatedFeesAndFines"),
+      containsInAnyOrder("3", "5"));
+    assertThat(combined.getNotAnonymizedLoans().get("intervalAfterLoanCloseNotPassed"),
+      contains("6"));
+  }
+}
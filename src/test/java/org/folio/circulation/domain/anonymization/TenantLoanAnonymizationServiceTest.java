@@ -0,0 +1,140 @@
+package org.folio.circulation.domain.anonymization;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.domain.anonymization.LoanAnonymization.ANONYMIZE_LOANS_PAGE_LIMIT;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.anonymization.service.LoansForTenantFinder;
+import org.folio.circulation.support.results.Result;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import io.vertx.core.json.JsonObject;
+
+public class TenantLoanAnonymizationServiceTest {
+  private static final int PAGE_SIZE = ANONYMIZE_LOANS_PAGE_LIMIT.getLimit();
+
+  private final LoanAnonymizationCursor cursor = mock(LoanAnonymizationCursor.class);
+  private final LoansForTenantFinder loansFinder = mock(LoansForTenantFinder.class);
+  private final DefaultLoanAnonymizationService pageAnonymization =
+    mock(DefaultLoanAnonymizationService.class);
+
+  private final TenantLoanAnonymizationService service =
+    new TenantLoanAnonymizationService(cursor, loansFinder, pageAnonymization);
+
+  @Before
+  public void setUp() {
+    when(cursor.advanceTo(anyString())).thenReturn(completedFuture(succeeded(null)));
+    when(cursor.reset()).thenReturn(completedFuture(succeeded(null)));
+
+    when(pageAnonymization.anonymizeLoans(any())).thenAnswer(invocation ->
+      completedFuture(succeeded(new LoanAnonymizationRecords()
+        .withAnonymizedLoans(loanIds(invocation.getArgument(0))))));
+  }
+
+  @Test
+  public void sweepCrossesPagesAndGoesBackToStartAfterLastPage() {
+    final List<Loan> firstPage = loans(PAGE_SIZE);
+    final List<Loan> secondPage = loans(PAGE_SIZE);
+    final List<Loan> lastPage = loans(10);
+
+    cursorIsAt(null);
+    pageAfter(null, firstPage);
+    pageAfter(lastId(firstPage), secondPage);
+    pageAfter(lastId(secondPage), lastPage);
+
+    final Result<LoanAnonymizationRecords> result = service.anonymizeLoans().join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(result.value().getAnonymizedLoanIds(), hasSize(2 * PAGE_SIZE + 10));
+
+    final InOrder cursorMoves = inOrder(cursor);
+
+    cursorMoves.verify(cursor).advanceTo(lastId(firstPage));
+    cursorMoves.verify(cursor).advanceTo(lastId(secondPage));
+    cursorMoves.verify(cursor).reset();
+  }
+
+  @Test
+  public void sweepResumesAfterTheCursor() {
+    final String lastLoanIdOfPreviousRun = UUID.randomUUID().toString();
+    final List<Loan> lastPage = loans(3);
+
+    cursorIsAt(lastLoanIdOfPreviousRun);
+    pageAfter(lastLoanIdOfPreviousRun, lastPage);
+
+    final Result<LoanAnonymizationRecords> result = service.anonymizeLoans().join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(result.value().getAnonymizedLoanIds(), is(loanIds(lastPage)));
+
+    verify(loansFinder).findLoansToAnonymizeAfter(lastLoanIdOfPreviousRun,
+      ANONYMIZE_LOANS_PAGE_LIMIT);
+    verify(loansFinder, never()).findLoansToAnonymizeAfter(eq(null), any());
+  }
+
+  @Test
+  public void sweepStopsAfterLimitOfLoansAndLeavesCursorAtLastPage() {
+    final int pagesPerRun = LoanAnonymization.FETCH_LOANS_PAGE_LIMIT.getLimit() / PAGE_SIZE;
+
+    cursorIsAt(null);
+
+    when(loansFinder.findLoansToAnonymizeAfter(any(), eq(ANONYMIZE_LOANS_PAGE_LIMIT)))
+      .thenAnswer(invocation -> completedFuture(succeeded(loans(PAGE_SIZE))));
+
+    final Result<LoanAnonymizationRecords> result = service.anonymizeLoans().join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(result.value().getAnonymizedLoanIds(), hasSize(pagesPerRun * PAGE_SIZE));
+
+    verify(cursor, times(pagesPerRun)).advanceTo(anyString());
+    verify(cursor, never()).reset();
+  }
+
+  private void cursorIsAt(String lastLoanId) {
+    when(cursor.lastLoanId()).thenReturn(completedFuture(succeeded(lastLoanId)));
+  }
+
+  private void pageAfter(String lastLoanId, List<Loan> page) {
+    when(loansFinder.findLoansToAnonymizeAfter(lastLoanId, ANONYMIZE_LOANS_PAGE_LIMIT))
+      .thenReturn(completedFuture(succeeded(page)));
+  }
+
+  private static List<Loan> loans(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(notUsed -> UUID.randomUUID().toString())
+      .sorted()
+      .map(id -> Loan.from(new JsonObject().put("id", id)))
+      .collect(Collectors.toList());
+  }
+
+  private static String lastId(List<Loan> loans) {
+    return loans.get(loans.size() - 1).getId();
+  }
+
+  private static List<String> loanIds(Collection<Loan> loans) {
+    return loans.stream()
+      .map(Loan::getId)
+      .collect(Collectors.toList());
+  }
+}
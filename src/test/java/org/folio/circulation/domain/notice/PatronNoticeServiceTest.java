@@ -0,0 +1,93 @@
+package org.folio.circulation.domain.notice;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.notice.schedule.ScheduledNoticeConfig;
+import org.folio.circulation.domain.representations.logs.NoticeLogContext;
+import org.folio.circulation.infrastructure.storage.notices.PatronNoticePolicyRepository;
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.rules.CirculationRuleMatch;
+import org.folio.circulation.services.PubSubPublishingService;
+import org.folio.circulation.support.Clients;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.Response;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class PatronNoticeServiceTest {
+  private static final String LOG_RECORD = "LOG_RECORD";
+
+  private final PatronNoticePolicyRepository noticePolicyRepository =
+    mock(PatronNoticePolicyRepository.class);
+  private final PubSubPublishingService pubSubPublishingService =
+    mock(PubSubPublishingService.class);
+
+  private PatronNoticeService patronNoticeService;
+
+  @Before
+  public void setUp() {
+    final Clients clients = mock(Clients.class);
+    final CollectionResourceClient patronNoticeClient = mock(CollectionResourceClient.class);
+
+    when(clients.patronNoticeClient()).thenReturn(patronNoticeClient);
+    when(clients.pubSubPublishingService()).thenReturn(pubSubPublishingService);
+    when(patronNoticeClient.post(any(JsonObject.class)))
+      .thenReturn(completedFuture(succeeded(new Response(201, "", "application/json"))));
+    when(pubSubPublishingService.publishEvent(anyString(), anyString()))
+      .thenReturn(completedFuture(true));
+    when(pubSubPublishingService.queueEvent(anyString(), anyString()))
+      .thenReturn(completedFuture(true));
+
+    patronNoticeService = new PatronNoticeService(noticePolicyRepository, clients);
+  }
+
+  @Test
+  public void logRecordOfInteractiveNoticeIsPublishedStraightAway() {
+    final String noticePolicyId = UUID.randomUUID().toString();
+    final AppliedRuleConditions conditions = new AppliedRuleConditions(false, false, false);
+
+    when(noticePolicyRepository.lookupPolicyId(any(), any()))
+      .thenReturn(completedFuture(succeeded(
+        new CirculationRuleMatch(noticePolicyId, conditions))));
+    when(noticePolicyRepository.lookupPolicy(eq(noticePolicyId), any()))
+      .thenReturn(completedFuture(succeeded(new PatronNoticePolicy(List.of(
+        new NoticeConfiguration(UUID.randomUUID().toString(), NoticeFormat.EMAIL,
+          NoticeEventType.CHECK_IN, NoticeTiming.UPON_AT, null, false, null, true))))));
+
+    final PatronNoticeEvent event = new PatronNoticeEvent(Item.from(new JsonObject()),
+      User.from(new JsonObject().put("id", UUID.randomUUID().toString())),
+      NoticeEventType.CHECK_IN, new JsonObject());
+
+    patronNoticeService.acceptNoticeEvent(event, new NoticeLogContext()).join();
+
+    verify(pubSubPublishingService).publishEvent(eq(LOG_RECORD), anyString());
+    verify(pubSubPublishingService, never()).queueEvent(anyString(), anyString());
+  }
+
+  @Test
+  public void logRecordOfScheduledNoticeIsQueued() {
+    final ScheduledNoticeConfig noticeConfig = new ScheduledNoticeConfig(
+      NoticeTiming.BEFORE, null, UUID.randomUUID().toString(), NoticeFormat.EMAIL, true);
+
+    patronNoticeService.acceptScheduledNoticeEvent(noticeConfig,
+      UUID.randomUUID().toString(), new JsonObject(), new NoticeLogContext()).join();
+
+    verify(pubSubPublishingService).queueEvent(eq(LOG_RECORD), anyString());
+    verify(pubSubPublishingService, never()).publishEvent(anyString(), anyString());
+  }
+}
@@ -0,0 +1,98 @@
+package org.folio.circulation.domain.representations;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.ValidationErrorFailure;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class BulkCheckInByBarcodeRequestTests {
+  private static final String SERVICE_POINT_ID = UUID.randomUUID().toString();
+
+  @Test
+  public void checkInRequestIsCreatedForEachBarcodeInOrder() {
+    final Result<BulkCheckInByBarcodeRequest> result = BulkCheckInByBarcodeRequest.from(
+      request(new JsonArray().add("2").add("1").add("2")));
+
+    assertThat(result.succeeded(), is(true));
+
+    assertThat(result.value().toCheckInRequests().stream()
+      .map(CheckInByBarcodeRequest::getItemBarcode)
+      .collect(Collectors.toList()), contains("2", "1", "2"));
+
+    assertThat(result.value().toCheckInRequests().stream()
+      .map(checkIn -> checkIn.getServicePointId().toString())
+      .distinct()
+      .collect(Collectors.toList()), contains(SERVICE_POINT_ID));
+  }
+
+  @Test
+  public void blankBarcodesAreIgnored() {
+    final Result<BulkCheckInByBarcodeRequest> result = BulkCheckInByBarcodeRequest.from(
+      request(new JsonArray().add(" ").add("1").addNull().add(5)));
+
+    assertThat(result.value().getItemBarcodes(), contains("1"));
+  }
+
+  @Test
+  public void failedValidationWhenNoBarcodes() {
+    final Result<BulkCheckInByBarcodeRequest> result = BulkCheckInByBarcodeRequest.from(
+      request(new JsonArray()));
+
+    assertThat(hasErrorForKey(result, "itemBarcodes"), is(true));
+  }
+
+  @Test
+  public void failedValidationWhenTooManyBarcodes() {
+    final JsonArray barcodes = new JsonArray(IntStream
+      .rangeClosed(0, BulkCheckInByBarcodeRequest.MAXIMUM_ITEM_BARCODES)
+      .mapToObj(String::valueOf)
+      .collect(Collectors.toList()));
+
+    final Result<BulkCheckInByBarcodeRequest> result = BulkCheckInByBarcodeRequest.from(
+      request(barcodes));
+
+    assertThat(hasErrorForKey(result, "itemBarcodes"), is(true));
+  }
+
+  @Test
+  public void failedValidationWhenMissingServicePointId() {
+    final JsonObject request = request(new JsonArray().add("1"));
+    request.remove("servicePointId");
+
+    assertThat(hasErrorForKey(BulkCheckInByBarcodeRequest.from(request),
+      "servicePointId"), is(true));
+  }
+
+  @Test
+  public void failedValidationWhenMissingCheckInDate() {
+    final JsonObject request = request(new JsonArray().add("1"));
+    request.remove("checkInDate");
+
+    assertThat(hasErrorForKey(BulkCheckInByBarcodeRequest.from(request),
+      "checkInDate"), is(true));
+  }
+
+  private static boolean hasErrorForKey(Result<BulkCheckInByBarcodeRequest> result,
+    String key) {
+
+    return result.failed()
+      && ((ValidationErrorFailure) result.cause()).hasErrorForKey(key);
+  }
+
+  private static JsonObject request(JsonArray itemBarcodes) {
+    return new JsonObject()
+      .put("itemBarcodes", itemBarcodes)
+      .put("servicePointId", SERVICE_POINT_ID)
+      .put("checkInDate", "2020-10-15T10:12:00.000Z");
+  }
+}
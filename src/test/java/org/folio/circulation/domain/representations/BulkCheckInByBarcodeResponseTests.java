@@ -0,0 +1,41 @@
+package org.folio.circulation.domain.representations;
+
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.folio.circulation.domain.CheckInContext;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class BulkCheckInByBarcodeResponseTests {
+  @Test
+  public void errorsAreIncludedForEachBarcodeInOrder() {
+    final List<Result<CheckInContext>> checkIns = List.of(
+      failedValidation("No item with barcode 1 exists", "itemBarcode", "1"),
+      failedDueToServerError("Storage is unavailable"));
+
+    final JsonObject json = new BulkCheckInByBarcodeResponse(List.of("1", "2"), checkIns)
+      .toJson();
+
+    assertThat(json.getInteger("totalRecords"), is(2));
+
+    final JsonObject first = json.getJsonArray("checkIns").getJsonObject(0);
+
+    assertThat(first.getString("itemBarcode"), is("1"));
+    assertThat(first.containsKey("checkIn"), is(false));
+    assertThat(first.getJsonArray("errors").getJsonObject(0).getString("message"),
+      is("No item with barcode 1 exists"));
+
+    final JsonObject second = json.getJsonArray("checkIns").getJsonObject(1);
+
+    assertThat(second.getString("itemBarcode"), is("2"));
+    assertThat(second.getJsonArray("errors").getJsonObject(0).getString("message"),
+      is("Storage is unavailable"));
+  }
+}
@@ -0,0 +1,140 @@
+package org.folio.circulation.domain.validation;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.ValidationErrorFailure.singleValidationError;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.domain.Item;
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.domain.LoanAndRelatedRecords;
+import org.folio.circulation.domain.MultipleRecords;
+import org.folio.circulation.domain.User;
+import org.folio.circulation.domain.policy.LoanPolicy;
+import org.folio.circulation.domain.policy.NoFixedDueDateSchedules;
+import org.folio.circulation.infrastructure.storage.loans.LoanRepository;
+import org.folio.circulation.rules.AppliedRuleConditions;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class ItemLimitValidatorTests {
+  private static final String BOOK = UUID.randomUUID().toString();
+  private static final String VIDEO = UUID.randomUUID().toString();
+
+  private final LoanRepository loanRepository = mock(LoanRepository.class);
+  private final ItemLimitValidator validator = new ItemLimitValidator(
+    message -> singleValidationError(message, "itemBarcode", "1"), loanRepository);
+  private final String userId = UUID.randomUUID().toString();
+
+  @Test
+  public void openLoansAreNotFetchedWhenFewerThanItemLimit() {
+    when(loanRepository.countOpenLoansByUserId(userId))
+      .thenReturn(completedFuture(succeeded(1)));
+
+    final Result<LoanAndRelatedRecords> result = validator
+      .refuseWhenItemLimitIsReached(checkOutOfBook(2)).join();
+
+    assertThat(result.succeeded(), is(true));
+    verify(loanRepository, never()).findOpenLoansByUserIdWithItemRecord(
+      anyString(), any(), any());
+  }
+
+  @Test
+  public void openLoansAreNotFetchedAfterItemLimitIsReached() {
+    when(loanRepository.countOpenLoansByUserId(userId))
+      .thenReturn(completedFuture(succeeded(500)));
+    when(loanRepository.findOpenLoansByUserIdWithItemRecord(eq(userId), isNull(), any()))
+      .thenReturn(completedFuture(succeeded(page(loansOf(BOOK, 200)))));
+
+    final Result<LoanAndRelatedRecords> result = validator
+      .refuseWhenItemLimitIsReached(checkOutOfBook(2)).join();
+
+    assertThat(result.failed(), is(true));
+    verify(loanRepository, times(1)).findOpenLoansByUserIdWithItemRecord(
+      anyString(), any(), any());
+  }
+
+  @Test
+  public void nextPageOfOpenLoansStartsAfterLastLoanOfPreviousPage() {
+    final List<Loan> firstPage = loansOf(VIDEO, 200);
+    final String lastLoanId = firstPage.get(199).getId();
+
+    when(loanRepository.countOpenLoansByUserId(userId))
+      .thenReturn(completedFuture(succeeded(202)));
+    when(loanRepository.findOpenLoansByUserIdWithItemRecord(eq(userId), isNull(), any()))
+      .thenReturn(completedFuture(succeeded(page(firstPage))));
+    when(loanRepository.findOpenLoansByUserIdWithItemRecord(eq(userId), eq(lastLoanId), any()))
+      .thenReturn(completedFuture(succeeded(page(loansOf(BOOK, 2)))));
+
+    final Result<LoanAndRelatedRecords> result = validator
+      .refuseWhenItemLimitIsReached(checkOutOfBook(2)).join();
+
+    assertThat(result.failed(), is(true));
+    verify(loanRepository).findOpenLoansByUserIdWithItemRecord(eq(userId), eq(lastLoanId),
+      any());
+  }
+
+  @Test
+  public void canCheckOutWhenLastPageDoesNotReachItemLimit() {
+    when(loanRepository.countOpenLoansByUserId(userId))
+      .thenReturn(completedFuture(succeeded(3)));
+    when(loanRepository.findOpenLoansByUserIdWithItemRecord(eq(userId), isNull(), any()))
+      .thenReturn(completedFuture(succeeded(page(List.of(
+        loanOf(BOOK), loanOf(VIDEO), loanOf(VIDEO))))));
+
+    final Result<LoanAndRelatedRecords> result = validator
+      .refuseWhenItemLimitIsReached(checkOutOfBook(2)).join();
+
+    assertThat(result.succeeded(), is(true));
+  }
+
+  private LoanAndRelatedRecords checkOutOfBook(int itemLimit) {
+    final LoanPolicy loanPolicy = new LoanPolicy(new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("loansPolicy", new JsonObject().put("itemLimit", itemLimit)),
+      new NoFixedDueDateSchedules(), new NoFixedDueDateSchedules(),
+      new AppliedRuleConditions(true, false, false));
+
+    return new LoanAndRelatedRecords(loanOf(BOOK)
+      .withUser(User.from(new JsonObject().put("id", userId)))
+      .withLoanPolicy(loanPolicy));
+  }
+
+  private static List<Loan> loansOf(String materialTypeId, int count) {
+    return IntStream.range(0, count)
+      .mapToObj(index -> loanOf(materialTypeId))
+      .collect(Collectors.toList());
+  }
+
+  private static Loan loanOf(String materialTypeId) {
+    final Item item = Item.from(new JsonObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("materialTypeId", materialTypeId)
+        .put("status", new JsonObject().put("name", "Checked out")))
+      .withMaterialType(new JsonObject().put("id", materialTypeId));
+
+    return Loan.from(new JsonObject().put("id", UUID.randomUUID().toString()))
+      .withItem(item);
+  }
+
+  private static MultipleRecords<Loan> page(List<Loan> loans) {
+    return new MultipleRecords<>(loans, loans.size());
+  }
+}
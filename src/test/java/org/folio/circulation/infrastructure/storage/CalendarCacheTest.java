@@ -0,0 +1,60 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.domain.OpeningDay.createOpeningDay;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class CalendarCacheTest {
+  private static final LocalDate START_DATE = new LocalDate(2020, 10, 12);
+  private static final LocalDate END_DATE = new LocalDate(2020, 10, 18);
+
+  private final AtomicLong currentTime = new AtomicLong(1_000);
+  private final CalendarCache cache = new CalendarCache(60_000, 10, currentTime::get);
+  private final String tenantId = UUID.randomUUID().toString();
+  private final String servicePointId = UUID.randomUUID().toString();
+
+  @Test
+  public void openDaysAreKeptForEachTenantAndServicePoint() {
+    cache.addDaysBetween(tenantId, servicePointId, START_DATE, END_DATE,
+      List.of(createOpeningDay(emptyList(), START_DATE, true, true)));
+
+    assertThat(isKnown(tenantId, servicePointId), is(true));
+    assertThat(isKnown(tenantId, UUID.randomUUID().toString()), is(false));
+    assertThat(isKnown(UUID.randomUUID().toString(), servicePointId), is(false));
+    assertThat(cache.getStatistics().getHits(), is(1L));
+    assertThat(cache.getStatistics().getMisses(), is(2L));
+  }
+
+  @Test
+  public void openDaysAreDroppedAfterMaximumAge() {
+    cache.addDaysBetween(tenantId, servicePointId, START_DATE, END_DATE, emptyList());
+
+    currentTime.addAndGet(59_999);
+    assertThat(isKnown(tenantId, servicePointId), is(true));
+
+    currentTime.addAndGet(1);
+    assertThat(isKnown(tenantId, servicePointId), is(false));
+  }
+
+  @Test
+  public void openDaysAreDroppedWhenInvalidated() {
+    cache.addDaysBetween(tenantId, servicePointId, START_DATE, END_DATE, emptyList());
+
+    cache.invalidateAll();
+
+    assertThat(isKnown(tenantId, servicePointId), is(false));
+  }
+
+  private boolean isKnown(String tenantId, String servicePointId) {
+    return cache.findOpenDaysBetween(tenantId, servicePointId, START_DATE, END_DATE)
+      .isPresent();
+  }
+}
@@ -3,7 +3,9 @@ package org.folio.circulation.infrastructure.storage;
 import static org.joda.time.DateTimeZone.UTC;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,19 +14,27 @@ import java.util.concurrent.CompletableFuture;
 
 import org.folio.circulation.support.Clients;
 import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
 import org.folio.circulation.support.results.Result;
 import org.joda.time.DateTime;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
 public class CalendarRepositoryTest {
   private static final String QUERY_PARAMETERS = "servicePointId=%s&startDate=%s&endDate=%s&includeClosedDays=false&limit=10000";
+  private static final String SERVICE_POINT_ID = UUID.randomUUID().toString();
 
   @Test
   public void shouldCreateCorrectRawQueryStringParameters() {
     Clients clients = mock(Clients.class);
     CollectionResourceClient collectionResourceClient = mock(CollectionResourceClient.class);
     when(clients.calendarStorageClient()).thenReturn(collectionResourceClient);
+    when(clients.tenantId()).thenReturn(UUID.randomUUID().toString());
     when(collectionResourceClient.getManyWithRawQueryStringParameters(any(String.class)))
       .thenReturn(CompletableFuture.completedFuture(Result.succeeded(null)));
 
@@ -43,4 +53,74 @@ public class CalendarRepositoryTest {
       startDate.toLocalDate(), endDate.toLocalDate().plusDays(1));
     assertEquals(expectedParams, actualParams);
   }
+
+  @Test
+  public void openDaysAreTakenFromCacheWhenAllOpeningPeriodsWereFetched() {
+    final CollectionResourceClient calendarClient = calendarReturning(1);
+    final CalendarRepository calendarRepository = calendarRepository(calendarClient);
+
+    fetchOpenDays(calendarRepository);
+    final int openDays = fetchOpenDays(calendarRepository);
+
+    verify(calendarClient).getManyWithRawQueryStringParameters(anyString());
+    assertEquals(1, openDays);
+  }
+
+  @Test
+  public void openDaysAreNotCachedWhenOpeningPeriodsWereTruncated() {
+    final CollectionResourceClient calendarClient = calendarReturning(2);
+    final CalendarRepository calendarRepository = calendarRepository(calendarClient);
+
+    fetchOpenDays(calendarRepository);
+    fetchOpenDays(calendarRepository);
+
+    verify(calendarClient, times(2)).getManyWithRawQueryStringParameters(anyString());
+  }
+
+  private static int fetchOpenDays(CalendarRepository calendarRepository) {
+    return calendarRepository.fetchOpeningDaysBetweenDates(SERVICE_POINT_ID,
+      new DateTime(2020, 10, 12, 18, 0, 0, UTC), new DateTime(2020, 10, 22, 15, 30, 0, UTC),
+      false).join().value().size();
+  }
+
+  /**
+   * @param totalRecords  number of opening periods the calendar reports there
+   * are, only one of them is returned
+   */
+  private static CollectionResourceClient calendarReturning(int totalRecords) {
+    final CollectionResourceClient calendarClient = mock(CollectionResourceClient.class);
+
+    final JsonObject openingPeriods = new JsonObject()
+      .put("openingPeriods", new JsonArray().add(new JsonObject()
+        .put("openingDay", new JsonObject()
+          .put("date", "2020-10-14T00:00:00.000+0000")
+          .put("allDay", true)
+          .put("open", true)
+          .put("openingHour", new JsonArray()))))
+      .put("totalRecords", totalRecords);
+
+    when(calendarClient.getManyWithRawQueryStringParameters(anyString()))
+      .thenReturn(CompletableFuture.completedFuture(Result.succeeded(
+        new Response(200, openingPeriods.encode(), "application/json"))));
+
+    return calendarClient;
+  }
+
+  private static CalendarRepository calendarRepository(
+    CollectionResourceClient calendarClient) {
+
+    final Clients clients = mock(Clients.class);
+    final CollectionResourceClient configurationClient = mock(CollectionResourceClient.class);
+
+    when(clients.calendarStorageClient()).thenReturn(calendarClient);
+    when(clients.configurationStorageClient()).thenReturn(configurationClient);
+    when(clients.tenantId()).thenReturn(UUID.randomUUID().toString());
+    when(configurationClient.getMany(any(CqlQuery.class), any(PageLimit.class)))
+      .thenReturn(CompletableFuture.completedFuture(Result.succeeded(new Response(200,
+        new JsonObject().put("configs", new JsonArray()).put("totalRecords", 0).encode(),
+        "application/json"))));
+
+    return new CalendarRepository(clients,
+      new CalendarCache(60_000, 10, System::currentTimeMillis));
+  }
 }
@@ -0,0 +1,103 @@
+package org.folio.circulation.infrastructure.storage;
+
+import static java.util.Collections.emptyList;
+import static org.folio.circulation.domain.OpeningDay.createOpeningDay;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.folio.circulation.AdjacentOpeningDays;
+import org.folio.circulation.domain.OpeningDay;
+import org.joda.time.LocalDate;
+import org.junit.Test;
+
+public class OpeningDaysIndexTest {
+  private static final LocalDate MONDAY = new LocalDate(2020, 10, 12);
+
+  private final OpeningDaysIndex index = new OpeningDaysIndex(0);
+
+  @Test
+  public void adjacentOpeningDaysWithinFetchedRangeAreFound() {
+    index.addDaysBetween(MONDAY, MONDAY.plusDays(6),
+      List.of(openDay(MONDAY), openDay(MONDAY.plusDays(3)), openDay(MONDAY.plusDays(4))));
+
+    final AdjacentOpeningDays openingDays = index
+      .findAdjacentOpeningDays(MONDAY.plusDays(2)).orElseThrow();
+
+    assertThat(openingDays.getPreviousDay().getDate(), is(MONDAY));
+    assertThat(openingDays.getRequestedDay().getDate(), is(MONDAY.plusDays(2)));
+    assertThat(openingDays.getRequestedDay().getOpen(), is(false));
+    assertThat(openingDays.getNextDay().getDate(), is(MONDAY.plusDays(3)));
+  }
+
+  @Test
+  public void adjacentOpeningDaysBeyondFetchedRangeAreNotFound() {
+    index.addDaysBetween(MONDAY, MONDAY.plusDays(6),
+      List.of(openDay(MONDAY.plusDays(1)), openDay(MONDAY.plusDays(5))));
+
+    assertThat(index.findAdjacentOpeningDays(MONDAY.plusDays(1)), is(Optional.empty()));
+    assertThat(index.findAdjacentOpeningDays(MONDAY.plusDays(6)), is(Optional.empty()));
+  }
+
+  @Test
+  public void daysBetweenAdjacentOpeningDaysAreKnown() {
+    index.addAdjacentOpeningDays(MONDAY.plusDays(2), new AdjacentOpeningDays(
+      openDay(MONDAY), closedDay(MONDAY.plusDays(2)), openDay(MONDAY.plusDays(4))));
+
+    final AdjacentOpeningDays openingDays = index
+      .findAdjacentOpeningDays(MONDAY.plusDays(3)).orElseThrow();
+
+    assertThat(openingDays.getPreviousDay().getDate(), is(MONDAY));
+    assertThat(openingDays.getNextDay().getDate(), is(MONDAY.plusDays(4)));
+    assertThat(index.findOpenDaysBetween(MONDAY.plusDays(1), MONDAY.plusDays(3)).orElseThrow(),
+      is(empty()));
+  }
+
+  @Test
+  public void adjacentOpeningDaysForAnotherDateAreNotKept() {
+    index.addAdjacentOpeningDays(MONDAY.plusDays(2), new AdjacentOpeningDays(
+      openDay(MONDAY), closedDay(MONDAY.plusDays(5)), openDay(MONDAY.plusDays(6))));
+
+    assertThat(index.findAdjacentOpeningDays(MONDAY.plusDays(5)), is(Optional.empty()));
+  }
+
+  @Test
+  public void rangesThatTouchAreMerged() {
+    index.addDaysBetween(MONDAY, MONDAY.plusDays(2), List.of(openDay(MONDAY)));
+    index.addDaysBetween(MONDAY.plusDays(3), MONDAY.plusDays(6),
+      List.of(openDay(MONDAY.plusDays(5))));
+
+    assertThat(datesOf(index.findOpenDaysBetween(MONDAY, MONDAY.plusDays(6)).orElseThrow()),
+      contains(MONDAY, MONDAY.plusDays(5)));
+    assertThat(index.findOpenDaysBetween(MONDAY, MONDAY.plusDays(7)), is(Optional.empty()));
+  }
+
+  @Test
+  public void laterRangeReplacesOpenDaysWithinIt() {
+    index.addDaysBetween(MONDAY, MONDAY.plusDays(6),
+      List.of(openDay(MONDAY), openDay(MONDAY.plusDays(3))));
+    index.addDaysBetween(MONDAY.plusDays(2), MONDAY.plusDays(4), emptyList());
+
+    assertThat(datesOf(index.findOpenDaysBetween(MONDAY, MONDAY.plusDays(6)).orElseThrow()),
+      contains(MONDAY));
+  }
+
+  private static List<LocalDate> datesOf(List<OpeningDay> openingDays) {
+    return openingDays.stream()
+      .map(OpeningDay::getDate)
+      .collect(Collectors.toList());
+  }
+
+  private static OpeningDay openDay(LocalDate date) {
+    return createOpeningDay(emptyList(), date, true, true);
+  }
+
+  private static OpeningDay closedDay(LocalDate date) {
+    return createOpeningDay(emptyList(), date, false, false);
+  }
+}
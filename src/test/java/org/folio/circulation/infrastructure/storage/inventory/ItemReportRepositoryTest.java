@@ -0,0 +1,159 @@
+package org.folio.circulation.infrastructure.storage.inventory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.GetManyRecordsClient;
+import org.folio.circulation.support.http.client.CqlQuery;
+import org.folio.circulation.support.http.client.Offset;
+import org.folio.circulation.support.http.client.PageLimit;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class ItemReportRepositoryTest {
+  private static final Pattern ID_CONDITION = Pattern.compile("id(>=|>|<)\"([^\"]+)\"");
+
+  private final List<String> itemIds = IntStream.range(0, 25)
+    .mapToObj(notUsed -> UUID.randomUUID().toString())
+    .sorted()
+    .collect(Collectors.toList());
+
+  private final FakeItemsClient itemsClient = new FakeItemsClient();
+
+  @Test
+  public void everyItemIsConsumedOnceInPagesOfLimitedSize() {
+    final List<String> consumedIds = Collections.synchronizedList(new ArrayList<>());
+    final List<Integer> pageSizes = Collections.synchronizedList(new ArrayList<>());
+
+    final Result<Void> result = new ItemReportRepository(itemsClient, 3, 4)
+      .scanAllItemsByField("status.name", "In transit", page -> {
+        pageSizes.add(page.size());
+        page.forEach(item -> consumedIds.add(item.getItemId()));
+
+        return completedFuture(succeeded(null));
+      })
+      .join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(consumedIds.stream().sorted().collect(Collectors.toList()), is(itemIds));
+    assertThat(pageSizes, everyItem(lessThanOrEqualTo(3)));
+  }
+
+  @Test
+  public void pagesAfterTheFirstStartFromLastIdOfPreviousPage() {
+    new ItemReportRepository(itemsClient, 5, 1)
+      .scanAllItemsByField("status.name", "In transit",
+        page -> completedFuture(succeeded(null)))
+      .join();
+
+    assertThat(itemsClient.queries.get(0), not(containsString("id>")));
+    assertThat(itemsClient.queries.get(1), containsString(
+      String.format("id>\"%s\"", itemIds.get(4))));
+    assertThat(itemsClient.queries.get(0), containsString("sortBy id"));
+  }
+
+  @Test
+  public void everyPageIsFetchedWithTheQuery() {
+    final Result<CqlQuery> query = CqlQuery.exactMatch("status.name", "Paged")
+      .combine(CqlQuery.exactMatchAny("effectiveLocationId", List.of("a", "b")),
+        CqlQuery::and);
+
+    final Result<Void> result = new ItemReportRepository(itemsClient, 4, 2)
+      .scanAllItemsByQuery(query, page -> completedFuture(succeeded(null)))
+      .join();
+
+    assertThat(result.succeeded(), is(true));
+    assertThat(itemsClient.queries, everyItem(containsString(
+      "status.name==\"Paged\" and effectiveLocationId==(\"a\" or \"b\")")));
+  }
+
+  @Test
+  public void failureToConsumePageFailsScan() {
+    final Result<Void> result = new ItemReportRepository(itemsClient, 3, 2)
+      .scanAllItemsByField("status.name", "In transit",
+        page -> completedFuture(failedDueToServerError("cannot consume page")))
+      .join();
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void mustHaveAtLeastOnePageInFlight() {
+    new ItemReportRepository(itemsClient, 100, 0);
+  }
+
+  private class FakeItemsClient implements GetManyRecordsClient {
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public CompletableFuture<Result<Response>> getMany(CqlQuery cqlQuery,
+      PageLimit pageLimit) {
+
+      final String query = URLDecoder.decode(cqlQuery.encode().value(), UTF_8);
+
+      queries.add(query);
+
+      final List<JsonObject> page = itemIds.stream()
+        .filter(id -> matchesIdConditions(id, query))
+        .limit(pageLimit.getLimit())
+        .map(id -> new JsonObject().put("id", id))
+        .collect(Collectors.toList());
+
+      return completedFuture(succeeded(new Response(200, new JsonObject()
+        .put("items", new JsonArray(page))
+        .put("totalRecords", page.size())
+        .encode(), "application/json")));
+    }
+
+    @Override
+    public CompletableFuture<Result<Response>> getMany(CqlQuery cqlQuery,
+      PageLimit pageLimit, Offset offset) {
+
+      throw new UnsupportedOperationException("Items should not be paged by offset");
+    }
+
+    private boolean matchesIdConditions(String id, String query) {
+      final Matcher matcher = ID_CONDITION.matcher(query);
+
+      while (matcher.find()) {
+        final int comparison = id.compareTo(matcher.group(2));
+
+        switch (matcher.group(1)) {
+          case ">=":
+            if (comparison < 0) return false;
+            break;
+          case ">":
+            if (comparison <= 0) return false;
+            break;
+          default:
+            if (comparison >= 0) return false;
+        }
+      }
+
+      return true;
+    }
+  }
+}
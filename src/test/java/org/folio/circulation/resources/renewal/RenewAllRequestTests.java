@@ -0,0 +1,33 @@
+package org.folio.circulation.resources.renewal;
+
+import static api.support.matchers.FailureMatchers.errorResultFor;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.UUID;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class RenewAllRequestTests {
+  @Test
+  public void userIdIsReadFromJson() {
+    final UUID userId = UUID.randomUUID();
+
+    final Result<RenewAllRequest> request = RenewAllRequest.from(
+      new JsonObject().put("userId", userId.toString()));
+
+    assertThat(request.succeeded(), is(true));
+    assertThat(request.value().getUserId(), is(userId.toString()));
+  }
+
+  @Test
+  public void failWhenNoUserId() {
+    final Result<RenewAllRequest> result = RenewAllRequest.from(new JsonObject());
+
+    assertThat(result, errorResultFor("userId",
+      "Renew all request must have a user ID"));
+  }
+}
@@ -0,0 +1,52 @@
+package org.folio.circulation.resources.renewal;
+
+import static org.folio.circulation.support.ValidationErrorFailure.failedValidation;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.circulation.domain.Loan;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class RenewAllResponseTests {
+  @Test
+  public void outcomeIsIncludedForEachLoanInOrder() {
+    final Loan notRenewed = loan();
+    final Loan renewed = loan();
+
+    final List<Result<Loan>> renewals = List.of(
+      failedValidation("loan is not renewable", "loanPolicyId", "1"),
+      succeeded(renewed));
+
+    final JsonObject json = new RenewAllResponse(List.of(notRenewed, renewed), renewals)
+      .toJson();
+
+    assertThat(json.getInteger("totalRecords"), is(2));
+
+    final JsonObject first = json.getJsonArray("renewals").getJsonObject(0);
+
+    assertThat(first.getString("loanId"), is(notRenewed.getId()));
+    assertThat(first.getString("itemId"), is(notRenewed.getItemId()));
+    assertThat(first.containsKey("loan"), is(false));
+    assertThat(first.getJsonArray("errors").getJsonObject(0).getString("message"),
+      is("loan is not renewable"));
+
+    final JsonObject second = json.getJsonArray("renewals").getJsonObject(1);
+
+    assertThat(second.getString("loanId"), is(renewed.getId()));
+    assertThat(second.containsKey("errors"), is(false));
+    assertThat(second.getJsonObject("loan").getString("id"), is(renewed.getId()));
+  }
+
+  private static Loan loan() {
+    return Loan.from(new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("itemId", UUID.randomUUID().toString()));
+  }
+}
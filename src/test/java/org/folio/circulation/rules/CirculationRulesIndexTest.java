@@ -0,0 +1,203 @@
+package org.folio.circulation.rules;
+
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import org.folio.circulation.domain.Location;
+import org.junit.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Checks that {@link CirculationRulesIndex} determines the same policies as {@link Drools}
+ * for every combination of the ids mentioned in the rules (and an id mentioned nowhere).
+ */
+public class CirculationRulesIndexTest {
+  private static final String FALLBACK =
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item";
+
+  @Test
+  public void criteriumPriorityWithNestedRules() {
+    assertParity(String.join("\n",
+      "priority: t, s, c, b, a, m, g",
+      FALLBACK,
+      "m book cd dvd: l policy-a r request-1 n notice-1 o overdue-1 i lost-item-1",
+      "m newspaper + g all: l policy-c r request-2 n notice-2 o overdue-2 i lost-item-2",
+      "m streaming-subscription: l policy-c r request-3 n notice-3 o overdue-3 i lost-item-3",
+      "    g visitor: l in-house r request-4 n notice-4 o overdue-4 i lost-item-4",
+      "    g undergrad: l in-house r request-5 n notice-5 o overdue-5 i lost-item-5",
+      "m book cd dvd + t special-items: l in-house r request-6 n notice-6 o overdue-6 i lost-item-6",
+      "t special-items: l policy-d r request-7 n notice-7 o overdue-7 i lost-item-7",
+      "    g visitor alumni: l in-house r request-8 n notice-8 o overdue-8 i lost-item-8",
+      "a institution-1: l in-university r request-9 n notice-9 o overdue-9 i lost-item-9"));
+  }
+
+  @Test
+  public void firstLine() {
+    assertParity(String.join("\n",
+      "priority: first-line",
+      "g visitor",
+      "  t special-items: l in-house r no-hold n basic-notice o overdue i lost-item",
+      "m book: l policy-b r no-hold n basic-notice o overdue i lost-item",
+      FALLBACK));
+  }
+
+  @Test
+  public void lastLine() {
+    assertParity(String.join("\n",
+      "priority: last-line",
+      FALLBACK,
+      "s new: l policy-a r no-hold n basic-notice o overdue-a i lost-item-a",
+      "m book: l policy-b r no-hold n basic-notice o overdue-b i lost-item-b",
+      "a institution-1: l policy-c r no-hold n basic-notice o overdue-c i lost-item-c",
+      "b new: l policy-d r no-hold n basic-notice o overdue-d i lost-item-d",
+      "c library-1: l policy-e r no-hold n basic-notice o overdue-e i lost-item-e",
+      "b campus-1: l policy-e r no-hold n basic-notice o overdue-f i lost-item-f"));
+  }
+
+  @Test
+  public void twoPriorities() {
+    assertParity(String.join("\n",
+      "priority: number-of-criteria, first-line",
+      FALLBACK,
+      "m book: l policy-a r no-hold n basic-notice o overdue i lost-item",
+      "g student: l policy-b r no-hold n basic-notice o overdue i lost-item",
+      "m dvd: l policy-c r no-hold n basic-notice o overdue i lost-item",
+      "     g visitor: l policy-d r no-hold n basic-notice o overdue i lost-item"));
+  }
+
+  @Test
+  public void threePriorities() {
+    assertParity(String.join("\n",
+      "priority: criterium(t, s, c, b, a, m, g), number-of-criteria, first-line",
+      FALLBACK,
+      "m book: l policy-a r no-hold n basic-notice o overdue i lost-item",
+      "g student: l policy-b r no-hold n basic-notice o overdue i lost-item",
+      "m dvd: l policy-c r no-hold n basic-notice o overdue i lost-item",
+      "     g visitor: l policy-d r no-hold n basic-notice o overdue i lost-item"));
+  }
+
+  @Test
+  public void negationAndRepeatedCriteriumType() {
+    assertParity(String.join("\n",
+      "priority: t, s, c, b, a, m, g",
+      FALLBACK,
+      "m !dvd !music: l policy-a r request-a n notice-a o overdue-a i lost-item-a",
+      "m book dvd music",
+      "    m !music: l policy-b r request-b n notice-b o overdue-b i lost-item-b",
+      "    t !special-items + g visitor: l policy-c r request-c n notice-c o overdue-c i lost-item-c",
+      "s all + c !library-1: l policy-d r request-d n notice-d o overdue-d i lost-item-d"));
+  }
+
+  private void assertParity(String rulesText) {
+    final Drools drools = new Drools(Text2Drools.convert(rulesText));
+    final CirculationRulesIndex index = CirculationRulesIndex.fromText(rulesText);
+    final List<CirculationRule> rules = Text2Drools.convertToRules(rulesText);
+
+    for (String itemTypeId : idsOfType(rules, "m")) {
+      for (String loanTypeId : idsOfType(rules, "t")) {
+        for (String patronGroupId : idsOfType(rules, "g")) {
+          for (String locationId : idsOfType(rules, "s")) {
+            for (Location location : locations(rules)) {
+              final MultiMap params = params(itemTypeId, loanTypeId, patronGroupId, locationId);
+              final String description = params + " " + location;
+
+              assertSameMatch(description, drools::loanPolicy, index::loanPolicy, params, location);
+              assertSameMatch(description, drools::requestPolicy, index::requestPolicy, params, location);
+              assertSameMatch(description, drools::noticePolicy, index::noticePolicy, params, location);
+              assertSameMatch(description, drools::overduePolicy, index::overduePolicy, params, location);
+              assertSameMatch(description, drools::lostItemPolicy, index::lostItemPolicy, params, location);
+
+              assertSameList(description, drools::loanPolicies, index::loanPolicies, params, location);
+              assertSameList(description, drools::requestPolicies, index::requestPolicies, params, location);
+              assertSameList(description, drools::noticePolicies, index::noticePolicies, params, location);
+              assertSameList(description, drools::overduePolicies, index::overduePolicies, params, location);
+              assertSameList(description, drools::lostItemPolicies, index::lostItemPolicies, params, location);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private void assertSameMatch(String description,
+    BiFunction<MultiMap, Location, CirculationRuleMatch> expected,
+    BiFunction<MultiMap, Location, CirculationRuleMatch> actual,
+    MultiMap params, Location location) {
+
+    final CirculationRuleMatch expectedMatch = expected.apply(params, location);
+    final CirculationRuleMatch actualMatch = actual.apply(params, location);
+
+    assertThat(description, actualMatch.getPolicyId(), is(expectedMatch.getPolicyId()));
+    assertThat(description, actualMatch.getAppliedRuleConditions().isItemTypePresent(),
+      is(expectedMatch.getAppliedRuleConditions().isItemTypePresent()));
+    assertThat(description, actualMatch.getAppliedRuleConditions().isLoanTypePresent(),
+      is(expectedMatch.getAppliedRuleConditions().isLoanTypePresent()));
+    assertThat(description, actualMatch.getAppliedRuleConditions().isPatronGroupPresent(),
+      is(expectedMatch.getAppliedRuleConditions().isPatronGroupPresent()));
+  }
+
+  private void assertSameList(String description,
+    BiFunction<MultiMap, Location, JsonArray> expected,
+    BiFunction<MultiMap, Location, JsonArray> actual,
+    MultiMap params, Location location) {
+
+    assertThat(description, actual.apply(params, location),
+      is(expected.apply(params, location)));
+  }
+
+  private List<Location> locations(List<CirculationRule> rules) {
+    final List<Location> locations = new ArrayList<>();
+
+    for (String institutionId : idsOfType(rules, "a")) {
+      for (String campusId : idsOfType(rules, "b")) {
+        for (String libraryId : idsOfType(rules, "c")) {
+          locations.add(Location.from(new JsonObject()
+            .put("institutionId", institutionId)
+            .put("campusId", campusId)
+            .put("libraryId", libraryId)));
+        }
+      }
+    }
+
+    return locations;
+  }
+
+  /**
+   * @return all ids the rules mention for the criterium type, plus one they don't mention
+   */
+  private Set<String> idsOfType(List<CirculationRule> rules, String type) {
+    final Set<String> ids = new LinkedHashSet<>();
+
+    rules.stream()
+      .flatMap(rule -> rule.getCriteria().stream())
+      .filter(criterium -> criterium.getType().equals(type))
+      .forEach(criterium -> ids.addAll(criterium.getNames()));
+
+    ids.add("unmentioned-" + type);
+
+    return ids;
+  }
+
+  private MultiMap params(String itemTypeId, String loanTypeId, String patronGroupId,
+    String locationId) {
+
+    return MultiMap.caseInsensitiveMultiMap()
+      .add(ITEM_TYPE_ID_NAME, itemTypeId)
+      .add(LOAN_TYPE_ID_NAME, loanTypeId)
+      .add(PATRON_TYPE_ID_NAME, patronGroupId)
+      .add(LOCATION_ID_NAME, locationId);
+  }
+}
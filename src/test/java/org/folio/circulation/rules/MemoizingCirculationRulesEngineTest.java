@@ -0,0 +1,91 @@
+package org.folio.circulation.rules;
+
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.ITEM_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOAN_TYPE_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.LOCATION_ID_NAME;
+import static org.folio.circulation.resources.AbstractCirculationRulesEngineResource.PATRON_TYPE_ID_NAME;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.folio.circulation.domain.Location;
+import org.junit.Test;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
+
+public class MemoizingCirculationRulesEngineTest {
+  private static final String RULES = String.join("\n",
+    "priority: last-line",
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item",
+    "m book: l policy-book r hold-book n notice-book o overdue-book i lost-item-book",
+    "g visitor: l policy-visitor r hold-visitor n notice-visitor o overdue-visitor i lost-item-visitor");
+
+  private final Location location = Location.from(new JsonObject()
+    .put("institutionId", "institution")
+    .put("campusId", "campus")
+    .put("libraryId", "library"));
+
+  @Test
+  public void repeatedLookupIsServedFromMemo() {
+    final MemoizingCirculationRulesEngine engine = new MemoizingCirculationRulesEngine(
+      CirculationRulesIndex.fromText(RULES));
+
+    assertThat(engine.loanPolicy(params("book", "student"), location).getPolicyId(),
+      is("policy-book"));
+    assertThat(engine.loanPolicy(params("book", "student"), location).getPolicyId(),
+      is("policy-book"));
+
+    assertThat(engine.getStatistics().getMisses(), is(1L));
+    assertThat(engine.getStatistics().getHits(), is(1L));
+  }
+
+  @Test
+  public void policyTypesAreMemoizedSeparately() {
+    final MemoizingCirculationRulesEngine engine = new MemoizingCirculationRulesEngine(
+      CirculationRulesIndex.fromText(RULES));
+
+    assertThat(engine.loanPolicy(params("book", "visitor"), location).getPolicyId(),
+      is("policy-visitor"));
+    assertThat(engine.overduePolicy(params("book", "visitor"), location).getPolicyId(),
+      is("overdue-visitor"));
+    assertThat(engine.lostItemPolicy(params("book", "visitor"), location).getPolicyId(),
+      is("lost-item-visitor"));
+
+    assertThat(engine.getStatistics().getMisses(), is(3L));
+    assertThat(engine.getStatistics().getHits(), is(0L));
+  }
+
+  @Test
+  public void differentParametersAreMemoizedSeparately() {
+    final MemoizingCirculationRulesEngine engine = new MemoizingCirculationRulesEngine(
+      CirculationRulesIndex.fromText(RULES));
+
+    assertThat(engine.requestPolicy(params("book", "student"), location).getPolicyId(),
+      is("hold-book"));
+    assertThat(engine.requestPolicy(params("dvd", "student"), location).getPolicyId(),
+      is("no-hold"));
+
+    assertThat(engine.getStatistics().getMisses(), is(2L));
+  }
+
+  @Test
+  public void leastRecentlyUsedMatchIsEvictedWhenFull() {
+    final MemoizingCirculationRulesEngine engine = new MemoizingCirculationRulesEngine(
+      CirculationRulesIndex.fromText(RULES), 1);
+
+    engine.loanPolicy(params("book", "student"), location);
+    engine.loanPolicy(params("dvd", "student"), location);
+    engine.loanPolicy(params("book", "student"), location);
+
+    assertThat(engine.getStatistics().getMisses(), is(3L));
+    assertThat(engine.getStatistics().getHits(), is(0L));
+  }
+
+  private MultiMap params(String itemTypeId, String patronGroupId) {
+    return MultiMap.caseInsensitiveMultiMap()
+      .add(ITEM_TYPE_ID_NAME, itemTypeId)
+      .add(LOAN_TYPE_ID_NAME, "regular")
+      .add(PATRON_TYPE_ID_NAME, patronGroupId)
+      .add(LOCATION_ID_NAME, "shelf");
+  }
+}
@@ -0,0 +1,155 @@
+package org.folio.circulation.rules.cache;
+
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.rules.ExecutableRules;
+import org.folio.circulation.support.CollectionResourceClient;
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class CirculationRulesCacheTest {
+  private static final String RULES = String.join("\n",
+    "priority: last-line",
+    "fallback-policy: l no-loan r no-hold n basic-notice o overdue i lost-item");
+
+  private static final String CHANGED_RULES = String.join("\n",
+    "priority: last-line",
+    "fallback-policy: l other-loan r no-hold n basic-notice o overdue i lost-item");
+
+  private final CirculationRulesCache cache = CirculationRulesCache.getInstance();
+  private final String tenantId = UUID.randomUUID().toString();
+  private final FakeRulesStorageClient storage = new FakeRulesStorageClient();
+
+  @Test
+  public void concurrentFirstRequestsShareSingleLoad() {
+    final CompletableFuture<Result<ExecutableRules>> first =
+      cache.getExecutableRules(tenantId, storage);
+    final CompletableFuture<Result<ExecutableRules>> second =
+      cache.getExecutableRules(tenantId, storage);
+
+    assertThat(first.isDone(), is(false));
+    assertThat(storage.pendingRequests.size(), is(1));
+
+    storage.respond(RULES);
+
+    assertThat(first.join().value().getText(), is(RULES));
+    assertThat(second.join().value().getText(), is(RULES));
+  }
+
+  @Test
+  public void loadedRulesAreUsedWithoutRequestingStorage() {
+    cache.getExecutableRules(tenantId, storage);
+    storage.respond(RULES);
+
+    final CompletableFuture<Result<ExecutableRules>> rules =
+      cache.getExecutableRules(tenantId, storage);
+
+    assertThat(rules.isDone(), is(true));
+    assertThat(rules.join().value().getText(), is(RULES));
+    assertThat(storage.pendingRequests.size(), is(0));
+  }
+
+  @Test
+  public void requestsAfterClearingWaitForSingleReload() {
+    cache.getExecutableRules(tenantId, storage);
+    storage.respond(RULES);
+
+    cache.clearCache(tenantId);
+
+    final CompletableFuture<Result<ExecutableRules>> first =
+      cache.getExecutableRules(tenantId, storage);
+    final CompletableFuture<Result<ExecutableRules>> second =
+      cache.getExecutableRules(tenantId, storage);
+
+    assertThat(first.isDone(), is(false));
+    assertThat(storage.pendingRequests.size(), is(1));
+
+    storage.respond(CHANGED_RULES);
+
+    assertThat(first.join().value().getText(), is(CHANGED_RULES));
+    assertThat(second.join().value().getText(), is(CHANGED_RULES));
+  }
+
+  @Test
+  public void reloadStartedBeforeClearingIsNotShared() {
+    cache.getExecutableRules(tenantId, storage);
+
+    cache.clearCache(tenantId);
+
+    final CompletableFuture<Result<ExecutableRules>> afterClearing =
+      cache.getExecutableRules(tenantId, storage);
+
+    assertThat(storage.pendingRequests.size(), is(2));
+
+    storage.respond(CHANGED_RULES);
+    storage.respond(RULES);
+
+    assertThat(afterClearing.join().value().getText(), is(CHANGED_RULES));
+    assertThat(cache.getExecutableRules(tenantId, storage).join().value().getText(),
+      is(CHANGED_RULES));
+  }
+
+  @Test
+  public void rulesChangedEventForLoadedRulesDoesNotReload() {
+    cache.getExecutableRules(tenantId, storage);
+    storage.respond(RULES);
+
+    cache.rulesChanged(tenantId, ExecutableRules.contentHash(RULES));
+
+    assertThat(cache.getExecutableRules(tenantId, storage).isDone(), is(true));
+    assertThat(storage.pendingRequests.size(), is(0));
+  }
+
+  @Test
+  public void rulesChangedEventForOtherRulesReloads() {
+    cache.getExecutableRules(tenantId, storage);
+    storage.respond(RULES);
+
+    cache.rulesChanged(tenantId, ExecutableRules.contentHash(CHANGED_RULES));
+
+    final CompletableFuture<Result<ExecutableRules>> rules =
+      cache.getExecutableRules(tenantId, storage);
+
+    assertThat(rules.isDone(), is(false));
+
+    storage.respond(CHANGED_RULES);
+
+    assertThat(rules.join().value().getText(), is(CHANGED_RULES));
+  }
+
+  private static class FakeRulesStorageClient extends CollectionResourceClient {
+    private final List<CompletableFuture<Result<Response>>> pendingRequests =
+      new ArrayList<>();
+
+    FakeRulesStorageClient() {
+      super(null, null);
+    }
+
+    @Override
+    public CompletableFuture<Result<Response>> get() {
+      final CompletableFuture<Result<Response>> response = new CompletableFuture<>();
+      pendingRequests.add(response);
+      return response;
+    }
+
+    /**
+     * Responds to the most recent pending request
+     */
+    void respond(String rulesAsText) {
+      final String body = new JsonObject().put("rulesAsText", rulesAsText).encode();
+
+      pendingRequests.remove(pendingRequests.size() - 1)
+        .complete(succeeded(new Response(200, body, "application/json")));
+    }
+  }
+}
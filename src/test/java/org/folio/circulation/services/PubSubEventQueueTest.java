@@ -0,0 +1,114 @@
+package org.folio.circulation.services;
+
+import static org.folio.circulation.services.PubSubEventQueue.MAXIMUM_ATTEMPTS;
+import static org.folio.circulation.services.PubSubEventQueue.MAXIMUM_PUBLISHES_IN_PROGRESS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.folio.rest.jaxrs.model.Event;
+import org.folio.rest.util.OkapiConnectionParams;
+import org.junit.Test;
+
+public class PubSubEventQueueTest {
+  private final List<CompletableFuture<Boolean>> sends = new ArrayList<>();
+  private final List<Long> delays = new ArrayList<>();
+  private final List<Runnable> scheduled = new ArrayList<>();
+
+  private final PubSubEventQueue queue = new PubSubEventQueue(
+    (event, params, context) -> {
+      final CompletableFuture<Boolean> sent = new CompletableFuture<>();
+      sends.add(sent);
+      return sent;
+    },
+    (context, delay, task) -> {
+      delays.add(delay);
+      scheduled.add(task);
+    });
+
+  @Test
+  public void eventIsPublishedStraightAwayWhenThereIsRoom() {
+    final CompletableFuture<Boolean> published = publish("tenant", "LOG_RECORD");
+
+    assertThat(sends.size(), is(1));
+    assertThat(delays.isEmpty(), is(true));
+
+    sends.get(0).complete(true);
+
+    assertThat(published.join(), is(true));
+    assertThat(queue.getStatistics().getPublished(), is(1L));
+    assertThat(queue.getStatistics().getQueueDepth(), is(0));
+  }
+
+  @Test
+  public void onlyLimitedNumberOfEventsArePublishedAtATime() {
+    for (int i = 0; i < MAXIMUM_PUBLISHES_IN_PROGRESS + 5; i++) {
+      publish(i % 2 == 0 ? "tenant" : "other-tenant", "LOG_RECORD");
+    }
+
+    assertThat(sends.size(), is(MAXIMUM_PUBLISHES_IN_PROGRESS));
+    assertThat(queue.getStatistics().getInProgress(), is(MAXIMUM_PUBLISHES_IN_PROGRESS));
+    assertThat(queue.getStatistics().getWaiting(), is(5));
+
+    sends.get(0).complete(true);
+
+    assertThat(sends.size(), is(MAXIMUM_PUBLISHES_IN_PROGRESS + 1));
+    assertThat(queue.getStatistics().getWaiting(), is(4));
+  }
+
+  @Test
+  public void failedEventIsTriedAgainAfterIncreasingDelay() {
+    final CompletableFuture<Boolean> published = publish("tenant", "LOG_RECORD");
+
+    sends.get(0).complete(false);
+
+    assertThat(published.isDone(), is(false));
+    assertThat(queue.getStatistics().getAwaitingRetry(), is(1));
+
+    runScheduled();
+    sends.get(1).completeExceptionally(new RuntimeException("pubsub unavailable"));
+
+    runScheduled();
+    sends.get(2).complete(true);
+
+    assertThat(published.join(), is(true));
+    assertThat(delays, contains(PubSubEventQueue.retryDelay(1),
+      PubSubEventQueue.retryDelay(2)));
+    assertThat(PubSubEventQueue.retryDelay(2), is(2 * PubSubEventQueue.retryDelay(1)));
+    assertThat(queue.getStatistics().getRetried(), is(2L));
+  }
+
+  @Test
+  public void eventIsNotPublishedWhenAllAttemptsFail() {
+    final CompletableFuture<Boolean> published = publish("tenant", "LOG_RECORD");
+
+    for (int attempt = 0; attempt < MAXIMUM_ATTEMPTS; attempt++) {
+      runScheduled();
+      sends.get(attempt).complete(false);
+    }
+
+    assertThat(published.join(), is(false));
+    assertThat(sends.size(), is(MAXIMUM_ATTEMPTS));
+    assertThat(queue.getStatistics().getFailed(), is(1L));
+    assertThat(queue.getStatistics().getQueueDepth(), is(0));
+  }
+
+  private CompletableFuture<Boolean> publish(String tenantId, String eventType) {
+    final OkapiConnectionParams params = new OkapiConnectionParams();
+    params.setTenantId(tenantId);
+
+    return queue.publish(new Event().withEventType(eventType), params, null);
+  }
+
+  private void runScheduled() {
+    final List<Runnable> tasks = scheduled.stream().collect(Collectors.toList());
+
+    scheduled.clear();
+    tasks.forEach(Runnable::run);
+  }
+}
@@ -0,0 +1,58 @@
+package org.folio.circulation.support;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOf;
+import static org.folio.circulation.support.AsyncCoordinationUtil.allOfUntilFirstFailure;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+public class AsyncCoordinationUtilTest {
+  private static final List<Integer> MANY_ELEMENTS = IntStream.range(0, 10_000)
+    .boxed()
+    .collect(Collectors.toList());
+
+  @Test
+  public void boundedAllOfHandlesManySynchronouslyCompletingActions() {
+    final CompletableFuture<Result<List<Integer>>> result = allOf(MANY_ELEMENTS, 10,
+      element -> completedFuture(succeeded(element)));
+
+    assertThat(result.isDone(), is(true));
+    assertThat(result.join().value(), is(MANY_ELEMENTS));
+  }
+
+  @Test
+  public void boundedAllOfUntilFirstFailureHandlesManySynchronouslyCompletingActions() {
+    final CompletableFuture<Result<List<Integer>>> result = allOfUntilFirstFailure(
+      MANY_ELEMENTS, 10, element -> completedFuture(succeeded(element)));
+
+    assertThat(result.join().value(), is(MANY_ELEMENTS));
+  }
+
+  @Test
+  public void boundedAllOfUntilFirstFailureStopsAfterSynchronousFailure() {
+    final List<Integer> started = new ArrayList<>();
+
+    final CompletableFuture<Result<List<Integer>>> result = allOfUntilFirstFailure(
+      MANY_ELEMENTS, 1, element -> {
+        started.add(element);
+
+        return completedFuture(element == 5_000
+          ? failedDueToServerError("failed")
+          : succeeded(element));
+      });
+
+    assertThat(result.join().failed(), is(true));
+    assertThat(started.size(), is(5_001));
+  }
+}
@@ -0,0 +1,176 @@
+package org.folio.circulation.support;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+public class BoundedParallelExecutorTest {
+  private final Map<String, CompletableFuture<Result<String>>> inProgress =
+    new LinkedHashMap<>();
+  private final List<String> started = new ArrayList<>();
+
+  @Test
+  public void limitsNumberOfActionsInProgress() {
+    final CompletableFuture<List<Result<String>>> results = new BoundedParallelExecutor(2)
+      .execute(List.of("a", "b", "c", "d"), this::start);
+
+    assertThat(started, contains("a", "b"));
+
+    complete("a");
+
+    assertThat(started, contains("a", "b", "c"));
+
+    complete("c");
+    complete("b");
+
+    assertThat(started, contains("a", "b", "c", "d"));
+
+    complete("d");
+
+    assertThat(values(results.join()), contains("a", "b", "c", "d"));
+  }
+
+  @Test
+  public void elementsWithSameKeyAreHandledOneAfterAnother() {
+    final CompletableFuture<List<Result<String>>> results = new BoundedParallelExecutor(10)
+      .executeOrderedByKey(List.of("loan1-a", "loan2-a", "loan1-b"),
+        element -> element.substring(0, 5), this::start);
+
+    assertThat(started, contains("loan1-a", "loan2-a"));
+
+    complete("loan1-a");
+
+    assertThat(started, contains("loan1-a", "loan2-a", "loan1-b"));
+
+    complete("loan2-a");
+    complete("loan1-b");
+
+    assertThat(values(results.join()), contains("loan1-a", "loan2-a", "loan1-b"));
+  }
+
+  @Test
+  public void failureOfAnActionDoesNotStopOtherActions() {
+    final List<Result<String>> results = new BoundedParallelExecutor(1)
+      .execute(List.of("a", "throws", "fails", "b"), element -> {
+        if (element.equals("throws")) {
+          throw new IllegalStateException("action failed");
+        }
+
+        if (element.equals("fails")) {
+          final CompletableFuture<Result<String>> failure = new CompletableFuture<>();
+          failure.completeExceptionally(new IllegalStateException("action failed"));
+          return failure;
+        }
+
+        return completedFuture(succeeded(element));
+      })
+      .join();
+
+    assertThat(results.get(0).value(), is("a"));
+    assertThat(results.get(1).failed(), is(true));
+    assertThat(results.get(2).failed(), is(true));
+    assertThat(results.get(3).value(), is("b"));
+  }
+
+  @Test
+  public void noMoreActionsAreStartedAfterFirstFailure() {
+    final CompletableFuture<Result<List<String>>> results = new BoundedParallelExecutor(2)
+      .executeUntilFirstFailure(List.of("a", "b", "c", "d"), this::start);
+
+    assertThat(started, contains("a", "b"));
+
+    fail("a");
+    complete("b");
+
+    assertThat(started, contains("a", "b"));
+    assertThat(results.join().failed(), is(true));
+  }
+
+  @Test
+  public void allResultsAreCombinedWhenNoActionFails() {
+    final CompletableFuture<Result<List<String>>> results = new BoundedParallelExecutor(2)
+      .executeUntilFirstFailure(List.of("a", "b", "c"), this::start);
+
+    complete("b");
+    complete("a");
+    complete("c");
+
+    assertThat(results.join().value(), contains("a", "b", "c"));
+  }
+
+  @Test
+  public void manySynchronouslyCompletingActionsDoNotOverflowTheStack() {
+    final List<Integer> elements = IntStream.range(0, 10_000)
+      .boxed()
+      .collect(Collectors.toList());
+
+    final CompletableFuture<List<Result<Integer>>> results = new BoundedParallelExecutor(2)
+      .execute(elements, element -> completedFuture(succeeded(element)));
+
+    assertThat(results.isDone(), is(true));
+    assertThat(values(results.join()), is(elements));
+  }
+
+  @Test
+  public void manySynchronouslyCompletingActionsWithSameKeyDoNotOverflowTheStack() {
+    final List<Integer> elements = IntStream.range(0, 10_000)
+      .boxed()
+      .collect(Collectors.toList());
+
+    final CompletableFuture<List<Result<Integer>>> results = new BoundedParallelExecutor(2)
+      .executeOrderedByKey(elements, element -> "same key",
+        element -> completedFuture(succeeded(element)));
+
+    assertThat(values(results.join()), is(elements));
+  }
+
+  @Test
+  public void emptyCollectionCompletesImmediately() {
+    final CompletableFuture<List<Result<String>>> results = new BoundedParallelExecutor(5)
+      .execute(List.<String>of(), this::start);
+
+    assertThat(results.join().isEmpty(), is(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void mustAllowAtLeastOneActionInProgress() {
+    new BoundedParallelExecutor(0);
+  }
+
+  private CompletableFuture<Result<String>> start(String element) {
+    final CompletableFuture<Result<String>> action = new CompletableFuture<>();
+
+    started.add(element);
+    inProgress.put(element, action);
+
+    return action;
+  }
+
+  private void complete(String element) {
+    inProgress.remove(element).complete(succeeded(element));
+  }
+
+  private void fail(String element) {
+    inProgress.remove(element).complete(failedDueToServerError("action failed"));
+  }
+
+  private static <T> List<T> values(List<Result<T>> results) {
+    return results.stream()
+      .map(Result::value)
+      .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.circulation.support.async;
+
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+public class WorkerPoolTest {
+  @Test
+  public void workIsRunOnWorkerThread() throws Exception {
+    final WorkerPool pool = new WorkerPool(2, 10, System::nanoTime);
+
+    final Result<String> result = pool.supply(
+      () -> succeeded(Thread.currentThread().getName()))
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.value(), startsWith("circulation-worker-"));
+    assertThat(pool.getStatistics().getCompleted(), is(1L));
+  }
+
+  @Test
+  public void workThatThrowsFails() throws Exception {
+    final WorkerPool pool = new WorkerPool(1, 10, System::nanoTime);
+
+    final Result<String> result = pool.<String>supply(() -> {
+      throw new IllegalStateException("rules could not be applied");
+    })
+    .get(5, TimeUnit.SECONDS);
+
+    assertThat(result.failed(), is(true));
+  }
+
+  @Test
+  public void workIsRunByCallerWhenQueueIsFull() throws Exception {
+    final WorkerPool pool = new WorkerPool(1, 1, System::nanoTime);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch blocked = new CountDownLatch(1);
+
+    final CompletableFuture<Result<String>> running = pool.supply(() -> {
+      started.countDown();
+      awaitQuietly(blocked);
+      return succeeded("running");
+    });
+
+    started.await(5, TimeUnit.SECONDS);
+
+    final CompletableFuture<Result<String>> queued = pool.supply(() -> succeeded("queued"));
+
+    final Result<String> rejected = pool.supply(
+      () -> succeeded(Thread.currentThread().getName()))
+      .get(5, TimeUnit.SECONDS);
+
+    assertThat(rejected.value(), not(startsWith("circulation-worker-")));
+    assertThat(pool.getStatistics().getRejected(), is(1L));
+
+    blocked.countDown();
+
+    assertThat(running.get(5, TimeUnit.SECONDS).value(), is("running"));
+    assertThat(queued.get(5, TimeUnit.SECONDS).value(), is("queued"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void mustHaveAtLeastOneThread() {
+    new WorkerPool(0, 10, System::nanoTime);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package org.folio.circulation.support.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+public class PolicyCacheTest {
+  private final PolicyCache<Object> cache = PolicyCache.create();
+  private final String tenantId = UUID.randomUUID().toString();
+  private final String otherTenantId = UUID.randomUUID().toString();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  public void cachedPolicyIsSharedInstance() {
+    final Object first = cache.get(tenantId, "policy", newPolicy()).join().value();
+    final Object second = cache.get(tenantId, "policy", newPolicy()).join().value();
+
+    assertThat(second, sameInstance(first));
+    assertThat(loads.get(), is(1));
+    assertThat(cache.getStatistics().getHits(), is(1L));
+  }
+
+  @Test
+  public void failedLookupIsNotCached() {
+    cache.get(tenantId, "policy", () -> {
+      loads.incrementAndGet();
+      return completedFuture(failedDueToServerError("policy not found"));
+    });
+
+    cache.get(tenantId, "policy", newPolicy());
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void invalidatingTenantKeepsPoliciesOfOtherTenants() {
+    cache.get(tenantId, "policy", newPolicy());
+    cache.get(otherTenantId, "policy", newPolicy());
+
+    PolicyCache.invalidate(tenantId);
+
+    cache.get(tenantId, "policy", newPolicy());
+    cache.get(otherTenantId, "policy", newPolicy());
+
+    assertThat(loads.get(), is(3));
+  }
+
+  private Supplier<CompletableFuture<Result<Object>>> newPolicy() {
+    return () -> {
+      loads.incrementAndGet();
+      return completedFuture(succeeded(new Object()));
+    };
+  }
+}
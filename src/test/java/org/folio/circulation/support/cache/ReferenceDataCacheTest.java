@@ -0,0 +1,108 @@
+package org.folio.circulation.support.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.folio.circulation.support.http.client.Response;
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+
+public class ReferenceDataCacheTest {
+  private static final String LOCATIONS = "/locations";
+
+  private final AtomicLong now = new AtomicLong(1000);
+  private final AtomicInteger storageRequests = new AtomicInteger();
+
+  @Test
+  public void recordIsServedFromCacheUntilItExpires() {
+    final ReferenceDataCache cache = new ReferenceDataCache(100, 10, now::get);
+
+    cache.get("tenant", LOCATIONS, "1", found());
+    now.addAndGet(99);
+    cache.get("tenant", LOCATIONS, "1", found());
+
+    assertThat(storageRequests.get(), is(1));
+
+    now.addAndGet(1);
+    cache.get("tenant", LOCATIONS, "1", found());
+
+    assertThat(storageRequests.get(), is(2));
+    assertThat(cache.getStatistics(LOCATIONS).getHits(), is(1L));
+    assertThat(cache.getStatistics(LOCATIONS).getMisses(), is(2L));
+  }
+
+  @Test
+  public void concurrentRequestsShareSingleStorageRequest() {
+    final ReferenceDataCache cache = new ReferenceDataCache(100, 10, now::get);
+    final CompletableFuture<Result<Response>> pending = new CompletableFuture<>();
+
+    final CompletableFuture<Result<Response>> first = cache.get("tenant", LOCATIONS, "1",
+      () -> countRequest(pending));
+    final CompletableFuture<Result<Response>> second = cache.get("tenant", LOCATIONS, "1",
+      () -> countRequest(pending));
+
+    assertThat(first.isDone(), is(false));
+    assertThat(second, sameInstance(first));
+
+    pending.complete(succeeded(response(200)));
+
+    assertThat(second.join().value().getStatusCode(), is(200));
+    assertThat(storageRequests.get(), is(1));
+  }
+
+  @Test
+  public void missingRecordIsNotCached() {
+    final ReferenceDataCache cache = new ReferenceDataCache(100, 10, now::get);
+
+    cache.get("tenant", LOCATIONS, "1", () -> countRequest(completedFuture(
+      succeeded(response(404)))));
+    cache.get("tenant", LOCATIONS, "1", found());
+
+    assertThat(storageRequests.get(), is(2));
+  }
+
+  @Test
+  public void tenantsAndRecordTypesAreCachedSeparately() {
+    final ReferenceDataCache cache = new ReferenceDataCache(100, 10, now::get);
+
+    cache.get("tenant", LOCATIONS, "1", found());
+    cache.get("other-tenant", LOCATIONS, "1", found());
+    cache.get("tenant", "/service-points", "1", found());
+
+    assertThat(storageRequests.get(), is(3));
+  }
+
+  @Test
+  public void leastRecentlyUsedRecordIsEvictedWhenFull() {
+    final ReferenceDataCache cache = new ReferenceDataCache(100, 1, now::get);
+
+    cache.get("tenant", LOCATIONS, "1", found());
+    cache.get("tenant", LOCATIONS, "2", found());
+    cache.get("tenant", LOCATIONS, "1", found());
+
+    assertThat(storageRequests.get(), is(3));
+  }
+
+  private Supplier<CompletableFuture<Result<Response>>> found() {
+    return () -> countRequest(completedFuture(succeeded(response(200))));
+  }
+
+  private CompletableFuture<Result<Response>> countRequest(
+    CompletableFuture<Result<Response>> response) {
+
+    storageRequests.incrementAndGet();
+    return response;
+  }
+
+  private static Response response(int statusCode) {
+    return new Response(statusCode, "{}", "application/json");
+  }
+}
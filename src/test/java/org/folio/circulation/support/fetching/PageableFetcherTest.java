@@ -1,7 +1,10 @@
 package org.folio.circulation.support.fetching;
 
 import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.IntStream.range;
 import static org.folio.circulation.support.http.client.CqlQuery.noQuery;
@@ -19,7 +22,12 @@ import static org.mockito.Mockito.when;
 import static org.mockito.internal.verification.VerificationModeFactory.noInteractions;
 import static org.mockito.internal.verification.VerificationModeFactory.times;
 
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
 
 import org.folio.circulation.domain.MultipleRecords;
 import org.folio.circulation.support.ServerErrorFailure;
@@ -80,41 +88,63 @@ public class PageableFetcherTest {
   }
 
   @Test
-  public void shouldAbortFetchingWhenRecordCountLimitIsReached() {
-    final var pageSize = limit(10);
-    final var recordLimit = 90;
-    final GetManyRecordsRepository<Integer> repository = repository(recordLimit + 10);
-    final PageProcessor<Integer> pageProcessor = spy(dummyProcessor());
+  public void shouldProcessManyPagesWithoutRecursion() {
+    final var pageSize = limit(1);
+    final var repository = repository(50_000);
+    final var pageProcessor = spy(dummyProcessor());
 
-    final var voidResult = new PageableFetcher<>(repository, pageSize, recordLimit)
-      .processPages(noQuery().value(), pageProcessor)
-      .getNow(Result.failed(new ServerErrorFailure("Time out")));
+    final var voidResult = processPages(repository, pageSize, pageProcessor);
 
-    assertThat(voidResult.failed(), is(true));
-    verify(pageProcessor, times(9)).processPage(any());
-    assertThat(voidResult.cause().toString(), containsString(
-      "Maximum allowed item count is set to 90 and it has been reached"));
+    assertThat(voidResult.succeeded(), is(true));
+    verify(pageProcessor, times(50_001)).processPage(any());
   }
 
   @Test
-  public void shouldNotAbortFetchingWhenRecordCountLimitIsReachedButAllPagesFetched() {
+  public void shouldNotSkipRecordsThatFollowRecordsRemovedByProcessing() {
     final var pageSize = limit(10);
-    final var recordLimit = 91;
-    final GetManyRecordsRepository<Integer> repository = repository(recordLimit);
-    final PageProcessor<Integer> pageProcessor = spy(dummyProcessor());
+    final var repository = new RemovableRecordsRepository(25);
+    final List<String> processedRecords = new ArrayList<>();
+
+    final var voidResult = new PageableFetcher<>(repository, pageSize)
+      .pagedBy(PageKey.byId(identity()))
+      .processPages(noQuery().value(), page -> {
+        processedRecords.addAll(page.getRecords());
+        repository.remove(page.getRecords());
 
-    final var voidResult = new PageableFetcher<>(repository, pageSize, recordLimit)
-      .processPages(noQuery().value(), pageProcessor)
+        return ofAsync(() -> null);
+      })
       .getNow(Result.failed(new ServerErrorFailure("Time out")));
 
     assertThat(voidResult.succeeded(), is(true));
-    verify(pageProcessor, times(10)).processPage(any());
+    assertThat(processedRecords, is(range(0, 25).mapToObj(RemovableRecordsRepository::id)
+      .collect(toList())));
+  }
+
+  @Test
+  public void shouldFetchNextPageWhilstProcessingCurrentPageWhenReadingAhead() {
+    final var pageSize = limit(10);
+    final var repository = spy(repository(30));
+    final var firstPageProcessed = new CompletableFuture<Result<Void>>();
+
+    final var processed = new PageableFetcher<>(repository, pageSize)
+      .readingAhead()
+      .processPages(noQuery().value(), page -> page.getRecords().contains(0)
+        ? firstPageProcessed
+        : ofAsync(() -> null));
+
+    verify(repository, times(2)).getMany(any(), any(), any());
+
+    firstPageProcessed.complete(Result.succeeded(null));
+
+    assertThat(processed.getNow(Result.failed(new ServerErrorFailure("Time out")))
+      .succeeded(), is(true));
+    verify(repository, times(4)).getMany(any(), any(), any());
   }
 
   private <T> Result<Void> processPages(GetManyRecordsRepository<T> repository,
     PageLimit pageLimit, PageProcessor<T> processor) {
 
-    return new PageableFetcher<>(repository, pageLimit, 1000)
+    return new PageableFetcher<>(repository, pageLimit)
       .processPages(noQuery().value(), processor)
       .getNow(Result.failed(new ServerErrorFailure("Time out")));
   }
@@ -146,4 +176,45 @@ public class PageableFetcherTest {
       }
     };
   }
+
+  /**
+   * Repository of records that stop matching the query once they are removed,
+   * and which supports only paging by id
+   */
+  private static class RemovableRecordsRepository implements GetManyRecordsRepository<String> {
+    private static final Pattern ID_AFTER = Pattern.compile("id>\"([^\"]+)\"");
+
+    private final List<String> records;
+
+    private RemovableRecordsRepository(int totalRecords) {
+      records = range(0, totalRecords)
+        .mapToObj(RemovableRecordsRepository::id)
+        .collect(toCollection(ArrayList::new));
+    }
+
+    private static String id(int index) {
+      return String.format("%05d", index);
+    }
+
+    private void remove(Collection<String> removedRecords) {
+      records.removeAll(removedRecords);
+    }
+
+    @Override
+    public CompletableFuture<Result<MultipleRecords<String>>> getMany(
+      CqlQuery cqlQuery, PageLimit pageLimit, Offset offset) {
+
+      final var query = URLDecoder.decode(cqlQuery.encode().value(), UTF_8);
+      final var idAfter = ID_AFTER.matcher(query);
+      final var lastId = idAfter.find() ? idAfter.group(1) : "";
+
+      final var page = records.stream()
+        .filter(id -> id.compareTo(lastId) > 0)
+        .skip(offset.getOffset())
+        .limit(pageLimit.getLimit())
+        .collect(toList());
+
+      return ofAsync(() -> new MultipleRecords<>(page, records.size()));
+    }
+  }
 }
@@ -6,6 +6,7 @@ import static org.folio.circulation.support.CqlSortBy.ascending;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatch;
 import static org.folio.circulation.support.http.client.CqlQuery.exactMatchAny;
 import static org.folio.circulation.support.http.client.CqlQuery.greaterThan;
+import static org.folio.circulation.support.http.client.CqlQuery.greaterThanOrEqualTo;
 import static org.folio.circulation.support.http.client.CqlQuery.lessThan;
 import static org.folio.circulation.support.http.client.CqlQuery.notEqual;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -90,6 +91,27 @@ public class CqlQueryTests {
       is("barcode==\"12345\" sortBy position/sort.ascending"));
   }
 
+  @Test
+  public void sortIsAppliedAfterCombinedQuery() {
+    final Result<CqlQuery> query = exactMatch("status.name", "Open")
+      .map(q -> q.sortBy(ascending("dueDate")))
+      .combine(greaterThan("id", "1"), CqlQuery::and);
+
+    assertThat(query.value().asText(),
+      is("status.name==\"Open\" and id>\"1\" sortBy dueDate/sort.ascending"));
+  }
+
+  @Test
+  public void alternativesAreWrappedInParentheses() {
+    final Result<CqlQuery> query = exactMatch("status.name", "Open")
+      .combine(greaterThan("dueDate", "2020")
+        .combine(exactMatch("dueDate", "2020")
+          .combine(greaterThan("id", "1"), CqlQuery::and), CqlQuery::or), CqlQuery::and);
+
+    assertThat(query.value().asText(), is("status.name==\"Open\" and " +
+      "((dueDate>\"2020\") or (dueDate==\"2020\" and id>\"1\"))"));
+  }
+
   @Test
   public void canApplyLessThenOperator() {
     DateTime dateTime = now(UTC);
@@ -107,6 +129,14 @@ public class CqlQueryTests {
     assertThat(query.value().asText(), is(format("lastTime>\"%s\"", dateTime)));
   }
 
+  @Test
+  public void canApplyGreaterThanOrEqualToOperator() {
+    Result<CqlQuery> query = greaterThanOrEqualTo("id", "80000000-0000-0000-0000-000000000000");
+
+    assertThat(query.value().asText(),
+      is("id>=\"80000000-0000-0000-0000-000000000000\""));
+  }
+
   @Test
   public void canApplyNotEqualOperator() {
     DateTime dateTime = now(UTC);
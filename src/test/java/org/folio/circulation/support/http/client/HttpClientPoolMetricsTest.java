@@ -0,0 +1,126 @@
+package org.folio.circulation.support.http.client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.json.JsonObject;
+
+public class HttpClientPoolMetricsTest {
+  private static final long MILLISECOND = 1_000_000;
+
+  private final AtomicLong now = new AtomicLong();
+  private final HttpClientStatistics statistics = new HttpClientStatistics();
+  private final HttpClientPoolMetrics metrics = new HttpClientPoolMetrics(statistics, now::get);
+
+  @Test
+  public void recordsTimeWaitedForConnection() {
+    final Long queuedAt = metrics.enqueueRequest(null);
+
+    assertThat(statistics.getQueuedRequests(), is(1));
+
+    now.addAndGet(4 * MILLISECOND);
+    metrics.dequeueRequest(null, queuedAt);
+
+    assertThat(statistics.getQueuedRequests(), is(0));
+    assertThat(statistics.getAverageQueueWaitMillis(), closeTo(4, 0.001));
+  }
+
+  @Test
+  public void recordsTimeToFirstByteForEachDestination() {
+    final HttpClientPoolMetrics.RequestTiming loans = start("/loan-storage/loans?limit=10");
+    final HttpClientPoolMetrics.RequestTiming items = start("/item-storage/items");
+
+    assertThat(statistics.getRequestsInProgress(), is(2));
+
+    now.addAndGet(10 * MILLISECOND);
+    metrics.responseBegin(loans, null);
+
+    now.addAndGet(20 * MILLISECOND);
+    metrics.responseBegin(items, null);
+    metrics.responseEnd(loans, null);
+    metrics.responseEnd(items, null);
+
+    assertThat(statistics.getRequestsInProgress(), is(0));
+    assertThat(statistics.getAverageTimeToFirstByteMillis().get("loan-storage"),
+      closeTo(10, 0.001));
+    assertThat(statistics.getAverageTimeToFirstByteMillis().get("item-storage"),
+      closeTo(30, 0.001));
+    assertThat(statistics.getResponses("loan-storage"), is(1L));
+  }
+
+  @Test
+  public void requestResetAfterResponseIsOnlyFinishedOnce() {
+    final HttpClientPoolMetrics.RequestTiming timing = start("/loan-storage/loans");
+
+    metrics.responseEnd(timing, null);
+    metrics.requestReset(timing);
+
+    assertThat(statistics.getRequestsInProgress(), is(0));
+  }
+
+  @Test
+  public void countsOpenConnections() {
+    metrics.endpointConnected(null, null);
+    metrics.endpointConnected(null, null);
+    metrics.endpointDisconnected(null, null);
+
+    assertThat(statistics.getOpenConnections(), is(1));
+  }
+
+  @Test
+  public void destinationIsFirstSegmentOfPath() {
+    assertThat(HttpClientPoolMetrics.destination("/loan-storage/loans/123"), is("loan-storage"));
+    assertThat(HttpClientPoolMetrics.destination("/circulation"), is("circulation"));
+    assertThat(HttpClientPoolMetrics.destination("/"), is("/"));
+    assertThat(HttpClientPoolMetrics.destination(null), is("/"));
+  }
+
+  @Test
+  public void clientOptionsAreTakenFromConfiguration() {
+    final HttpClientOptions options = HttpClientConfiguration.optionsFrom(new JsonObject()
+      .put(HttpClientConfiguration.MAXIMUM_POOL_SIZE, "200")
+      .put(HttpClientConfiguration.MAXIMUM_WAIT_QUEUE_SIZE, "1000")
+      .put(HttpClientConfiguration.KEEP_ALIVE_TIMEOUT_SECONDS, "30")
+      .put(HttpClientConfiguration.IDLE_TIMEOUT_SECONDS, "120")
+      .put(HttpClientConfiguration.PIPELINING, "true")
+      .put(HttpClientConfiguration.HTTP_2, "true"));
+
+    assertThat(options.getMaxPoolSize(), is(200));
+    assertThat(options.getMaxWaitQueueSize(), is(1000));
+    assertThat(options.getKeepAliveTimeout(), is(30));
+    assertThat(options.getIdleTimeout(), is(120));
+    assertThat(options.isPipelining(), is(true));
+    assertThat(options.getProtocolVersion(), is(HttpVersion.HTTP_2));
+  }
+
+  @Test
+  public void clientOptionsHaveLargerPoolWhenNotConfigured() {
+    final HttpClientOptions options = HttpClientConfiguration.optionsFrom(null);
+    final HttpClientOptions defaults = new HttpClientOptions();
+
+    assertThat(options.getMaxPoolSize(), is(100));
+    assertThat(options.getMaxWaitQueueSize(), is(defaults.getMaxWaitQueueSize()));
+    assertThat(options.isKeepAlive(), is(defaults.isKeepAlive()));
+    assertThat(options.getProtocolVersion(), is(HttpVersion.HTTP_1_1));
+  }
+
+  private HttpClientPoolMetrics.RequestTiming start(String path) {
+    final HttpClientRequest request = mock(HttpClientRequest.class);
+
+    when(request.path()).thenReturn(path.contains("?")
+      ? path.substring(0, path.indexOf('?'))
+      : path);
+
+    return metrics.requestBegin(null, null, null, null, request);
+  }
+}
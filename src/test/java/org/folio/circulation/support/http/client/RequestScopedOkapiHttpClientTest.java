@@ -0,0 +1,113 @@
+package org.folio.circulation.support.http.client;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class RequestScopedOkapiHttpClientTest {
+  private static final String OKAPI = "http://okapi:9130";
+  private static final String ITEM = OKAPI + "/item-storage/items/1";
+  private static final String USER = OKAPI + "/users/2";
+
+  private final OkapiHttpClient storage = mock(OkapiHttpClient.class);
+  private final RequestScopedOkapiHttpClient client = new RequestScopedOkapiHttpClient(storage);
+
+  @Before
+  public void respondWithRecords() {
+    when(storage.get(anyString())).thenAnswer(invocation -> ok());
+    when(storage.put(anyString(), any(JsonObject.class))).thenAnswer(invocation -> ok());
+    when(storage.post(anyString(), any(JsonObject.class))).thenAnswer(invocation -> ok());
+  }
+
+  @Test
+  public void sameUrlIsOnlyFetchedOnce() {
+    client.get(ITEM);
+    client.get(ITEM);
+
+    verify(storage, times(1)).get(ITEM);
+    assertThat(client.getStatistics().getHits(), is(1L));
+    assertThat(client.getStatistics().getMisses(), is(1L));
+  }
+
+  @Test
+  public void requestInProgressIsShared() {
+    final CompletableFuture<Result<Response>> inProgress = new CompletableFuture<>();
+
+    when(storage.get(ITEM)).thenReturn(inProgress);
+
+    assertThat(client.get(ITEM), sameInstance(client.get(ITEM)));
+    verify(storage, times(1)).get(ITEM);
+  }
+
+  @Test
+  public void unsuccessfulResponseIsNotReused() {
+    when(storage.get(ITEM)).thenReturn(completedFuture(succeeded(
+      new Response(404, "Not found", "text/plain"))));
+
+    client.get(ITEM);
+    client.get(ITEM);
+
+    verify(storage, times(2)).get(ITEM);
+  }
+
+  @Test
+  public void changeToStorageCollectionOnlyDropsResponsesFromThatCollection() {
+    client.get(ITEM);
+    client.get(USER);
+
+    client.put(OKAPI + "/item-storage/items/1", new JsonObject());
+
+    client.get(ITEM);
+    client.get(USER);
+
+    verify(storage, times(2)).get(ITEM);
+    verify(storage, times(1)).get(USER);
+  }
+
+  @Test
+  public void changeToOtherModuleDropsAllResponses() {
+    client.get(ITEM);
+    client.get(USER);
+
+    client.post(OKAPI + "/accounts/3/refund", new JsonObject());
+
+    client.get(ITEM);
+    client.get(USER);
+
+    verify(storage, times(2)).get(ITEM);
+    verify(storage, times(2)).get(USER);
+  }
+
+  @Test
+  public void queryParametersAreDistinguished() {
+    when(storage.get(anyString(), any(QueryParameter.class)))
+      .thenAnswer(invocation -> ok());
+
+    client.get(OKAPI + "/users", NamedQueryParameter.namedParameter("query", "id==1"));
+    client.get(OKAPI + "/users", NamedQueryParameter.namedParameter("query", "id==2"));
+
+    verify(storage, times(2)).get(eq(OKAPI + "/users"), any(QueryParameter.class));
+    assertThat(client.getStatistics().getHits(), is(0L));
+  }
+
+  private static CompletableFuture<Result<Response>> ok() {
+    return completedFuture(succeeded(new Response(200, "{}", "application/json")));
+  }
+}
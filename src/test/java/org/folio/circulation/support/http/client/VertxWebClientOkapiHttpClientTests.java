@@ -43,8 +43,8 @@ import org.junit.Test;
 import com.github.tomakehurst.wiremock.client.MappingBuilder;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 
-import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
 
 public class VertxWebClientOkapiHttpClientTests {
   private static VertxAssistant vertxAssistant;
@@ -238,7 +238,7 @@ public class VertxWebClientOkapiHttpClientTests {
 
   private OkapiHttpClient createClient() {
     return createClientUsing(
-      vertxAssistant.createUsingVertx(Vertx::createHttpClient), okapiUrl,
+      vertxAssistant.createUsingVertx(WebClient::create), okapiUrl,
       tenantId, token, userId, requestId);
   }
 
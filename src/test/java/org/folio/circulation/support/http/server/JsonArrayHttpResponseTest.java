@@ -0,0 +1,93 @@
+package org.folio.circulation.support.http.server;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+public class JsonArrayHttpResponseTest {
+  private final HttpServerResponse response = mock(HttpServerResponse.class);
+  private final StringBuilder written = new StringBuilder();
+
+  @Test
+  public void recordsAreWrittenAsChunkedJsonArray() {
+    recordWrites();
+
+    JsonArrayHttpResponse.ok("items", List.of("a", "b"), this::toJson)
+      .writeTo(response);
+
+    verify(response).setChunked(true);
+    verify(response).setStatusCode(200);
+
+    final JsonObject body = new JsonObject(written.toString());
+
+    assertThat(body.getJsonArray("items").size(), is(2));
+    assertThat(body.getJsonArray("items").getJsonObject(1).getString("id"), is("b"));
+    assertThat(body.getInteger("totalRecords"), is(2));
+  }
+
+  @Test
+  public void emptyCollectionIsWrittenAsEmptyArray() {
+    recordWrites();
+
+    JsonArrayHttpResponse.ok("requests", List.of(), this::toJson)
+      .writeTo(response);
+
+    assertThat(written.toString(), is("{\"requests\":[],\"totalRecords\":0}"));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void writingWaitsUntilWriteQueueIsDrained() {
+    recordWrites();
+    when(response.writeQueueFull()).thenReturn(false, true, false);
+
+    JsonArrayHttpResponse.ok("items", List.of("a", "b"), this::toJson)
+      .writeTo(response);
+
+    final ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+
+    verify(response).drainHandler(drainHandler.capture());
+    verify(response, never()).end(anyString());
+
+    drainHandler.getValue().handle(null);
+
+    assertThat(new JsonObject(written.toString()).getInteger("totalRecords"), is(2));
+  }
+
+  private void recordWrites() {
+    when(response.write(any(Buffer.class))).thenAnswer(invocation -> {
+      written.append(invocation.getArgument(0, Buffer.class).toString());
+      return response;
+    });
+
+    when(response.write(anyString())).thenAnswer(invocation -> {
+      written.append(invocation.getArgument(0, String.class));
+      return response;
+    });
+
+    doAnswer(invocation -> {
+      written.append(invocation.getArgument(0, String.class));
+      return null;
+    }).when(response).end(anyString());
+  }
+
+  private JsonObject toJson(String id) {
+    return new JsonObject().put("id", id);
+  }
+}
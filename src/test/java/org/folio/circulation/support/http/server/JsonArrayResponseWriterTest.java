@@ -0,0 +1,187 @@
+package org.folio.circulation.support.http.server;
+
+import static org.folio.circulation.support.results.CommonFailures.failedDueToServerError;
+import static org.folio.circulation.support.results.Result.succeeded;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.circulation.support.results.Result;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+
+public class JsonArrayResponseWriterTest {
+  private final HttpServerResponse response = mock(HttpServerResponse.class);
+  private final StringBuilder written = new StringBuilder();
+
+  @Test
+  public void eachPageIsWrittenAsItArrives() {
+    recordWrites();
+
+    final JsonArrayResponseWriter<String> writer = createWriter();
+
+    writer.write(List.of("a", "b")).join();
+
+    assertThat(written.toString(), is("{\"items\":[{\"id\":\"a\"},{\"id\":\"b\"}"));
+
+    writer.write(List.of("c")).join();
+    writer.end(succeeded(null));
+
+    verify(response).setChunked(true);
+    verify(response).setStatusCode(200);
+
+    final JsonObject body = new JsonObject(written.toString());
+
+    assertThat(body.getJsonArray("items").size(), is(3));
+    assertThat(body.getJsonArray("items").getJsonObject(2).getString("id"), is("c"));
+    assertThat(body.getInteger("totalRecords"), is(3));
+  }
+
+  @Test
+  public void emptyPagesAreWrittenAsEmptyArray() {
+    recordWrites();
+
+    final JsonArrayResponseWriter<String> writer = createWriter();
+
+    writer.write(List.of()).join();
+    writer.end(succeeded(null));
+
+    assertThat(written.toString(), is("{\"items\":[],\"totalRecords\":0}"));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void pageIsNotWrittenUntilWriteQueueIsDrained() {
+    recordWrites();
+    when(response.writeQueueFull()).thenReturn(true);
+
+    final CompletableFuture<Result<Void>> pageWritten = createWriter()
+      .write(List.of("a"));
+
+    final ArgumentCaptor<Handler<Void>> drainHandler = ArgumentCaptor.forClass(Handler.class);
+
+    verify(response).drainHandler(drainHandler.capture());
+    assertThat(pageWritten.isDone(), is(false));
+
+    drainHandler.getValue().handle(null);
+
+    assertThat(pageWritten.join().succeeded(), is(true));
+  }
+
+  @Test
+  public void failureBeforeFirstPageIsRespondedToAsUsual() {
+    recordWrites();
+
+    createWriter().end(failedDueToServerError("cannot fetch items"));
+
+    verify(response, never()).setChunked(true);
+    verify(response).setStatusCode(500);
+  }
+
+  @Test
+  public void failureAfterFirstPageAbandonsResponse() {
+    recordWrites();
+
+    final JsonArrayResponseWriter<String> writer = createWriter();
+
+    writer.write(List.of("a")).join();
+    writer.end(failedDueToServerError("cannot fetch items"));
+
+    verify(response).reset();
+    verify(response, never()).end(anyString());
+  }
+
+  @Test
+  public void closedResponseFailsPage() {
+    when(response.closed()).thenReturn(true);
+
+    assertThat(createWriter().write(List.of("a")).join().failed(), is(true));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void closingConnectionMidStreamFailsPagesWaitingForDrain() {
+    recordWrites();
+    when(response.writeQueueFull()).thenReturn(true);
+
+    final JsonArrayResponseWriter<String> writer = createWriter();
+
+    final ArgumentCaptor<Handler<Void>> closeHandler = ArgumentCaptor.forClass(Handler.class);
+
+    verify(response).closeHandler(closeHandler.capture());
+
+    final CompletableFuture<Result<Void>> pageWritten = writer.write(List.of("a"));
+
+    assertThat(pageWritten.isDone(), is(false));
+
+    closeHandler.getValue().handle(null);
+
+    assertThat(pageWritten.join().failed(), is(true));
+    assertThat(writer.write(List.of("b")).join().failed(), is(true));
+
+    writer.end(succeeded(null));
+
+    verify(response, never()).end(anyString());
+    verify(response, never()).reset();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void connectionFailureMidStreamFailsPagesWaitingForDrain() {
+    recordWrites();
+    when(response.writeQueueFull()).thenReturn(true);
+
+    final JsonArrayResponseWriter<String> writer = createWriter();
+
+    final ArgumentCaptor<Handler<Throwable>> exceptionHandler =
+      ArgumentCaptor.forClass(Handler.class);
+
+    verify(response).exceptionHandler(exceptionHandler.capture());
+
+    final CompletableFuture<Result<Void>> pageWritten = writer.write(List.of("a"));
+
+    exceptionHandler.getValue().handle(new IOException("Connection reset by peer"));
+
+    assertThat(pageWritten.join().failed(), is(true));
+  }
+
+  private JsonArrayResponseWriter<String> createWriter() {
+    return new JsonArrayResponseWriter<>(response, "items", this::toJson);
+  }
+
+  private void recordWrites() {
+    when(response.write(any(Buffer.class))).thenAnswer(invocation -> {
+      written.append(invocation.getArgument(0, Buffer.class).toString());
+      return response;
+    });
+
+    when(response.write(anyString())).thenAnswer(invocation -> {
+      written.append(invocation.getArgument(0, String.class));
+      return response;
+    });
+
+    doAnswer(invocation -> {
+      written.append(invocation.getArgument(0, String.class));
+      return null;
+    }).when(response).end(anyString());
+  }
+
+  private JsonObject toJson(String id) {
+    return new JsonObject().put("id", id);
+  }
+}
@@ -0,0 +1,98 @@
+package org.folio.circulation.support.json;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.val;
+
+public class StreamingJsonCollectionReaderTests {
+  @Test
+  public void shouldMapEachRecordAndReadTotalRecords() {
+    val body = new JsonObject()
+      .put("loans", new JsonArray()
+        .add(new JsonObject().put("id", "1"))
+        .add(new JsonObject().put("id", "2")))
+      .put("totalRecords", 12);
+
+    val reader = read(body.toBuffer());
+
+    assertThat(reader.getRecords(), contains("1", "2"));
+    assertThat(reader.getTotalRecords(), is(12));
+  }
+
+  @Test
+  public void shouldSkipOtherPropertiesWhereverTheyAre() {
+    val body = new JsonObject()
+      .put("resultInfo", new JsonObject()
+        .put("loans", new JsonArray().add(new JsonObject().put("id", "nested"))))
+      .put("totalRecords", 1)
+      .put("loans", new JsonArray().add(new JsonObject().put("id", "1")))
+      .put("facets", new JsonArray().add(new JsonArray().add("a")));
+
+    val reader = read(body.toBuffer());
+
+    assertThat(reader.getRecords(), contains("1"));
+    assertThat(reader.getTotalRecords(), is(1));
+  }
+
+  @Test
+  public void shouldSkipNonObjectElements() {
+    val body = new JsonObject()
+      .put("loans", new JsonArray()
+        .add("not a loan")
+        .add(new JsonObject().put("id", "1"))
+        .add(new JsonArray().add(new JsonObject().put("id", "in array")))
+        .addNull());
+
+    assertThat(read(body.toBuffer()).getRecords(), contains("1"));
+  }
+
+  @Test
+  public void shouldDecodeNestedPropertiesOfRecords() {
+    val body = new JsonObject()
+      .put("loans", new JsonArray().add(new JsonObject()
+        .put("id", "1")
+        .put("item", new JsonObject().put("barcode", "12345"))));
+
+    val reader = new StreamingJsonCollectionReader<>("loans",
+      loan -> loan.getJsonObject("item").getString("barcode"))
+      .read(body.toBuffer());
+
+    assertThat(reader.getRecords(), contains("12345"));
+  }
+
+  @Test
+  public void emptyBodyHasNoRecords() {
+    val reader = read(Buffer.buffer());
+
+    assertThat(reader.getRecords(), is(empty()));
+    assertThat(reader.getTotalRecords(), is(nullValue()));
+  }
+
+  @Test
+  public void missingArrayHasNoRecords() {
+    val reader = read(new JsonObject().put("totalRecords", 0).toBuffer());
+
+    assertThat(reader.getRecords(), is(empty()));
+    assertThat(reader.getTotalRecords(), is(0));
+  }
+
+  @Test(expected = DecodeException.class)
+  public void shouldFailWhenBodyIsNotJson() {
+    read(Buffer.buffer("<html>Internal server error</html>"));
+  }
+
+  private static StreamingJsonCollectionReader<String> read(Buffer body) {
+    return new StreamingJsonCollectionReader<>("loans", loan -> loan.getString("id"))
+      .read(body);
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.circulation.support.logging;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class StageTimingsTest {
+  private final AtomicLong clock = new AtomicLong(1000);
+  private final StageTimings timings = new StageTimings("Check in", clock::get);
+
+  @Test
+  public void stageIsMeasuredUntilItCompletes() {
+    final CompletableFuture<String> stage = new CompletableFuture<>();
+
+    timings.time("find item", () -> stage);
+    clock.addAndGet(25);
+    stage.complete("item");
+
+    assertThat(timings.getDurations().get("find item"), is(25L));
+  }
+
+  @Test
+  public void overlappingStagesAreMeasuredSeparately() {
+    final CompletableFuture<String> first = new CompletableFuture<>();
+    final CompletableFuture<String> second = new CompletableFuture<>();
+
+    timings.time("find request queue", () -> first);
+    timings.time("find open loan", () -> second);
+    clock.addAndGet(10);
+    second.complete("loan");
+    clock.addAndGet(5);
+    first.complete("queue");
+
+    assertThat(timings.getDurations().get("find open loan"), is(10L));
+    assertThat(timings.getDurations().get("find request queue"), is(15L));
+    assertThat(timings.getDurations().keySet(),
+      contains("find open loan", "find request queue"));
+  }
+
+  @Test
+  public void durationsOfStagesWithSameNameAreAddedUp() {
+    timings.time("update", () -> {
+      clock.addAndGet(3);
+      return completedFuture("first");
+    });
+
+    timings.time("update", () -> {
+      clock.addAndGet(4);
+      return completedFuture("second");
+    });
+
+    assertThat(timings.getDurations().get("update"), is(7L));
+    assertThat(timings.toString(), is("Check in took 7 ms (update: 7 ms)"));
+  }
+}